@@ -0,0 +1,156 @@
+package it.emarolab.amor.owlDebugger;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * <div style="text-align:center;"><small>
+ * <b>Project</b>:    aMOR <br>
+ * <b>File</b>:       it.emarolab.amor.owlDebugger.LatencyHistogram <br>
+ * <b>Licence</b>:    GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:     aMOR contributors <br>
+ * <b>date</b>:       Oct 18, 2026 <br>
+ * </small></div>
+ *
+ * <p>
+ *     This class records durations (in nanoseconds) into a fixed set of buckets, where
+ *     the bucket {@code i} counts the values in {@code [2^i, 2^(i+1))}.
+ *     Recording is lock free and does not allocate, so it can be used on every call of an {@link it.emarolab.amor.owlInterface.OWLReferences}.
+ *     Percentiles are approximated with the upper bound of the bucket in which they fall (i.e., with an error lower than a factor 2),
+ *     and they are never greater than the maximum recorded value.
+ * </p>
+ *
+ * @version 2.2
+ */
+public class LatencyHistogram {
+
+    /**
+     * The number of buckets, enough to represent any positive {@code long}.
+     */
+    public static final int BUCKETS_COUNT = 64;
+
+    private final AtomicLongArray buckets = new AtomicLongArray( BUCKETS_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Records a duration.
+     * @param nanoseconds the duration to record. Negative values are recorded as {@code 0}.
+     */
+    public void record( long nanoseconds){
+        if( nanoseconds < 0)
+            nanoseconds = 0;
+        buckets.incrementAndGet( getBucket( nanoseconds));
+        count.increment();
+        sum.add( nanoseconds);
+        long actualMax = max.get();
+        while( nanoseconds > actualMax && ! max.compareAndSet( actualMax, nanoseconds))
+            actualMax = max.get();
+    }
+
+    /**
+     * @param nanoseconds a duration.
+     * @return the index of the bucket in which the given duration is recorded.
+     */
+    public static int getBucket( long nanoseconds){
+        return 63 - Long.numberOfLeadingZeros( Math.max( nanoseconds, 1L));
+    }
+
+    /**
+     * @return the number of recorded durations.
+     */
+    public long getCount(){
+        return count.sum();
+    }
+
+    /**
+     * @return the sum of the recorded durations in nanoseconds.
+     */
+    public long getSum(){
+        return sum.sum();
+    }
+
+    /**
+     * @return the maximum recorded duration in nanoseconds.
+     */
+    public long getMax(){
+        return max.get();
+    }
+
+    /**
+     * @return the mean of the recorded durations in nanoseconds, or {@code 0} if nothing has been recorded.
+     */
+    public double getMean(){
+        long n = getCount();
+        if( n == 0)
+            return 0;
+        return (double) getSum() / n;
+    }
+
+    /**
+     * @param bucket the index of a bucket (see {@link #getBucket(long)}).
+     * @return the number of durations recorded in the given bucket.
+     */
+    public long getBucketCount( int bucket){
+        return buckets.get( bucket);
+    }
+
+    /**
+     * @param percentile the percentile to compute, in {@code [0,100]}.
+     * @return the approximated value (in nanoseconds) of the given percentile, or {@code 0} if nothing has been recorded.
+     */
+    public long getPercentile( double percentile){
+        long[] snapshot = new long[ BUCKETS_COUNT];
+        long total = 0;
+        for( int i = 0; i < BUCKETS_COUNT; i++) {
+            snapshot[ i] = buckets.get( i);
+            total += snapshot[ i];
+        }
+        if( total == 0)
+            return 0;
+        long rank = (long) Math.ceil( total * Math.min( Math.max( percentile, 0), 100) / 100);
+        long cumulative = 0;
+        for( int i = 0; i < BUCKETS_COUNT; i++) {
+            cumulative += snapshot[ i];
+            if( cumulative >= Math.max( rank, 1)) {
+                long upperBound = i >= 62 ? Long.MAX_VALUE : (1L << (i + 1)) - 1;
+                return Math.min( upperBound, getMax());
+            }
+        }
+        return getMax();
+    }
+
+    /**
+     * Adds all the durations recorded by another histogram to this one (e.g., to aggregate the metrics of different operations).
+     * @param other the histogram to be added.
+     */
+    public void add( LatencyHistogram other){
+        for( int i = 0; i < BUCKETS_COUNT; i++)
+            buckets.addAndGet( i, other.buckets.get( i));
+        count.add( other.getCount());
+        sum.add( other.getSum());
+        long otherMax = other.getMax();
+        long actualMax = max.get();
+        while( otherMax > actualMax && ! max.compareAndSet( actualMax, otherMax))
+            actualMax = max.get();
+    }
+
+    /**
+     * Clears all the recorded durations.
+     */
+    public void reset(){
+        for( int i = 0; i < BUCKETS_COUNT; i++)
+            buckets.set( i, 0);
+        count.reset();
+        sum.reset();
+        max.set( 0);
+    }
+
+    @Override
+    public String toString() {
+        return "{count=" + getCount() + ", mean=" + Math.round( getMean()) + ", p50=" + getPercentile( 50) +
+                ", p99=" + getPercentile( 99) + ", max=" + getMax() + " [ns]}";
+    }
+}
@@ -0,0 +1,83 @@
+package it.emarolab.amor.owlDebugger;
+
+/**
+ * <div style="text-align:center;"><small>
+ * <b>Project</b>:    aMOR <br>
+ * <b>File</b>:       it.emarolab.amor.owlDebugger.OperationMetrics <br>
+ * <b>Licence</b>:    GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:     aMOR contributors <br>
+ * <b>date</b>:       Oct 18, 2026 <br>
+ * </small></div>
+ *
+ * <p>
+ *     This class collects the timing of a named operation of an {@link it.emarolab.amor.owlInterface.OWLReferences}
+ *     (e.g., {@code getIndividualClasses}). It contains two {@link LatencyHistogram}s: one for the time
+ *     spent waiting for the locks, and one for the time spent performing the operation.
+ * </p>
+ *
+ * @version 2.2
+ */
+public class OperationMetrics {
+
+    private final String operation;
+    private final LatencyHistogram lockWait = new LatencyHistogram();
+    private final LatencyHistogram work = new LatencyHistogram();
+
+    /**
+     * @param operation the name of the operation.
+     */
+    public OperationMetrics( String operation){
+        this.operation = operation;
+    }
+
+    /**
+     * Records a call of the operation.
+     * @param lockWaitNanoseconds the time spent waiting for the locks.
+     * @param workNanoseconds the time spent performing the operation.
+     */
+    public void record( long lockWaitNanoseconds, long workNanoseconds){
+        lockWait.record( lockWaitNanoseconds);
+        work.record( workNanoseconds);
+    }
+
+    /**
+     * @return the name of the operation.
+     */
+    public String getOperation() {
+        return operation;
+    }
+
+    /**
+     * @return the number of recorded calls.
+     */
+    public long getCount(){
+        return work.getCount();
+    }
+
+    /**
+     * @return the histogram of the time spent waiting for the locks.
+     */
+    public LatencyHistogram getLockWait() {
+        return lockWait;
+    }
+
+    /**
+     * @return the histogram of the time spent performing the operation.
+     */
+    public LatencyHistogram getWork() {
+        return work;
+    }
+
+    /**
+     * Clears all the recorded calls.
+     */
+    public void reset(){
+        lockWait.reset();
+        work.reset();
+    }
+
+    @Override
+    public String toString() {
+        return operation + " [lock wait: " + lockWait + ", work: " + work + "]";
+    }
+}
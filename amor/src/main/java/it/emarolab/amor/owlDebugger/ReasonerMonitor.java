@@ -1,55 +1,488 @@
 package it.emarolab.amor.owlDebugger;
 
 import it.emarolab.amor.owlDebugger.Logger.LoggerFlag;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
 import org.semanticweb.owlapi.reasoner.ReasonerProgressMonitor;
 
-import java.text.SimpleDateFormat;
-import java.util.Calendar;
-import java.util.Date;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 /**
- * This class notifies into console
- * the progress of reasoning classification. 
- * 
+ * This class monitors the progress of the reasoner to which it is assigned.
+ * For each task notified by the reasoner (e.g., {@link ReasonerProgressMonitor#CLASSIFYING}) it records
+ * the duration and the progress rate, from which the remaining time of the actual task is estimated
+ * (see {@link #getEstimatedRemainingTime()}). The durations are collected in a {@link LatencyHistogram}
+ * for each task name (see {@link #getTaskDurations()}).<br>
+ * Moreover, the flushes of the reasoner can be delimited by {@link #flushStarted(List)} and {@link #flushStopped(boolean)}
+ * (as done by {@link it.emarolab.amor.owlInterface.OWLLibrary}). In this case, a {@link FlushRecord} with the number
+ * of changes, the duration and the tasks of each flush is kept in a ring buffer of the most recent flushes
+ * (see {@link #getFlushHistory()}). Since the reasoners may compute the inferences lazily, the tasks performed after
+ * a flush and before the next one are attributed to the last flush as deferred tasks (see {@link FlushRecord#getDeferredTasks()}).
+ * Listeners can be notified about tasks and flushes (see {@link Listener}),
+ * e.g., to correlate slow flushes with the manipulations that caused them.
+ *
  * @author Buoncomapgni Luca
- * @version 1.0
+ * @version 2.2
  *
  */
 public class ReasonerMonitor implements ReasonerProgressMonitor{
 
+    /**
+     * The default number of recent flushes kept by a monitor.
+     */
+    public static final int DEFAULT_HISTORY_SIZE = 32;
+
     /**
      * This object is used to log information about the instances of this class.
      * The logs can be activated by setting the flag: {@link LoggerFlag#LOG_REASONER_MONITOR}
      */
     private Logger logger = new Logger( this, LoggerFlag.LOG_REASONER_MONITOR);
 
-    private Long startTime;
-    private String startStr, reasonerName;
+    private volatile String reasonerName;
+    private final List< Listener> listeners = new CopyOnWriteArrayList<>();
+    private final Map< String, LatencyHistogram> taskDurations = new ConcurrentHashMap<>();
+
+    // the actual task, null if none (written by the reasoning thread, read by any thread)
+    private volatile String taskName;
+    private volatile long taskStartTime; // [ns]
+    private volatile int taskProgress, taskProgressMax;
+    private volatile boolean taskBusy;
+
+    // the actual flush, the last recorded one and the ring buffer of the recent ones (guarded by this)
+    private FlushRecord.Builder flush;
+    private FlushRecord lastFlush;
+    private final FlushRecord[] history;
+    private int historyNext = 0, historySize = 0;
+    private long flushCount = 0;
+
+    /**
+     * Creates a monitor that keeps the {@link #DEFAULT_HISTORY_SIZE} most recent flushes.
+     */
+    public ReasonerMonitor(){
+        this( DEFAULT_HISTORY_SIZE);
+    }
+    /**
+     * @param historySize the number of recent flushes kept by this monitor.
+     */
+    public ReasonerMonitor( int historySize){
+        this.history = new FlushRecord[ Math.max( 1, historySize)];
+    }
 
     public void setReasonerName( String reasonerName){
         this.reasonerName = reasonerName;
     }
 
+    /**
+     * @return the name of the monitored reasoner.
+     */
+    public String getReasonerName(){
+        return reasonerName;
+    }
+
+    // [[[[[[[[[[[[[[[[[[[[[[[[[[[[   REASONER PROGRESS MONITOR   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
+
     @Override
     public void reasonerTaskStarted(String taskName) {
-        startTime = System.nanoTime();
-        Date date = Calendar.getInstance().getTime();
-        startStr = taskName + " " + reasonerName + " started at: " +  new SimpleDateFormat( Logger.DATAFORMAT).format(date);
+        this.taskProgress = 0;
+        this.taskProgressMax = 0;
+        this.taskBusy = false;
+        this.taskStartTime = System.nanoTime();
+        this.taskName = taskName;
+        for( Listener l : listeners)
+            l.taskStarted( this, taskName);
     }
 
     @Override
     public void reasonerTaskStopped() {
-        logger.addDebugString( startStr + " and ends now. "+ reasonerName + " [Durarion:" +
-                (System.nanoTime() - startTime) + "ns]");
+        String name = taskName;
+        if( name == null)
+            return;
+        TaskRecord task = new TaskRecord( name, System.nanoTime() - taskStartTime, taskProgress, taskProgressMax);
+        taskName = null;
+        taskDurations.computeIfAbsent( name, k -> new LatencyHistogram()).record( task.getDuration());
+        synchronized ( this) {
+            if( flush != null)
+                flush.tasks.add( task);
+            else if( lastFlush != null) // performed lazily after the last flush
+                lastFlush.deferredTasks.add( task);
+        }
+        logger.addDebugString( reasonerName + ": " + task);
+        for( Listener l : listeners)
+            l.taskStopped( this, task);
     }
 
     @Override
     public void reasonerTaskProgressChanged(int value, int max) {
+        this.taskProgress = value;
+        this.taskProgressMax = max;
+        String name = taskName;
+        if( name != null)
+            for( Listener l : listeners)
+                l.taskProgressChanged( this, name, value, max);
     }
 
     @Override
     public void reasonerTaskBusy() {
+        taskBusy = true;
         logger.addDebugString( "WARNING : reasoner task is busy. ");
     }
 
+    // [[[[[[[[[[[[[[[[[[[[[[[[[[[[   ACTUAL TASK   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
+
+    /**
+     * @return the name of the task actually performed by the reasoner, or {@code null} if it is idle.
+     */
+    public String getTaskName(){
+        return taskName;
+    }
+
+    /**
+     * @return the time elapsed since the actual task started in nanoseconds, {@code 0} if the reasoner is idle.
+     */
+    public long getTaskElapsedTime(){
+        return taskName == null ? 0 : System.nanoTime() - taskStartTime;
+    }
+
+    /**
+     * @return the progress of the actual task, in [0,1], or {@code -1} if it is unknown
+     * (e.g., the reasoner is idle or the task is busy, see {@link ReasonerProgressMonitor#reasonerTaskBusy()}).
+     */
+    public double getTaskProgress(){
+        int max = taskProgressMax;
+        if( taskName == null || taskBusy || max <= 0)
+            return -1;
+        return Math.min( 1.0, (double) taskProgress / max);
+    }
+
+    /**
+     * @return the progress rate of the actual task, in steps (as notified by the reasoner) per second,
+     * or {@code -1} if it is unknown.
+     */
+    public double getTaskProgressRate(){
+        long elapsed = getTaskElapsedTime();
+        if( getTaskProgress() < 0 || elapsed <= 0)
+            return -1;
+        return taskProgress * 1e9 / elapsed;
+    }
+
+    /**
+     * Estimates the remaining time of the actual task from its progress rate, assuming that it is constant.
+     * @return the estimated remaining time in nanoseconds, or {@code -1} if it cannot be estimated.
+     */
+    public long getEstimatedRemainingTime(){
+        double rate = getTaskProgressRate();
+        if( rate <= 0)
+            return -1;
+        return (long) ( Math.max( 0, taskProgressMax - taskProgress) * 1e9 / rate);
+    }
+
+    /**
+     * @return the durations of the tasks performed so far, indexed by the name of the task.
+     */
+    public Map< String, LatencyHistogram> getTaskDurations(){
+        return Collections.unmodifiableMap( taskDurations);
+    }
+
+    // [[[[[[[[[[[[[[[[[[[[[[[[[[[[   FLUSHES   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
+
+    /**
+     * Notifies that the reasoner is going to be flushed. All the tasks performed until {@link #flushStopped(boolean)}
+     * are considered part of the flush, and the ones performed afterwards are deferred tasks of the flush, until
+     * this method is called again.
+     * @param changes the changes that the reasoner is going to process.
+     */
+    public void flushStarted( List< ? extends OWLOntologyChange> changes){
+        int added = 0, removed = 0, other = 0;
+        for( OWLOntologyChange c : changes) {
+            if( c.isAddAxiom())
+                added++;
+            else if( c.isRemoveAxiom())
+                removed++;
+            else other++;
+        }
+        synchronized ( this) {
+            flush = new FlushRecord.Builder( ++flushCount, added, removed, other);
+        }
+    }
+
+    /**
+     * Notifies that the flush started by {@link #flushStarted(List)} is over. Its record is added
+     * to the history of this monitor and given to the listeners.
+     * @param interrupted {@code true} if the flush has been interrupted.
+     * @return the record of the flush, or {@code null} if no flush was started.
+     */
+    public FlushRecord flushStopped( boolean interrupted){
+        FlushRecord record;
+        synchronized ( this) {
+            if( flush == null)
+                return null;
+            record = flush.build( reasonerName, interrupted);
+            flush = null;
+            lastFlush = record;
+            history[ historyNext] = record;
+            historyNext = ( historyNext + 1) % history.length;
+            historySize = Math.min( historySize + 1, history.length);
+        }
+        logger.addDebugString( record.toString());
+        for( Listener l : listeners)
+            l.flushPerformed( this, record);
+        return record;
+    }
+
+    /**
+     * @return the most recent flushes, from the oldest to the newest one.
+     */
+    public synchronized List< FlushRecord> getFlushHistory(){
+        List< FlushRecord> out = new ArrayList<>( historySize);
+        for( int i = historySize; i > 0; i--)
+            out.add( history[ ( historyNext - i + history.length) % history.length]);
+        return out;
+    }
+
+    /**
+     * @return the most recent flush, or {@code null} if no flush has been recorded.
+     */
+    public synchronized FlushRecord getLastFlush(){
+        if( historySize == 0)
+            return null;
+        return history[ ( historyNext - 1 + history.length) % history.length];
+    }
+
+    /**
+     * @return the number of flushes recorded so far.
+     */
+    public synchronized long getFlushCount(){
+        return flushCount;
+    }
+
+    // [[[[[[[[[[[[[[[[[[[[[[[[[[[[   LISTENERS   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
+
+    /**
+     * @param listener the listener to be notified about the tasks and the flushes of the monitored reasoner.
+     */
+    public void addListener( Listener listener){
+        listeners.add( listener);
+    }
+    /**
+     * @param listener the listener that should not be notified anymore.
+     */
+    public void removeListener( Listener listener){
+        listeners.remove( listener);
+    }
+
+    /**
+     * Receives the notifications of a {@link ReasonerMonitor}. They are given by the thread that
+     * performs the reasoning, so the implementations should return quickly. All the methods do nothing by default.
+     */
+    public interface Listener{
+        /**
+         * @param monitor the notifying monitor.
+         * @param taskName the name of the started task.
+         */
+        default void taskStarted( ReasonerMonitor monitor, String taskName){}
+        /**
+         * @param monitor the notifying monitor.
+         * @param taskName the name of the actual task.
+         * @param value the actual progress.
+         * @param max the progress at which the task ends.
+         */
+        default void taskProgressChanged( ReasonerMonitor monitor, String taskName, int value, int max){}
+        /**
+         * @param monitor the notifying monitor.
+         * @param task the record of the stopped task.
+         */
+        default void taskStopped( ReasonerMonitor monitor, TaskRecord task){}
+        /**
+         * @param monitor the notifying monitor.
+         * @param flush the record of the performed flush.
+         */
+        default void flushPerformed( ReasonerMonitor monitor, FlushRecord flush){}
+    }
+
+    // [[[[[[[[[[[[[[[[[[[[[[[[[[[[   RECORDS   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
+
+    /**
+     * The immutable record of a task performed by a reasoner.
+     */
+    public static class TaskRecord{
+        private final String name;
+        private final long duration;
+        private final int progress, progressMax;
+
+        private TaskRecord( String name, long duration, int progress, int progressMax){
+            this.name = name;
+            this.duration = duration;
+            this.progress = progress;
+            this.progressMax = progressMax;
+        }
+
+        /**
+         * @return the name of the task (e.g., {@link ReasonerProgressMonitor#CLASSIFYING}).
+         */
+        public String getName(){
+            return name;
+        }
+        /**
+         * @return the duration of the task in nanoseconds.
+         */
+        public long getDuration(){
+            return duration;
+        }
+        /**
+         * @return the last progress notified by the reasoner.
+         */
+        public int getProgress(){
+            return progress;
+        }
+        /**
+         * @return the progress at which the task ends, {@code 0} if it has not been notified.
+         */
+        public int getProgressMax(){
+            return progressMax;
+        }
+        /**
+         * @return the average progress rate of the task in steps per second, or {@code -1} if it is unknown.
+         */
+        public double getProgressRate(){
+            if( progressMax <= 0 || duration <= 0)
+                return -1;
+            return progress * 1e9 / duration;
+        }
+
+        @Override
+        public String toString() {
+            return "TaskRecord [" + name + ", duration=" + duration + " [ns], progress=" + progress + "/" + progressMax + "]";
+        }
+    }
+
+    /**
+     * The record of a flush of a reasoner, with the tasks performed during it. It is immutable,
+     * except for the deferred tasks, which are added until the next flush starts.
+     */
+    public static class FlushRecord{
+        private final String reasonerName;
+        private final long sequence, startTime, duration;
+        private final int addedAxioms, removedAxioms, otherChanges;
+        private final boolean interrupted;
+        private final List< TaskRecord> tasks;
+        private final List< TaskRecord> deferredTasks = new CopyOnWriteArrayList<>();
+
+        private FlushRecord( String reasonerName, Builder b, boolean interrupted){
+            this.reasonerName = reasonerName;
+            this.sequence = b.sequence;
+            this.startTime = b.startTime;
+            this.duration = System.nanoTime() - b.startNanoTime;
+            this.addedAxioms = b.addedAxioms;
+            this.removedAxioms = b.removedAxioms;
+            this.otherChanges = b.otherChanges;
+            this.interrupted = interrupted;
+            this.tasks = Collections.unmodifiableList( new ArrayList<>( b.tasks));
+        }
+
+        /**
+         * @return the name of the flushed reasoner.
+         */
+        public String getReasonerName(){
+            return reasonerName;
+        }
+        /**
+         * @return the number of the flush, counted by its monitor starting from {@code 1}.
+         */
+        public long getSequence(){
+            return sequence;
+        }
+        /**
+         * @return the time at which the flush started (see {@link System#currentTimeMillis()}).
+         */
+        public long getStartTime(){
+            return startTime;
+        }
+        /**
+         * @return the duration of the flush in nanoseconds.
+         */
+        public long getDuration(){
+            return duration;
+        }
+        /**
+         * @return the number of changes processed by the flush.
+         */
+        public int getChangesCount(){
+            return addedAxioms + removedAxioms + otherChanges;
+        }
+        /**
+         * @return the number of axioms added by the processed changes.
+         */
+        public int getAddedAxiomsCount(){
+            return addedAxioms;
+        }
+        /**
+         * @return the number of axioms removed by the processed changes.
+         */
+        public int getRemovedAxiomsCount(){
+            return removedAxioms;
+        }
+        /**
+         * @return {@code true} if the flush has been interrupted.
+         */
+        public boolean isInterrupted(){
+            return interrupted;
+        }
+        /**
+         * @return the tasks performed by the reasoner during the flush.
+         */
+        public List< TaskRecord> getTasks(){
+            return tasks;
+        }
+        /**
+         * @return the tasks performed by the reasoner after the flush and before the next one, e.g., the inferences
+         * computed lazily by the queries. They are added while the reasoner is used.
+         */
+        public List< TaskRecord> getDeferredTasks(){
+            return Collections.unmodifiableList( deferredTasks);
+        }
+        /**
+         * @param taskName the name of a task (e.g., {@link ReasonerProgressMonitor#CLASSIFYING}).
+         * @return the total duration of the tasks with the given name in nanoseconds, {@code 0} if none was performed.
+         */
+        public long getTaskDuration( String taskName){
+            long out = 0;
+            for( TaskRecord t : tasks)
+                if( t.getName().equals( taskName))
+                    out += t.getDuration();
+            return out;
+        }
+
+        @Override
+        public String toString() {
+            return "FlushRecord [" + reasonerName + " #" + sequence + ", duration=" + duration + " [ns], changes=" + getChangesCount()
+                    + " (+" + addedAxioms + " -" + removedAxioms + "), interrupted=" + interrupted + ", tasks=" + tasks
+                    + ", deferredTasks=" + deferredTasks + "]";
+        }
+
+        // collects the data of a flush while it is performed
+        private static class Builder{
+            private final long sequence, startTime = System.currentTimeMillis(), startNanoTime = System.nanoTime();
+            private final int addedAxioms, removedAxioms, otherChanges;
+            private final List< TaskRecord> tasks = new ArrayList<>();
+
+            private Builder( long sequence, int addedAxioms, int removedAxioms, int otherChanges){
+                this.sequence = sequence;
+                this.addedAxioms = addedAxioms;
+                this.removedAxioms = removedAxioms;
+                this.otherChanges = otherChanges;
+            }
+            private FlushRecord build( String reasonerName, boolean interrupted){
+                return new FlushRecord( reasonerName, this, interrupted);
+            }
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ReasonerMonitor [" + reasonerName + ", task=" + taskName + ", flushes=" + getFlushCount() + "]";
+    }
 }
@@ -0,0 +1,184 @@
+package it.emarolab.amor.owlInterface;
+
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.BiPredicate;
+
+/**
+ * <div style="text-align:center;"><small>
+ * <b>Project</b>:    aMOR <br>
+ * <b>File</b>:       it.emarolab.amor.owlInterface.BoundedCache <br>
+ * <b>Licence</b>:    GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:     aMOR contributors <br>
+ * <b>date</b>:       Oct 18, 2026 <br>
+ * </small></div>
+ *
+ * <p>
+ *     This class is a concurrent map that stores a bounded number of entries. When an entry is stored
+ *     and the maximum size is exceeded, the entries are evicted one at a time with a second chance policy:
+ *     they are visited in insertion order, and an entry that has been read since its last visit is kept
+ *     (and visited again later), while the others are evicted. So, a full cache keeps the entries that are used,
+ *     and it never removes more entries than the ones exceeding its size.<br>
+ *     Reads and writes never lock, and the evicted entries are notified to the listener given on construction.
+ * </p>
+ *
+ * @param <K> the type of the keys.
+ * @param <V> the type of the stored values.
+ *
+ * @version 2.2
+ */
+public class BoundedCache< K, V> {
+
+    private final Map< K, Node< K, V>> entries = new ConcurrentHashMap<>();
+    // the stored nodes in insertion order, it may contain nodes already removed or replaced
+    private final Queue< Node< K, V>> clock = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final BiConsumer< K, V> evicted;
+
+    /**
+     * Creates a cache that does not notify its evictions.
+     */
+    public BoundedCache(){
+        this( (key, value) -> {});
+    }
+
+    /**
+     * @param evicted called (by the thread storing an entry) for each entry evicted since the cache is full.
+     */
+    public BoundedCache( BiConsumer< K, V> evicted){
+        this.evicted = evicted;
+    }
+
+    /**
+     * @param key the key of the entry.
+     * @return the stored value, or {@code null} if it is not stored.
+     */
+    public V get( K key){
+        Node< K, V> node = entries.get( key);
+        if( node == null)
+            return null;
+        node.referenced = true;
+        return node.value;
+    }
+
+    /**
+     * @param key the key of the entry.
+     * @return {@code true} if an entry is stored with the given key. Differently from {@link #get(Object)},
+     * the entry is not marked as read.
+     */
+    public boolean containsKey( K key){
+        return entries.containsKey( key);
+    }
+
+    /**
+     * Stores an entry, replacing the one with the same key, and evicts the entries exceeding the maximum size.
+     * @param key the key of the entry.
+     * @param value the value to store.
+     * @param maxSize the maximum number of entries to keep.
+     */
+    public void put( K key, V value, int maxSize){
+        Node< K, V> node = new Node<>( key, value);
+        entries.put( key, node);
+        clock.add( node);
+        queued.incrementAndGet();
+        evict( maxSize);
+    }
+
+    // evicts the entries exceeding the size, and drops the removed nodes when they are more than the stored ones
+    private void evict( int maxSize){
+        while( entries.size() > maxSize || queued.get() > 2 * entries.size() + 16){
+            Node< K, V> node = clock.poll();
+            if( node == null)
+                return;
+            queued.decrementAndGet();
+            if( entries.get( node.key) != node)
+                continue; // already removed or replaced
+            if( entries.size() > maxSize && ! node.referenced){
+                if( entries.remove( node.key, node))
+                    evicted.accept( node.key, node.value);
+            } else { // it has a second chance
+                node.referenced = false;
+                clock.add( node);
+                queued.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * @param key the key of the entry to remove.
+     * @return the removed value, or {@code null} if it was not stored.
+     */
+    public V remove( K key){
+        Node< K, V> node = entries.remove( key);
+        return node == null ? null : node.value;
+    }
+
+    /**
+     * @param key the key of the entry to remove.
+     * @param value the value to remove, compared by identity.
+     * @return {@code true} if the entry has been removed.
+     */
+    public boolean remove( K key, V value){
+        Node< K, V> node = entries.get( key);
+        return node != null && node.value == value && entries.remove( key, node);
+    }
+
+    /**
+     * @param filter the condition of the entries to remove.
+     * @return the number of removed entries.
+     */
+    public int removeIf( BiPredicate< K, V> filter){
+        AtomicInteger removed = new AtomicInteger();
+        entries.entrySet().removeIf( e -> {
+            boolean remove = filter.test( e.getKey(), e.getValue().value);
+            if( remove)
+                removed.incrementAndGet();
+            return remove;
+        });
+        return removed.get();
+    }
+
+    /**
+     * Removes all the entries, without notifying them as evicted.
+     */
+    public void clear(){
+        entries.clear();
+        clock.clear();
+        queued.set( 0);
+    }
+
+    /**
+     * @return the number of stored entries.
+     */
+    public int size(){
+        return entries.size();
+    }
+
+    /**
+     * @return {@code true} if no entries are stored.
+     */
+    public boolean isEmpty(){
+        return entries.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "BoundedCache [size=" + size() + "]";
+    }
+
+    // a stored entry, marked when it is read
+    private static class Node< K, V>{
+        private final K key;
+        private final V value;
+        private volatile boolean referenced = false;
+
+        private Node( K key, V value){
+            this.key = key;
+            this.value = value;
+        }
+    }
+}
@@ -0,0 +1,210 @@
+package it.emarolab.amor.owlInterface;
+
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+
+import java.util.*;
+
+/**
+ * <div style="text-align:center;"><small>
+ * <b>Project</b>:    aMOR <br>
+ * <b>File</b>:       it.emarolab.amor.owlInterface.ChangeBuffer <br>
+ * <b>Licence</b>:    GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:     aMOR contributors <br>
+ * <b>date</b>:       Oct 18, 2026 <br>
+ * </small></div>
+ *
+ * <p>
+ *     This class is the buffer of the changes collected by an {@link OWLManipulator}, waiting to be applied.
+ *     The changes are indexed by their axiom (and ontology), and only the last change of each axiom is kept,
+ *     at the position of the first change of that axiom, so that it keeps its order with respect to the other changes.
+ *     Therefore, duplicated additions (or removals) are stored once, and an addition followed by the removal
+ *     of the same axiom (or vice versa) is replaced by the last one.
+ *     Moreover, when the changes are applied, additions of axioms already in the ontology and removals of axioms
+ *     not in the ontology are dropped (see {@link #removeNoOperations(List)}), so an axiom added and then
+ *     removed from the buffer never reaches the ontology manager nor the reasoner.<br>
+ *     Changes that do not concern axioms (e.g., imports) are always kept.
+ *     The number of the changes that have been elided in these ways is counted (see {@link #getElidedCount()}).
+ *     This class is not thread safe, it is synchronised by its {@link OWLManipulator}.
+ * </p>
+ *
+ * @version 2.2
+ */
+public class ChangeBuffer {
+
+    private final Map< Object, OWLOntologyChange> changes = new LinkedHashMap<>();
+    private long bufferedCount = 0, elidedCount = 0;
+    private PendingChangesOverlay overlay; // built when required, until the buffer changes
+    // the keys of the changes buffered since the first mark, with the change they replaced (null if none), see mark()
+    private List< Map.Entry< Object, OWLOntologyChange>> undoLog = null;
+
+    /**
+     * Buffers a change. If a change of the same axiom is already buffered, it is replaced in the same position.
+     * @param change the change to buffer, nothing is done if it is {@code null}.
+     */
+    public void add( OWLOntologyChange change){
+        if( change == null)
+            return;
+        bufferedCount++;
+        Object key = change.isAxiomChange() ? new AxiomKey( change.getOntology(), change.getAxiom()) : new Object();
+        OWLOntologyChange replaced = changes.put( key, change);
+        if( replaced != null) // the insertion order is not affected by the replacement
+            elidedCount++;
+        if( undoLog != null)
+            undoLog.add( new AbstractMap.SimpleImmutableEntry<>( key, replaced));
+        overlay = null;
+    }
+
+    /**
+     * Buffers some changes, in the given order (see {@link #add(OWLOntologyChange)}).
+     * @param changeList the changes to buffer.
+     */
+    public void addAll( Collection< ? extends OWLOntologyChange> changeList){
+        for( OWLOntologyChange c : changeList)
+            add( c);
+    }
+
+    /**
+     * @return the number of buffered changes, the elided ones excluded.
+     */
+    public int size(){
+        return changes.size();
+    }
+
+    /**
+     * @return {@code true} if there are no buffered changes.
+     */
+    public boolean isEmpty(){
+        return changes.isEmpty();
+    }
+
+    /**
+     * @return a copy of the buffered changes, in the order in which they should be applied.
+     */
+    public List< OWLOntologyChange> getChanges(){
+        return new ArrayList<>( changes.values());
+    }
+
+    /**
+     * Removes all the buffered changes.
+     * @return the removed changes, in the order in which they should be applied.
+     */
+    public List< OWLOntologyChange> drain(){
+        List< OWLOntologyChange> out = getChanges();
+        changes.clear();
+        undoLog = null;
+        overlay = null;
+        return out;
+    }
+
+    /**
+     * Marks the current content of the buffer, so that the changes buffered afterwards can be discarded
+     * by {@link #rollback(int)}. Marks can be nested, and they are all released by {@link #drain()}.
+     * @return the mark to be given to {@link #rollback(int)}.
+     */
+    public int mark(){
+        if( undoLog == null)
+            undoLog = new ArrayList<>();
+        return undoLog.size();
+    }
+
+    /**
+     * Discards the changes buffered after a mark, restoring the changes that they replaced at their positions.
+     * Nothing is done if the buffer has been drained after the mark.
+     * @param mark the value given by {@link #mark()}.
+     */
+    public void rollback( int mark){
+        if( undoLog == null)
+            return;
+        for( int i = undoLog.size() - 1; i >= mark; i--){
+            Map.Entry< Object, OWLOntologyChange> undo = undoLog.remove( i);
+            if( undo.getValue() == null)
+                changes.remove( undo.getKey());
+            else changes.put( undo.getKey(), undo.getValue());
+        }
+        overlay = null;
+    }
+
+    /**
+     * @param ontology the ontology whose buffered changes are considered.
+     * @return an index of the axioms that are pending to be added or removed from the ontology.
+     * It is built only the first time that it is required after that the buffer changed.
+     */
+    public PendingChangesOverlay getOverlay( OWLOntology ontology){
+        PendingChangesOverlay out = overlay;
+        if( out == null || out.getOntology() != ontology) {
+            out = new PendingChangesOverlay( changes.values(), ontology);
+            overlay = out;
+        }
+        return out;
+    }
+
+    /**
+     * Removes, from the given list, the additions of axioms that are already in their ontology and
+     * the removals of axioms that are not in their ontology, since they would not have any effect.
+     * It should be called just before applying the changes, while the ontology cannot be changed by other threads.
+     * @param changeList the changes to be filtered, usually given by {@link #drain()}.
+     * @return the changes that have an effect on the ontology (a new list).
+     */
+    public List< OWLOntologyChange> removeNoOperations( List< OWLOntologyChange> changeList){
+        List< OWLOntologyChange> out = new ArrayList<>( changeList.size());
+        for( OWLOntologyChange c : changeList) {
+            if( c.isAxiomChange()) {
+                boolean contained = c.getOntology().containsAxiom( c.getAxiom());
+                if( c.isAddAxiom() == contained) {
+                    elidedCount++;
+                    continue;
+                }
+            }
+            out.add( c);
+        }
+        return out;
+    }
+
+    /**
+     * @return the number of changes given to this buffer.
+     */
+    public long getBufferedCount(){
+        return bufferedCount;
+    }
+
+    /**
+     * @return the number of changes given to this buffer that have been replaced by a following change
+     * of the same axiom, or that have been removed since they would not have any effect.
+     */
+    public long getElidedCount(){
+        return elidedCount;
+    }
+
+    @Override
+    public String toString() {
+        return "ChangeBuffer [size=" + size() + ", buffered=" + bufferedCount + ", elided=" + elidedCount + "]";
+    }
+
+    // identifies the changes of the same axiom in the same ontology
+    private static class AxiomKey{
+        private final OWLOntology ontology;
+        private final OWLAxiom axiom;
+
+        private AxiomKey( OWLOntology ontology, OWLAxiom axiom){
+            this.ontology = ontology;
+            this.axiom = axiom;
+        }
+
+        @Override
+        public boolean equals( Object o) {
+            if( this == o)
+                return true;
+            if( ! ( o instanceof AxiomKey))
+                return false;
+            AxiomKey other = (AxiomKey) o;
+            return ontology == other.ontology && axiom.equals( other.axiom);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * System.identityHashCode( ontology) + axiom.hashCode();
+        }
+    }
+}
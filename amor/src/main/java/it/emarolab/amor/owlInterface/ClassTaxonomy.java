@@ -0,0 +1,225 @@
+package it.emarolab.amor.owlInterface;
+
+import org.semanticweb.owlapi.model.OWLClass;
+import org.semanticweb.owlapi.reasoner.Node;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+
+/**
+ * <div style="text-align:center;"><small>
+ * <b>Project</b>:    aMOR <br>
+ * <b>File</b>:       it.emarolab.amor.owlInterface.ClassTaxonomy <br>
+ * <b>Licence</b>:    GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:     aMOR contributors <br>
+ * <b>date</b>:       Oct 18, 2026 <br>
+ * </small></div>
+ *
+ * <p>
+ *     This class is an in-memory copy of the class hierarchy computed by a reasoner.
+ *     Each node of the hierarchy (i.e., a set of equivalent classes) has a dense identifier, the identifiers of its
+ *     direct parents and children, and the precomputed sets of all its ancestors and descendants.
+ *     Therefore, it gives the same sub, super and equivalent classes that the reasoner would give
+ *     (including {@code owl:Thing} and {@code owl:Nothing}) in a time proportional to the size of the result.
+ *     The disjoint classes are asked to the reasoner only the first time they are required for a class.<br>
+ *     It is built by {@link OWLReferencesInterface} when the reasoner is synchronised (see {@link OWLReferencesInterface#setOWLEnquirerTaxonomy(Boolean)}),
+ *     and it is valid until the reasoner changes its hierarchy.
+ * </p>
+ *
+ * @version 2.2
+ */
+public class ClassTaxonomy {
+
+    private final Map< OWLClass, Integer> ids = new HashMap<>();
+    private final List< Set< OWLClass>> nodes = new ArrayList<>();
+    private final int[][] parents, children;
+    private final BitSet[] ancestors, descendants;
+    // the disjoint classes already asked to the reasoner
+    private final Map< OWLClass, Set< OWLClass>> disjoint = new ConcurrentHashMap<>();
+
+    /**
+     * Builds the taxonomy by visiting the class hierarchy of the given reasoner, from the top to the bottom node.
+     * @param reasoner a synchronised reasoner.
+     */
+    protected ClassTaxonomy( OWLReasoner reasoner){
+        List< List< Integer>> childrenList = new ArrayList<>();
+        Map< Node< OWLClass>, Integer> nodeIds = new HashMap<>();
+        Deque< Node< OWLClass>> toVisit = new ArrayDeque<>();
+        Node< OWLClass> top = reasoner.getTopClassNode();
+        addNode( top, nodeIds, childrenList, toVisit);
+        addNode( reasoner.getBottomClassNode(), nodeIds, childrenList, toVisit);
+        while( ! toVisit.isEmpty()){
+            Node< OWLClass> node = toVisit.poll();
+            if( node.isBottomNode())
+                continue;
+            int id = nodeIds.get( node);
+            Set< Integer> nodeChildren = new LinkedHashSet<>();
+            reasoner.getSubClasses( node.getRepresentativeElement(), true).nodes().forEach( child ->
+                    nodeChildren.add( addNode( child, nodeIds, childrenList, toVisit)));
+            childrenList.get( id).addAll( nodeChildren);
+        }
+        int size = nodes.size();
+        children = new int[ size][];
+        List< List< Integer>> parentsList = new ArrayList<>();
+        for( int i = 0; i < size; i++)
+            parentsList.add( new ArrayList<>());
+        for( int i = 0; i < size; i++) {
+            children[ i] = toArray( childrenList.get( i));
+            for( int c : children[ i])
+                parentsList.get( c).add( i);
+        }
+        parents = new int[ size][];
+        for( int i = 0; i < size; i++)
+            parents[ i] = toArray( parentsList.get( i));
+        // transitive closures, following a topological order of the nodes
+        int[] order = getTopologicalOrder();
+        descendants = new BitSet[ size];
+        ancestors = new BitSet[ size];
+        for( int i = size - 1; i >= 0; i--){
+            int id = order[ i];
+            descendants[ id] = new BitSet( size);
+            for( int c : children[ id]) {
+                descendants[ id].set( c);
+                descendants[ id].or( descendants[ c]);
+            }
+        }
+        for( int id : order){
+            ancestors[ id] = new BitSet( size);
+            for( int p : parents[ id]) {
+                ancestors[ id].set( p);
+                ancestors[ id].or( ancestors[ p]);
+            }
+        }
+    }
+
+    private int addNode( Node< OWLClass> node, Map< Node< OWLClass>, Integer> nodeIds, List< List< Integer>> childrenList, Deque< Node< OWLClass>> toVisit){
+        Integer id = nodeIds.get( node);
+        if( id == null) {
+            id = nodes.size();
+            nodeIds.put( node, id);
+            Set< OWLClass> entities = node.entities().collect( Collectors.toSet());
+            nodes.add( entities);
+            for( OWLClass c : entities)
+                ids.put( c, id);
+            childrenList.add( new ArrayList<>());
+            toVisit.add( node);
+        }
+        return id;
+    }
+
+    private static int[] toArray( List< Integer> list){
+        int[] out = new int[ list.size()];
+        for( int i = 0; i < out.length; i++)
+            out[ i] = list.get( i);
+        return out;
+    }
+
+    // Kahn's algorithm, parents always come before their children
+    private int[] getTopologicalOrder(){
+        int size = nodes.size();
+        int[] inDegree = new int[ size];
+        for( int i = 0; i < size; i++)
+            inDegree[ i] = parents[ i].length;
+        int[] order = new int[ size];
+        int head = 0, tail = 0;
+        for( int i = 0; i < size; i++)
+            if( inDegree[ i] == 0)
+                order[ tail++] = i;
+        while( head < tail){
+            int id = order[ head++];
+            for( int c : children[ id])
+                if( --inDegree[ c] == 0)
+                    order[ tail++] = c;
+        }
+        return order;
+    }
+
+    /**
+     * @param cl a class.
+     * @return {@code true} if the class was known by the reasoner when this taxonomy was built.
+     */
+    public boolean contains( OWLClass cl){
+        return ids.containsKey( cl);
+    }
+
+    /**
+     * @return the number of nodes (i.e., sets of equivalent classes) in this taxonomy.
+     */
+    public int size(){
+        return nodes.size();
+    }
+
+    /**
+     * @param cl a class contained in this taxonomy (see {@link #contains(OWLClass)}).
+     * @param direct if {@code true}, only the direct sub classes are returned.
+     * @return the sub classes of the given one, as {@link OWLReasoner#getSubClasses(org.semanticweb.owlapi.model.OWLClassExpression, boolean)} would give.
+     */
+    public Set< OWLClass> getSubClasses( OWLClass cl, boolean direct){
+        int id = ids.get( cl);
+        return direct ? getEntities( children[ id]) : getEntities( descendants[ id]);
+    }
+
+    /**
+     * @param cl a class contained in this taxonomy (see {@link #contains(OWLClass)}).
+     * @param direct if {@code true}, only the direct super classes are returned.
+     * @return the super classes of the given one, as {@link OWLReasoner#getSuperClasses(org.semanticweb.owlapi.model.OWLClassExpression, boolean)} would give.
+     */
+    public Set< OWLClass> getSuperClasses( OWLClass cl, boolean direct){
+        int id = ids.get( cl);
+        return direct ? getEntities( parents[ id]) : getEntities( ancestors[ id]);
+    }
+
+    /**
+     * @param subClass a class contained in this taxonomy (see {@link #contains(OWLClass)}).
+     * @param superClass a class contained in this taxonomy.
+     * @return {@code true} if the first class is a sub class of, or it is equivalent to, the second class.
+     */
+    public boolean isSubClassOf( OWLClass subClass, OWLClass superClass){
+        int sub = ids.get( subClass), sup = ids.get( superClass);
+        return sub == sup || ancestors[ sub].get( sup);
+    }
+
+    /**
+     * @param cl a class contained in this taxonomy (see {@link #contains(OWLClass)}).
+     * @return the classes equivalent to the given one, itself included.
+     */
+    public Set< OWLClass> getEquivalentClasses( OWLClass cl){
+        return new HashSet<>( nodes.get( ids.get( cl)));
+    }
+
+    /**
+     * @param cl a class contained in this taxonomy (see {@link #contains(OWLClass)}).
+     * @param reasoner the reasoner held by the calling thread (e.g., checked out from a {@link ReasonerPool}),
+     *                 synchronised as the one used to build this taxonomy.
+     * @return the classes disjoint with the given one. They are asked to the reasoner the first time, and then stored.
+     */
+    public Set< OWLClass> getDisjointClasses( OWLClass cl, OWLReasoner reasoner){
+        Set< OWLClass> out = disjoint.get( cl);
+        if( out == null) { // the taxonomy is shared by queries using different reasoners, each one held by its thread
+            out = reasoner.getDisjointClasses( cl).entities().collect( Collectors.toSet());
+            disjoint.put( cl, out);
+        }
+        return new HashSet<>( out);
+    }
+
+    private Set< OWLClass> getEntities( int[] nodeIds){
+        Set< OWLClass> out = new HashSet<>();
+        for( int id : nodeIds)
+            out.addAll( nodes.get( id));
+        return out;
+    }
+
+    private Set< OWLClass> getEntities( BitSet nodeIds){
+        Set< OWLClass> out = new HashSet<>();
+        for( int id = nodeIds.nextSetBit( 0); id >= 0; id = nodeIds.nextSetBit( id + 1))
+            out.addAll( nodes.get( id));
+        return out;
+    }
+
+    @Override
+    public String toString() {
+        return "ClassTaxonomy [nodes=" + size() + ", classes=" + ids.size() + "]";
+    }
+}
@@ -0,0 +1,397 @@
+package it.emarolab.amor.owlInterface;
+
+import it.emarolab.amor.owlDebugger.Logger;
+import it.emarolab.amor.owlDebugger.Logger.LoggerFlag;
+
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * <div style="text-align:center;"><small>
+ * <b>Project</b>:    aMOR <br>
+ * <b>File</b>:       it.emarolab.amor.owlInterface.DoubleBufferedReasoner <br>
+ * <b>Licence</b>:    GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:     aMOR contributors <br>
+ * <b>date</b>:       Oct 18, 2026 <br>
+ * </small></div>
+ *
+ * <p>
+ *     This class serves the queries of an {@link OWLReferences} from the last committed inference state,
+ *     while the next one is computed in background (see {@link OWLReferences#startDoubleBufferedReasoning()}).
+ *     The committed state is an {@link OWLReferencesSnapshot} whose reasoner has already computed the inferences
+ *     (see {@link OWLReferencesSnapshot#precomputeInferences()}). When a refresh is required (see {@link #refresh()}),
+ *     a background thread prepares the spare state, computes its inferences and then swaps it with the committed one
+ *     atomically, if its version is newer (see {@link #getCommittedVersion()}). The replaced state becomes the spare one.
+ *     Therefore, the queries (see {@link #query(Function)}) never wait for the reasoning, but their results
+ *     can be stale with respect to the reference. Note that only such queries (i.e., {@link OWLReferences#queryCommitted(Function)})
+ *     are served from the committed state, while the other queries of the reference still wait for its manipulations and reasoning.<br>
+ *     The two states are reused: the changes applied to the reference (see {@link #changesApplied(List, long)})
+ *     are logged, and the spare state is brought up to date by applying them to its copy of the ontology
+ *     (see {@link OWLReferencesSnapshot#update(List, long)}), so that its reasoner processes only the changes
+ *     instead of classifying the ontology from scratch. Since the queries that started before a swap may still use
+ *     the replaced state, each state counts its readers, and the spare state is updated only when they are over.
+ *     A new snapshot is taken for the first two states, or when the spare state is still read, or when the changes
+ *     cannot be applied to the copy (e.g., imports), or when the log exceeds {@link #MAX_LOGGED_CHANGES}.
+ *     In this case the replaced spare state is retired, and it is disposed as soon as its readers are over.<br>
+ *     The refresh requests that arrive while a refresh is waiting to start are coalesced, since the state prepared
+ *     when it starts includes all the changes applied up to then.
+ * </p>
+ *
+ * @version 2.2
+ */
+public class DoubleBufferedReasoner {
+
+    /**
+     * The maximum number of changes logged to update the spare state. When it is exceeded, the log is cleared
+     * and the next state is a new snapshot.
+     */
+    public static int MAX_LOGGED_CHANGES = 100000;
+
+    /**
+     * The queries performed on the reference (waiting for its reasoning) when no state has been committed yet.
+     */
+    protected interface LiveEnquirer{
+        /**
+         * @param query the query to be performed with the {@link OWLEnquirer} of the reference.
+         * @param <T> the type returned by the query.
+         * @return the result of the query.
+         */
+        <T> T query( Function< OWLEnquirer, T> query);
+    }
+
+    private final AtomicReference< State> committed = new AtomicReference<>(); // used by toString()
+
+    /**
+     * This object is used to log information about the instances of this class.
+     * The logs can be activated by setting the flag: {@link LoggerFlag#LOG_ONTOLOGY_REFERENCE}
+     */
+    private Logger logger = new Logger( this, LoggerFlag.getLogOntologyReference());
+
+    private final Supplier< OWLReferencesSnapshot> snapshotter;
+    private final LiveEnquirer live;
+    private State spare; // the state updated in background (accessed only by the background thread)
+    private final ExecutorService executor;
+    private final String name;
+    // the refresh waiting to start, null if none (guarded by this)
+    private CompletableFuture< OWLReferencesSnapshot> pending;
+    private long swapCount = 0, refreshCount = 0, coalescedRefreshCount = 0, updateCount = 0, retiredCount = 0;
+    // the changes applied to the reference, with the version after them (guarded by itself)
+    private final Deque< LoggedChanges> log = new ArrayDeque<>();
+    private int loggedChangesCount = 0;
+    private long loggedFrom = -1; // all the changes after this version are logged
+
+    /**
+     * Creates the background thread. No state is committed until the first {@link #refresh()}.
+     * @param name the name of the background thread.
+     * @param snapshotter the procedure that takes a new snapshot of the reference, which is not shared with other users.
+     * @param live the procedure that performs the queries on the reference when no state has been committed yet.
+     */
+    protected DoubleBufferedReasoner( String name, Supplier< OWLReferencesSnapshot> snapshotter, LiveEnquirer live){
+        this.name = name;
+        this.snapshotter = snapshotter;
+        this.live = live;
+        this.executor = Executors.newSingleThreadExecutor( r -> {
+            Thread t = new Thread( r, name);
+            t.setDaemon( true);
+            return t;
+        });
+    }
+
+    /**
+     * Requires the computation of a new state in background. If a refresh is already waiting to start,
+     * this request is coalesced with it.
+     * @return a future completed with the committed state after that the refresh has been performed.
+     */
+    public synchronized CompletableFuture< OWLReferencesSnapshot> refresh(){
+        refreshCount++;
+        if( pending != null) {
+            coalescedRefreshCount++;
+            return pending;
+        }
+        CompletableFuture< OWLReferencesSnapshot> out = new CompletableFuture<>();
+        pending = out;
+        try {
+            executor.execute( () -> compute( out));
+        } catch ( RuntimeException e){ // the executor has been stopped
+            pending = null;
+            out.completeExceptionally( e);
+        }
+        return out;
+    }
+
+    /**
+     * Logs the changes applied to the ontology of the reference, which will be applied to the spare state.
+     * It should be called in the same order in which the changes are applied.
+     * @param changes the changes applied to the ontology.
+     * @param version the version of the reference after the changes (see {@link OWLReferencesInterface#getOntologyVersion()}).
+     */
+    public void changesApplied( List< ? extends OWLOntologyChange> changes, long version){
+        if( changes.isEmpty())
+            return;
+        synchronized ( log) {
+            if( loggedChangesCount + changes.size() > MAX_LOGGED_CHANGES) { // the older states will be taken again
+                log.clear();
+                loggedChangesCount = 0;
+                loggedFrom = version;
+                return;
+            }
+            log.add( new LoggedChanges( new ArrayList<>( changes), version));
+            loggedChangesCount += changes.size();
+        }
+    }
+
+    // prepares the spare state, computes its inferences and commits it (on the background thread)
+    private void compute( CompletableFuture< OWLReferencesSnapshot> result){
+        synchronized ( this) { // further requests will be served by another refresh
+            pending = null;
+        }
+        long initialTime = System.nanoTime();
+        try {
+            State last = committed.get();
+            if( spare != null && spare.isRead()) { // by the queries started before it was replaced
+                spare.retire();
+                spare = null;
+                synchronized ( this) {
+                    retiredCount++;
+                }
+            }
+            State next = update( spare, last == null ? -1 : last.snapshot.getVersion());
+            if( next == null) { // the spare state cannot be updated
+                if( spare != null)
+                    spare.retire();
+                spare = null;
+                OWLReferencesSnapshot snapshot = snapshotter.get();
+                if( snapshot != null)
+                    next = new State( snapshot);
+            }
+            if( next != null && next != last) {
+                next.snapshot.precomputeInferences();
+                if( ! commit( next))
+                    spare = next; // an older state is never committed, it will be updated by the next refresh
+            }
+            result.complete( getCommitted());
+            logger.addDebugString( "inference state of " + name + " refreshed in: " + (System.nanoTime() - initialTime) + " [ns]");
+        } catch ( RuntimeException e){
+            result.completeExceptionally( e);
+            logger.addDebugString( "Error on refreshing the inference state of " + name + ": " + e, true);
+        }
+    }
+
+    // applies the logged changes to the given state, returns null if it is not possible.
+    // If nothing changed after the committed version, it returns the committed state
+    private State update( State state, long committedVersion){
+        List< OWLOntologyChange> changes = new ArrayList<>();
+        long version;
+        synchronized ( log) {
+            if( state == null) {
+                if( committedVersion >= 0 && loggedFrom <= committedVersion
+                        && ( log.isEmpty() || log.getLast().version <= committedVersion))
+                    return committed.get(); // no changes since the committed state
+                return null;
+            }
+            if( state.snapshot.getVersion() < loggedFrom)
+                return null; // some changes are not logged
+            version = state.snapshot.getVersion();
+            for( LoggedChanges c : log)
+                if( c.version > state.snapshot.getVersion()) {
+                    changes.addAll( c.changes);
+                    version = c.version;
+                }
+        }
+        if( version <= committedVersion)
+            return committed.get(); // no changes since the committed state
+        if( ! state.snapshot.update( changes, version))
+            return null;
+        synchronized ( this) {
+            updateCount++;
+        }
+        return state;
+    }
+
+    // swaps the committed state if the given one is newer, and the replaced one becomes the spare state
+    private boolean commit( State next){
+        State last;
+        do {
+            last = committed.get();
+            if( last != null && last.snapshot.getVersion() >= next.snapshot.getVersion() && last != next)
+                return false;
+        } while( ! committed.compareAndSet( last, next));
+        if( last != next) {
+            spare = last;
+            synchronized ( log) { // the logged changes are required only after the spare state
+                long from = last == null ? next.snapshot.getVersion() : last.snapshot.getVersion();
+                while( ! log.isEmpty() && log.getFirst().version <= from)
+                    loggedChangesCount -= log.removeFirst().changes.size();
+                loggedFrom = Math.max( loggedFrom, from);
+            }
+            synchronized ( this) {
+                swapCount++;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return the last committed state, or {@code null} if no state has been committed yet. When it is replaced,
+     * it is updated to a newer version and committed again, so the queries should be performed by {@link #query(Function)},
+     * which also prevents the update while they are performed.
+     */
+    public OWLReferencesSnapshot getCommitted(){
+        State last = committed.get();
+        return last == null ? null : last.snapshot;
+    }
+
+    /**
+     * @return the version (see {@link OWLReferencesInterface#getOntologyVersion()}) of the last committed state,
+     * or {@code -1} if no state has been committed yet.
+     */
+    public long getCommittedVersion(){
+        State last = committed.get();
+        return last == null ? -1 : last.snapshot.getVersion();
+    }
+
+    /**
+     * Performs a query on the last committed state. Only if no state has been committed yet,
+     * the query is performed on the reference, and it waits for the reasoning.
+     * If the state is replaced while the query is performed, it is not updated until the query is over.
+     * @param query the query to be performed with the {@link OWLEnquirer} of the committed state.
+     * @param <T> the type returned by the query.
+     * @return the result of the query.
+     */
+    public <T> T query( Function< OWLEnquirer, T> query){
+        while( true) {
+            State state = committed.get();
+            if( state == null)
+                return live.query( query); // the calling thread may hold the locks that the first state requires
+            state.readers.incrementAndGet();
+            try {
+                if( committed.get() == state) // otherwise, it may be updated meanwhile
+                    return state.snapshot.query( query);
+            } finally {
+                state.release();
+            }
+        }
+    }
+
+    /**
+     * Stops the background thread after that the pending refresh (if any) has been performed,
+     * and disposes the spare state. The committed state is still available for queries.
+     */
+    public void stop(){
+        executor.shutdown();
+        try {
+            executor.awaitTermination( Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if( executor.isTerminated() && spare != null) {
+            spare.retire();
+            spare = null;
+        }
+        synchronized ( log) {
+            log.clear();
+            loggedChangesCount = 0;
+        }
+    }
+
+    /**
+     * @return {@code true} if the background thread accepts new refresh requests.
+     */
+    public boolean isRunning(){
+        return ! executor.isShutdown();
+    }
+
+    /**
+     * @return the number of times that a new state has been committed.
+     */
+    public synchronized long getSwapCount(){
+        return swapCount;
+    }
+
+    /**
+     * @return the number of refresh requests received so far.
+     */
+    public synchronized long getRefreshCount(){
+        return refreshCount;
+    }
+
+    /**
+     * @return the number of refresh requests served by another one.
+     */
+    public synchronized long getCoalescedRefreshCount(){
+        return coalescedRefreshCount;
+    }
+
+    /**
+     * @return the number of states prepared by applying the logged changes, instead of taking a new snapshot.
+     */
+    public synchronized long getUpdateCount(){
+        return updateCount;
+    }
+
+    /**
+     * @return the number of spare states that have not been updated, since they were still read by some queries
+     * when the refresh started. A new snapshot is taken instead of them.
+     */
+    public synchronized long getRetiredCount(){
+        return retiredCount;
+    }
+
+    // a snapshot used as committed or spare state, with the number of queries that are using it
+    private static class State{
+        private final OWLReferencesSnapshot snapshot;
+        private final AtomicInteger readers = new AtomicInteger();
+        private volatile boolean retired = false;
+        private final AtomicBoolean disposed = new AtomicBoolean();
+
+        private State( OWLReferencesSnapshot snapshot){
+            this.snapshot = snapshot;
+        }
+        private boolean isRead(){
+            return readers.get() > 0;
+        }
+        private void release(){
+            if( readers.decrementAndGet() == 0 && retired)
+                dispose();
+        }
+        // it will never be used again, so it is disposed when its readers are over
+        private void retire(){
+            retired = true;
+            if( ! isRead())
+                dispose();
+        }
+        private void dispose(){
+            if( disposed.compareAndSet( false, true))
+                snapshot.dispose();
+        }
+    }
+
+    // the changes applied to the reference in a single call, and the version of the reference after them
+    private static class LoggedChanges{
+        private final List< OWLOntologyChange> changes;
+        private final long version;
+
+        private LoggedChanges( List< OWLOntologyChange> changes, long version){
+            this.changes = changes;
+            this.version = version;
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DoubleBufferedReasoner [" + name + ", committedVersion=" + getCommittedVersion() + "]";
+    }
+}
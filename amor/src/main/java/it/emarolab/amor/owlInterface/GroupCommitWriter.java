@@ -0,0 +1,219 @@
+package it.emarolab.amor.owlInterface;
+
+import it.emarolab.amor.owlDebugger.Logger;
+import it.emarolab.amor.owlDebugger.Logger.LoggerFlag;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * <div style="text-align:center;"><small>
+ * <b>Project</b>:    aMOR <br>
+ * <b>File</b>:       it.emarolab.amor.owlInterface.GroupCommitWriter <br>
+ * <b>Licence</b>:    GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:     aMOR contributors <br>
+ * <b>date</b>:       Oct 18, 2026 <br>
+ * </small></div>
+ *
+ * <p>
+ *     This class implements the single writer thread of an {@link OWLReferences} (see {@link OWLReferences#startGroupCommit(int, boolean)}).
+ *     Manipulations are submitted as commands to a queue. The writer thread drains all the pending commands
+ *     (up to a maximum batch size) and gives them to a committer, which performs them in order within a single
+ *     acquisition of the locks (e.g., buffering their changes) and completes the batch (e.g., applying all the changes
+ *     at once, and with one reasoning). The result of each command is available only after that its batch has been
+ *     committed. The outcome is given per command: a failing command does not affect the others of its batch,
+ *     while if the committer fails, all the commands that did not fail on their own fail with its exception
+ *     (e.g., since their changes have not been applied).
+ * </p>
+ *
+ * @version 2.2
+ */
+public class GroupCommitWriter {
+
+    /**
+     * The default maximum number of commands committed together.
+     */
+    public static final int DEFAULT_MAX_BATCH_SIZE = 1000;
+
+    /**
+     * This object is used to log information about the instances of this class.
+     * The logs can be activated by setting the flag: {@link LoggerFlag#LOG_OWL_MANIPULATOR}
+     */
+    private Logger logger = new Logger( this, LoggerFlag.getLogOWLManipulator());
+
+    private final BlockingQueue< Command< ?>> queue = new LinkedBlockingQueue<>();
+    private final Consumer< Runnable> committer;
+    private final int maxBatchSize;
+    private final Thread writer;
+    private volatile boolean running = true;
+    // makes the check of running and the enqueuing of a command atomic with respect to stop()
+    private final Object submission = new Object();
+    private long batchCount = 0, commandCount = 0;
+
+    /**
+     * Creates and starts a new writer thread.
+     * @param name the name of the writer thread.
+     * @param maxBatchSize the maximum number of commands committed together.
+     * @param committer the procedure that commits a batch. The given {@link Runnable} performs all the commands of the batch,
+     *                  it should be run while the manipulations are buffered, and then the changes should be applied.
+     */
+    protected GroupCommitWriter( String name, int maxBatchSize, Consumer< Runnable> committer){
+        this.committer = committer;
+        this.maxBatchSize = Math.max( 1, maxBatchSize);
+        this.writer = new Thread( this::write, name);
+        this.writer.setDaemon( true);
+        this.writer.start();
+    }
+
+    /**
+     * Submits a command to the writer thread.
+     * @param command the manipulation to be performed.
+     * @param <T> the type returned by the command.
+     * @return a future completed after that the batch containing the command has been committed.
+     */
+    public <T> CompletableFuture< T> submit( Supplier< T> command){
+        Command< T> c = new Command<>( command);
+        if( Thread.currentThread() == writer) { // nested manipulations are part of the current batch
+            c.perform();
+            c.complete();
+        } else synchronized ( submission) { // the writer drains all the commands enqueued before stopping
+            if( running)
+                queue.add( c);
+            else c.result.completeExceptionally( new IllegalStateException( "The group commit writer " + writer.getName() + " has been stopped."));
+        }
+        return c.result;
+    }
+
+    /**
+     * Submits a command to the writer thread and waits until it has been committed.
+     * @param command the manipulation to be performed.
+     * @param <T> the type returned by the command.
+     * @return the value returned by the command.
+     */
+    public <T> T execute( Supplier< T> command){
+        try {
+            return submit( command).join();
+        } catch ( CompletionException e){
+            if( e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            if( e.getCause() instanceof Error)
+                throw (Error) e.getCause();
+            throw e;
+        }
+    }
+
+    /**
+     * Stops the writer thread after that all the pending commands have been committed.
+     * Further commands are rejected.
+     */
+    public void stop(){
+        synchronized ( submission) {
+            running = false;
+        }
+        if( Thread.currentThread() != writer) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if the writer thread accepts new commands.
+     */
+    public boolean isRunning(){
+        return running;
+    }
+
+    /**
+     * @return the number of commands that are waiting to be committed.
+     */
+    public int getPendingCommandsCount(){
+        return queue.size();
+    }
+
+    /**
+     * @return the number of batches committed so far.
+     */
+    public synchronized long getBatchCount(){
+        return batchCount;
+    }
+
+    /**
+     * @return the number of commands committed so far.
+     */
+    public synchronized long getCommandCount(){
+        return commandCount;
+    }
+
+    // the loop of the writer thread
+    private void write(){
+        while( running || ! queue.isEmpty()){
+            try {
+                Command< ?> first = queue.poll( 100, TimeUnit.MILLISECONDS);
+                if( first == null)
+                    continue;
+                List< Command< ?>> batch = new ArrayList<>();
+                batch.add( first);
+                queue.drainTo( batch, maxBatchSize - 1);
+                long initialTime = System.nanoTime();
+                try {
+                    committer.accept( () -> batch.forEach( Command::perform));
+                } catch ( RuntimeException e){
+                    batch.forEach( c -> c.fail( e)); // the failed commands keep their own exception
+                    logger.addDebugString( "Error on committing a batch of " + batch.size() + " manipulations: " + e, true);
+                } finally {
+                    batch.forEach( Command::complete);
+                }
+                synchronized ( this) {
+                    batchCount++;
+                    commandCount += batch.size();
+                }
+                logger.addDebugString( "committed " + batch.size() + " manipulations in: " + (System.nanoTime() - initialTime) + " [ns]");
+            } catch ( InterruptedException e) {
+                synchronized ( submission) {
+                    running = false;
+                }
+            }
+        }
+        // reject the commands submitted while stopping
+        for( Command< ?> c = queue.poll(); c != null; c = queue.poll())
+            c.result.completeExceptionally( new IllegalStateException( "The group commit writer " + writer.getName() + " has been stopped."));
+    }
+
+    // a manipulation whose result is given only after its batch has been committed
+    private static class Command< T>{
+        private final Supplier< T> work;
+        private final CompletableFuture< T> result = new CompletableFuture<>();
+        private T value;
+        private Throwable failure;
+
+        private Command( Supplier< T> work){
+            this.work = work;
+        }
+        private void perform(){
+            try {
+                value = work.get();
+            } catch ( Throwable t){
+                failure = t;
+            }
+        }
+        private void fail( Throwable t){
+            if( failure == null)
+                failure = t;
+        }
+        private void complete(){
+            if( failure != null)
+                result.completeExceptionally( failure);
+            else result.complete( value);
+        }
+    }
+}
@@ -0,0 +1,247 @@
+package it.emarolab.amor.owlInterface;
+
+import org.semanticweb.owlapi.model.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * <div style="text-align:center;"><small>
+ * <b>Project</b>:    aMOR <br>
+ * <b>File</b>:       it.emarolab.amor.owlInterface.IndividualRelationIndex <br>
+ * <b>Licence</b>:    GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:     aMOR contributors <br>
+ * <b>date</b>:       Oct 18, 2026 <br>
+ * </small></div>
+ *
+ * <p>
+ *     This class indexes, for each individual, its object and data properties with their values,
+ *     in order to give the complete description of an individual (see {@link OWLEnquirer#getObjectPropertyB2Individual(OWLNamedIndividual)}
+ *     and {@link OWLEnquirer#getDataPropertyB2Individual(OWLNamedIndividual)}) without querying each property.
+ *     It also indexes the incoming object properties of each individual, i.e., the individuals that have it as a value
+ *     (see {@link OWLEnquirer#getIncomingObjectProperties(OWLNamedIndividual)}).<br>
+ *     The asserted relations are always read from the assertions of the individual stored in the ontology
+ *     (for incoming relations, from the axioms referencing the individual), so they never need to be updated.
+ *     The inferred relations are computed by the reasoner the first time that an individual is described,
+ *     and they are stored until the reasoner is synchronised (see {@link #invalidate()}).
+ *     The set of properties to consider is stored in the same way.
+ *     Relations computed while an invalidation occurs are never stored.
+ * </p>
+ *
+ * @version 2.2
+ */
+public class IndividualRelationIndex {
+
+    /**
+     * The default maximum number of described individuals, for each kind of relations. When it is exceeded,
+     * the least used descriptions are evicted one at a time (see {@link BoundedCache}).
+     */
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    private final BoundedCache< OWLNamedIndividual, Map< OWLObjectProperty, Set< OWLNamedIndividual>>> objectRelations = new BoundedCache<>();
+    private final BoundedCache< OWLNamedIndividual, Map< OWLDataProperty, Set< OWLLiteral>>> dataRelations = new BoundedCache<>();
+    private final BoundedCache< OWLNamedIndividual, Map< OWLObjectProperty, Set< OWLNamedIndividual>>> incomingRelations = new BoundedCache<>();
+    private volatile Set< OWLObjectProperty> objectProperties;
+    private volatile Set< OWLDataProperty> dataProperties;
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder(), misses = new LongAdder();
+    private volatile int maxSize = DEFAULT_MAX_SIZE;
+
+    /**
+     * @param ontology the ontology containing the assertions.
+     * @param individual the subject of the assertions.
+     * @return the asserted values of each object property of the individual (a new, mutable, map).
+     */
+    public static Map< OWLObjectProperty, Set< OWLNamedIndividual>> getAssertedObjectRelations( OWLOntology ontology, OWLNamedIndividual individual){
+        Map< OWLObjectProperty, Set< OWLNamedIndividual>> out = new HashMap<>();
+        ontology.objectPropertyAssertionAxioms( individual).forEach( a -> {
+            if( ! a.getProperty().isAnonymous() && a.getObject().isNamed())
+                out.computeIfAbsent( a.getProperty().asOWLObjectProperty(), k -> new HashSet<>()).add( a.getObject().asOWLNamedIndividual());
+        });
+        return out;
+    }
+
+    /**
+     * @param ontology the ontology containing the assertions.
+     * @param individual the object of the assertions.
+     * @return the individuals that have the given one as asserted value, for each object property (a new, mutable, map).
+     */
+    public static Map< OWLObjectProperty, Set< OWLNamedIndividual>> getAssertedIncomingRelations( OWLOntology ontology, OWLNamedIndividual individual){
+        Map< OWLObjectProperty, Set< OWLNamedIndividual>> out = new HashMap<>();
+        ontology.referencingAxioms( individual).forEach( axiom -> {
+            if( axiom.isOfType( AxiomType.OBJECT_PROPERTY_ASSERTION)) {
+                OWLObjectPropertyAssertionAxiom a = (OWLObjectPropertyAssertionAxiom) axiom;
+                if( a.getObject().equals( individual) && ! a.getProperty().isAnonymous() && a.getSubject().isNamed())
+                    out.computeIfAbsent( a.getProperty().asOWLObjectProperty(), k -> new HashSet<>()).add( a.getSubject().asOWLNamedIndividual());
+            }
+        });
+        return out;
+    }
+
+    /**
+     * @param ontology the ontology containing the assertions.
+     * @param individual the subject of the assertions.
+     * @return the asserted values of each data property of the individual (a new, mutable, map).
+     */
+    public static Map< OWLDataProperty, Set< OWLLiteral>> getAssertedDataRelations( OWLOntology ontology, OWLNamedIndividual individual){
+        Map< OWLDataProperty, Set< OWLLiteral>> out = new HashMap<>();
+        ontology.dataPropertyAssertionAxioms( individual).forEach( a -> {
+            if( ! a.getProperty().isAnonymous())
+                out.computeIfAbsent( a.getProperty().asOWLDataProperty(), k -> new HashSet<>()).add( a.getObject());
+        });
+        return out;
+    }
+
+    /**
+     * @param query the query giving all the object properties to consider, performed only if they are not stored.
+     * @return the object properties to consider when an individual is described.
+     */
+    public Set< OWLObjectProperty> getObjectProperties( Supplier< Set< OWLObjectProperty>> query){
+        Set< OWLObjectProperty> out = objectProperties;
+        if( out == null) {
+            long initialGeneration = generation.get();
+            out = Collections.unmodifiableSet( new HashSet<>( query.get()));
+            if( generation.get() == initialGeneration)
+                objectProperties = out;
+        }
+        return out;
+    }
+
+    /**
+     * @param query the query giving all the data properties to consider, performed only if they are not stored.
+     * @return the data properties to consider when an individual is described.
+     */
+    public Set< OWLDataProperty> getDataProperties( Supplier< Set< OWLDataProperty>> query){
+        Set< OWLDataProperty> out = dataProperties;
+        if( out == null) {
+            long initialGeneration = generation.get();
+            out = Collections.unmodifiableSet( new HashSet<>( query.get()));
+            if( generation.get() == initialGeneration)
+                dataProperties = out;
+        }
+        return out;
+    }
+
+    /**
+     * @param individual the individual to describe.
+     * @param query the query giving the inferred values of each object property, performed only if they are not stored.
+     * @return the inferred values of each object property of the individual (not modifiable).
+     */
+    public Map< OWLObjectProperty, Set< OWLNamedIndividual>> getInferredObjectRelations( OWLNamedIndividual individual,
+                                                                                       Supplier< Map< OWLObjectProperty, Set< OWLNamedIndividual>>> query){
+        return get( objectRelations, individual, query);
+    }
+
+    /**
+     * @param individual the individual to describe.
+     * @param query the query giving the inferred values of each data property, performed only if they are not stored.
+     * @return the inferred values of each data property of the individual (not modifiable).
+     */
+    public Map< OWLDataProperty, Set< OWLLiteral>> getInferredDataRelations( OWLNamedIndividual individual,
+                                                                           Supplier< Map< OWLDataProperty, Set< OWLLiteral>>> query){
+        return get( dataRelations, individual, query);
+    }
+
+    /**
+     * @param individual the value of the relations.
+     * @param query the query giving the individuals that have the given one as inferred value, for each object property,
+     *              performed only if they are not stored.
+     * @return the individuals that have the given one as inferred value, for each object property (not modifiable).
+     */
+    public Map< OWLObjectProperty, Set< OWLNamedIndividual>> getInferredIncomingRelations( OWLNamedIndividual individual,
+                                                                                         Supplier< Map< OWLObjectProperty, Set< OWLNamedIndividual>>> query){
+        return get( incomingRelations, individual, query);
+    }
+
+    private < P, V> Map< P, Set< V>> get( BoundedCache< OWLNamedIndividual, Map< P, Set< V>>> index, OWLNamedIndividual individual,
+                                         Supplier< Map< P, Set< V>>> query){
+        Map< P, Set< V>> out = index.get( individual);
+        if( out != null){
+            hits.increment();
+            return out;
+        }
+        misses.increment();
+        long initialGeneration = generation.get();
+        Map< P, Set< V>> relations = new HashMap<>();
+        query.get().forEach( (p, v) -> relations.put( p, Collections.unmodifiableSet( new HashSet<>( v))));
+        out = Collections.unmodifiableMap( relations);
+        index.put( individual, out, maxSize);
+        if( generation.get() != initialGeneration) // the reasoner changed during the query
+            index.remove( individual, out);
+        return out;
+    }
+
+    /**
+     * Removes all the stored inferred relations and properties, e.g., when the reasoner has been synchronised.
+     */
+    public void invalidate(){
+        generation.incrementAndGet();
+        objectRelations.clear();
+        dataRelations.clear();
+        incomingRelations.clear();
+        objectProperties = null;
+        dataProperties = null;
+    }
+
+    /**
+     * Removes the stored relations that can be affected by the given changes. Since the asserted relations are
+     * not stored, only changes to the TBox or to the RBox (which may change the properties to consider) and,
+     * with a non buffering reasoner, any change invalidate the index.
+     * @param changes the changes applied to the ontology.
+     * @param inferencesChanged {@code true} if the changes also affect the inferences (i.e., with a non buffering reasoner).
+     */
+    public void invalidate( List< ? extends OWLOntologyChange> changes, boolean inferencesChanged){
+        if( inferencesChanged){
+            invalidate();
+            return;
+        }
+        for( OWLOntologyChange c : changes)
+            if( ! c.isAxiomChange() || c.getAxiom().isOfType( AxiomType.TBoxAndRBoxAxiomTypes)){
+                invalidate();
+                return;
+            }
+    }
+
+    /**
+     * @return the number of described individuals whose inferred relations are stored.
+     */
+    public int size(){
+        return objectRelations.size() + dataRelations.size() + incomingRelations.size();
+    }
+
+    /**
+     * @return the maximum number of described individuals.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @param maxSize the maximum number of described individuals, for each kind of relations.
+     *                When it is exceeded, the least used descriptions are evicted.
+     */
+    public void setMaxSize( int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return the number of descriptions served by the index.
+     */
+    public long getHitCount(){
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of descriptions for which the reasoner has been queried.
+     */
+    public long getMissCount(){
+        return misses.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "IndividualRelationIndex [size=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount() + "]";
+    }
+}
@@ -6,6 +6,8 @@ import org.semanticweb.owlapi.model.*;
 import org.semanticweb.owlapi.model.parameters.Imports;
 import org.semanticweb.owlapi.reasoner.OWLReasoner;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Set;
 
 import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asSet;
@@ -66,6 +68,61 @@ public class InferredAxiomExporter {
         return( ontoRef);
     }
 
+    /**
+     * Saves all asserted entities in an ontology as fixed, as {@link #exportOntology(OWLReferences)} does,
+     * but the inferences of the individuals are computed in parallel on a {@link OWLReferences#snapshot()}
+     * (see {@link OWLReferencesSnapshot#reasonParallel(java.util.Collection, java.util.function.BiFunction)}).
+     * Then, the inferred axioms are added to the given reference by the calling thread.
+     * Since a reasoner cannot be queried by many threads, each thread of the pool classifies the snapshot with its own
+     * reasoner replica. The replicas are kept by the snapshot, so further exports of the same ontology version
+     * do not classify it again. Therefore, this method is convenient only when the queries on the individuals
+     * take longer than the classification.
+     *
+     * @param ontoRef ontology with inferred entities.
+     * @return ontology with exported entities
+     */
+    public static OWLReferences exportOntologyParallel( OWLReferences ontoRef){
+        long initialTime = System.nanoTime();
+        OWLReferencesSnapshot snapshot = ontoRef.snapshot();
+        if( snapshot == null){
+            logger.addDebugString( "Cannot export the inferences in parallel, snapshot not available.", true);
+            return( ontoRef);
+        }
+        // all the named individuals are instances of owl:Thing, they are taken from the snapshot without reasoning
+        Set< OWLNamedIndividual> allIndividuals = asSet(snapshot.getOWLOntology().individualsInSignature(Imports.fromBoolean(importingClosure)));
+        Set<OWLObjectProperty> allObjProp = asSet(snapshot.getOWLOntology().objectPropertiesInSignature(Imports.fromBoolean(importingClosure)));
+        Set<OWLDataProperty> allDataProp = asSet(snapshot.getOWLOntology().dataPropertiesInSignature(Imports.fromBoolean(importingClosure)));
+        Map< OWLNamedIndividual, Inferences> inferences = snapshot.reasonParallel( allIndividuals,
+                ( reasoner, i) -> new Inferences( reasoner, i, allObjProp, allDataProp));
+        for( Map.Entry< OWLNamedIndividual, Inferences> e : inferences.entrySet())
+            e.getValue().export( e.getKey(), ontoRef);
+        ontoRef.applyOWLManipulatorChanges();
+        logger.addDebugString( "Ontology infered axiom succesfully exported in parallel in: " + (System.nanoTime() - initialTime) + " [ns]");
+        return( ontoRef);
+    }
+
+    // the inferences about an individual, computed by a reasoner replica
+    private static class Inferences{
+        private final Map< OWLObjectProperty, Set< OWLNamedIndividual>> objectProperties = new HashMap<>();
+        private final Map< OWLDataProperty, Set< OWLLiteral>> dataProperties = new HashMap<>();
+        private final Set< OWLClass> classes;
+
+        private Inferences( OWLReasoner reasoner, OWLNamedIndividual ind, Set< OWLObjectProperty> allObjProp, Set< OWLDataProperty> allDataProp){
+            for( OWLObjectProperty p : allObjProp)
+                objectProperties.put( p, asSet( reasoner.getObjectPropertyValues( ind, p).entities()));
+            for( OWLDataProperty p : allDataProp)
+                dataProperties.put( p, reasoner.getDataPropertyValues( ind, p));
+            classes = asSet( reasoner.getTypes( ind, false).entities());
+        }
+
+        // ad the axioms in the applied change list of ontoRef
+        private void export( OWLNamedIndividual ind, OWLReferences ontoRef){
+            objectProperties.forEach( ( p, values) -> values.forEach( v -> ontoRef.addObjectPropertyB2Individual( ind, p, v)));
+            dataProperties.forEach( ( p, values) -> values.forEach( v -> ontoRef.addDataPropertyB2Individual( ind, p, v)));
+            classes.forEach( c -> ontoRef.addIndividualB2Class( ind, c));
+        }
+    }
+
     private synchronized static void exportObjectProperties( Set< OWLObjectProperty> allProp, OWLNamedIndividual ind, OWLReferences ontoRef){
         synchronized (ontoRef.getOWLReasoner()) {
             OWLReasoner reasoner = ontoRef.getOWLReasoner();
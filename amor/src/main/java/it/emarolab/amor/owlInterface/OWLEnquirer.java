@@ -15,6 +15,7 @@ import org.semanticweb.owlapi.formats.TurtleDocumentFormat;
 import org.semanticweb.owlapi.model.*;
 import org.semanticweb.owlapi.reasoner.InconsistentOntologyException;
 import org.semanticweb.owlapi.reasoner.Node;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
 import org.semanticweb.owlapi.search.EntitySearcher;
 import uk.ac.manchester.cs.owl.owlapi.OWLObjectAllValuesFromImpl;
 
@@ -22,6 +23,9 @@ import java.io.IOException;
 import java.io.PipedInputStream;
 import java.io.PipedOutputStream;
 import java.util.*;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -72,6 +76,44 @@ public class OWLEnquirer {
      * Ontology reference to be manipulated given in the constructor.
      */
     private OWLReferencesInterface ontoRef;
+    /**
+     * The default value for caching the query results (see: {@link #setQueryCaching(boolean)}).
+     */
+    public static Boolean DEFAULT_QUERY_CACHING = false;
+    /**
+     * If it is {@code true}, the query results are stored in {@link #queryCache}.
+     */
+    private volatile boolean queryCaching = DEFAULT_QUERY_CACHING;
+    /**
+     * The results of the queries performed when {@link #queryCaching} is {@code true}.
+     */
+    private final QueryCache queryCache = new QueryCache();
+    /**
+     * The default value for using the {@link ClassTaxonomy} (see: {@link #setClassTaxonomy(boolean)}).
+     */
+    public static Boolean DEFAULT_CLASS_TAXONOMY = false;
+    /**
+     * If it is {@code true}, the {@link #classTaxonomy} is built when the reasoner is synchronised.
+     */
+    private volatile boolean classTaxonomyEnabled = DEFAULT_CLASS_TAXONOMY;
+    /**
+     * The class hierarchy computed at the last synchronisation of the reasoner, or {@code null} if not available.
+     */
+    private volatile ClassTaxonomy classTaxonomy;
+    // true if the TBox changed since the class taxonomy has been built
+    private volatile boolean classHierarchyChanged = true;
+    /**
+     * The relations of the individuals, used to describe them (see {@link #getObjectPropertyB2Individual(OWLNamedIndividual)}).
+     */
+    private final IndividualRelationIndex relationIndex = new IndividualRelationIndex();
+    /**
+     * The default value for merging the pending changes to the asserted knowledge (see: {@link #setPendingChangesOverlay(boolean)}).
+     */
+    public static Boolean DEFAULT_PENDING_CHANGES_OVERLAY = false;
+    /**
+     * If it is {@code true}, the changes buffered by the {@link OWLManipulator} are merged to the asserted axioms.
+     */
+    private volatile boolean pendingChangesOverlay = DEFAULT_PENDING_CHANGES_OVERLAY;
 
     /**
      * Constructor which sets {@link #returnsCompleteDescription} flag to
@@ -115,6 +157,7 @@ public class OWLEnquirer {
      */
     protected void setReturnCompleteDescription(Boolean flag){
         returnsCompleteDescription = flag;
+        relationIndex.invalidate(); // the considered properties depend on it
     }
 
     /**
@@ -136,6 +179,246 @@ public class OWLEnquirer {
      */
     public void setIncludeInferences(boolean includesInferences) {
         this.includesInferences = includesInferences;
+        relationIndex.invalidate(); // the considered properties depend on it
+    }
+
+    /**
+     * @return {@code true} if the query results are cached, until the ontology changes or the reasoner is synchronised.
+     */
+    public boolean isQueryCaching() {
+        return queryCaching;
+    }
+    /**
+     * Enables or disables the cache of the query results. When it is enabled, the same query
+     * (with the same arguments and flags) is performed only once, until the ontology changes or
+     * the reasoner is synchronised (see {@link OWLReferencesInterface#setOWLEnquirerCaching(Boolean)}).
+     * Disabling the cache also removes all the stored results.
+     * @param queryCaching {@code true} to cache the query results.
+     */
+    public void setQueryCaching(boolean queryCaching) {
+        this.queryCaching = queryCaching;
+        if( ! queryCaching)
+            queryCache.invalidate();
+    }
+    /**
+     * @return the cache of the query results.
+     */
+    public QueryCache getQueryCache() {
+        return queryCache;
+    }
+    /**
+     * Removes the cached query results and the individual relations that may be affected by the given changes (see {@link QueryCache#invalidate(List, boolean)}).
+     * It is called every time that the ontology changes.
+     * @param changes the changes applied to the ontology.
+     * @param inferencesChanged {@code true} if the reasoner has already been updated with the changes (i.e., it is not buffering).
+     */
+    protected void invalidateQueryCache( List< ? extends OWLOntologyChange> changes, boolean inferencesChanged){
+        queryCache.invalidate( changes, inferencesChanged);
+        relationIndex.invalidate( changes, inferencesChanged);
+    }
+    /**
+     * Removes the cached query results that include inferences, and the inferred individual relations. It is called when the reasoner is synchronised.
+     */
+    protected void invalidateInferredQueryCache(){
+        queryCache.invalidateInferences();
+        relationIndex.invalidate();
+    }
+    /**
+     * Removes the cached query results that include inferences, the inferred individual relations and the
+     * {@link ClassTaxonomy}, which is built again at the next synchronisation of the reasoner.
+     * It is called when the reasoner is replaced by one that has not computed the inferences yet.
+     */
+    protected void invalidateInferences(){
+        invalidateInferredQueryCache();
+        classHierarchyChanged = true;
+        classTaxonomy = null;
+    }
+    /**
+     * @return the index used to describe the individuals.
+     */
+    public IndividualRelationIndex getRelationIndex() {
+        return relationIndex;
+    }
+
+    /**
+     * @return {@code true} if the inferred sub, super, equivalent and disjoint classes are given by a {@link ClassTaxonomy}.
+     */
+    public boolean isClassTaxonomy() {
+        return classTaxonomyEnabled;
+    }
+    /**
+     * Enables or disables the {@link ClassTaxonomy}. When it is enabled, the class hierarchy is copied
+     * from the reasoner every time that it is synchronised after a change to the TBox,
+     * and the inferred sub, super, equivalent and disjoint classes are taken from such a copy instead
+     * of querying the reasoner (see {@link OWLReferencesInterface#setOWLEnquirerTaxonomy(Boolean)}).
+     * The taxonomy is available only after the next synchronisation of the reasoner.
+     * @param classTaxonomy {@code true} to use the class taxonomy.
+     */
+    public void setClassTaxonomy(boolean classTaxonomy) {
+        this.classTaxonomyEnabled = classTaxonomy;
+        this.classHierarchyChanged = true;
+        if( ! classTaxonomy)
+            this.classTaxonomy = null;
+    }
+    /**
+     * @return the class hierarchy computed at the last synchronisation of the reasoner,
+     * or {@code null} if it is disabled or not valid.
+     */
+    public ClassTaxonomy getClassTaxonomy() {
+        return classTaxonomy;
+    }
+    /**
+     * Builds the {@link ClassTaxonomy} from the reasoner, if it is enabled and the TBox changed since it has been built.
+     * It is called when the reasoner is synchronised.
+     */
+    protected void updateClassTaxonomy(){
+        if( ! classTaxonomyEnabled || ( ! classHierarchyChanged && classTaxonomy != null))
+            return;
+        classHierarchyChanged = false; // before building, to not miss changes that occur meanwhile
+        try {
+            long initialTime = System.nanoTime();
+            classTaxonomy = new ClassTaxonomy( ontoRef.getOWLReasoner());
+            logger.addDebugString( "class taxonomy built in: " + (System.nanoTime() - initialTime) + " [ns] " + classTaxonomy);
+        } catch ( InconsistentOntologyException e) {
+            classTaxonomy = null;
+            classHierarchyChanged = true;
+            ontoRef.logInconsistency();
+        }
+    }
+    /**
+     * Marks the {@link ClassTaxonomy} to be rebuilt if the given changes affect the TBox or the RBox.
+     * If the reasoner is not buffering, the taxonomy is also discarded until the next synchronisation,
+     * since the reasoner already sees the changes. Changes to the ABox are not considered (i.e., the hierarchy
+     * is assumed to not depend on nominals).
+     * @param changes the changes applied to the ontology.
+     * @param inferencesChanged {@code true} if the reasoner has already been updated with the changes (i.e., it is not buffering).
+     */
+    protected void invalidateClassTaxonomy( List< ? extends OWLOntologyChange> changes, boolean inferencesChanged){
+        for( OWLOntologyChange c : changes)
+            if( ! c.isAxiomChange() || c.getAxiom().isOfType( AxiomType.TBoxAndRBoxAxiomTypes)){
+                classHierarchyChanged = true;
+                if( inferencesChanged)
+                    classTaxonomy = null;
+                return;
+            }
+    }
+    /**
+     * @return {@code true} if the changes buffered by the {@link OWLManipulator} are merged to the asserted axioms.
+     */
+    public boolean isPendingChangesOverlay() {
+        return pendingChangesOverlay;
+    }
+    /**
+     * Enables or disables the overlay of the pending changes. When it is enabled, the asserted part of the queries about
+     * individuals (i.e., their classes, instances, data and object properties, full and incoming descriptions, as well as
+     * {@link #isInstanceOf(OWLNamedIndividual, OWLClass)}, {@link #hasObjectPropertyValue(OWLNamedIndividual, OWLObjectProperty, OWLNamedIndividual)}
+     * and {@link #isSubClassOf(OWLClass, OWLClass)}) considers also the changes buffered by the {@link OWLManipulator}
+     * (see {@link OWLManipulator#getPendingChangesOverlay()}), as if they were already applied.
+     * Therefore, the manipulations can be buffered and still be read before {@link OWLManipulator#applyChanges()}.
+     * The inferences are not affected, since the reasoner does not see the pending changes.
+     * While there are pending changes, the query cache is bypassed (see {@link #setQueryCaching(boolean)}).
+     * The changes collected by an {@link OWLReferencesBatch} are not considered.
+     * @param overlay {@code true} to merge the pending changes to the asserted axioms.
+     */
+    public void setPendingChangesOverlay(boolean overlay) {
+        this.pendingChangesOverlay = overlay;
+    }
+    // returns the pending changes to merge with the asserted axioms, null if the overlay is disabled or there are no changes
+    private PendingChangesOverlay getOverlay(){
+        if( ! pendingChangesOverlay)
+            return null;
+        OWLManipulator manipulator = ontoRef.getManipulator();
+        if( manipulator == null)
+            return null;
+        return manipulator.getPendingChangesOverlay();
+    }
+    // true if the axiom is asserted, considering the pending changes if the overlay is enabled
+    private boolean isAsserted( OWLAxiom axiom){
+        boolean asserted = ontoRef.getOWLOntology().containsAxiom( axiom);
+        PendingChangesOverlay overlay = getOverlay();
+        if( overlay == null)
+            return asserted;
+        return overlay.isAsserted( axiom, asserted);
+    }
+    // adds and removes from the asserted values the ones of the pending axioms that match the filter
+    private <A extends OWLAxiom, T> Set<T> overlay( Set<T> asserted, AxiomType<A> type, Predicate<A> filter, Function<A, T> value){
+        PendingChangesOverlay overlay = getOverlay();
+        if( overlay != null)
+            overlay.forEach( type, (axiom, added) -> {
+                if( filter.test( axiom)) {
+                    if( added)
+                        asserted.add( value.apply( axiom));
+                    else asserted.remove( value.apply( axiom));
+                }
+            });
+        return asserted;
+    }
+    // as above, for the asserted values of each property
+    private <A extends OWLAxiom, P, T> Map<P, Set<T>> overlay( Map<P, Set<T>> asserted, AxiomType<A> type, Predicate<A> filter,
+                                                               Function<A, P> property, Function<A, T> value){
+        PendingChangesOverlay overlay = getOverlay();
+        if( overlay != null)
+            overlay.forEach( type, (axiom, added) -> {
+                if( filter.test( axiom)) {
+                    P p = property.apply( axiom);
+                    if( added)
+                        asserted.computeIfAbsent( p, k -> new HashSet<>()).add( value.apply( axiom));
+                    else {
+                        Set<T> values = asserted.get( p);
+                        if( values != null && values.remove( value.apply( axiom)) && values.isEmpty())
+                            asserted.remove( p);
+                    }
+                }
+            });
+        return asserted;
+    }
+    // as above, for a stream of asserted values (e.g., for getOnly(..))
+    private <A extends OWLAxiom, T> Stream<T> overlay( Stream<T> asserted, AxiomType<A> type, Predicate<A> filter, Function<A, T> value){
+        if( getOverlay() == null)
+            return asserted;
+        return overlay( asserted.collect( Collectors.toSet()), type, filter, value).stream();
+    }
+    // filters of the pending axioms about individuals
+    private static Predicate<OWLClassAssertionAxiom> typeAssertionsOf( OWLNamedIndividual individual){
+        return a -> a.getIndividual().equals( individual) && a.getClassExpression().isOWLClass();
+    }
+    private static Predicate<OWLClassAssertionAxiom> instanceAssertionsOf( OWLClass cl){
+        return a -> a.getClassExpression().equals( cl) && a.getIndividual().isNamed();
+    }
+    private static Predicate<OWLObjectPropertyAssertionAxiom> objectAssertionsOf( OWLNamedIndividual subject, OWLObjectProperty property,
+                                                                               OWLNamedIndividual object){
+        return a -> ! a.getProperty().isAnonymous() && a.getSubject().isNamed() && a.getObject().isNamed()
+                && ( subject == null || a.getSubject().equals( subject)) && ( property == null || a.getProperty().equals( property))
+                && ( object == null || a.getObject().equals( object));
+    }
+    private static Predicate<OWLDataPropertyAssertionAxiom> dataAssertionsOf( OWLNamedIndividual subject, OWLDataProperty property){
+        return a -> ! a.getProperty().isAnonymous() && a.getSubject().equals( subject) && ( property == null || a.getProperty().equals( property));
+    }
+
+    // returns the taxonomy if it can be used to get the inferred hierarchy of the given class, null otherwise
+    private ClassTaxonomy getClassTaxonomy( OWLClass cl){
+        ClassTaxonomy taxonomy = classTaxonomy;
+        if( taxonomy != null && taxonomy.contains( cl))
+            return taxonomy;
+        return null;
+    }
+    // performs the query through the cache, if enabled. The result depends on all the arguments
+    private <T> T cached( String method, Supplier< T> query, Object... args){
+        return cached( method, false, query, args);
+    }
+    // as above, it may also depend on the class hierarchy
+    private <T> T cached( String method, boolean dependsOnHierarchy, Supplier< T> query, Object... args){
+        if( ! queryCaching || getOverlay() != null) // the pending changes are not in the cache
+            return query.get();
+        List< Object> key = new ArrayList<>( args.length + 3);
+        key.add( method);
+        key.add( includesInferences);
+        key.add( returnsCompleteDescription);
+        key.addAll( Arrays.asList( args));
+        Set< Object> dependencies = new HashSet<>( Arrays.asList( args));
+        if( dependsOnHierarchy)
+            dependencies.add( QueryCache.CLASS_HIERARCHY);
+        return queryCache.get( key, dependencies, includesInferences, query);
     }
 
     /**
@@ -171,6 +454,9 @@ public class OWLEnquirer {
      * @return non-ordered set of individuals belonging to such class.
      */
     public Set<OWLNamedIndividual> getIndividualB2Class( OWLClass ontoClass){
+        return cached( "getIndividualB2Class", () -> computeIndividualB2Class( ontoClass), ontoClass);
+    }
+    private Set<OWLNamedIndividual> computeIndividualB2Class( OWLClass ontoClass){
         long initialTime = System.nanoTime();
         Set< OWLNamedIndividual> out = new HashSet< OWLNamedIndividual>();
 
@@ -180,6 +466,7 @@ public class OWLEnquirer {
 
         if( set != null)
             out.addAll( set.stream().map( AsOWLNamedIndividual::asOWLNamedIndividual).collect( Collectors.toList()));
+        overlay( out, AxiomType.CLASS_ASSERTION, instanceAssertionsOf( ontoClass), a -> a.getIndividual().asOWLNamedIndividual());
 
         if(includesInferences) {
             try {
@@ -207,31 +494,33 @@ public class OWLEnquirer {
     }
     /**
      * Returns one individual belonging to the specified class.
-     * Returns {@code null} if no individual are classified in that class,
-     * if such class does not exist or if the Set returned by
-     * {@code this.getIndividualB2Class( .. )} has {@code size > 1}.
+     * Returns {@code null} if no individual are classified in that class
+     * or if such class does not exist (see {@link #getOnlyIndividualB2Class(OWLClass)}).
      * Results completeness is ensured only if {@link #returnsCompleteDescription} is set to {@code true}.
      *
      * @param className name of the ontological class.
      * @return an individual belonging to ontoClass.
      */
     public OWLNamedIndividual getOnlyIndividualB2Class( String className){
-        Set<OWLNamedIndividual> set = getIndividualB2Class( ontoRef.getOWLClass( className));
-        return( (OWLNamedIndividual) ontoRef.getOnlyElement(set));
+        return( getOnlyIndividualB2Class( ontoRef.getOWLClass( className)));
     }
     /**
      * Returns one individual belonging to the specified class.
-     * Returns {@code null} if no individual are classified in that class,
-     * if such class does not exist or if the Set returned by
-     * {@code this.getIndividualB2Class( .. )} has {@code size > 1}.
+     * Returns {@code null} if no individual are classified in that class or if such class does not exist.
+     * It does not compute all the individuals of the class: it returns the smallest (see {@link OWLObject#compareTo(Object)})
+     * asserted individual, and it asks to the reasoner only if there are not asserted individuals.
      * Results completeness is ensured only if {@link #returnsCompleteDescription} is set to {@code true}.
      *
      * @param ontoClass OWLClass object in which to search.
      * @return an individual belonging to ontoClass.
      */
     public OWLNamedIndividual getOnlyIndividualB2Class( OWLClass ontoClass){
-        Set< OWLNamedIndividual> set = getIndividualB2Class( ontoClass);
-        return( (OWLNamedIndividual) ontoRef.getOnlyElement( set));
+        return cached( "getOnlyIndividualB2Class", () -> getOnly( "Only individual belonging to class",
+                () -> overlay( EntitySearcher.getIndividuals( ontoClass, ontoRef.getOWLOntology())
+                        .filter( OWLIndividual::isNamed).map( OWLIndividual::asOWLNamedIndividual),
+                        AxiomType.CLASS_ASSERTION, instanceAssertionsOf( ontoClass), a -> a.getIndividual().asOWLNamedIndividual()),
+                () -> ontoRef.getOWLReasoner().getInstances( ontoClass, ! isReturningCompleteDescription()).entities()),
+                ontoClass);
     }
 
     /**
@@ -242,6 +531,9 @@ public class OWLEnquirer {
      * @return set of all classes the individual belongs to.
      */
     public Set<OWLClass> getIndividualClasses( OWLNamedIndividual individual){
+        return cached( "getIndividualClasses", () -> computeIndividualClasses( individual), individual);
+    }
+    private Set<OWLClass> computeIndividualClasses( OWLNamedIndividual individual){
         long initialTime = System.nanoTime();
         Set< OWLClass> out = new HashSet<>();
 
@@ -251,6 +543,7 @@ public class OWLEnquirer {
 
         if( set != null)
             out.addAll(set.stream().map(AsOWLClass::asOWLClass).collect(Collectors.toList()));
+        overlay( out, AxiomType.CLASS_ASSERTION, typeAssertionsOf( individual), a -> a.getClassExpression().asOWLClass());
 
         if(includesInferences) {
             try {
@@ -285,21 +578,25 @@ public class OWLEnquirer {
      * @return a class.
      */
     public OWLClass getOnlyIndividualClasses( String individualName){
-        Set< OWLClass> set = getIndividualClasses( individualName);
-        return( ( OWLClass) ontoRef.getOnlyElement( set));
+        return( getOnlyIndividualClasses( ontoRef.getOWLIndividual( individualName)));
     }
     /**
-     * Returns one class the individual belongs to.
-     * Calls {@link #getIndividualClasses(OWLNamedIndividual)},
-     * then {@link OWLReferencesInterface#getOnlyElement(Set)}
-     * and returns the resulting {@link OWLClass}.
+     * Returns one class the individual belongs to (except for {@link OWLDataFactory#getOWLThing()}).
+     * It does not compute all the types of the individual: it returns the smallest (see {@link OWLObject#compareTo(Object)})
+     * asserted class, and it asks to the reasoner only if there are not asserted classes.
      *
      * @param individual ontological individual object.
      * @return one class in which the input individual is belonging to.
      */
     public OWLClass getOnlyIndividualClasses( OWLNamedIndividual individual){
-        Set< OWLClass> set = getIndividualClasses( individual);
-        return( ( OWLClass) ontoRef.getOnlyElement( set));
+        return cached( "getOnlyIndividualClasses", () -> getOnly( "Only type of individual",
+                () -> overlay( EntitySearcher.getTypes( individual, ontoRef.getOWLOntology())
+                        .filter( OWLClassExpression::isOWLClass).map( OWLClassExpression::asOWLClass),
+                        AxiomType.CLASS_ASSERTION, typeAssertionsOf( individual), a -> a.getClassExpression().asOWLClass())
+                        .filter( c -> ! c.isOWLThing()),
+                () -> ontoRef.getOWLReasoner().getTypes( individual, ! isReturningCompleteDescription()).entities()
+                        .filter( c -> ! c.isOWLThing())),
+                individual);
     }
 
     /**
@@ -328,11 +625,15 @@ public class OWLEnquirer {
      * @return non-ordered set of the data property literal values.
      */
     public Set<OWLLiteral> getDataPropertyB2Individual( OWLNamedIndividual individual, OWLDataProperty property){
+        return cached( "getDataPropertyB2Individual", () -> computeDataPropertyB2Individual( individual, property), individual, property);
+    }
+    private Set<OWLLiteral> computeDataPropertyB2Individual( OWLNamedIndividual individual, OWLDataProperty property){
         long initialTime = System.nanoTime();
 
         //Set<OWLLiteral>  value = individual.getDataPropertyValues(property, ontoRef.getOWLOntology());
         Stream<OWLLiteral> stream = EntitySearcher.getDataPropertyValues(individual, property, ontoRef.getOWLOntology());
         Set< OWLLiteral> value = stream.collect( Collectors.toSet());
+        overlay( value, AxiomType.DATA_PROPERTY_ASSERTION, dataAssertionsOf( individual, property), OWLDataPropertyAssertionAxiom::getObject);
 
         if(includesInferences) {
             try {
@@ -348,30 +649,34 @@ public class OWLEnquirer {
     /**
      * Returns one literal value of a specific OWL Data Property instance
      * assigned to an individual. Takes as input the individual and
-     * property names and calls {@link #getDataPropertyB2Individual(OWLNamedIndividual, OWLDataProperty)},
-     * then returns the result as {@link OWLLiteral}.
+     * property names and calls {@link #getOnlyDataPropertyB2Individual(OWLNamedIndividual, OWLDataProperty)}.
      *
      * @param individualName name of the individual the data property belongs to.
      * @param propertyName name of the data property whose values are queried.
      * @return queried literal value.
      */
     public OWLLiteral getOnlyDataPropertyB2Individual( String individualName, String propertyName){
-        Set<OWLLiteral> set = getDataPropertyB2Individual( individualName, propertyName);
-        return( (OWLLiteral) ontoRef.getOnlyElement( set));
+        return( getOnlyDataPropertyB2Individual( ontoRef.getOWLIndividual( individualName), ontoRef.getOWLDataProperty( propertyName)));
     }
     /**
      * Returns one literal value of a specific OWL Data Property instance
      * assigned to an individual. This returns {@code null} if such data property or
      * individual do not exist, or if there is no instance of the data property
      * assigned to the individual.
+     * It does not compute all the values: it returns the smallest (see {@link OWLObject#compareTo(Object)})
+     * asserted value, and it asks to the reasoner only if there are not asserted values
+     * (e.g., it never involves the reasoner for asserted functional properties).
      *
      * @param individual individual the data property belongs to.
      * @param property data property whose values are queried.
      * @return queried literal value.
      */
     public OWLLiteral getOnlyDataPropertyB2Individual( OWLNamedIndividual individual, OWLDataProperty property){
-        Set<OWLLiteral> set = getDataPropertyB2Individual( individual, property);
-        return( (OWLLiteral) ontoRef.getOnlyElement( set));
+        return cached( "getOnlyDataPropertyB2Individual", () -> getOnly( "Only data property belonging to individual",
+                () -> overlay( EntitySearcher.getDataPropertyValues( individual, property, ontoRef.getOWLOntology()),
+                        AxiomType.DATA_PROPERTY_ASSERTION, dataAssertionsOf( individual, property), OWLDataPropertyAssertionAxiom::getObject),
+                () -> ontoRef.getOWLReasoner().getDataPropertyValues( individual, property).stream()),
+                individual, property);
     }
 
 
@@ -398,6 +703,9 @@ public class OWLEnquirer {
      * @return non-ordered set of the property value entities ({@link OWLNamedIndividual}).
      */
     public Set<OWLNamedIndividual> getObjectPropertyB2Individual( OWLNamedIndividual individual, OWLObjectProperty property){
+        return cached( "getObjectPropertyB2Individual", () -> computeObjectPropertyB2Individual( individual, property), individual, property);
+    }
+    private Set<OWLNamedIndividual> computeObjectPropertyB2Individual( OWLNamedIndividual individual, OWLObjectProperty property){
         long initialTime = System.nanoTime();
         Set< OWLNamedIndividual> out = new HashSet<>();
 
@@ -407,6 +715,7 @@ public class OWLEnquirer {
         if( set != null){
             out.addAll(set.stream().map(AsOWLNamedIndividual::asOWLNamedIndividual).collect(Collectors.toList()));
         }
+        overlay( out, AxiomType.OBJECT_PROPERTY_ASSERTION, objectAssertionsOf( individual, property, null), a -> a.getObject().asOWLNamedIndividual());
 
         if(includesInferences) {
             try {
@@ -424,7 +733,7 @@ public class OWLEnquirer {
     /**
      * Returns one value object of a specific OWL Object Property instance
      * assigned to an individual, given by name.
-     * It actually queries all values and then returns only one.
+     * See {@link #getOnlyObjectPropertyB2Individual(OWLNamedIndividual, OWLObjectProperty)}.
      *
      * @param individualName name of the individual.
      * @param propertyName name of the object property.
@@ -433,48 +742,88 @@ public class OWLEnquirer {
     public OWLNamedIndividual getOnlyObjectPropertyB2Individual( String individualName, String propertyName){
         OWLNamedIndividual ind = ontoRef.getOWLIndividual( individualName);
         OWLObjectProperty prop = ontoRef.getOWLObjectProperty( propertyName);
-        Set<OWLNamedIndividual> set = getObjectPropertyB2Individual( ind, prop);
-        return( (OWLNamedIndividual) ontoRef.getOnlyElement( set));
+        return( getOnlyObjectPropertyB2Individual( ind, prop));
     }
     /**
      * Returns one value object of a specific OWL Object Property instance
-     * assigned to an individual. It actually queries all values and then returns only one.
-     * Returns {@code null} if the object property or individual do not exist,
-     * or {@link OWLReferencesInterface#getOnlyElement(Set)} returns {@code null}.
+     * assigned to an individual. It does not compute all the values: it returns the smallest
+     * (see {@link OWLObject#compareTo(Object)}) asserted value, and it asks to the reasoner only if there are not asserted values.
+     * Returns {@code null} if the object property or individual do not exist, or if there are no values.
      *
      * @param individual from which the object property is retrieved.
      * @param property the object property to lock for.
      * @return property value entity ({@link OWLNamedIndividual}).
      */
     public OWLNamedIndividual getOnlyObjectPropertyB2Individual( OWLNamedIndividual individual, OWLObjectProperty property){
-        Set< OWLNamedIndividual> all = getObjectPropertyB2Individual( individual, property);
-        return( (OWLNamedIndividual) ontoRef.getOnlyElement( all));
+        return cached( "getOnlyObjectPropertyB2Individual", () -> getOnly( "Only object property belonging to individual",
+                () -> overlay( EntitySearcher.getObjectPropertyValues( individual, property, ontoRef.getOWLOntology())
+                        .filter( OWLIndividual::isNamed).map( OWLIndividual::asOWLNamedIndividual),
+                        AxiomType.OBJECT_PROPERTY_ASSERTION, objectAssertionsOf( individual, property, null), a -> a.getObject().asOWLNamedIndividual()),
+                () -> ontoRef.getOWLReasoner().getObjectPropertyValues( individual, property).entities()),
+                individual, property);
+    }
+
+    // returns the smallest asserted element or, if there are not and inferences are included, the smallest inferred element
+    private <T extends OWLObject> T getOnly( String query, Supplier< Stream< T>> asserted, Supplier< Stream< T>> reasoned){
+        long initialTime = System.nanoTime();
+        T out = asserted.get().min( Comparator.naturalOrder()).orElse( null);
+        if( out == null && includesInferences) {
+            try {
+                out = reasoned.get().min( Comparator.naturalOrder()).orElse( null);
+            } catch (InconsistentOntologyException e) {
+                ontoRef.logInconsistency();
+            }
+        }
+        logger.addDebugString( query + " given in: " + (System.nanoTime() - initialTime) + " [ns]");
+        return out;
     }
 
     /**
      * Returns all object properties and relative value entities relative to an individual.
-     * Note: this implementation may be not efficient since it iterate over all
-     * the object property of the ontology.
+     * The considered properties are the sub properties of {@link OWLDataFactory#getOWLTopObjectProperty()}
+     * (see {@link #getSubObjectPropertyOf(OWLObjectProperty)}). The asserted values are read from the assertions
+     * of the individual, while the inferred values are given by the {@link IndividualRelationIndex}, which
+     * queries the reasoner for each property only the first time that the individual is described after a synchronisation.
      *
      * @param individual the instance from which retrieve its objects properties.
      * @return all the object properties and value entities of the given individual.
      */
     public Set<ObjectPropertyRelations> getObjectPropertyB2Individual(OWLNamedIndividual individual){
+        long initialTime = System.nanoTime();
+        Set<OWLObjectProperty> allProp = relationIndex.getObjectProperties(
+                () -> getSubObjectPropertyOf( ontoRef.getOWLFactory().getOWLTopObjectProperty()));
+        Map<OWLObjectProperty, Set<OWLNamedIndividual>> relations = overlay(
+                IndividualRelationIndex.getAssertedObjectRelations( ontoRef.getOWLOntology(), individual),
+                AxiomType.OBJECT_PROPERTY_ASSERTION, objectAssertionsOf( individual, null, null),
+                a -> a.getProperty().asOWLObjectProperty(), a -> a.getObject().asOWLNamedIndividual());
+        relations.keySet().retainAll( allProp);
+        if( includesInferences) {
+            try {
+                relationIndex.getInferredObjectRelations( individual, () -> computeObjectRelations( individual, allProp))
+                        .forEach( (p, values) -> relations.computeIfAbsent( p, k -> new HashSet<>()).addAll( values));
+            } catch (InconsistentOntologyException e) {
+                ontoRef.logInconsistency();
+            }
+        }
         Set<ObjectPropertyRelations> out = new HashSet<ObjectPropertyRelations>();
-        // get all object prop in the ontology
-        OWLObjectProperty topObjProp = ontoRef.getOWLFactory().getOWLTopObjectProperty();
-        Set<OWLObjectProperty> allProp = getSubObjectPropertyOf(topObjProp);
+        relations.forEach( (p, values) -> out.add( new ObjectPropertyRelations(individual, p, values)));
+        logger.addDebugString( "All object properties belonging to individual given in: " + (System.nanoTime() - initialTime) + " [ns]");
+        return out;
+    }
+    // the inferred values of each property, asked to the reasoner
+    private Map<OWLObjectProperty, Set<OWLNamedIndividual>> computeObjectRelations( OWLNamedIndividual individual, Set<OWLObjectProperty> allProp){
+        Map<OWLObjectProperty, Set<OWLNamedIndividual>> out = new HashMap<>();
         for( OWLObjectProperty p : allProp){ // check if a property belongs to this individual
-            Set<OWLNamedIndividual> values = getObjectPropertyB2Individual(individual, p);
+            Set<OWLNamedIndividual> values = ontoRef.getOWLReasoner().getObjectPropertyValues( individual, p).entities()
+                    .collect( Collectors.toSet());
             if( ! values.isEmpty())
-                out.add( new ObjectPropertyRelations(individual, p, values));
+                out.put( p, values);
         }
         return out;
     }
     /**
      * Returns all object properties and relative value entities relative to an individual.
-     * Note that this implementation may be not efficient since it iterate over all
-     * the object property of the ontology.
+     * See {@link #getObjectPropertyB2Individual(OWLNamedIndividual)}.
      *
      * @param individualName name of the individual.
      * @return all the object properties and value entities of the given individual.
@@ -483,29 +832,195 @@ public class OWLEnquirer {
         return getObjectPropertyB2Individual( ontoRef.getOWLIndividual( individualName));
     }
 
+    /**
+     * Returns all the individuals that have the given value for an object property, given by name.
+     * See {@link #getIndividualsWithObjectPropertyTo(OWLNamedIndividual, OWLObjectProperty)}.
+     *
+     * @param valueName the name of the value of the object property.
+     * @param propertyName the name of the object property.
+     * @return non-ordered set of the individuals related to the value through the property.
+     */
+    public Set<OWLNamedIndividual> getIndividualsWithObjectPropertyTo( String valueName, String propertyName){
+        return getIndividualsWithObjectPropertyTo( ontoRef.getOWLIndividual( valueName), ontoRef.getOWLObjectProperty( propertyName));
+    }
+    /**
+     * Returns all the individuals that have the given value for an object property (i.e., the incoming edges of the value).
+     * The asserted individuals are found through the axioms referencing the value, while the inferred ones
+     * are given by the reasoner as the values of the inverse property. It never iterates over all the individuals.
+     *
+     * @param value the value of the object property.
+     * @param property the object property.
+     * @return non-ordered set of the individuals related to the value through the property.
+     */
+    public Set<OWLNamedIndividual> getIndividualsWithObjectPropertyTo( OWLNamedIndividual value, OWLObjectProperty property){
+        return cached( "getIndividualsWithObjectPropertyTo", () -> computeIndividualsWithObjectPropertyTo( value, property), value, property);
+    }
+    private Set<OWLNamedIndividual> computeIndividualsWithObjectPropertyTo( OWLNamedIndividual value, OWLObjectProperty property){
+        long initialTime = System.nanoTime();
+        Set<OWLNamedIndividual> out = new HashSet<>();
+        Set<OWLNamedIndividual> asserted = IndividualRelationIndex.getAssertedIncomingRelations( ontoRef.getOWLOntology(), value).get( property);
+        if( asserted != null)
+            out.addAll( asserted);
+        overlay( out, AxiomType.OBJECT_PROPERTY_ASSERTION, objectAssertionsOf( null, property, value), a -> a.getSubject().asOWLNamedIndividual());
+        if(includesInferences) {
+            try {
+                ontoRef.getOWLReasoner().getObjectPropertyValues( value, property.getInverseProperty()).entities().forEach( out::add);
+            } catch (InconsistentOntologyException e) {
+                ontoRef.logInconsistency();
+            }
+        }
+        logger.addDebugString( "Individuals with object property to value given in: " + (System.nanoTime() - initialTime) + " [ns]");
+        return out;
+    }
+
+    /**
+     * Returns the incoming object properties of an individual, given by name.
+     * See {@link #getIncomingObjectProperties(OWLNamedIndividual)}.
+     *
+     * @param individualName the name of the individual.
+     * @return the individuals that have the given one as value, for each object property.
+     */
+    public Map<OWLObjectProperty, Set<OWLNamedIndividual>> getIncomingObjectProperties( String individualName){
+        return getIncomingObjectProperties( ontoRef.getOWLIndividual( individualName));
+    }
+    /**
+     * Returns the incoming object properties of an individual, i.e., for each object property, the individuals
+     * that have the given one as value. The properties are the same considered by {@link #getObjectPropertyB2Individual(OWLNamedIndividual)}.
+     * The asserted relations are found through the axioms referencing the individual, while the inferred relations are given by the
+     * {@link IndividualRelationIndex}, which queries the reasoner for each inverse property only the first time
+     * after a synchronisation.
+     *
+     * @param individual the individual.
+     * @return the individuals that have the given one as value, for each object property.
+     */
+    public Map<OWLObjectProperty, Set<OWLNamedIndividual>> getIncomingObjectProperties( OWLNamedIndividual individual){
+        long initialTime = System.nanoTime();
+        Set<OWLObjectProperty> allProp = relationIndex.getObjectProperties(
+                () -> getSubObjectPropertyOf( ontoRef.getOWLFactory().getOWLTopObjectProperty()));
+        Map<OWLObjectProperty, Set<OWLNamedIndividual>> out = overlay(
+                IndividualRelationIndex.getAssertedIncomingRelations( ontoRef.getOWLOntology(), individual),
+                AxiomType.OBJECT_PROPERTY_ASSERTION, objectAssertionsOf( null, null, individual),
+                a -> a.getProperty().asOWLObjectProperty(), a -> a.getSubject().asOWLNamedIndividual());
+        out.keySet().retainAll( allProp);
+        if( includesInferences) {
+            try {
+                relationIndex.getInferredIncomingRelations( individual, () -> computeIncomingRelations( individual, allProp))
+                        .forEach( (p, subjects) -> out.computeIfAbsent( p, k -> new HashSet<>()).addAll( subjects));
+            } catch (InconsistentOntologyException e) {
+                ontoRef.logInconsistency();
+            }
+        }
+        logger.addDebugString( "Incoming object properties of individual given in: " + (System.nanoTime() - initialTime) + " [ns]");
+        return out;
+    }
+    // the individuals having the given one as inferred value of each property, asked to the reasoner
+    private Map<OWLObjectProperty, Set<OWLNamedIndividual>> computeIncomingRelations( OWLNamedIndividual individual, Set<OWLObjectProperty> allProp){
+        Map<OWLObjectProperty, Set<OWLNamedIndividual>> out = new HashMap<>();
+        for( OWLObjectProperty p : allProp){
+            Set<OWLNamedIndividual> subjects = ontoRef.getOWLReasoner().getObjectPropertyValues( individual, p.getInverseProperty()).entities()
+                    .collect( Collectors.toSet());
+            if( ! subjects.isEmpty())
+                out.put( p, subjects);
+        }
+        return out;
+    }
+
+    /**
+     * Returns the classes of each given individual, as {@link #getIndividualClasses(OWLNamedIndividual)} does.
+     * @param individuals the individuals to query.
+     * @return the classes of each individual, in the iteration order of the input collection.
+     */
+    public Map<OWLNamedIndividual, Set<OWLClass>> getIndividualClasses( Collection<OWLNamedIndividual> individuals){
+        return getForEach( "Types of individuals", individuals, i -> getIndividualClasses( i));
+    }
+    /**
+     * Returns the values of a data property for each given individual, as {@link #getDataPropertyB2Individual(OWLNamedIndividual, OWLDataProperty)} does.
+     * @param individuals the individuals to query.
+     * @param property the data property.
+     * @return the values of the property for each individual, in the iteration order of the input collection.
+     */
+    public Map<OWLNamedIndividual, Set<OWLLiteral>> getDataPropertyB2Individual( Collection<OWLNamedIndividual> individuals, OWLDataProperty property){
+        return getForEach( "Data property belonging to individuals", individuals, i -> getDataPropertyB2Individual( i, property));
+    }
+    /**
+     * Returns the values of an object property for each given individual, as {@link #getObjectPropertyB2Individual(OWLNamedIndividual, OWLObjectProperty)} does.
+     * @param individuals the individuals to query.
+     * @param property the object property.
+     * @return the values of the property for each individual, in the iteration order of the input collection.
+     */
+    public Map<OWLNamedIndividual, Set<OWLNamedIndividual>> getObjectPropertyB2Individual( Collection<OWLNamedIndividual> individuals, OWLObjectProperty property){
+        return getForEach( "Object property belonging to individuals", individuals, i -> getObjectPropertyB2Individual( i, property));
+    }
+    /**
+     * Returns all the data properties of each given individual, as {@link #getDataPropertyB2Individual(OWLNamedIndividual)} does.
+     * @param individuals the individuals to query.
+     * @return the data properties, with their values, of each individual, in the iteration order of the input collection.
+     */
+    public Map<OWLNamedIndividual, Set<DataPropertyRelations>> getDataPropertyB2Individual( Collection<OWLNamedIndividual> individuals){
+        return getForEach( "All data properties belonging to individuals", individuals, i -> getDataPropertyB2Individual( i));
+    }
+    /**
+     * Returns all the object properties of each given individual, as {@link #getObjectPropertyB2Individual(OWLNamedIndividual)} does.
+     * @param individuals the individuals to query.
+     * @return the object properties, with their values, of each individual, in the iteration order of the input collection.
+     */
+    public Map<OWLNamedIndividual, Set<ObjectPropertyRelations>> getObjectPropertyB2Individual( Collection<OWLNamedIndividual> individuals){
+        return getForEach( "All object properties belonging to individuals", individuals, i -> getObjectPropertyB2Individual( i));
+    }
+    // performs the query for each individual, and logs only once
+    private <T> Map<OWLNamedIndividual, T> getForEach( String query, Collection<OWLNamedIndividual> individuals, Function<OWLNamedIndividual, T> perIndividual){
+        long initialTime = System.nanoTime();
+        Map<OWLNamedIndividual, T> out = new LinkedHashMap<>();
+        for( OWLNamedIndividual i : individuals)
+            out.put( i, perIndividual.apply( i));
+        logger.addDebugString( query + " (" + individuals.size() + ") given in: " + (System.nanoTime() - initialTime) + " [ns]");
+        return out;
+    }
+
     /** Returns all data properties and relative value entities relative to an individual.
-     * Note that this implementation may be not efficient since it iterate over all
-     * the object property of the ontology.
+     * The considered properties are the sub properties of {@link OWLDataFactory#getOWLTopDataProperty()}
+     * (see {@link #getSubDataPropertyOf(OWLDataProperty)}). The asserted values are read from the assertions
+     * of the individual, while the inferred values are given by the {@link IndividualRelationIndex}, which
+     * queries the reasoner for each property only the first time that the individual is described after a synchronisation.
      *
      * @param individual the instance from which retrieve its objects properties.
      * @return all the object properties and value entities of the given individual.
      */
     public Set< DataPropertyRelations> getDataPropertyB2Individual( OWLNamedIndividual individual){
+        long initialTime = System.nanoTime();
+        Set<OWLDataProperty> allProp = relationIndex.getDataProperties(
+                () -> getSubDataPropertyOf( ontoRef.getOWLFactory().getOWLTopDataProperty()));
+        Map<OWLDataProperty, Set<OWLLiteral>> relations = overlay(
+                IndividualRelationIndex.getAssertedDataRelations( ontoRef.getOWLOntology(), individual),
+                AxiomType.DATA_PROPERTY_ASSERTION, dataAssertionsOf( individual, null),
+                a -> a.getProperty().asOWLDataProperty(), OWLDataPropertyAssertionAxiom::getObject);
+        relations.keySet().retainAll( allProp);
+        if( includesInferences) {
+            try {
+                relationIndex.getInferredDataRelations( individual, () -> computeDataRelations( individual, allProp))
+                        .forEach( (p, values) -> relations.computeIfAbsent( p, k -> new HashSet<>()).addAll( values));
+            } catch (InconsistentOntologyException e) {
+                ontoRef.logInconsistency();
+            }
+        }
         Set< DataPropertyRelations> out = new HashSet< DataPropertyRelations>();
-        // get all object prop in the ontology
-        OWLDataProperty topObjProp = ontoRef.getOWLFactory().getOWLTopDataProperty();
-        Set<OWLDataProperty> allProp = getSubDataPropertyOf(topObjProp);
+        relations.forEach( (p, values) -> out.add( new DataPropertyRelations(individual, p, values)));
+        logger.addDebugString( "All data properties belonging to individual given in: " + (System.nanoTime() - initialTime) + " [ns]");
+        return out;
+    }
+    // the inferred values of each property, asked to the reasoner
+    private Map<OWLDataProperty, Set<OWLLiteral>> computeDataRelations( OWLNamedIndividual individual, Set<OWLDataProperty> allProp){
+        Map<OWLDataProperty, Set<OWLLiteral>> out = new HashMap<>();
         for( OWLDataProperty p : allProp){ // check if a property belongs to this individual
-            Set<OWLLiteral> values = getDataPropertyB2Individual(individual, p);
+            Set<OWLLiteral> values = ontoRef.getOWLReasoner().getDataPropertyValues( individual, p);
             if( ! values.isEmpty())
-                out.add( new DataPropertyRelations(individual, p, values));
+                out.put( p, new HashSet<>( values));
         }
         return out;
     }
     /**
      * Returns all data properties and relative value entities relative to an individual.
-     * Note that this implementation may be not efficient since it iterate over all
-     * the object property of the ontology.
+     * See {@link #getDataPropertyB2Individual(OWLNamedIndividual)}.
      *
      * @param individualName name of the individual.
      * @return all the object properties and value entities of the given individual.
@@ -525,6 +1040,9 @@ public class OWLEnquirer {
      * @return the sub object property of the input parameter ({@code prop})
      */
     public Set<OWLObjectProperty> getSubObjectPropertyOf( OWLObjectProperty prop){
+        return cached( "getSubObjectPropertyOf", () -> computeSubObjectPropertyOf( prop), prop);
+    }
+    private Set<OWLObjectProperty> computeSubObjectPropertyOf( OWLObjectProperty prop){
         long initialTime = System.nanoTime();
 
         //Set<OWLObjectPropertyExpression> set = prop.getSubProperties( ontoRef.getOWLOntology());//cl.getSubClasses( ontoRef.getOWLOntology());
@@ -569,6 +1087,9 @@ public class OWLEnquirer {
      * @return set of super-properties of {@code propName}.
      */
     public Set<OWLObjectProperty> getSuperObjectPropertyOf( OWLObjectProperty prop){
+        return cached( "getSuperObjectPropertyOf", () -> computeSuperObjectPropertyOf( prop), prop);
+    }
+    private Set<OWLObjectProperty> computeSuperObjectPropertyOf( OWLObjectProperty prop){
         long initialTime = System.nanoTime();
 
         //Set<OWLObjectPropertyExpression> set = prop.getSuperProperties( ontoRef.getOWLOntology());
@@ -614,7 +1135,10 @@ public class OWLEnquirer {
      * @param prop a data property.
      * @return set of sub-properties of {@code prop}.
      */
-    public Set<OWLDataProperty> getSubDataPropertyOf(OWLDataProperty prop){
+    public Set<OWLDataProperty> getSubDataPropertyOf( OWLDataProperty prop){
+        return cached( "getSubDataPropertyOf", () -> computeSubDataPropertyOf( prop), prop);
+    }
+    private Set<OWLDataProperty> computeSubDataPropertyOf( OWLDataProperty prop){
         long initialTime = System.nanoTime();
 
         //Set<OWLDataPropertyExpression> set = prop.getSubProperties( ontoRef.getOWLOntology());
@@ -659,7 +1183,10 @@ public class OWLEnquirer {
      * @param prop a data property.
      * @return set of sub-properties of {@code prop}.
      */
-    public Set<OWLDataProperty> getSuperDataPropertyOf(OWLDataProperty prop){
+    public Set<OWLDataProperty> getSuperDataPropertyOf( OWLDataProperty prop){
+        return cached( "getSuperDataPropertyOf", () -> computeSuperDataPropertyOf( prop), prop);
+    }
+    private Set<OWLDataProperty> computeSuperDataPropertyOf( OWLDataProperty prop){
         long initialTime = System.nanoTime();
 
         //Set<OWLDataPropertyExpression> set = prop.getSuperProperties( ontoRef.getOWLOntology());
@@ -716,6 +1243,9 @@ public class OWLEnquirer {
      * @return non-ordered set of sub-classes.
      */
     public Set<OWLClass> getSubClassOf( OWLClass cl){
+        return cached( "getSubClassOf", () -> computeSubClassOf( cl), cl);
+    }
+    private Set<OWLClass> computeSubClassOf( OWLClass cl){
         long initialTime = System.nanoTime();
 
         Stream<OWLClassExpression> stream = EntitySearcher.getSubClasses( cl, ontoRef.getOWLOntology());
@@ -727,8 +1257,10 @@ public class OWLEnquirer {
 
         if(includesInferences) {
             try {
-                Stream<OWLClass> streamReasoned = ontoRef.getOWLReasoner()
-                        .getSubClasses(cl, ! isReturningCompleteDescription()).entities();
+                ClassTaxonomy taxonomy = getClassTaxonomy( cl);
+                Stream<OWLClass> streamReasoned = taxonomy != null ?
+                        taxonomy.getSubClasses( cl, ! isReturningCompleteDescription()).stream() :
+                        ontoRef.getOWLReasoner().getSubClasses(cl, ! isReturningCompleteDescription()).entities();
                 Set<OWLClass> reasoned = streamReasoned.collect(Collectors.toSet());
                 if (reasoned != null)
                     out.addAll(reasoned.stream().map(AsOWLClass::asOWLClass).collect(Collectors.toList()));
@@ -760,6 +1292,9 @@ public class OWLEnquirer {
      * @return non-ordered set of sub-classes.
      */
     public Set<OWLClass> getSuperClassOf( OWLClass cl){
+        return cached( "getSuperClassOf", () -> computeSuperClassOf( cl), cl);
+    }
+    private Set<OWLClass> computeSuperClassOf( OWLClass cl){
         long initialTime = System.nanoTime();
         Set<OWLClass> classes = new HashSet< OWLClass>();
 
@@ -774,8 +1309,10 @@ public class OWLEnquirer {
 
         if( isIncludingInferences()) {
             try {
-                Stream<OWLClass> streamReasoned = ontoRef.getOWLReasoner()
-                        .getSuperClasses(cl, ! isReturningCompleteDescription()).entities();
+                ClassTaxonomy taxonomy = getClassTaxonomy( cl);
+                Stream<OWLClass> streamReasoned = taxonomy != null ?
+                        taxonomy.getSuperClasses( cl, ! isReturningCompleteDescription()).stream() :
+                        ontoRef.getOWLReasoner().getSuperClasses(cl, ! isReturningCompleteDescription()).entities();
                 Set<OWLClass> reasoned = streamReasoned.collect(Collectors.toSet());
                 if (reasoned != null)
                     classes.addAll(reasoned.stream().map(AsOWLClass::asOWLClass).collect(Collectors.toList()));
@@ -788,6 +1325,127 @@ public class OWLEnquirer {
         return( classes);
     }
 
+    /**
+     * Checks if a class is a sub class of another one, given by name.
+     * @param subClassName the name of the sub class.
+     * @param superClassName the name of the super class.
+     * @return {@code true} if the first class is a sub class of the second one.
+     * @see #isSubClassOf(OWLClass, OWLClass)
+     */
+    public boolean isSubClassOf( String subClassName, String superClassName){
+        return isSubClassOf( ontoRef.getOWLClass( subClassName), ontoRef.getOWLClass( superClassName));
+    }
+    /**
+     * Checks if a class is a sub class of another one, without computing all the super classes.
+     * It looks for the asserted axiom first and then, if {@link #isIncludingInferences()}, it
+     * uses the {@link ClassTaxonomy} (if available) or asks to the reasoner for the entailment.
+     * Differently from {@link #getSuperClassOf(OWLClass)}, the inferred answer does not depend on
+     * {@link #isReturningCompleteDescription()}, and a class is a sub class of its equivalent classes.
+     * @param subClass the sub class.
+     * @param superClass the super class.
+     * @return {@code true} if the first class is a sub class of the second one.
+     */
+    public boolean isSubClassOf( OWLClass subClass, OWLClass superClass){
+        long initialTime = System.nanoTime();
+        OWLSubClassOfAxiom axiom = ontoRef.getOWLFactory().getOWLSubClassOfAxiom( subClass, superClass);
+        boolean out = isAsserted( axiom);
+        if( ! out && isIncludingInferences()) {
+            try {
+                ClassTaxonomy taxonomy = classTaxonomy;
+                if( taxonomy != null && taxonomy.contains( subClass) && taxonomy.contains( superClass))
+                    out = taxonomy.isSubClassOf( subClass, superClass);
+                else out = isEntailed( axiom, reasoner -> reasoner.getSuperClasses( subClass, false).containsEntity( superClass)
+                        || reasoner.getEquivalentClasses( subClass).contains( superClass));
+            } catch (InconsistentOntologyException e) {
+                ontoRef.logInconsistency();
+            }
+        }
+        logger.addDebugString( "check sub class given in: " + (System.nanoTime() - initialTime) + " [ns]");
+        return out;
+    }
+
+    /**
+     * Checks if an individual belongs to a class, given by name.
+     * @param individualName the name of the individual.
+     * @param className the name of the class.
+     * @return {@code true} if the individual is an instance of the class.
+     * @see #isInstanceOf(OWLNamedIndividual, OWLClass)
+     */
+    public boolean isInstanceOf( String individualName, String className){
+        return isInstanceOf( ontoRef.getOWLIndividual( individualName), ontoRef.getOWLClass( className));
+    }
+    /**
+     * Checks if an individual belongs to a class, without computing all its types (see {@link #getIndividualClasses(OWLNamedIndividual)}).
+     * It looks for the asserted axiom first and then, if {@link #isIncludingInferences()}, it checks if an asserted type
+     * is a sub class of the given class in the {@link ClassTaxonomy} (if available) or asks to the reasoner for the entailment.
+     * @param individual the individual.
+     * @param cl the class.
+     * @return {@code true} if the individual is an instance of the class.
+     */
+    public boolean isInstanceOf( OWLNamedIndividual individual, OWLClass cl){
+        long initialTime = System.nanoTime();
+        OWLClassAssertionAxiom axiom = ontoRef.getOWLFactory().getOWLClassAssertionAxiom( cl, individual);
+        boolean out = isAsserted( axiom);
+        if( ! out && isIncludingInferences()) {
+            try {
+                ClassTaxonomy taxonomy = classTaxonomy;
+                if( taxonomy != null && taxonomy.contains( cl))
+                    out = EntitySearcher.getTypes( individual, ontoRef.getOWLOntology())
+                            .anyMatch( t -> t.isOWLClass() && taxonomy.contains( t.asOWLClass()) && taxonomy.isSubClassOf( t.asOWLClass(), cl));
+                if( ! out)
+                    out = isEntailed( axiom, reasoner -> reasoner.getTypes( individual, false).containsEntity( cl));
+            } catch (InconsistentOntologyException e) {
+                ontoRef.logInconsistency();
+            }
+        }
+        logger.addDebugString( "check individual type given in: " + (System.nanoTime() - initialTime) + " [ns]");
+        return out;
+    }
+
+    /**
+     * Checks if an individual has a value for an object property, given by name.
+     * @param individualName the name of the individual.
+     * @param propertyName the name of the object property.
+     * @param valueName the name of the value.
+     * @return {@code true} if the individual is related to the value through the property.
+     * @see #hasObjectPropertyValue(OWLNamedIndividual, OWLObjectProperty, OWLNamedIndividual)
+     */
+    public boolean hasObjectPropertyValue( String individualName, String propertyName, String valueName){
+        return hasObjectPropertyValue( ontoRef.getOWLIndividual( individualName), ontoRef.getOWLObjectProperty( propertyName),
+                ontoRef.getOWLIndividual( valueName));
+    }
+    /**
+     * Checks if an individual has a value for an object property, without computing all its values
+     * (see {@link #getObjectPropertyB2Individual(OWLNamedIndividual, OWLObjectProperty)}).
+     * It looks for the asserted axiom first and then, if {@link #isIncludingInferences()}, it asks to the reasoner for the entailment.
+     * @param individual the individual.
+     * @param property the object property.
+     * @param value the value.
+     * @return {@code true} if the individual is related to the value through the property.
+     */
+    public boolean hasObjectPropertyValue( OWLNamedIndividual individual, OWLObjectProperty property, OWLNamedIndividual value){
+        long initialTime = System.nanoTime();
+        OWLObjectPropertyAssertionAxiom axiom = ontoRef.getOWLFactory().getOWLObjectPropertyAssertionAxiom( property, individual, value);
+        boolean out = isAsserted( axiom);
+        if( ! out && isIncludingInferences()) {
+            try {
+                out = isEntailed( axiom, reasoner -> reasoner.getObjectPropertyValues( individual, property).containsEntity( value));
+            } catch (InconsistentOntologyException e) {
+                ontoRef.logInconsistency();
+            }
+        }
+        logger.addDebugString( "check object property value given in: " + (System.nanoTime() - initialTime) + " [ns]");
+        return out;
+    }
+
+    // asks to the reasoner if the axiom is entailed, or uses the given query if the reasoner does not support entailment checking
+    private boolean isEntailed( OWLAxiom axiom, Predicate< OWLReasoner> query){
+        OWLReasoner reasoner = ontoRef.getOWLReasoner();
+        if( reasoner.isEntailmentCheckingSupported( axiom.getAxiomType()))
+            return reasoner.isEntailed( axiom);
+        return query.test( reasoner);
+    }
+
     /**
      * Returns all the restrictions that are defining a given class, it does not consider equivalence to a class.
      * It returns a set containing sets of `class` expressions or `min`, `max`, `exact`, `all`, `some` data or
@@ -795,7 +1453,10 @@ public class OWLEnquirer {
      * @param cl an OWL class.
      * @return non-ordered set of all restrictions that are defining the class.
      */
-    public Set< Set<ApplyingRestriction>> getClassRestrictions(OWLClass cl){
+    public Set< Set<ApplyingRestriction>> getClassRestrictions( OWLClass cl){
+        return cached( "getClassRestrictions", () -> computeClassRestrictions( cl), cl);
+    }
+    private Set< Set<ApplyingRestriction>> computeClassRestrictions( OWLClass cl){
         try{
             Set< Set< ApplyingRestriction>> outs = new HashSet<>();
             Stream< OWLClassAxiom> axiomStream = ontoRef.getOWLOntology().axioms( cl);
@@ -863,7 +1524,10 @@ public class OWLEnquirer {
      * @param property a data property.
      * @return non-ordered set of all restrictions that are in the given property domain.
      */
-    public Set< Set< ApplyingRestriction>> getDataDomainRestrictions(OWLDataProperty property){
+    public Set< Set< ApplyingRestriction>> getDataDomainRestrictions( OWLDataProperty property){
+        return cached( "getDataDomainRestrictions", () -> computeDataDomainRestrictions( property), property);
+    }
+    private Set< Set< ApplyingRestriction>> computeDataDomainRestrictions( OWLDataProperty property){
         try{
             Set< Set< ApplyingRestriction>> outs = new HashSet<>();
             Stream<OWLDataPropertyDomainAxiom> axiomStream = ontoRef.getOWLOntology().dataPropertyDomainAxioms(property);
@@ -917,7 +1581,10 @@ public class OWLEnquirer {
      * @param property a data property.
      * @return non-ordered set of all restrictions that are in the given property range.
      */
-    public Set<ApplyingRestriction> getDataRangeRestrictions(OWLDataProperty property){
+    public Set<ApplyingRestriction> getDataRangeRestrictions( OWLDataProperty property){
+        return cached( "getDataRangeRestrictions", () -> computeDataRangeRestrictions( property), property);
+    }
+    private Set<ApplyingRestriction> computeDataRangeRestrictions( OWLDataProperty property){
         try {
             Set< ApplyingRestriction> out = new HashSet<>();
             Stream<OWLDataPropertyRangeAxiom> axiomStream = ontoRef.getOWLOntology().dataPropertyRangeAxioms(property);
@@ -938,7 +1605,10 @@ public class OWLEnquirer {
      * @param property an object property.
      * @return non-ordered set of all restrictions that are in the given property domain.
      */
-    public Set< Set< ApplyingRestriction>> getObjectDomainRestrictions(OWLObjectProperty property){
+    public Set< Set< ApplyingRestriction>> getObjectDomainRestrictions( OWLObjectProperty property){
+        return cached( "getObjectDomainRestrictions", () -> computeObjectDomainRestrictions( property), property);
+    }
+    private Set< Set< ApplyingRestriction>> computeObjectDomainRestrictions( OWLObjectProperty property){
         try{
             Set< Set< ApplyingRestriction>> outs = new HashSet<>();
             Stream<OWLObjectPropertyDomainAxiom> axiomStream = ontoRef.getOWLOntology().objectPropertyDomainAxioms(property);
@@ -991,7 +1661,10 @@ public class OWLEnquirer {
      * @param property a data property.
      * @return non-ordered set of all restrictions that are in the given property range.
      */
-    public Set< Set<ApplyingRestriction>> getObjectRangeRestrictions(OWLObjectProperty property){
+    public Set< Set<ApplyingRestriction>> getObjectRangeRestrictions( OWLObjectProperty property){
+        return cached( "getObjectRangeRestrictions", () -> computeObjectRangeRestrictions( property), property);
+    }
+    private Set< Set<ApplyingRestriction>> computeObjectRangeRestrictions( OWLObjectProperty property){
         try{
             Set< Set< ApplyingRestriction>> outs = new HashSet<>();
             Stream<OWLObjectPropertyRangeAxiom> axiomStream = ontoRef.getOWLOntology().objectPropertyRangeAxioms(property);
@@ -1058,6 +1731,9 @@ public class OWLEnquirer {
      * @return all the disjointed classes.
      */
     public Set<OWLClass> getDisjointClasses( OWLClass cl){
+        return cached( "getDisjointClasses", () -> computeDisjointClasses( cl), cl);
+    }
+    private Set<OWLClass> computeDisjointClasses( OWLClass cl){
         long initialTime = System.nanoTime();
         Set<OWLClass> classes = new HashSet<>();
 
@@ -1069,7 +1745,9 @@ public class OWLEnquirer {
 
         if( isIncludingInferences()) {
             try {
-                Stream<OWLClass> streamReasoned = ontoRef.getOWLReasoner().getDisjointClasses(cl).entities();
+                ClassTaxonomy taxonomy = getClassTaxonomy( cl);
+                Stream<OWLClass> streamReasoned = taxonomy != null ? taxonomy.getDisjointClasses( cl, ontoRef.getOWLReasoner()).stream() :
+                        ontoRef.getOWLReasoner().getDisjointClasses(cl).entities();
                 Set<OWLClass> reasoned = streamReasoned.collect(Collectors.toSet());
                 if (reasoned != null)
                     classes.addAll(reasoned.stream().map(AsOWLClass::asOWLClass).collect(Collectors.toList()));
@@ -1097,7 +1775,10 @@ public class OWLEnquirer {
      * @param individual the OWL individual to search for different instances.
      * @return all the disjointed individuals.
      */
-    public Set<OWLNamedIndividual> getDisjointIndividuals(OWLNamedIndividual individual){
+    public Set<OWLNamedIndividual> getDisjointIndividuals( OWLNamedIndividual individual){
+        return cached( "getDisjointIndividuals", () -> computeDisjointIndividuals( individual), individual);
+    }
+    private Set<OWLNamedIndividual> computeDisjointIndividuals( OWLNamedIndividual individual){
         long initialTime = System.nanoTime();
         Set<OWLNamedIndividual> individuals = new HashSet<>();
 
@@ -1136,7 +1817,10 @@ public class OWLEnquirer {
      * @param property the OWL data property to search for different data properties.
      * @return all the disjointed data properties.
      */
-    public Set<OWLDataProperty> getDisjointDataProperties(OWLDataProperty property){
+    public Set<OWLDataProperty> getDisjointDataProperties( OWLDataProperty property){
+        return cached( "getDisjointDataProperties", () -> computeDisjointDataProperties( property), property);
+    }
+    private Set<OWLDataProperty> computeDisjointDataProperties( OWLDataProperty property){
         long initialTime = System.nanoTime();
         Set<OWLDataProperty> properties = new HashSet<>();
 
@@ -1175,7 +1859,10 @@ public class OWLEnquirer {
      * @param property the OWL object property to search for different object properties.
      * @return all the disjointed object properties.
      */
-    public Set<OWLObjectProperty> getDisjointObjectProperties(OWLObjectProperty property){
+    public Set<OWLObjectProperty> getDisjointObjectProperties( OWLObjectProperty property){
+        return cached( "getDisjointObjectProperties", () -> computeDisjointObjectProperties( property), property);
+    }
+    private Set<OWLObjectProperty> computeDisjointObjectProperties( OWLObjectProperty property){
         long initialTime = System.nanoTime();
         Set<OWLObjectProperty> properties = new HashSet<>();
 
@@ -1215,7 +1902,10 @@ public class OWLEnquirer {
      * @param individual the OWL individual to search for equivalent instances.
      * @return all the equivalent individuals.
      */
-    public Set<OWLNamedIndividual> getEquivalentIndividuals(OWLNamedIndividual individual){
+    public Set<OWLNamedIndividual> getEquivalentIndividuals( OWLNamedIndividual individual){
+        return cached( "getEquivalentIndividuals", () -> computeEquivalentIndividuals( individual), individual);
+    }
+    private Set<OWLNamedIndividual> computeEquivalentIndividuals( OWLNamedIndividual individual){
         long initialTime = System.nanoTime();
         Set<OWLNamedIndividual> individuals = new HashSet<>();
 
@@ -1254,7 +1944,10 @@ public class OWLEnquirer {
      * @param cl the OWL class to search for equivalent classes.
      * @return all the equivalent classes.
      */
-    public Set<OWLClass> getEquivalentClasses(OWLClass cl){
+    public Set<OWLClass> getEquivalentClasses( OWLClass cl){
+        return cached( "getEquivalentClasses", () -> computeEquivalentClasses( cl), cl);
+    }
+    private Set<OWLClass> computeEquivalentClasses( OWLClass cl){
         long initialTime = System.nanoTime();
         Set<OWLClass> classes = new HashSet<>();
 
@@ -1270,7 +1963,9 @@ public class OWLEnquirer {
 
         if( isIncludingInferences()) {
             try {
-                Stream<OWLClass> streamReasoned = ontoRef.getOWLReasoner().getEquivalentClasses(cl).entities();
+                ClassTaxonomy taxonomy = getClassTaxonomy( cl);
+                Stream<OWLClass> streamReasoned = taxonomy != null ? taxonomy.getEquivalentClasses( cl).stream() :
+                        ontoRef.getOWLReasoner().getEquivalentClasses(cl).entities();
                 Set<OWLClass> reasoned = streamReasoned.collect(Collectors.toSet());
                 if (reasoned != null)
                     classes.addAll(reasoned.stream().map(AsOWLClass::asOWLClass).collect(Collectors.toList()));
@@ -1298,7 +1993,10 @@ public class OWLEnquirer {
      * @param property the OWL data property to search for different data properties.
      * @return all the equivalent data properties.
      */
-    public Set<OWLDataProperty> getEquivalentDataProperties(OWLDataProperty property){
+    public Set<OWLDataProperty> getEquivalentDataProperties( OWLDataProperty property){
+        return cached( "getEquivalentDataProperties", () -> computeEquivalentDataProperties( property), property);
+    }
+    private Set<OWLDataProperty> computeEquivalentDataProperties( OWLDataProperty property){
         long initialTime = System.nanoTime();
         Set<OWLDataProperty> properties = new HashSet<>();
 
@@ -1337,7 +2035,10 @@ public class OWLEnquirer {
      * @param property the OWL object property to search for different object properties.
      * @return all the equivalent object properties.
      */
-    public Set<OWLObjectProperty> getEquivalentObjectProperties(OWLObjectProperty property){
+    public Set<OWLObjectProperty> getEquivalentObjectProperties( OWLObjectProperty property){
+        return cached( "getEquivalentObjectProperties", () -> computeEquivalentObjectProperties( property), property);
+    }
+    private Set<OWLObjectProperty> computeEquivalentObjectProperties( OWLObjectProperty property){
         long initialTime = System.nanoTime();
         Set<OWLObjectProperty> properties = new HashSet<>();
 
@@ -1374,7 +2075,10 @@ public class OWLEnquirer {
      * @param property the property from which retrieve its inverses.
      * @return the inverse properties of the given property.
      */
-    public Set<OWLObjectProperty> getInverseProperty(OWLObjectProperty property) {
+    public Set<OWLObjectProperty> getInverseProperty( OWLObjectProperty property){
+        return cached( "getInverseProperty", () -> computeInverseProperty( property), property);
+    }
+    private Set<OWLObjectProperty> computeInverseProperty( OWLObjectProperty property){
         final Set<OWLObjectProperty> prInverse = new HashSet<>();
         Stream<OWLInverseObjectPropertiesAxiom> st = ontoRef.getOWLOntology().inverseObjectPropertyAxioms(property);
         st.forEach((e) -> {
@@ -1428,7 +2132,10 @@ public class OWLEnquirer {
      * @return the classes in which the individual in classified that are a bottom type in the class hierarchy.
      * It returns an empty set if no such a classes are found.
      */
-    public Set<OWLClass> getBottomType(OWLNamedIndividual individual){
+    public Set<OWLClass> getBottomType( OWLNamedIndividual individual){
+        return cached( "getBottomType", true, () -> computeBottomType( individual), individual);
+    }
+    private Set<OWLClass> computeBottomType( OWLNamedIndividual individual){
         Set<OWLClass> types = getIndividualClasses(individual);
         Set<OWLClass> out = new HashSet<>();
         for ( OWLClass cl : types) {
@@ -1455,13 +2162,14 @@ public class OWLEnquirer {
     }
     /**
      * Returns only one class, in which the given individual is classified,
-     * that is a leaf in the class tree.
+     * that is a leaf in the class tree. The types are checked in their natural order
+     * (see {@link OWLObject#compareTo(Object)}) and the first leaf is returned.
      * @param individual the individual for which find a bottom type.
      * @return a class in which the individual in classified that is a bottom type in the class hierarchy.
      * It returns {@code null} if no such a classes are found.
      */
     public OWLClass getOnlyBottomType(OWLNamedIndividual individual){
-        Set<OWLClass> types = getIndividualClasses(individual);
+        Set<OWLClass> types = new TreeSet<>( getIndividualClasses(individual));
         for ( OWLClass cl : types) {
             Set<OWLClass> subCl = getSubClassOf(cl);
             if ( subCl.isEmpty())
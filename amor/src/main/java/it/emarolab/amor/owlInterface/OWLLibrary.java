@@ -6,13 +6,28 @@ import it.emarolab.amor.owlDebugger.ReasonerMonitor;
 import it.emarolab.amor.owlInterface.OWLReferencesInterface.OWLReferencesContainer;
 import org.semanticweb.owlapi.apibinding.OWLManager;
 import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.reasoner.BufferingMode;
+import org.semanticweb.owlapi.reasoner.InferenceType;
 import org.semanticweb.owlapi.reasoner.OWLReasoner;
 import org.semanticweb.owlapi.reasoner.OWLReasonerConfiguration;
 import org.semanticweb.owlapi.reasoner.OWLReasonerFactory;
+import org.semanticweb.owlapi.reasoner.ReasonerInterruptedException;
 import org.semanticweb.owlapi.reasoner.SimpleConfiguration;
+import org.semanticweb.owlapi.reasoner.TimeOutException;
 import org.semanticweb.owlapi.util.SimpleIRIMapper;
 import org.semanticweb.owlapi.vocab.OWL2Datatype;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
 //import org.semanticweb.owlapi.vocab.PrefixOWLOntologyFormat;
 
 /**
@@ -100,7 +115,7 @@ public class OWLLibrary {
     /**
      * This is the OWL Reasoner (base API object) used by the ontology referenced by an OWLReference.
      */
-    private OWLReasoner reasoner;
+    private volatile OWLReasoner reasoner; // volatile, since it can be interrupted while the reasoning holds the monitor
     /**
      * This is the IRI file path. It points to a local directory, if the References are created or loaded from file,
      * or the URL path, if the References is load from WEB.
@@ -110,6 +125,56 @@ public class OWLLibrary {
      * This is the semantic IRI path associated to the Ontology.
      */
     private IRI iriOntologyPath;
+    /**
+     * This is the full java qualifier of the reasoner factory used to create {@link #reasoner}.
+     */
+    private String reasonerFactoryName;
+    /**
+     * The reasoners used, in addition to {@link #reasoner}, by the queries performed in parallel
+     * (see {@link #setReasonerPoolSize(int)}). It is {@code null} if the pool is not used.
+     */
+    private volatile ReasonerPool reasonerPool;
+    /**
+     * The number of times that the {@link #reasoner} has been flushed by {@link #callReasoning(Long)}.
+     */
+    private final AtomicLong reasoningCount = new AtomicLong();
+    /**
+     * The duration (in nanoseconds) of the last, and of all the, flushes performed by {@link #callReasoning(Long)}.
+     */
+    private volatile long lastReasoningTime = 0;
+    private final LongAdder totalReasoningTime = new LongAdder();
+    /**
+     * The maximum duration (in milliseconds) of the reasoning (see {@link #setReasoningTimeout(long)}), not positive if unbounded.
+     */
+    private volatile long reasoningTimeout = 0;
+    // the flush performed by callReasoning(), null if none
+    private volatile ReasoningFlush currentFlush;
+    // the reasoner that performs the next bounded reasoning while the reasoner keeps serving the queries, lazily created (guarded by this)
+    private OWLReasoner standbyReasoner;
+    // true if the last flush has been interrupted, and if the reasoner (or only the pool) has still to be recreated
+    private volatile boolean reasoningInterrupted = false, reasonerInterrupted = false, reasonerPoolInterrupted = false;
+    private final AtomicLong reasoningInterruptionCount = new AtomicLong();
+    /**
+     * The progress monitor of {@link #reasoner}. It is kept when the reasoner is recreated, so that its history and listeners are not lost.
+     */
+    private volatile ReasonerMonitor reasonerMonitor;
+    /**
+     * The inferences computed by a reasoning bounded by a timeout (see {@link #setReasoningTimeout(long)}), if the
+     * reasoner can precompute them. Since they are computed before the deadline, the following queries do not compute
+     * them without deadline.
+     */
+    public static InferenceType[] BOUNDED_INFERENCE_TYPES = { InferenceType.CLASS_HIERARCHY, InferenceType.CLASS_ASSERTIONS};
+    // interrupts the reasoning of all the references when their timeouts expire, lazily initialised
+    private static volatile ScheduledExecutorService reasoningWatchdog;
+
+    /**
+     * The maximum number of entities stored for each type in the entity cache (see {@link #getOWLClass(String)}).
+     * When it is exceeded, the least used entities of that type are evicted one at a time (see {@link BoundedCache}).
+     */
+    public static int ENTITY_CACHE_SIZE = 10000;
+    // the entities already given by name with the current prefix and data factory, replaced when they change (guarded by this)
+    private volatile EntityCache entityCache = new EntityCache( null, null);
+    private final LongAdder entityCacheHits = new LongAdder(), entityCacheMisses = new LongAdder();
 
     // [[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[   CONSTRUCTOR   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
     /**
@@ -129,6 +194,24 @@ public class OWLLibrary {
      * @see #setOWLReasoner(String, boolean, String)
      */
     protected OWLLibrary() {}
+    /**
+     * This constructor creates a library that refers to another ontology (e.g., a copy of the ontology of {@code source})
+     * but has the same prefix, IRI paths and reasoner factory of {@code source}.
+     * The manager and the data factory are the ones of the given ontology.
+     * It does not create any reasoner, see {@link #setOWLReasoner(String, boolean, String)}.
+     * @param source the library from which the prefix, the IRI paths and the reasoner factory are taken.
+     * @param ontology the ontology referred by this library.
+     */
+    protected OWLLibrary( OWLLibrary source, OWLOntology ontology) {
+        this.ontology = ontology;
+        this.manager = ontology.getOWLOntologyManager();
+        this.factory = this.manager.getOWLDataFactory();
+        this.prefix = source.getPrefix();
+        this.entityCache = new EntityCache( prefix, factory);
+        this.iriFilePath = source.getIriFilePath();
+        this.iriOntologyPath = source.getIriOntologyPath();
+        this.reasonerFactoryName = source.getReasonerFactoryName();
+    }
 
 
     // [[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[   FIELD SETTERS   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
@@ -232,6 +315,7 @@ public class OWLLibrary {
         OWLDataFactory out = this.getOWLManager().getOWLDataFactory();
         logger.addDebugString( "Create a OWL Data Factory for References: " + this);
         this.factory = out;
+        clearEntityCache();
     }
 
     /**
@@ -247,6 +331,7 @@ public class OWLLibrary {
         this.pm = pm;*/
 
         this.prefix = this.getIriOntologyPath() + "#";
+        clearEntityCache(); // names are now resolved with a different prefix
         logger.addDebugString( "Create a new prefix manager for References: " + this);
     }
 
@@ -266,28 +351,69 @@ public class OWLLibrary {
      * @param loggingName for debugging. Evocative name given to the {@link ReasonerMonitor} assigned to this reasoner.
      */
     protected synchronized void setOWLReasoner(String reasonerFactoryName, boolean buffering, String loggingName){
+        if( reasonerMonitor == null)
+            reasonerMonitor = new ReasonerMonitor();
+        reasonerMonitor.setReasonerName( loggingName);
+        boolean replaced = this.reasoner != null;
+        this.reasoner = createOWLReasoner( reasonerFactoryName, this.getOWLOntology(), buffering, reasonerMonitor);
+        if( this.reasoner != null) {
+            this.reasonerFactoryName = reasonerFactoryName;
+            this.reasoningInterrupted = false;
+            disposeStandbyReasoner(); // of the previous type
+            if( replaced)
+                reasonerReplaced();
+            if( reasonerPool != null) // rebuild the pool with the new reasoner type
+                setReasonerPoolSize( reasonerPool.size());
+        }
+    }
+
+    /**
+     * It creates a new Reasoner instance over the given ontology, without assigning it to this library.
+     * The type of the reasoner is defined by the reasoner name factory (see {@link #setOWLReasoner(String, boolean, String)}).
+     * If the buffering flag is {@code false}, the reasoner is added as a change listener to the manager of the given ontology.
+     * The system will return {@code null} if a java reflection error occurs while instancing the
+     * class defined by the parameter {@code reasonerFactoryName}.
+     * @param reasonerFactoryName full java qualifier of the reasoner factory class to be initialised.
+     * @param ontology the ontology to be reasoned by the returned instance.
+     * @param buffering if {@code true} the reasoner buffers changes.
+     * @param loggingName for debugging. Evocative name given to the {@link ReasonerMonitor} assigned to this reasoner.
+     * @return a new reasoner instance, or {@code null} if it cannot be created.
+     */
+    protected OWLReasoner createOWLReasoner(String reasonerFactoryName, OWLOntology ontology, boolean buffering, String loggingName){
+        ReasonerMonitor progressMonitor = new ReasonerMonitor();
+        progressMonitor.setReasonerName( loggingName);//reasonerFactoryName.substring(
+        //reasonerFactoryName.lastIndexOf(".") + 1 ).replace( "ReasonerFactory", ""));
+        return createOWLReasoner( reasonerFactoryName, ontology, buffering, progressMonitor);
+    }
+    /**
+     * It creates a new Reasoner instance over the given ontology, as {@link #createOWLReasoner(String, OWLOntology, boolean, String)}
+     * does, but with a given progress monitor.
+     * @param reasonerFactoryName full java qualifier of the reasoner factory class to be initialised.
+     * @param ontology the ontology to be reasoned by the returned instance.
+     * @param buffering if {@code true} the reasoner buffers changes.
+     * @param progressMonitor the monitor notified by the returned reasoner.
+     * @return a new reasoner instance, or {@code null} if it cannot be created.
+     */
+    protected OWLReasoner createOWLReasoner(String reasonerFactoryName, OWLOntology ontology, boolean buffering, ReasonerMonitor progressMonitor){
         long initialTime = System.nanoTime();
         try {
             OWLReasonerFactory reasonerFactory = (OWLReasonerFactory) Class.forName(reasonerFactoryName).newInstance();
             OWLReasoner reasoner;
-            ReasonerMonitor progressMonitor = new ReasonerMonitor();
-            progressMonitor.setReasonerName( loggingName);//reasonerFactoryName.substring(
-            //reasonerFactoryName.lastIndexOf(".") + 1 ).replace( "ReasonerFactory", ""));
+            // the timeout is applied only to the flushes (see callReasoning()), not to the queries
             OWLReasonerConfiguration config = new SimpleConfiguration( progressMonitor);
             if( buffering){
-                reasoner = reasonerFactory.createReasoner( this.getOWLOntology(), config);
+                reasoner = reasonerFactory.createReasoner( ontology, config);
             }else{
-                reasoner = reasonerFactory.createNonBufferingReasoner( this.getOWLOntology(), config);
+                reasoner = reasonerFactory.createNonBufferingReasoner( ontology, config);
                 try{
-                    this.getOWLManager().addOntologyChangeListener( (OWLOntologyChangeListener) reasoner );
+                    ontology.getOWLOntologyManager().addOntologyChangeListener( (OWLOntologyChangeListener) reasoner );
                 } catch( Exception e){
                     e.printStackTrace();
                     logger.addDebugString( "Impossible add ontology change listener for non buffering reasoner", true);
                 }
             }
             logger.addDebugString( "Reasoner (" + reasonerFactoryName + ") created in: " + (System.nanoTime() - initialTime) + " [ns] for the References: " + this);
-            this.reasoner = reasoner;
-            return;
+            return reasoner;
         } catch (InstantiationException e) {
             e.printStackTrace();
         } catch (IllegalAccessException e) {
@@ -296,7 +422,7 @@ public class OWLLibrary {
             e.printStackTrace();
         }
         logger.addDebugString( "Error on creating Reasoner (" + reasonerFactoryName + ") for the References: " + this , true);
-        this.reasoner = null;
+        return null;
     }
 
     /**
@@ -344,6 +470,53 @@ public class OWLLibrary {
         setOWLReasoner( REASONER_QUALIFIER_FACT, buffering, loggingName);
     }
 
+    /**
+     * Creates a pool of reasoners of the same type, and with the same buffering mode, of the actual one
+     * (see {@link ReasonerPool}). The queries that include inferences can then be performed in parallel,
+     * each with its own reasoner, at the cost of the memory required by each of them.
+     * The previous pool, if any, is disposed. The reasoner must be set before calling this method,
+     * and no query should use the previous pool in the meanwhile.
+     * @param size the number of reasoners in the pool, in addition to the main one. If it is not positive
+     *             the pool is removed and all the queries use the main reasoner.
+     */
+    public synchronized void setReasonerPoolSize( int size){
+        if( reasonerPool != null) {
+            reasonerPool.dispose( getOWLManager());
+            reasonerPool = null;
+        }
+        if( size <= 0 || reasoner == null || reasonerFactoryName == null)
+            return;
+        boolean buffering = reasoner.getBufferingMode() == BufferingMode.BUFFERING;
+        List< OWLReasoner> reasoners = new ArrayList<>( size);
+        for( int i = 0; i < size; i++) {
+            OWLReasoner pooled = createOWLReasoner( reasonerFactoryName, getOWLOntology(), buffering, this + "#" + i);
+            if( pooled == null)
+                break;
+            if( buffering)
+                pooled.flush();
+            reasoners.add( pooled);
+        }
+        if( reasoners.isEmpty())
+            return;
+        reasonerPool = new ReasonerPool( reasoners);
+        logger.addDebugString( "Reasoner pool of " + reasoners.size() + " reasoners created for the References: " + this);
+    }
+
+    /**
+     * @return the number of reasoners in the pool (see {@link #setReasonerPoolSize(int)}), {@code 0} if it is not used.
+     */
+    public int getReasonerPoolSize(){
+        ReasonerPool pool = reasonerPool;
+        return pool == null ? 0 : pool.size();
+    }
+
+    /**
+     * @return the pool of reasoners (see {@link #setReasonerPoolSize(int)}), {@code null} if it is not used.
+     */
+    protected ReasonerPool getReasonerPool(){
+        return reasonerPool;
+    }
+
     /**
      * @return the OWL Ontology Manager associated to this reference instance.
      */
@@ -379,19 +552,41 @@ public class OWLLibrary {
     }
 
     /**
-     * @return the OWL reasoner.
+     * @return the OWL reasoner. If the calling thread has checked out a reasoner from
+     * the pool (see {@link #setReasonerPoolSize(int)}), that reasoner is returned.
+     */
+    public OWLReasoner getOWLReasoner() {
+        ReasonerPool pool = reasonerPool;
+        if( pool != null) {
+            OWLReasoner pooled = pool.getCheckedOut();
+            if( pooled != null)
+                return pooled;
+        }
+        synchronized( this) {
+            return reasoner;
+        }
+    }
+
+    /**
+     * @return the full java qualifier of the reasoner factory used to create the reasoner
+     * of this reference (see {@link #setOWLReasoner(String, boolean, String)}).
      */
-    public synchronized OWLReasoner getOWLReasoner() {
-        return reasoner;
+    public synchronized String getReasonerFactoryName() {
+        return reasonerFactoryName;
     }
 
     /**
      * Set the reasoner that should be correctly initialised.
+     * If it replaces another reasoner, {@link #reasonerReplaced()} is called.
      *
      * @param reasoner the instance to set.
      */
     protected void setOWLReasoner(OWLReasoner reasoner) {
+        OWLReasoner replaced = this.reasoner;
         this.reasoner = reasoner;
+        disposeStandbyReasoner(); // it may be of another type
+        if( replaced != null && replaced != reasoner)
+            reasonerReplaced();
     }
 
     /**
@@ -437,13 +632,7 @@ public class OWLLibrary {
      * @return the OWL class with the given name and IRI paths, in accordance with the OWLReference.
      */
     public OWLClass getOWLClass( String className) {
-        long initialTime = System.nanoTime();
-
-        //OWLClass classObj = this.getOWLFactory().getOWLClass(className, this.pm);
-        OWLClass classObj = this.getOWLFactory().getOWLClass( getPrefixFormat( className));
-
-        logger.addDebugString( "OWLClass given in: " + (System.nanoTime() - initialTime) + " [ns]");
-        return (classObj);
+        return getCachedEntity( c -> c.classes, className, OWLDataFactory::getOWLClass, "OWLClass");
     }
     /**
      * Returns an Object which represents an ontological individual
@@ -455,13 +644,7 @@ public class OWLLibrary {
      * @return the OWL individual with the given name and IRI paths, in accordance to the OWLReference.
      */
     public OWLNamedIndividual getOWLIndividual( String individualName){
-        long initialTime = System.nanoTime();
-
-        //OWLNamedIndividual individualObj = this.getOWLFactory().getOWLNamedIndividual( ":" + individualName, this.pm);
-        OWLNamedIndividual individualObj = this.getOWLFactory().getOWLNamedIndividual( getPrefixFormat( individualName));
-
-        logger.addDebugString( "OWLNamedIndividual given in: " + (System.nanoTime() - initialTime) + " [ns]");
-        return (individualObj);
+        return getCachedEntity( c -> c.individuals, individualName, OWLDataFactory::getOWLNamedIndividual, "OWLNamedIndividual");
     }
     /**
      * Returns an Object which represents an ontological data property
@@ -473,13 +656,7 @@ public class OWLLibrary {
      * @return the OWL data property with the given name and IRI paths, in accordance with the OWLReference
      */
     public OWLDataProperty getOWLDataProperty(String dataPropertyName) {
-        long initialTime = System.nanoTime();
-
-        //OWLDataProperty property = this.getOWLFactory().getOWLDataProperty( ":" + dataPropertyName, this.pm);
-        OWLDataProperty property = this.getOWLFactory().getOWLDataProperty(  getPrefixFormat( dataPropertyName));
-
-        logger.addDebugString( "OWLDataProperty given in: " + (System.nanoTime() - initialTime) + " [ns]");
-        return (property);
+        return getCachedEntity( c -> c.dataProperties, dataPropertyName, OWLDataFactory::getOWLDataProperty, "OWLDataProperty");
     }
     /**
      * Returns an Object which represents an ontological object property
@@ -491,13 +668,7 @@ public class OWLLibrary {
      * @return the OWL object property with the given name and IRI paths, in accordance with the OWLReference
      */
     public OWLObjectProperty getOWLObjectProperty( String objPropertyName){
-        long initialTime = System.nanoTime();
-
-        //OWLObjectProperty property = this.getOWLFactory().getOWLObjectProperty( ":" + objPropertyName, this.pm());
-        OWLObjectProperty property = this.getOWLFactory().getOWLObjectProperty(  getPrefixFormat( objPropertyName));
-
-        logger.addDebugString( "OWLObjectProperty given in: " + (System.nanoTime() - initialTime) + " [ns]");
-        return (property);
+        return getCachedEntity( c -> c.objectProperties, objPropertyName, OWLDataFactory::getOWLObjectProperty, "OWLObjectProperty");
     }
     /**
      * Returns an Object which represents an ontological literal
@@ -544,30 +715,393 @@ public class OWLLibrary {
     }
 
 
+    // [[[[[[[[[[[[[[[[[[[[[[[[[[[[[[   ENTITY CACHE   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
+
+    // the entities given by name, for each type, all created with the same prefix and data factory
+    private static class EntityCache{
+        private final String prefix;
+        private final OWLDataFactory factory;
+        private final BoundedCache< String, OWLClass> classes = new BoundedCache<>();
+        private final BoundedCache< String, OWLNamedIndividual> individuals = new BoundedCache<>();
+        private final BoundedCache< String, OWLDataProperty> dataProperties = new BoundedCache<>();
+        private final BoundedCache< String, OWLObjectProperty> objectProperties = new BoundedCache<>();
+
+        private EntityCache( String prefix, OWLDataFactory factory){
+            this.prefix = prefix;
+            this.factory = factory;
+        }
+    }
+
+    // gives the entity with the given name from the cache, or it creates and stores it.
+    // The entity is created with the prefix and the factory of the cache in which it is stored,
+    // so that an entity resolved while the prefix changes is never stored in the new cache
+    private <T extends OWLEntity> T getCachedEntity( Function< EntityCache, BoundedCache< String, T>> entities, String name,
+                                                     BiFunction< OWLDataFactory, IRI, T> create, String type){
+        EntityCache current = entityCache;
+        BoundedCache< String, T> cache = entities.apply( current);
+        if( name != null) {
+            T entity = cache.get( name);
+            if( entity != null) {
+                entityCacheHits.increment();
+                return entity;
+            }
+        }
+        long initialTime = System.nanoTime();
+        entityCacheMisses.increment();
+        T entity = create.apply( current.factory, IRI.create( current.prefix + name));
+        if( name != null)
+            cache.put( name, entity, ENTITY_CACHE_SIZE);
+        logger.addDebugString( type + " given in: " + (System.nanoTime() - initialTime) + " [ns]");
+        return entity;
+    }
+
+    /**
+     * Removes all the entities stored in the cache used by {@link #getOWLClass(String)}, {@link #getOWLIndividual(String)},
+     * {@link #getOWLDataProperty(String)} and {@link #getOWLObjectProperty(String)}.
+     * It is automatically called when the prefix or the data factory change.
+     */
+    public synchronized void clearEntityCache(){
+        entityCache = new EntityCache( prefix, factory);
+    }
+
+    /**
+     * @return the number of entities given by name from the cache.
+     */
+    public long getEntityCacheHitCount(){
+        return entityCacheHits.sum();
+    }
+
+    /**
+     * @return the number of entities given by name that have been created, since they were not in the cache.
+     */
+    public long getEntityCacheMissCount(){
+        return entityCacheMisses.sum();
+    }
+
+
     // [[[[[[[[[[[[[[[[[[[[[[[[[[[[   METHODS USED FOR REASONING   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
 
     /**
      * Performs reasoning on the Ontology when reasoner is set to buffering mode.
      * It does not have any effects on non-buffering reasoners.
-     * WARNING: it does not consider pending changes on the manipulation buffer ({@link OWLManipulator}).
+     * WARNING: it does not consider pending changes on the manipulation buffer ({@link OWLManipulator}).<br>
+     * If a timeout is set (see {@link #setReasoningTimeout(long)}), a buffering reasoner is never flushed while it
+     * serves the queries. Instead, a standby reasoner over the same ontology is flushed and it computes the
+     * {@link #BOUNDED_INFERENCE_TYPES} before the deadline. If it succeeds, it replaces the reasoner (which becomes the
+     * standby reasoner of the next reasoning) and {@link #reasoningPerformed()} is called. If it lasts more than the
+     * timeout, or if {@link #cancelReasoning()} is called, the standby reasoner is interrupted and disposed,
+     * the interruption is logged and {@code false} is returned. In this case, the reasoner keeps serving
+     * the inferences of the last reasoning that succeeded, together with the data that depend on them.
+     * Note that this doubles the memory used by the reasoner.<br>
+     * Without a timeout, the reasoner itself is flushed. If {@link #cancelReasoning()} interrupts it, its state is
+     * undefined, so it is recreated before returning {@code false} and {@link #reasonerReplaced()} is called
+     * (the recreated reasoner reasons on the whole ontology when it is queried).
+     * A flush cancelled while it was completing is also considered interrupted.<br>
+     * The {@link ReasonerMonitor} records a single flush from the start of the reasoning until
+     * {@link #reasoningPerformed()} returns, so it includes the tasks that compute the inferences eagerly.
      * @param initialTime_ns is only used for logging purposes in case of reasoning pre-processing.
      * @param initialTime_ns represents the initial time used to compute the reasoning time[ns] to be logged.
+     * @return {@code true} if the reasoning has been performed, {@code false} if it has been interrupted.
      */
-    protected void callReasoning( Long initialTime_ns){
+    protected boolean callReasoning( Long initialTime_ns){
         if( initialTime_ns == null)
             initialTime_ns =  System.nanoTime();
-        this.reasoner.flush();
-        Long finalTime = System.nanoTime();
-        logger.addDebugString( "Synchronising... reasoner.flush() for ontology named: " +
-                ". Reasoning Time: " + ( finalTime - initialTime_ns) + " [ns]" + " over ontology: " + this.getOWLOntology());
+        if( reasonerInterrupted) // its recreation failed after the last interruption
+            recreateInterruptedReasoner();
+        else if( reasonerPoolInterrupted)
+            recreateInterruptedReasonerPool();
+        long flushInitialTime = System.nanoTime();
+        long timeout = reasoningTimeout;
+        OWLReasoner target = this.reasoner;
+        boolean bounded = timeout > 0 && target != null && target.getBufferingMode() == BufferingMode.BUFFERING;
+        if( bounded)
+            target = getStandbyReasoner();
+        else disposeStandbyReasoner();
+        ReasonerMonitor monitor = reasonerMonitor;
+        if( monitor != null)
+            monitor.flushStarted( target.getPendingChanges());
+        boolean interrupted = false;
+        try { // the monitor records the flush together with the data computed from its inferences (e.g., the class taxonomy)
+            ReasoningFlush flush = new ReasoningFlush( target);
+            currentFlush = flush;
+            ScheduledFuture< ?> deadline = scheduleReasoningTimeout( flush, timeout);
+            try {
+                target.flush();
+                if( bounded)
+                    target.precomputeInferences( getBoundedInferenceTypes( target));
+                flushReasonerPool();
+            } catch ( ReasonerInterruptedException | TimeOutException e){
+                interrupted = true;
+            } finally {
+                if( deadline != null)
+                    deadline.cancel( false);
+                // afterwards, the reasoners are never interrupted on behalf of this flush
+                interrupted = flush.finish() || interrupted;
+                currentFlush = null;
+            }
+            reasoningInterrupted = interrupted;
+            if( interrupted){
+                reasoningInterruptionCount.incrementAndGet();
+                if( bounded) {
+                    logger.addDebugString( "Reasoning interrupted after " + ( System.nanoTime() - flushInitialTime) + " [ns] (timeout: "
+                            + timeout + " [ms]) over ontology: " + this.getOWLOntology() + ". The previous inference state is kept.", true);
+                    discardStandbyReasoner( target);
+                    if( reasonerPool != null) // it may have been synchronised with the discarded state
+                        reasonerPoolInterrupted = true;
+                } else {
+                    logger.addDebugString( "Reasoning interrupted after " + ( System.nanoTime() - flushInitialTime) + " [ns] over ontology: "
+                            + this.getOWLOntology() + ". The reasoner is recreated.", true);
+                    reasonerInterrupted = true;
+                    recreateInterruptedReasoner();
+                }
+                return false;
+            }
+            if( bounded)
+                swapStandbyReasoner( target);
+            Long finalTime = System.nanoTime();
+            lastReasoningTime = finalTime - flushInitialTime;
+            totalReasoningTime.add( lastReasoningTime);
+            reasoningCount.incrementAndGet();
+            logger.addDebugString( "Synchronising... reasoner.flush() for ontology named: " +
+                    ". Reasoning Time: " + ( finalTime - initialTime_ns) + " [ns]" + " over ontology: " + this.getOWLOntology());
+            reasoningPerformed();
+            return true;
+        } finally {
+            if( monitor != null)
+                monitor.flushStopped( interrupted);
+        }
+    }
+    // the standby reasoner, it is created if it does not exist
+    private synchronized OWLReasoner getStandbyReasoner(){
+        if( standbyReasoner == null) {
+            standbyReasoner = createOWLReasoner( reasonerFactoryName, getOWLOntology(), true, reasonerMonitor);
+            if( standbyReasoner == null)
+                throw new IllegalStateException( "Impossible to create the standby reasoner for the References: " + this);
+        }
+        return standbyReasoner;
+    }
+    // the given standby reasoner replaces the reasoner, which becomes the standby one
+    private synchronized void swapStandbyReasoner( OWLReasoner standby){
+        if( standby != standbyReasoner)
+            return; // the reasoner has been set meanwhile
+        standbyReasoner = reasoner;
+        reasoner = standby;
+    }
+    // disposes the given standby reasoner, since its state is undefined after an interruption
+    private synchronized void discardStandbyReasoner( OWLReasoner standby){
+        if( standby == standbyReasoner)
+            disposeStandbyReasoner();
+    }
+    private synchronized void disposeStandbyReasoner(){
+        if( standbyReasoner == null)
+            return;
+        standbyReasoner.dispose();
+        standbyReasoner = null;
+    }
+    // the inferences to compute before the deadline, among the ones that the given reasoner can precompute
+    private static InferenceType[] getBoundedInferenceTypes( OWLReasoner reasoner){
+        List< InferenceType> types = new ArrayList<>();
+        for( InferenceType type : BOUNDED_INFERENCE_TYPES)
+            if( reasoner.getPrecomputableInferenceTypes().contains( type))
+                types.add( type);
+        return types.toArray( new InferenceType[ types.size()]);
+    }
+    // interrupts the given flush when the timeout expires, returns null if there is no timeout
+    private ScheduledFuture< ?> scheduleReasoningTimeout( ReasoningFlush flush, long timeout){
+        if( timeout <= 0)
+            return null;
+        ScheduledExecutorService watchdog = reasoningWatchdog;
+        if( watchdog == null) {
+            synchronized ( OWLLibrary.class) {
+                if( reasoningWatchdog == null)
+                    reasoningWatchdog = Executors.newSingleThreadScheduledExecutor( r -> {
+                        Thread t = new Thread( r, "aMOR reasoning watchdog");
+                        t.setDaemon( true);
+                        return t;
+                    });
+                watchdog = reasoningWatchdog;
+            }
+        }
+        return watchdog.schedule( () -> cancelReasoning( flush), timeout, TimeUnit.MILLISECONDS);
+    }
+    // the token of a flush performed by callReasoning(), it can be cancelled only until it finishes
+    private static class ReasoningFlush{
+        private final OWLReasoner reasoner; // the flushed reasoner
+        private boolean cancelled = false, finished = false; // guarded by this
+
+        private ReasoningFlush( OWLReasoner reasoner){
+            this.reasoner = reasoner;
+        }
+
+        // returns true if the flush has been cancelled by this call
+        private synchronized boolean cancel( Runnable interruption){
+            if( finished || cancelled)
+                return false;
+            cancelled = true;
+            interruption.run(); // the flush cannot finish in the meantime
+            return true;
+        }
+        // returns true if the flush has been cancelled
+        private synchronized boolean finish(){
+            finished = true;
+            return cancelled;
+        }
+    }
+    // interrupts the reasoners only if the given flush is still in progress
+    private boolean cancelReasoning( ReasoningFlush flush){
+        boolean cancelled = flush.cancel( () -> {
+            flush.reasoner.interrupt();
+            ReasonerPool pool = reasonerPool;
+            if( pool != null)
+                for( OWLReasoner pooled : pool.getReasoners())
+                    pooled.interrupt();
+        });
+        if( cancelled)
+            logger.addDebugString( "Reasoning cancelled over ontology: " + this.getOWLOntology());
+        return cancelled;
+    }
+    // synchronises the reasoners of the pool, if it is used. Since the main reasoner has already been synchronised,
+    // an interruption only marks the pool as stale, and the queries use the main reasoner until the pool is recreated
+    private void flushReasonerPool(){
+        ReasonerPool pool = reasonerPool;
+        if( pool == null)
+            return;
+        if( ! isReasonerPoolUsed()) {
+            pool.markStale(); // it will be synchronised when it is used
+            return;
+        }
+        try {
+            pool.flush();
+        } catch ( ReasonerInterruptedException | TimeOutException e){
+            pool.markStale();
+            reasonerPoolInterrupted = true;
+            logger.addDebugString( "Reasoner pool synchronisation interrupted over ontology: " + this.getOWLOntology() + ". The pool is not used until it is recreated.", true);
+        }
+    }
+    // replaces the reasoners of the pool whose synchronisation has been interrupted
+    private synchronized void recreateInterruptedReasonerPool(){
+        reasonerPoolInterrupted = false;
+        if( reasonerPool != null)
+            setReasonerPoolSize( reasonerPool.size());
+    }
+    /**
+     * @return {@code true} if the queries use the pool of reasoners (see {@link #setReasonerPoolSize(int)}), and so
+     * it should be synchronised together with the main reasoner. By default it is {@code true}.
+     */
+    protected boolean isReasonerPoolUsed(){
+        return true;
+    }
+    // replaces a buffering reasoner whose reasoning has been interrupted, and the reasoners of the pool
+    private synchronized void recreateInterruptedReasoner(){
+        if( reasoner == null || reasoner.getBufferingMode() != BufferingMode.BUFFERING) {
+            reasonerInterrupted = false; // a non buffering reasoner is synchronised while the changes are applied
+            return;
+        }
+        OWLReasoner recreated = createOWLReasoner( reasonerFactoryName, getOWLOntology(), true, reasonerMonitor);
+        if( recreated == null)
+            return; // keep using the interrupted one, it will be recreated by the next reasoning
+        reasonerInterrupted = false;
+        reasonerPoolInterrupted = false;
+        reasoner.dispose();
+        reasoner = recreated;
+        if( reasonerPool != null)
+            setReasonerPoolSize( reasonerPool.size());
+        reasonerReplaced();
+        logger.addDebugString( "Reasoner recreated after an interruption for the References: " + this);
+    }
+    /**
+     * Called by {@link #callReasoning(Long)} after that the reasoner has been flushed.
+     * It does nothing by default, it can be overridden to update data that depend on the inferences.
+     */
+    protected void reasoningPerformed(){
+    }
+    /**
+     * Called when the reasoner is replaced by one that has not computed the inferences yet, i.e., when
+     * it is set again (see {@link #setOWLReasoner(String, boolean, String)}) or recreated after an interruption.
+     * It does nothing by default, it can be overridden to discard the data that depend on the previous inferences.
+     */
+    protected void reasonerReplaced(){
     }
     /**
      * Performs reasoning on the Ontology when reasoner is set to buffering mode.
      * It does not have any effects on non-buffering reasoners.
      * WARNING: it does not consider pending changes on the manipulation buffer ({@link OWLManipulator}).
      */
-    protected void callReasoning(){
-        this.callReasoning( System.nanoTime());
+    protected boolean callReasoning(){
+        return this.callReasoning( System.nanoTime());
+    }
+
+    /**
+     * Sets the maximum duration of the reasoning. When it expires, the reasoning performed by {@link #callReasoning(Long)}
+     * is interrupted (see {@link #cancelReasoning()}) and the reasoner keeps serving the previous inferences.
+     * Since a buffering reasoner cannot be interrupted without losing its state, the bounded reasoning is performed
+     * by a standby reasoner, which replaces it only if it succeeds (see {@link #callReasoning(Long)}).
+     * It applies to the flush and to the {@link #BOUNDED_INFERENCE_TYPES}, and it is read when each reasoning starts.
+     * The other inferences, computed lazily by the queries, are never bounded.
+     * @param timeout the maximum duration of the reasoning in milliseconds. If it is not positive, the reasoning is unbounded.
+     */
+    public void setReasoningTimeout( long timeout){
+        this.reasoningTimeout = timeout;
+    }
+    /**
+     * @return the maximum duration of the reasoning in milliseconds, not positive if it is unbounded.
+     */
+    public long getReasoningTimeout(){
+        return reasoningTimeout;
+    }
+
+    /**
+     * Interrupts the reasoning performed by {@link #callReasoning(Long)}, if any. It can be called from any thread
+     * and it does not wait for the locks held by the reasoning. The interrupted reasoning returns as soon as the
+     * reasoner checks for the interruption. If a timeout is set the previous inference state is kept,
+     * otherwise the reasoner is recreated (see {@link #callReasoning(Long)}).
+     * Only the flush in progress when this method is called can be interrupted, never the following ones.
+     * @return {@code true} if a reasoning was in progress and it has been interrupted.
+     */
+    public boolean cancelReasoning(){
+        ReasoningFlush flush = currentFlush;
+        return flush != null && cancelReasoning( flush);
+    }
+    /**
+     * @return {@code true} if the last reasoning has been interrupted. In this case, if a timeout is set, the reasoner
+     * still has the inferences of the last reasoning that succeeded. Otherwise, it has been recreated, so it has not
+     * computed the inferences yet.
+     */
+    public boolean isReasoningInterrupted(){
+        return reasoningInterrupted;
+    }
+    /**
+     * @return the number of times that the reasoning has been interrupted by a timeout or by {@link #cancelReasoning()}.
+     */
+    public long getReasoningInterruptionCount(){
+        return reasoningInterruptionCount.get();
+    }
+
+    /**
+     * @return the progress monitor of the reasoner, which records the duration of its tasks and the recent flushes
+     * performed by {@link #callReasoning(Long)}, or {@code null} if the reasoner has not been created by this library.
+     */
+    public ReasonerMonitor getReasonerMonitor(){
+        return reasonerMonitor;
+    }
+
+    /**
+     * @return the number of times that the reasoner has been flushed by {@link #callReasoning(Long)}.
+     */
+    public long getReasoningCount(){
+        return reasoningCount.get();
+    }
+    /**
+     * @return the duration of the last reasoner flush performed by {@link #callReasoning(Long)} in nanoseconds.
+     */
+    public long getLastReasoningTime(){
+        return lastReasoningTime;
+    }
+    /**
+     * @return the total duration of the reasoner flushes performed by {@link #callReasoning(Long)} in nanoseconds.
+     */
+    public long getTotalReasoningTime(){
+        return totalReasoningTime.sum();
     }
 
     @Override
@@ -82,10 +82,11 @@ public class OWLManipulator{
      */
     public static Boolean DEFAULT_MANIPULATION_BUFFERING = false;
     /**
-     * This is a vector of buffered ontological changes to be applied to this class.
-     * Changes can be applied by calling {@link #applyChanges()}.
+     * This is the buffer of ontological changes to be applied to this class.
+     * Changes can be applied by calling {@link #applyChanges()}. Only the last change of each axiom is
+     * kept, and changes without effects are dropped before being applied (see {@link ChangeBuffer}).
      */
-    private final List<OWLOntologyChange> changeList = new ArrayList<OWLOntologyChange>();
+    private final ChangeBuffer changeList = new ChangeBuffer();
 
     // [[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[   CONSTRUCTOR   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
     /**
@@ -221,15 +222,76 @@ public class OWLManipulator{
         return( removeAxiom);
     }
 
+    /**
+     * @return the number of changes stored in {@link #changeList}, waiting for {@link #applyChanges()}.
+     */
+    public synchronized int getPendingChangesCount(){
+        return changeList.size();
+    }
+
+    /**
+     * @return a copy of the changes stored in {@link #changeList}, waiting for {@link #applyChanges()}.
+     */
+    public synchronized List< OWLOntologyChange> getPendingChanges(){
+        return changeList.getChanges();
+    }
+
+    /**
+     * @return the axioms that are pending to be added or removed from the ontology by {@link #applyChanges()},
+     * or {@code null} if there are no pending changes (see {@link OWLEnquirer#setPendingChangesOverlay(boolean)}).
+     */
+    public synchronized PendingChangesOverlay getPendingChangesOverlay(){
+        if( changeList.isEmpty())
+            return null;
+        return changeList.getOverlay( ontoRef.getOWLOntology());
+    }
+
+    /**
+     * Removes all the changes stored in {@link #changeList} without applying them.
+     * @return the removed changes, in the order in which they have been buffered.
+     */
+    protected synchronized List< OWLOntologyChange> drainChanges(){
+        return changeList.drain();
+    }
+
+    /**
+     * Marks the changes stored in {@link #changeList}, so that the following ones can be discarded (see {@link ChangeBuffer#mark()}).
+     * @return the mark to be given to {@link #rollbackChanges(int)}.
+     */
+    protected synchronized int markChanges(){
+        return changeList.mark();
+    }
+
+    /**
+     * Discards the changes stored in {@link #changeList} after a mark, without applying them (see {@link ChangeBuffer#rollback(int)}).
+     * @param mark the value given by {@link #markChanges()}.
+     */
+    protected synchronized void rollbackChanges( int mark){
+        changeList.rollback( mark);
+    }
+
+    /**
+     * @return the number of buffered changes that have not been applied since they were replaced by a following
+     * change of the same axiom, or since they would not have any effect on the ontology (see {@link ChangeBuffer}).
+     */
+    public synchronized long getElidedChangesCount(){
+        return changeList.getElidedCount();
+    }
+
     /**
      * It applies all pending changes stored in {@link #changeList} then, it clears {@link #changeList}.
+     * The changes that would not have any effect on the ontology are not applied.
      */
     public synchronized void applyChanges(){
         long initialTime = System.nanoTime();
         try{
-            ontoRef.getOWLManager().applyChanges( changeList);
-            changeList.clear();
-            logger.addDebugString( "apply changes in: " + (System.nanoTime() - initialTime) + " [ns]");
+            long elided = changeList.getElidedCount();
+            List< OWLOntologyChange> changes = changeList.removeNoOperations( changeList.getChanges());
+            if( ! changes.isEmpty())
+                ontoRef.getOWLManager().applyChanges( changes);
+            changeList.drain();
+            logger.addDebugString( "apply " + changes.size() + " changes (" + ( changeList.getElidedCount() - elided)
+                    + " more elided) in: " + (System.nanoTime() - initialTime) + " [ns]");
         } catch( org.semanticweb.owlapi.reasoner.InconsistentOntologyException e){
             ontoRef.logInconsistency();
         }
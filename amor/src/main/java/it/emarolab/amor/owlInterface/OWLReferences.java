@@ -2,16 +2,32 @@ package it.emarolab.amor.owlInterface;
 
 import it.emarolab.amor.owlDebugger.Logger;
 import it.emarolab.amor.owlDebugger.Logger.LoggerFlag;
+import it.emarolab.amor.owlDebugger.OperationMetrics;
 import it.emarolab.amor.owlInterface.SemanticRestriction.ApplyingRestriction;
 import org.apache.jena.query.QuerySolution;
 import org.semanticweb.owlapi.model.*;
 
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 // TODO : serialisation
 // TODO : add more reasoners
@@ -45,6 +61,55 @@ public class OWLReferences extends OWLReferencesInterface{
      */
     private Logger logger = new Logger( this, LoggerFlag.getLogOntologyReference());
 
+    /**
+     * Concurrency mode in which each call acquires {@link #mutexReasoner} and a lock dedicated to the called method.
+     */
+    public static final Integer CONCURRENCY_MUTEXES = 0;
+    /**
+     * Concurrency mode in which all the queries (performed by {@link OWLEnquirer}) share the read lock of a
+     * {@link StampedLock}, while all the manipulations (performed by {@link OWLManipulator}) and
+     * {@link #synchronizeReasoner()} acquire its write lock. Since the reasoner is not thread safe, the queries
+     * that include inferences are still serialised among each others, unless a pool of reasoners is used
+     * (see {@link #setReasonerPoolSize(int)}).
+     */
+    public static final Integer CONCURRENCY_READ_WRITE = 1;
+    /**
+     * As {@link #CONCURRENCY_READ_WRITE} but, when the queries do not include inferences
+     * (see {@link #setOWLEnquirerIncludesInferences(Boolean)}), they are first performed without locking
+     * (optimistic read) and repeated under the read lock only if a manipulation occurred in the meanwhile.
+     */
+    public static final Integer CONCURRENCY_OPTIMISTIC_READ_WRITE = 2;
+    /**
+     * The concurrency mode assigned to all new references. By default it is {@link #CONCURRENCY_MUTEXES}.
+     */
+    public static Integer DEFAULT_CONCURRENCY_MODE = CONCURRENCY_MUTEXES;
+
+    // the concurrency mode of this reference, see setConcurrencyMode(Integer)
+    private volatile Integer concurrencyMode = DEFAULT_CONCURRENCY_MODE;
+    // locks used in CONCURRENCY_READ_WRITE and CONCURRENCY_OPTIMISTIC_READ_WRITE modes
+    private final StampedLock readWriteLock = new StampedLock();
+    private final Lock readLock = readWriteLock.asReadLock();
+    private final Lock writeLock = readWriteLock.asWriteLock();
+    private Lock mutexReasonerQuery = new ReentrantLock();
+    private final Lock reasonerQueryMutex = new ReasonerQueryMutex();
+    // the last view given by snapshot()
+    private volatile OWLReferencesSnapshot lastSnapshot;
+    private final Object snapshotPublication = new Object();
+    // the executor of the asynchronous calls, lazily initialised
+    private volatile Executor asyncExecutor;
+    // the single writer thread used in group commit mode, null if manipulations are performed by the calling threads
+    private volatile GroupCommitWriter groupCommitWriter;
+    // the buffering flag given by the user while the writer thread commits a batch (accessed only by the writer thread)
+    private boolean groupCommitBuffering;
+    // the number of calls of this reference that are holding their locks in the current thread
+    private final ThreadLocal< Integer> lockingDepth = ThreadLocal.withInitial( () -> 0);
+    // the thread that synchronises the reasoner on behalf of the users, null if they synchronise it explicitly
+    private volatile ReasonerSynchronizer reasonerSynchronizer;
+    // the committed inference state served while the next one is computed, null if the queries wait for the reasoning
+    private volatile DoubleBufferedReasoner doubleBufferedReasoner;
+    // the timing of each operation performed through OWLReferencesCaller, indexed by the name of the operation
+    private final Map< String, OperationMetrics> operationMetrics = new ConcurrentHashMap<>();
+
     //  [[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[ SUPER CLASS CONSTRUCTORS ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
     // ##################################   to ontology enquirer !!!!!!!!!!!!!
     // mutex for assure thread safe behaviour
@@ -183,8 +248,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of all the individuals into the root ontology class.
      */
     public Set<OWLNamedIndividual> getIndividualB2Thing(){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexIndividualB2Class);
-        return new OWLReferencesCaller< Set< OWLNamedIndividual>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexIndividualB2Class);
+        return new OWLReferencesCaller< Set< OWLNamedIndividual>>( "getIndividualB2Thing", mutexes, this) {
             @Override
             protected Set< OWLNamedIndividual> performSynchronisedCall() {
                 return getEnquirer().getIndividualB2Thing();
@@ -199,8 +264,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return one individual into the root ontology class.
      */
     public OWLNamedIndividual getOnlyIndividualB2Thing(){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexIndividualB2Class);
-        return new OWLReferencesCaller< OWLNamedIndividual>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexIndividualB2Class);
+        return new OWLReferencesCaller< OWLNamedIndividual>( "getOnlyIndividualB2Thing", mutexes, this) {
             @Override
             protected OWLNamedIndividual performSynchronisedCall() {
                 return getEnquirer().getOnlyIndividualB2Thing();
@@ -217,8 +282,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of individuals into the given class.
      */
     public Set<OWLNamedIndividual> getIndividualB2Class( String className){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexIndividualB2Class);
-        return new OWLReferencesCaller< Set< OWLNamedIndividual>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexIndividualB2Class);
+        return new OWLReferencesCaller< Set< OWLNamedIndividual>>( "getIndividualB2Class", mutexes, this) {
             @Override
             protected Set< OWLNamedIndividual> performSynchronisedCall() {
                 return getEnquirer().getIndividualB2Class( className);
@@ -234,8 +299,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of individuals into the given class.
      */
     public Set<OWLNamedIndividual> getIndividualB2Class(OWLClass ontoClass) {
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexIndividualB2Class);
-        return new OWLReferencesCaller< Set< OWLNamedIndividual>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexIndividualB2Class);
+        return new OWLReferencesCaller< Set< OWLNamedIndividual>>( "getIndividualB2Class", mutexes, this) {
             @Override
             protected Set< OWLNamedIndividual> performSynchronisedCall() {
                 return getEnquirer().getIndividualB2Class( ontoClass);
@@ -252,8 +317,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return an individuals into the given class.
      */
     public OWLNamedIndividual getOnlyIndividualB2Class(String className) {
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexIndividualB2Class);
-        return new OWLReferencesCaller< OWLNamedIndividual>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexIndividualB2Class);
+        return new OWLReferencesCaller< OWLNamedIndividual>( "getOnlyIndividualB2Class", mutexes, this) {
             @Override
             protected OWLNamedIndividual performSynchronisedCall() {
                 return getEnquirer().getOnlyIndividualB2Class( className);
@@ -269,8 +334,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return an individuals into the given class.
      */
     public OWLNamedIndividual getOnlyIndividualB2Class( OWLClass ontoClass){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexIndividualB2Class);
-        return new OWLReferencesCaller< OWLNamedIndividual>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexIndividualB2Class);
+        return new OWLReferencesCaller< OWLNamedIndividual>( "getOnlyIndividualB2Class", mutexes, this) {
             @Override
             protected OWLNamedIndividual performSynchronisedCall() {
                 return getEnquirer().getOnlyIndividualB2Class(ontoClass);
@@ -287,8 +352,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of classes in which the given individual is belonging to.
      */
     public Set< OWLClass> getIndividualClasses( OWLNamedIndividual individual){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexIndivClasses);
-        return new OWLReferencesCaller< Set< OWLClass>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexIndivClasses);
+        return new OWLReferencesCaller< Set< OWLClass>>( "getIndividualClasses", mutexes, this) {
             @Override
             protected Set< OWLClass> performSynchronisedCall() {
                 return getEnquirer().getIndividualClasses( individual);
@@ -304,8 +369,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of classes in which the given individual is belonging to.
      */
     public Set< OWLClass> getIndividualClasses( String individual){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexIndivClasses);
-        return new OWLReferencesCaller< Set< OWLClass>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexIndivClasses);
+        return new OWLReferencesCaller< Set< OWLClass>>( "getIndividualClasses", mutexes, this) {
             @Override
             protected Set< OWLClass> performSynchronisedCall() {
                 return getEnquirer().getIndividualClasses( individual);
@@ -322,8 +387,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of classes in which the given individual is belonging to.
      */
     public OWLClass getOnlyIndividualClasses( OWLNamedIndividual individual){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexIndivClasses);
-        return new OWLReferencesCaller< OWLClass>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexIndivClasses);
+        return new OWLReferencesCaller< OWLClass>( "getOnlyIndividualClasses", mutexes, this) {
             @Override
             protected OWLClass performSynchronisedCall() {
                 return getEnquirer().getOnlyIndividualClasses( individual);
@@ -339,8 +404,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of classes in which the given individual is belonging to.
      */
     public OWLClass getOnlyIndividualClasses( String individual){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexIndivClasses);
-        return new OWLReferencesCaller< OWLClass>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexIndivClasses);
+        return new OWLReferencesCaller< OWLClass>( "getOnlyIndividualClasses", mutexes, this) {
             @Override
             protected OWLClass performSynchronisedCall() {
                 return getEnquirer().getOnlyIndividualClasses( individual);
@@ -358,8 +423,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of values of the specified data property assigned to an individual.
      */
     public Set<OWLLiteral> getDataPropertyB2Individual( String individualName, String propertyName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexDataPropB2Ind);
-        return new OWLReferencesCaller< Set< OWLLiteral>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexDataPropB2Ind);
+        return new OWLReferencesCaller< Set< OWLLiteral>>( "getDataPropertyB2Individual", mutexes, this) {
             @Override
             protected Set< OWLLiteral> performSynchronisedCall() {
                 return getEnquirer().getDataPropertyB2Individual( individualName, propertyName);
@@ -376,8 +441,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of values of the specified data property assigned to an individual.
      */
     public Set<OWLLiteral> getDataPropertyB2Individual( OWLNamedIndividual individual, OWLDataProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexDataPropB2Ind);
-        return new OWLReferencesCaller< Set< OWLLiteral>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexDataPropB2Ind);
+        return new OWLReferencesCaller< Set< OWLLiteral>>( "getDataPropertyB2Individual", mutexes, this) {
             @Override
             protected Set< OWLLiteral> performSynchronisedCall() {
                 return getEnquirer().getDataPropertyB2Individual( individual, property);
@@ -395,8 +460,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return a value of the specified data property assigned to an individual.
      */
     public OWLLiteral getOnlyDataPropertyB2Individual( String individualName, String propertyName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexDataPropB2Ind);
-        return new OWLReferencesCaller< OWLLiteral>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexDataPropB2Ind);
+        return new OWLReferencesCaller< OWLLiteral>( "getOnlyDataPropertyB2Individual", mutexes, this) {
             @Override
             protected OWLLiteral performSynchronisedCall() {
                 return getEnquirer().getOnlyDataPropertyB2Individual( individualName, propertyName);
@@ -413,8 +478,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return a value of the specified data property assigned to an individual.
      */
     public OWLLiteral getOnlyDataPropertyB2Individual( OWLNamedIndividual individual, OWLDataProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexDataPropB2Ind);
-        return new OWLReferencesCaller< OWLLiteral>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexDataPropB2Ind);
+        return new OWLReferencesCaller< OWLLiteral>( "getOnlyDataPropertyB2Individual", mutexes, this) {
             @Override
             protected OWLLiteral performSynchronisedCall() {
                 return getEnquirer().getOnlyDataPropertyB2Individual( individual, property);
@@ -431,8 +496,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of a container of all the data properties with relative values.
      */
     public Set<DataPropertyRelations> getDataPropertyB2Individual( OWLNamedIndividual individual){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAllDataPropB2Ind);
-        return new OWLReferencesCaller< Set<DataPropertyRelations>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexAllDataPropB2Ind);
+        return new OWLReferencesCaller< Set<DataPropertyRelations>>( "getDataPropertyB2Individual", mutexes, this) {
             @Override
             protected Set<DataPropertyRelations> performSynchronisedCall() {
                 return getEnquirer().getDataPropertyB2Individual( individual);
@@ -448,8 +513,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of a container of all the data properties with relative values.
      */
     public Set<DataPropertyRelations> getDataPropertyB2Individual( String individualName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAllObjPropB2Ind);
-        return new OWLReferencesCaller< Set<DataPropertyRelations>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexAllObjPropB2Ind);
+        return new OWLReferencesCaller< Set<DataPropertyRelations>>( "getDataPropertyB2Individual", mutexes, this) {
             @Override
             protected Set<DataPropertyRelations> performSynchronisedCall() {
                 return getEnquirer().getDataPropertyB2Individual( individualName);
@@ -467,8 +532,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of values of the specified object property assigned to an individual.
      */
     public Set<OWLNamedIndividual> getObjectPropertyB2Individual( String individualName, String propertyName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexObjPropB2Ind);
-        return new OWLReferencesCaller<  Set<OWLNamedIndividual>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexObjPropB2Ind);
+        return new OWLReferencesCaller<  Set<OWLNamedIndividual>>( "getObjectPropertyB2Individual", mutexes, this) {
             @Override
             protected  Set<OWLNamedIndividual> performSynchronisedCall() {
                 return getEnquirer().getObjectPropertyB2Individual( individualName, propertyName);
@@ -485,8 +550,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of values of the specified object property assigned to an individual.
      */
     public Set<OWLNamedIndividual> getObjectPropertyB2Individual( OWLNamedIndividual individual, OWLObjectProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexObjPropB2Ind);
-        return new OWLReferencesCaller<  Set<OWLNamedIndividual>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexObjPropB2Ind);
+        return new OWLReferencesCaller<  Set<OWLNamedIndividual>>( "getObjectPropertyB2Individual", mutexes, this) {
             @Override
             protected  Set<OWLNamedIndividual> performSynchronisedCall() {
                 return getEnquirer().getObjectPropertyB2Individual( individual, property);
@@ -504,8 +569,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return a value of the specified object property assigned to an individual.
      */
     public OWLNamedIndividual getOnlyObjectPropertyB2Individual( String individualName, String propertyName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexObjPropB2Ind);
-        return new OWLReferencesCaller< OWLNamedIndividual>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexObjPropB2Ind);
+        return new OWLReferencesCaller< OWLNamedIndividual>( "getOnlyObjectPropertyB2Individual", mutexes, this) {
             @Override
             protected OWLNamedIndividual performSynchronisedCall() {
                 return getEnquirer().getOnlyObjectPropertyB2Individual( individualName, propertyName);
@@ -522,8 +587,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return a value of the specified object property assigned to an individual.
      */
     public OWLNamedIndividual getOnlyObjectPropertyB2Individual( OWLNamedIndividual individual, OWLObjectProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexObjPropB2Ind);
-        return new OWLReferencesCaller< OWLNamedIndividual>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexObjPropB2Ind);
+        return new OWLReferencesCaller< OWLNamedIndividual>( "getOnlyObjectPropertyB2Individual", mutexes, this) {
             @Override
             protected OWLNamedIndividual performSynchronisedCall() {
                 return getEnquirer().getOnlyObjectPropertyB2Individual( individual, property);
@@ -540,8 +605,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of a container of all the object properties with relative values.
      */
     public Set<ObjectPropertyRelations> getObjectPropertyB2Individual(OWLNamedIndividual individual){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAllObjPropB2Ind);
-        return new OWLReferencesCaller< Set<ObjectPropertyRelations>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexAllObjPropB2Ind);
+        return new OWLReferencesCaller< Set<ObjectPropertyRelations>>( "getObjectPropertyB2Individual", mutexes, this) {
             @Override
             protected Set<ObjectPropertyRelations> performSynchronisedCall() {
                 return getEnquirer().getObjectPropertyB2Individual( individual);
@@ -557,8 +622,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of a container of all the object properties with relative values.
      */
     public Set<ObjectPropertyRelations> getObjectPropertyB2Individual(String individualName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAllObjPropB2Ind);
-        return new OWLReferencesCaller< Set<ObjectPropertyRelations>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexAllObjPropB2Ind);
+        return new OWLReferencesCaller< Set<ObjectPropertyRelations>>( "getObjectPropertyB2Individual", mutexes, this) {
             @Override
             protected Set<ObjectPropertyRelations> performSynchronisedCall() {
                 return getEnquirer().getObjectPropertyB2Individual( individualName);
@@ -566,6 +631,278 @@ public class OWLReferences extends OWLReferencesInterface{
         }.call();
     }
 
+    /**
+     * This method searches for the individuals that have a specified value for an object property.
+     * It looks for defined semantic entities as well as for inferred
+     * axioms (given by the reasoner). In order to do so it calls:
+     * {@link OWLEnquirer#getIndividualsWithObjectPropertyTo(String, String)};
+     * @param valueName the name of the value of the object property.
+     * @param propertyName the name of the object property.
+     * @return the set of individuals related to the value through the property.
+     */
+    public Set<OWLNamedIndividual> getIndividualsWithObjectPropertyTo( String valueName, String propertyName){
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexObjPropB2Ind);
+        return new OWLReferencesCaller< Set<OWLNamedIndividual>>( "getIndividualsWithObjectPropertyTo", mutexes, this) {
+            @Override
+            protected Set<OWLNamedIndividual> performSynchronisedCall() {
+                return getEnquirer().getIndividualsWithObjectPropertyTo( valueName, propertyName);
+            }
+        }.call();
+    }
+    /**
+     * This method searches for the individuals that have a specified value for an object property.
+     * It looks for defined semantic entities as well as for inferred
+     * axioms (given by the reasoner). In order to do so it calls:
+     * {@link OWLEnquirer#getIndividualsWithObjectPropertyTo(OWLNamedIndividual, OWLObjectProperty)};
+     * @param value the value of the object property.
+     * @param property the object property.
+     * @return the set of individuals related to the value through the property.
+     */
+    public Set<OWLNamedIndividual> getIndividualsWithObjectPropertyTo( OWLNamedIndividual value, OWLObjectProperty property){
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexObjPropB2Ind);
+        return new OWLReferencesCaller< Set<OWLNamedIndividual>>( "getIndividualsWithObjectPropertyTo", mutexes, this) {
+            @Override
+            protected Set<OWLNamedIndividual> performSynchronisedCall() {
+                return getEnquirer().getIndividualsWithObjectPropertyTo( value, property);
+            }
+        }.call();
+    }
+
+    /**
+     * This method searches for all the individuals that have a specified one as the value of an object property.
+     * It looks for defined semantic entities as well as for inferred
+     * axioms (given by the reasoner). In order to do so it calls:
+     * {@link OWLEnquirer#getIncomingObjectProperties(String)}
+     * @param individualName the name of the individual.
+     * @return the individuals that have the given one as value, for each object property.
+     */
+    public Map<OWLObjectProperty, Set<OWLNamedIndividual>> getIncomingObjectProperties( String individualName){
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexAllObjPropB2Ind);
+        return new OWLReferencesCaller< Map<OWLObjectProperty, Set<OWLNamedIndividual>>>( "getIncomingObjectProperties", mutexes, this) {
+            @Override
+            protected Map<OWLObjectProperty, Set<OWLNamedIndividual>> performSynchronisedCall() {
+                return getEnquirer().getIncomingObjectProperties( individualName);
+            }
+        }.call();
+    }
+    /**
+     * This method searches for all the individuals that have a specified one as the value of an object property.
+     * It looks for defined semantic entities as well as for inferred
+     * axioms (given by the reasoner). In order to do so it calls:
+     * {@link OWLEnquirer#getIncomingObjectProperties(OWLNamedIndividual)}
+     * @param individual the individual.
+     * @return the individuals that have the given one as value, for each object property.
+     */
+    public Map<OWLObjectProperty, Set<OWLNamedIndividual>> getIncomingObjectProperties( OWLNamedIndividual individual){
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexAllObjPropB2Ind);
+        return new OWLReferencesCaller< Map<OWLObjectProperty, Set<OWLNamedIndividual>>>( "getIncomingObjectProperties", mutexes, this) {
+            @Override
+            protected Map<OWLObjectProperty, Set<OWLNamedIndividual>> performSynchronisedCall() {
+                return getEnquirer().getIncomingObjectProperties( individual);
+            }
+        }.call();
+    }
+
+    /**
+     * This method checks if a class is a sub class of another one.
+     * It does not compute the full result set, since it calls:
+     * {@link OWLEnquirer#isSubClassOf(String, String)}
+     * @param subClassName the name of the sub class.
+     * @param superClassName the name of the super class.
+     * @return {@code true} if the first class is a sub class of the second one.
+     */
+    public Boolean isSubClassOf( String subClassName, String superClassName){
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexSuperClass);
+        return new OWLReferencesCaller< Boolean>( "isSubClassOf", mutexes, this) {
+            @Override
+            protected Boolean performSynchronisedCall() {
+                return getEnquirer().isSubClassOf( subClassName, superClassName);
+            }
+        }.call();
+    }
+    /**
+     * This method checks if a class is a sub class of another one.
+     * It does not compute the full result set, since it calls:
+     * {@link OWLEnquirer#isSubClassOf(OWLClass, OWLClass)}
+     * @param subClass the sub class.
+     * @param superClass the super class.
+     * @return {@code true} if the first class is a sub class of the second one.
+     */
+    public Boolean isSubClassOf( OWLClass subClass, OWLClass superClass){
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexSuperClass);
+        return new OWLReferencesCaller< Boolean>( "isSubClassOf", mutexes, this) {
+            @Override
+            protected Boolean performSynchronisedCall() {
+                return getEnquirer().isSubClassOf( subClass, superClass);
+            }
+        }.call();
+    }
+
+    /**
+     * This method checks if an individual belongs to a class.
+     * It does not compute the full result set, since it calls:
+     * {@link OWLEnquirer#isInstanceOf(String, String)}
+     * @param individualName the name of the individual.
+     * @param className the name of the class.
+     * @return {@code true} if the individual is an instance of the class.
+     */
+    public Boolean isInstanceOf( String individualName, String className){
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexIndivClasses);
+        return new OWLReferencesCaller< Boolean>( "isInstanceOf", mutexes, this) {
+            @Override
+            protected Boolean performSynchronisedCall() {
+                return getEnquirer().isInstanceOf( individualName, className);
+            }
+        }.call();
+    }
+    /**
+     * This method checks if an individual belongs to a class.
+     * It does not compute the full result set, since it calls:
+     * {@link OWLEnquirer#isInstanceOf(OWLNamedIndividual, OWLClass)}
+     * @param individual the individual.
+     * @param cl the class.
+     * @return {@code true} if the individual is an instance of the class.
+     */
+    public Boolean isInstanceOf( OWLNamedIndividual individual, OWLClass cl){
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexIndivClasses);
+        return new OWLReferencesCaller< Boolean>( "isInstanceOf", mutexes, this) {
+            @Override
+            protected Boolean performSynchronisedCall() {
+                return getEnquirer().isInstanceOf( individual, cl);
+            }
+        }.call();
+    }
+
+    /**
+     * This method checks if an individual has a value for an object property.
+     * It does not compute the full result set, since it calls:
+     * {@link OWLEnquirer#hasObjectPropertyValue(String, String, String)}
+     * @param individualName the name of the individual.
+     * @param propertyName the name of the object property.
+     * @param valueName the name of the value.
+     * @return {@code true} if the individual is related to the value through the property.
+     */
+    public Boolean hasObjectPropertyValue( String individualName, String propertyName, String valueName){
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexObjPropB2Ind);
+        return new OWLReferencesCaller< Boolean>( "hasObjectPropertyValue", mutexes, this) {
+            @Override
+            protected Boolean performSynchronisedCall() {
+                return getEnquirer().hasObjectPropertyValue( individualName, propertyName, valueName);
+            }
+        }.call();
+    }
+    /**
+     * This method checks if an individual has a value for an object property.
+     * It does not compute the full result set, since it calls:
+     * {@link OWLEnquirer#hasObjectPropertyValue(OWLNamedIndividual, OWLObjectProperty, OWLNamedIndividual)}
+     * @param individual the individual.
+     * @param property the object property.
+     * @param value the value.
+     * @return {@code true} if the individual is related to the value through the property.
+     */
+    public Boolean hasObjectPropertyValue( OWLNamedIndividual individual, OWLObjectProperty property, OWLNamedIndividual value){
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexObjPropB2Ind);
+        return new OWLReferencesCaller< Boolean>( "hasObjectPropertyValue", mutexes, this) {
+            @Override
+            protected Boolean performSynchronisedCall() {
+                return getEnquirer().hasObjectPropertyValue( individual, property, value);
+            }
+        }.call();
+    }
+
+
+    // [[[[[[[[[[[[[[[[[[[[[[   METHODS TO QUERY MORE INDIVIDUALS AT ONCE   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
+    /**
+     * This method searches for the types of each given individual, as {@link #getIndividualClasses(OWLNamedIndividual)} does.
+     * The mutexes are acquired only once for all the individuals. It calls:
+     * {@link OWLEnquirer#getIndividualClasses(Collection)}
+     * @param individuals the individuals to query.
+     * @return the classes of each individual.
+     */
+    public Map<OWLNamedIndividual, Set<OWLClass>> getIndividualClasses( Collection<OWLNamedIndividual> individuals){
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexIndivClasses);
+        return new OWLReferencesCaller< Map<OWLNamedIndividual, Set<OWLClass>>>( "getIndividualClassesBulk", mutexes, this) {
+            @Override
+            protected Map<OWLNamedIndividual, Set<OWLClass>> performSynchronisedCall() {
+                return getEnquirer().getIndividualClasses( individuals);
+            }
+        }.call();
+    }
+
+    /**
+     * This method searches for the values of a data property of each given individual,
+     * as {@link #getDataPropertyB2Individual(OWLNamedIndividual, OWLDataProperty)} does.
+     * The mutexes are acquired only once for all the individuals. It calls:
+     * {@link OWLEnquirer#getDataPropertyB2Individual(Collection, OWLDataProperty)}
+     * @param individuals the individuals to query.
+     * @param property the data property.
+     * @return the values of the property for each individual.
+     */
+    public Map<OWLNamedIndividual, Set<OWLLiteral>> getDataPropertyB2Individual( Collection<OWLNamedIndividual> individuals, OWLDataProperty property){
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexDataPropB2Ind);
+        return new OWLReferencesCaller< Map<OWLNamedIndividual, Set<OWLLiteral>>>( "getDataPropertyB2IndividualBulk", mutexes, this) {
+            @Override
+            protected Map<OWLNamedIndividual, Set<OWLLiteral>> performSynchronisedCall() {
+                return getEnquirer().getDataPropertyB2Individual( individuals, property);
+            }
+        }.call();
+    }
+
+    /**
+     * This method searches for the values of an object property of each given individual,
+     * as {@link #getObjectPropertyB2Individual(OWLNamedIndividual, OWLObjectProperty)} does.
+     * The mutexes are acquired only once for all the individuals. It calls:
+     * {@link OWLEnquirer#getObjectPropertyB2Individual(Collection, OWLObjectProperty)}
+     * @param individuals the individuals to query.
+     * @param property the object property.
+     * @return the values of the property for each individual.
+     */
+    public Map<OWLNamedIndividual, Set<OWLNamedIndividual>> getObjectPropertyB2Individual( Collection<OWLNamedIndividual> individuals, OWLObjectProperty property){
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexObjPropB2Ind);
+        return new OWLReferencesCaller< Map<OWLNamedIndividual, Set<OWLNamedIndividual>>>( "getObjectPropertyB2IndividualBulk", mutexes, this) {
+            @Override
+            protected Map<OWLNamedIndividual, Set<OWLNamedIndividual>> performSynchronisedCall() {
+                return getEnquirer().getObjectPropertyB2Individual( individuals, property);
+            }
+        }.call();
+    }
+
+    /**
+     * This method searches for all the data properties of each given individual,
+     * as {@link #getDataPropertyB2Individual(OWLNamedIndividual)} does.
+     * The mutexes are acquired only once for all the individuals. It calls:
+     * {@link OWLEnquirer#getDataPropertyB2Individual(Collection)}
+     * @param individuals the individuals to query.
+     * @return the data properties, with their values, of each individual.
+     */
+    public Map<OWLNamedIndividual, Set<DataPropertyRelations>> getDataPropertyB2Individual( Collection<OWLNamedIndividual> individuals){
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexAllDataPropB2Ind);
+        return new OWLReferencesCaller< Map<OWLNamedIndividual, Set<DataPropertyRelations>>>( "getDataPropertyB2IndividualBulk", mutexes, this) {
+            @Override
+            protected Map<OWLNamedIndividual, Set<DataPropertyRelations>> performSynchronisedCall() {
+                return getEnquirer().getDataPropertyB2Individual( individuals);
+            }
+        }.call();
+    }
+
+    /**
+     * This method searches for all the object properties of each given individual,
+     * as {@link #getObjectPropertyB2Individual(OWLNamedIndividual)} does.
+     * The mutexes are acquired only once for all the individuals. It calls:
+     * {@link OWLEnquirer#getObjectPropertyB2Individual(Collection)}
+     * @param individuals the individuals to query.
+     * @return the object properties, with their values, of each individual.
+     */
+    public Map<OWLNamedIndividual, Set<ObjectPropertyRelations>> getObjectPropertyB2Individual( Collection<OWLNamedIndividual> individuals){
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexAllObjPropB2Ind);
+        return new OWLReferencesCaller< Map<OWLNamedIndividual, Set<ObjectPropertyRelations>>>( "getObjectPropertyB2IndividualBulk", mutexes, this) {
+            @Override
+            protected Map<OWLNamedIndividual, Set<ObjectPropertyRelations>> performSynchronisedCall() {
+                return getEnquirer().getObjectPropertyB2Individual( individuals);
+            }
+        }.call();
+    }
+
 
     // [[[[[[[[[[[[[[[[[[[[   METHODS TO MANIPULATE THE ONTOLOGY   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
     // it uses default ontology manipulator (not buffering)!!!!
@@ -581,8 +918,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of all the data properties that are sub-properties of the specified parameter.
      */
     public Set<OWLDataProperty> getSubDataPropertyOf( String propName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexSubDataProp);
-        return new OWLReferencesCaller< Set<OWLDataProperty>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexSubDataProp);
+        return new OWLReferencesCaller< Set<OWLDataProperty>>( "getSubDataPropertyOf", mutexes, this) {
             @Override
             protected Set<OWLDataProperty> performSynchronisedCall() {
                 return getEnquirer().getSubDataPropertyOf( propName);
@@ -598,8 +935,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of all the data properties that are sub-properties of the specified parameter.
      */
     public Set<OWLDataProperty> getSubDataPropertyOf( OWLDataProperty prop){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexSubDataProp);
-        return new OWLReferencesCaller< Set<OWLDataProperty>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexSubDataProp);
+        return new OWLReferencesCaller< Set<OWLDataProperty>>( "getSubDataPropertyOf", mutexes, this) {
             @Override
             protected Set<OWLDataProperty> performSynchronisedCall() {
                 return getEnquirer().getSubDataPropertyOf( prop);
@@ -615,8 +952,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of all the data properties that are super-properties of the specified parameter.
      */
     public Set<OWLDataProperty> getSuperDataPropertyOf( String propName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexSuperDataProp);
-        return new OWLReferencesCaller< Set<OWLDataProperty>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexSuperDataProp);
+        return new OWLReferencesCaller< Set<OWLDataProperty>>( "getSuperDataPropertyOf", mutexes, this) {
             @Override
             protected Set<OWLDataProperty> performSynchronisedCall() {
                 return getEnquirer().getSuperDataPropertyOf( propName);
@@ -632,8 +969,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of all the data properties that are super-properties of the specified parameter.
      */
     public Set<OWLDataProperty> getSuperDataPropertyOf( OWLDataProperty prop){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexSuperDataProp);
-        return new OWLReferencesCaller< Set<OWLDataProperty>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexSuperDataProp);
+        return new OWLReferencesCaller< Set<OWLDataProperty>>( "getSuperDataPropertyOf", mutexes, this) {
             @Override
             protected Set<OWLDataProperty> performSynchronisedCall() {
                 return getEnquirer().getSuperDataPropertyOf( prop);
@@ -650,8 +987,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of all the object properties that are sub-properties of the specified parameter.
      */
     public Set<OWLObjectProperty> getSubObjectPropertyOf( String propName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexSubObjProp);
-        return new OWLReferencesCaller< Set<OWLObjectProperty>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexSubObjProp);
+        return new OWLReferencesCaller< Set<OWLObjectProperty>>( "getSubObjectPropertyOf", mutexes, this) {
             @Override
             protected Set<OWLObjectProperty> performSynchronisedCall() {
                 return getEnquirer().getSubObjectPropertyOf( propName);
@@ -667,8 +1004,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of all the object properties that are sub-properties of the specified parameter.
      */
     public Set<OWLObjectProperty> getSubObjectPropertyOf( OWLObjectProperty prop){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexSubObjProp);
-        return new OWLReferencesCaller< Set<OWLObjectProperty>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexSubObjProp);
+        return new OWLReferencesCaller< Set<OWLObjectProperty>>( "getSubObjectPropertyOf", mutexes, this) {
             @Override
             protected Set<OWLObjectProperty> performSynchronisedCall() {
                 return getEnquirer().getSubObjectPropertyOf( prop);
@@ -684,8 +1021,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of all the object properties that are super-properties of the specified parameter.
      */
     public Set<OWLObjectProperty> getSuperObjectPropertyOf( String propName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexSuperObjProp);
-        return new OWLReferencesCaller< Set<OWLObjectProperty>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexSuperObjProp);
+        return new OWLReferencesCaller< Set<OWLObjectProperty>>( "getSuperObjectPropertyOf", mutexes, this) {
             @Override
             protected Set<OWLObjectProperty> performSynchronisedCall() {
                 return getEnquirer().getSuperObjectPropertyOf( propName);
@@ -701,8 +1038,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of all the object properties that are super-properties of the specified parameter.
      */
     public Set<OWLObjectProperty> getSuperObjectPropertyOf( OWLObjectProperty prop){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexSuperObjProp);
-        return new OWLReferencesCaller< Set<OWLObjectProperty>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexSuperObjProp);
+        return new OWLReferencesCaller< Set<OWLObjectProperty>>( "getSuperObjectPropertyOf", mutexes, this) {
             @Override
             protected Set<OWLObjectProperty> performSynchronisedCall() {
                 return getEnquirer().getSuperObjectPropertyOf( prop);
@@ -719,8 +1056,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of all the classes that are sub-classes of the specified parameter.
      */
     public Set<OWLClass> getSubClassOf( String className){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexSubClass);
-        return new OWLReferencesCaller< Set<OWLClass>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexSubClass);
+        return new OWLReferencesCaller< Set<OWLClass>>( "getSubClassOf", mutexes, this) {
             @Override
             protected Set<OWLClass> performSynchronisedCall() {
                 return getEnquirer().getSubClassOf( className);
@@ -736,8 +1073,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of all the classes that are sub-classes of the specified parameter.
      */
     public Set<OWLClass> getSubClassOf( OWLClass cl){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexSubClass);
-        return new OWLReferencesCaller< Set<OWLClass>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexSubClass);
+        return new OWLReferencesCaller< Set<OWLClass>>( "getSubClassOf", mutexes, this) {
             @Override
             protected Set<OWLClass> performSynchronisedCall() {
                 return getEnquirer().getSubClassOf( cl);
@@ -754,8 +1091,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of all the classes that are super-classes of the specified parameter.
      */
     public Set<OWLClass> getSuperClassOf( String className){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexSuperClass);
-        return new OWLReferencesCaller< Set<OWLClass>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexSuperClass);
+        return new OWLReferencesCaller< Set<OWLClass>>( "getSuperClassOf", mutexes, this) {
             @Override
             protected Set<OWLClass> performSynchronisedCall() {
                 return getEnquirer().getSuperClassOf( className);
@@ -771,8 +1108,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of all the classes that are super-classes of the specified parameter.
      */
     public Set<OWLClass> getSuperClassOf( OWLClass cl){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexSuperClass);
-        return new OWLReferencesCaller< Set<OWLClass>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexSuperClass);
+        return new OWLReferencesCaller< Set<OWLClass>>( "getSuperClassOf", mutexes, this) {
             @Override
             protected Set<OWLClass> performSynchronisedCall() {
                 return getEnquirer().getSuperClassOf( cl);
@@ -789,8 +1126,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * the given class. Each element of the set is another set containing conjunctionon of axioms.
      */
     public Set< Set<ApplyingRestriction>> getClassRestrictions(OWLClass cl){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexClassRestriction);
-        return new OWLReferencesCaller< Set< Set<ApplyingRestriction>>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexClassRestriction);
+        return new OWLReferencesCaller< Set< Set<ApplyingRestriction>>>( "getClassRestrictions", mutexes, this) {
             @Override
             protected Set< Set<ApplyingRestriction>> performSynchronisedCall() {
                 return getEnquirer().getClassRestrictions( cl);
@@ -807,8 +1144,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * the given class.
      */
     public Set< Set<ApplyingRestriction>> getDataDomainRestrictions(OWLDataProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexDataDomainRestriction);
-        return new OWLReferencesCaller< Set< Set<ApplyingRestriction>>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexDataDomainRestriction);
+        return new OWLReferencesCaller< Set< Set<ApplyingRestriction>>>( "getDataDomainRestrictions", mutexes, this) {
             @Override
             protected Set< Set<ApplyingRestriction>> performSynchronisedCall() {
                 return getEnquirer().getDataDomainRestrictions( property);
@@ -824,8 +1161,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * the given class.
      */
     public Set< Set<ApplyingRestriction>> getObjectDomainRestrictions(OWLObjectProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexObjectDomainRestriction);
-        return new OWLReferencesCaller< Set< Set<ApplyingRestriction>>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexObjectDomainRestriction);
+        return new OWLReferencesCaller< Set< Set<ApplyingRestriction>>>( "getObjectDomainRestrictions", mutexes, this) {
             @Override
             protected Set< Set<ApplyingRestriction>> performSynchronisedCall() {
                 return getEnquirer().getObjectDomainRestrictions( property);
@@ -842,8 +1179,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * the given class.
      */
     public Set<ApplyingRestriction> getDataRangeRestrictions(OWLDataProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexDataRangeRestriction);
-        return new OWLReferencesCaller< Set<ApplyingRestriction>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexDataRangeRestriction);
+        return new OWLReferencesCaller< Set<ApplyingRestriction>>( "getDataRangeRestrictions", mutexes, this) {
             @Override
             protected Set<ApplyingRestriction> performSynchronisedCall() {
                 return getEnquirer().getDataRangeRestrictions( property);
@@ -859,8 +1196,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * the given class.
      */
     public Set< Set<ApplyingRestriction>> getObjectRangeRestrictions(OWLObjectProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexObjectRangeRestriction);
-        return new OWLReferencesCaller< Set< Set<ApplyingRestriction>>>(  mutexes, this) {
+        List< Lock> mutexes = getQueryMutexes( mutexReasoner, mutexObjectRangeRestriction);
+        return new OWLReferencesCaller< Set< Set<ApplyingRestriction>>>( "getObjectRangeRestrictions", mutexes, this) {
             @Override
             protected Set< Set<ApplyingRestriction>> performSynchronisedCall() {
                 return getEnquirer().getObjectRangeRestrictions( property);
@@ -879,8 +1216,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of all the inverse object properties of the given property.
      */
     public Set<OWLObjectProperty> getInverseProperty(String propertyName) {
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexInverseProperty);
-        return new OWLReferencesCaller<Set<OWLObjectProperty>>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexInverseProperty);
+        return new OWLReferencesCaller<Set<OWLObjectProperty>>( "getInverseProperty", mutexes, this) {
             @Override
             protected Set<OWLObjectProperty> performSynchronisedCall() {
                 return getEnquirer().getInverseProperty(propertyName);
@@ -897,8 +1234,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the set of all the inverse object properties of the given property.
      */
     public Set<OWLObjectProperty> getInverseProperty(OWLObjectProperty property) {
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexInverseProperty);
-        return new OWLReferencesCaller<Set<OWLObjectProperty>>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexInverseProperty);
+        return new OWLReferencesCaller<Set<OWLObjectProperty>>( "getInverseProperty", mutexes, this) {
             @Override
             protected Set<OWLObjectProperty> performSynchronisedCall() {
                 return getEnquirer().getInverseProperty(property);
@@ -916,8 +1253,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return an inverse object properties of the given property.
      */
     public OWLObjectProperty getOnlyInverseProperty(String propertyName) {
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexInverseProperty);
-        return new OWLReferencesCaller<OWLObjectProperty>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexInverseProperty);
+        return new OWLReferencesCaller<OWLObjectProperty>( "getOnlyInverseProperty", mutexes, this) {
             @Override
             protected OWLObjectProperty performSynchronisedCall() {
                 return getEnquirer().getOnlyInverseProperty(propertyName);
@@ -934,8 +1271,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return an inverse object properties of the given property.
      */
     public OWLObjectProperty getOnlyInverseProperty(OWLObjectProperty property) {
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexInverseProperty);
-        return new OWLReferencesCaller<OWLObjectProperty>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexInverseProperty);
+        return new OWLReferencesCaller<OWLObjectProperty>( "getOnlyInverseProperty", mutexes, this) {
             @Override
             protected OWLObjectProperty performSynchronisedCall() {
                 return getEnquirer().getOnlyInverseProperty(property);
@@ -953,8 +1290,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * It returns an empty set if such classes are not found.
      */
     public Set<OWLClass> getBottomType(String individualName){
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexBottomType, mutexSubClass, mutexIndivClasses);
-        return new OWLReferencesCaller<Set<OWLClass>>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexBottomType, mutexSubClass, mutexIndivClasses);
+        return new OWLReferencesCaller<Set<OWLClass>>( "getBottomType", mutexes, this) {
             @Override
             protected Set<OWLClass> performSynchronisedCall() {
                 return getEnquirer().getBottomType( individualName);
@@ -970,8 +1307,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * It returns an empty set if such classes are not found.
      */
     public Set<OWLClass> getBottomType(OWLNamedIndividual individual){
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexBottomType, mutexSubClass, mutexIndivClasses);
-        return new OWLReferencesCaller<Set<OWLClass>>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexBottomType, mutexSubClass, mutexIndivClasses);
+        return new OWLReferencesCaller<Set<OWLClass>>( "getBottomType", mutexes, this) {
             @Override
             protected Set<OWLClass> performSynchronisedCall() {
                 return getEnquirer().getBottomType( individual);
@@ -988,8 +1325,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * It returns {@code null} if such a class is not found.
      */
     public OWLClass getOnlyBottomType(String individualName){
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexBottomType, mutexSubClass, mutexIndivClasses);
-        return new OWLReferencesCaller<OWLClass>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexBottomType, mutexSubClass, mutexIndivClasses);
+        return new OWLReferencesCaller<OWLClass>( "getOnlyBottomType", mutexes, this) {
             @Override
             protected OWLClass performSynchronisedCall() {
                 return getEnquirer().getOnlyBottomType( individualName);
@@ -1005,8 +1342,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * It returns {@code null} if such a class is not found.
      */
     public OWLClass getOnlyBottomType(OWLNamedIndividual individual){
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexBottomType, mutexSubClass, mutexIndivClasses);
-        return new OWLReferencesCaller<OWLClass>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexBottomType, mutexSubClass, mutexIndivClasses);
+        return new OWLReferencesCaller<OWLClass>( "getOnlyBottomType", mutexes, this) {
             @Override
             protected OWLClass performSynchronisedCall() {
                 return getEnquirer().getOnlyBottomType( individual);
@@ -1021,8 +1358,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return all the disjointed classes.
      */
     public Set<OWLClass> getDisjointClasses(String className){
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexDisjointClass);
-        return new OWLReferencesCaller<Set<OWLClass>>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexDisjointClass);
+        return new OWLReferencesCaller<Set<OWLClass>>( "getDisjointClasses", mutexes, this) {
             @Override
             protected Set<OWLClass> performSynchronisedCall() {
                 return getEnquirer().getDisjointClasses( className);
@@ -1036,8 +1373,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return all the disjointed classes.
      */
     public Set<OWLClass> getDisjointClasses(OWLClass cl){
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexDisjointClass);
-        return new OWLReferencesCaller<Set<OWLClass>>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexDisjointClass);
+        return new OWLReferencesCaller<Set<OWLClass>>( "getDisjointClasses", mutexes, this) {
             @Override
             protected Set<OWLClass> performSynchronisedCall() {
                 return getEnquirer().getDisjointClasses( cl);
@@ -1052,8 +1389,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return all the disjointed individuals.
      */
     public Set<OWLNamedIndividual> getDisjointIndividuals(String individualName){
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexDisjointIndividual);
-        return new OWLReferencesCaller<Set<OWLNamedIndividual>>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexDisjointIndividual);
+        return new OWLReferencesCaller<Set<OWLNamedIndividual>>( "getDisjointIndividuals", mutexes, this) {
             @Override
             protected Set<OWLNamedIndividual> performSynchronisedCall() {
                 return getEnquirer().getDisjointIndividuals( individualName);
@@ -1067,8 +1404,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return all the disjointed individuals.
      */
     public Set<OWLNamedIndividual> getDisjointIndividuals(OWLNamedIndividual individual){
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexDisjointIndividual);
-        return new OWLReferencesCaller<Set<OWLNamedIndividual>>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexDisjointIndividual);
+        return new OWLReferencesCaller<Set<OWLNamedIndividual>>( "getDisjointIndividuals", mutexes, this) {
             @Override
             protected Set<OWLNamedIndividual> performSynchronisedCall() {
                 return getEnquirer().getDisjointIndividuals( individual);
@@ -1083,8 +1420,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return all the disjointed data properties.
      */
     public Set<OWLDataProperty> getDisjointDataProperty(String propertyName){
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexDisjointDataProperty);
-        return new OWLReferencesCaller<Set<OWLDataProperty>>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexDisjointDataProperty);
+        return new OWLReferencesCaller<Set<OWLDataProperty>>( "getDisjointDataProperty", mutexes, this) {
             @Override
             protected Set<OWLDataProperty> performSynchronisedCall() {
                 return getEnquirer().getDisjointDataProperties( propertyName);
@@ -1098,8 +1435,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return all the disjointed data properties.
      */
     public Set<OWLDataProperty> getDisjointDataProperty(OWLDataProperty property){
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexDisjointDataProperty);
-        return new OWLReferencesCaller<Set<OWLDataProperty>>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexDisjointDataProperty);
+        return new OWLReferencesCaller<Set<OWLDataProperty>>( "getDisjointDataProperty", mutexes, this) {
             @Override
             protected Set<OWLDataProperty> performSynchronisedCall() {
                 return getEnquirer().getDisjointDataProperties( property);
@@ -1114,8 +1451,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return all the disjointed object properties.
      */
     public Set<OWLObjectProperty> getDisjointObjectProperty(String propertyName){
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexDisjointObjectProperty);
-        return new OWLReferencesCaller<Set<OWLObjectProperty>>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexDisjointObjectProperty);
+        return new OWLReferencesCaller<Set<OWLObjectProperty>>( "getDisjointObjectProperty", mutexes, this) {
             @Override
             protected Set<OWLObjectProperty> performSynchronisedCall() {
                 return getEnquirer().getDisjointObjectProperties( propertyName);
@@ -1129,8 +1466,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return all the disjointed object properties.
      */
     public Set<OWLObjectProperty> getDisjointObjectProperty(OWLObjectProperty property){
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexDisjointObjectProperty);
-        return new OWLReferencesCaller<Set<OWLObjectProperty>>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexDisjointObjectProperty);
+        return new OWLReferencesCaller<Set<OWLObjectProperty>>( "getDisjointObjectProperty", mutexes, this) {
             @Override
             protected Set<OWLObjectProperty> performSynchronisedCall() {
                 return getEnquirer().getDisjointObjectProperties( property);
@@ -1145,8 +1482,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return all the equivalent individuals.
      */
     public Set<OWLNamedIndividual> getEquivalentIndividuals(String individualName){
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexEquivalentIndividual);
-        return new OWLReferencesCaller<Set<OWLNamedIndividual>>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexEquivalentIndividual);
+        return new OWLReferencesCaller<Set<OWLNamedIndividual>>( "getEquivalentIndividuals", mutexes, this) {
             @Override
             protected Set<OWLNamedIndividual> performSynchronisedCall() {
                 return getEnquirer().getEquivalentIndividuals( individualName);
@@ -1160,8 +1497,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return all the equivalent individuals.
      */
     public Set<OWLNamedIndividual> getEquivalentIndividuals(OWLNamedIndividual individual){
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexEquivalentIndividual);
-        return new OWLReferencesCaller<Set<OWLNamedIndividual>>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexEquivalentIndividual);
+        return new OWLReferencesCaller<Set<OWLNamedIndividual>>( "getEquivalentIndividuals", mutexes, this) {
             @Override
             protected Set<OWLNamedIndividual> performSynchronisedCall() {
                 return getEnquirer().getEquivalentIndividuals( individual);
@@ -1176,8 +1513,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return all the equivalent classes.
      */
     public Set<OWLClass> getEquivalentClasses(String className){
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexEquivalentClass);
-        return new OWLReferencesCaller<Set<OWLClass>>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexEquivalentClass);
+        return new OWLReferencesCaller<Set<OWLClass>>( "getEquivalentClasses", mutexes, this) {
             @Override
             protected Set<OWLClass> performSynchronisedCall() {
                 return getEnquirer().getEquivalentClasses( className);
@@ -1191,8 +1528,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return all the equivalent classes.
      */
     public Set<OWLClass> getEquivalentClasses(OWLClass cl){
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexEquivalentClass);
-        return new OWLReferencesCaller<Set<OWLClass>>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexEquivalentClass);
+        return new OWLReferencesCaller<Set<OWLClass>>( "getEquivalentClasses", mutexes, this) {
             @Override
             protected Set<OWLClass> performSynchronisedCall() {
                 return getEnquirer().getEquivalentClasses( cl);
@@ -1207,8 +1544,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return all the equivalent data properties.
      */
     public Set<OWLDataProperty> getEquivalentDataProperty(String propertyName){
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexEquivalentDataPorperty);
-        return new OWLReferencesCaller<Set<OWLDataProperty>>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexEquivalentDataPorperty);
+        return new OWLReferencesCaller<Set<OWLDataProperty>>( "getEquivalentDataProperty", mutexes, this) {
             @Override
             protected Set<OWLDataProperty> performSynchronisedCall() {
                 return getEnquirer().getEquivalentDataProperties( propertyName);
@@ -1222,8 +1559,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return all the equivalent data properties.
      */
     public Set<OWLDataProperty> getEquivalentDataProperty(OWLDataProperty property){
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexEquivalentDataPorperty);
-        return new OWLReferencesCaller<Set<OWLDataProperty>>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexEquivalentDataPorperty);
+        return new OWLReferencesCaller<Set<OWLDataProperty>>( "getEquivalentDataProperty", mutexes, this) {
             @Override
             protected Set<OWLDataProperty> performSynchronisedCall() {
                 return getEnquirer().getEquivalentDataProperties( property);
@@ -1238,8 +1575,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return all the equivalent object properties.
      */
     public Set<OWLObjectProperty> getEquivalentObjectProperty(String propertyName){
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexEquivalentObjectProperty);
-        return new OWLReferencesCaller<Set<OWLObjectProperty>>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexEquivalentObjectProperty);
+        return new OWLReferencesCaller<Set<OWLObjectProperty>>( "getEquivalentObjectProperty", mutexes, this) {
             @Override
             protected Set<OWLObjectProperty> performSynchronisedCall() {
                 return getEnquirer().getEquivalentObjectProperties( propertyName);
@@ -1253,8 +1590,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return all the equivalent object properties.
      */
     public Set<OWLObjectProperty> getEquivalentObjectProperty(OWLObjectProperty property){
-        List<Lock> mutexes = getMutexes(mutexReasoner, mutexEquivalentObjectProperty);
-        return new OWLReferencesCaller<Set<OWLObjectProperty>>(mutexes, this) {
+        List<Lock> mutexes = getQueryMutexes(mutexReasoner, mutexEquivalentObjectProperty);
+        return new OWLReferencesCaller<Set<OWLObjectProperty>>( "getEquivalentObjectProperty", mutexes, this) {
             @Override
             protected Set<OWLObjectProperty> performSynchronisedCall() {
                 return getEnquirer().getEquivalentObjectProperties( property);
@@ -1271,8 +1608,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return list of solutions.
      */
     public List< QuerySolution> sparql(String query, Long timeOut){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexSPARQL);
-        return new OWLReferencesCaller< List< QuerySolution>>(  mutexes, this) {
+        List< Lock> mutexes = getReasonerQueryMutexes( mutexReasoner, mutexSPARQL);
+        return new OWLReferencesCaller< List< QuerySolution>>( "sparql", mutexes, this) {
             @Override
             protected List< QuerySolution> performSynchronisedCall() {
                 return getEnquirer().sparql( query, timeOut);
@@ -1286,8 +1623,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return list of solutions.
      */
     public List< QuerySolution> sparql(String query){ // no time out
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexSPARQL);
-        return new OWLReferencesCaller< List< QuerySolution>>(  mutexes, this) {
+        List< Lock> mutexes = getReasonerQueryMutexes( mutexReasoner, mutexSPARQL);
+        return new OWLReferencesCaller< List< QuerySolution>>( "sparql", mutexes, this) {
             @Override
             protected List< QuerySolution> performSynchronisedCall() {
                 return getEnquirer().sparql(query);
@@ -1305,8 +1642,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return list of solutions.
      */
     public List< QuerySolution> sparql( String prefix, String select, String where, Long timeOut){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexSPARQL);
-        return new OWLReferencesCaller< List< QuerySolution>>(  mutexes, this) {
+        List< Lock> mutexes = getReasonerQueryMutexes( mutexReasoner, mutexSPARQL);
+        return new OWLReferencesCaller< List< QuerySolution>>( "sparql", mutexes, this) {
             @Override
             protected List< QuerySolution> performSynchronisedCall() {
                 return getEnquirer().sparql( prefix, select, where, timeOut);
@@ -1322,8 +1659,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return list of solutions.
      */
     public List< QuerySolution> sparql( String prefix, String select, String where){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexSPARQL);
-        return new OWLReferencesCaller< List< QuerySolution>>(  mutexes, this) {
+        List< Lock> mutexes = getReasonerQueryMutexes( mutexReasoner, mutexSPARQL);
+        return new OWLReferencesCaller< List< QuerySolution>>( "sparql", mutexes, this) {
             @Override
             protected List< QuerySolution> performSynchronisedCall() {
                 return getEnquirer().sparql( prefix, select, where);
@@ -1339,8 +1676,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return formatted list of solutions.
      */
     public List< Map< String, String>> sparql2Msg(String query, Long timeOut){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexSPARQL);
-        return new OWLReferencesCaller< List< Map< String, String>>>(  mutexes, this) {
+        List< Lock> mutexes = getReasonerQueryMutexes( mutexReasoner, mutexSPARQL);
+        return new OWLReferencesCaller< List< Map< String, String>>>( "sparql2Msg", mutexes, this) {
             @Override
             protected List< Map< String, String>> performSynchronisedCall() {
                 return getEnquirer().sparqlMsg( query, timeOut);
@@ -1355,8 +1692,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return formatted list of solutions.
      */
     public List< Map< String, String>> sparql2Msg( String query){ // no time out
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexSPARQL);
-        return new OWLReferencesCaller< List< Map< String, String>>>(  mutexes, this) {
+        List< Lock> mutexes = getReasonerQueryMutexes( mutexReasoner, mutexSPARQL);
+        return new OWLReferencesCaller< List< Map< String, String>>>( "sparql2Msg", mutexes, this) {
             @Override
             protected List< Map< String, String>> performSynchronisedCall() {
                 return getEnquirer().sparqlMsg(query);
@@ -1374,8 +1711,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return list of solutions.
      */
     public List< Map< String, String>> sparql2Msg( String prefix, String select, String where, Long timeOut){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexSPARQL);
-        return new OWLReferencesCaller< List< Map< String, String>>>(  mutexes, this) {
+        List< Lock> mutexes = getReasonerQueryMutexes( mutexReasoner, mutexSPARQL);
+        return new OWLReferencesCaller< List< Map< String, String>>>( "sparql2Msg", mutexes, this) {
             @Override
             protected List< Map< String, String>> performSynchronisedCall() {
                 return getEnquirer().sparqlMsg( prefix, select, where, timeOut);
@@ -1391,8 +1728,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return list of solutions.
      */
     public List< Map< String, String>> sparql2Msg(String prefix, String select, String where){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexSPARQL);
-        return new OWLReferencesCaller< List< Map< String, String>>>(  mutexes, this) {
+        List< Lock> mutexes = getReasonerQueryMutexes( mutexReasoner, mutexSPARQL);
+        return new OWLReferencesCaller< List< Map< String, String>>>( "sparql2Msg", mutexes, this) {
             @Override
             protected List< Map< String, String>> performSynchronisedCall() {
                 return getEnquirer().sparqlMsg( prefix, select, where);
@@ -1411,8 +1748,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to add an object property to an individual. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange addObjectPropertyB2Individual( OWLNamedIndividual ind, OWLObjectProperty prop,  OWLNamedIndividual value){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddObjPropB2Ind);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddObjPropB2Ind);
+        return new OWLReferencesCaller< OWLOntologyChange>( "addObjectPropertyB2Individual", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addObjectPropertyB2Individual( ind, prop, value);
@@ -1428,8 +1765,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to add an object property to an individual. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange addObjectPropertyB2Individual( String individualName, String propName, String valueName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddObjPropB2Ind);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddObjPropB2Ind);
+        return new OWLReferencesCaller< OWLOntologyChange>( "addObjectPropertyB2Individual", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addObjectPropertyB2Individual( individualName, propName, valueName);
@@ -1445,8 +1782,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public List< OWLOntologyChange> addObjectPropertyB2Individual( ObjectPropertyRelations relations){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddObjPropB2Ind);
-        return new OWLReferencesCaller< List< OWLOntologyChange>>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddObjPropB2Ind);
+        return new OWLReferencesCaller< List< OWLOntologyChange>>( "addObjectPropertyB2Individual", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected List< OWLOntologyChange> performSynchronisedCall() {
                 return getManipulator().addObjectPropertyB2Individual( relations);
@@ -1461,8 +1798,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public List< OWLOntologyChange> addObjectPropertyB2Individual( Set< ObjectPropertyRelations> relations){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddObjPropB2Ind);
-        return new OWLReferencesCaller< List< OWLOntologyChange>>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddObjPropB2Ind);
+        return new OWLReferencesCaller< List< OWLOntologyChange>>( "addObjectPropertyB2Individual", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected List< OWLOntologyChange> performSynchronisedCall() {
                 return getManipulator().addObjectPropertyB2Individual( relations);
@@ -1479,8 +1816,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange addObjectPropertyInverseOf( String direct, String inverse){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddObjPropInverse);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddObjPropInverse);
+        return new OWLReferencesCaller< OWLOntologyChange>( "addObjectPropertyInverseOf", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addObjectPropertyInverseOf( direct, inverse);
@@ -1496,8 +1833,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange addObjectPropertyInverseOf( OWLObjectProperty direct, OWLObjectProperty inverse){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddObjPropInverse);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddObjPropInverse);
+        return new OWLReferencesCaller< OWLOntologyChange>( "addObjectPropertyInverseOf", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addObjectPropertyInverseOf( direct, inverse);
@@ -1515,8 +1852,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to add an data property to an individual. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange addDataPropertyB2Individual(OWLNamedIndividual ind,  OWLDataProperty prop, OWLLiteral value){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddDataPropB2Ind);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddDataPropB2Ind);
+        return new OWLReferencesCaller< OWLOntologyChange>( "addDataPropertyB2Individual", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addDataPropertyB2Individual(ind, prop, value);
@@ -1532,8 +1869,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to add an data property to an individual. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange addDataPropertyB2Individual( String individualName, String propertyName, Object value){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddDataPropB2Ind);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddDataPropB2Ind);
+        return new OWLReferencesCaller< OWLOntologyChange>( "addDataPropertyB2Individual", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addDataPropertyB2Individual( individualName, propertyName, value);
@@ -1549,8 +1886,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public List< OWLOntologyChange> addDataPropertyB2Individual( DataPropertyRelations relations){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddDataPropB2Ind);
-        return new OWLReferencesCaller< List< OWLOntologyChange>>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddDataPropB2Ind);
+        return new OWLReferencesCaller< List< OWLOntologyChange>>( "addDataPropertyB2Individual", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected List< OWLOntologyChange> performSynchronisedCall() {
                 return getManipulator().addDataPropertyB2Individual( relations);
@@ -1565,8 +1902,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public List< OWLOntologyChange> addDataPropertyB2Individual( Set< DataPropertyRelations> relations){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddDataPropB2Ind);
-        return new OWLReferencesCaller< List< OWLOntologyChange>>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddDataPropB2Ind);
+        return new OWLReferencesCaller< List< OWLOntologyChange>>( "addDataPropertyB2Individual", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected List< OWLOntologyChange> performSynchronisedCall() {
                 return getManipulator().addDataPropertyB2Individual( relations);
@@ -1581,8 +1918,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to add an individual into a class. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange addIndividual(OWLNamedIndividual ind){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddInd);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddInd);
+        return new OWLReferencesCaller< OWLOntologyChange>( "addIndividual", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addIndividual(ind);
@@ -1596,8 +1933,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to add an individual into a class. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange addIndividual(String individualName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddInd);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddInd);
+        return new OWLReferencesCaller< OWLOntologyChange>( "addIndividual", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addIndividual( individualName);
@@ -1613,8 +1950,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to add an individual into a class. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange addIndividualB2Class(OWLNamedIndividual ind, OWLClass cls){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddIndB2Class);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddIndB2Class);
+        return new OWLReferencesCaller< OWLOntologyChange>( "addIndividualB2Class", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addIndividualB2Class(ind, cls);
@@ -1629,8 +1966,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to add an individual into a class. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange addIndividualB2Class(String individualName, String className){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddIndB2Class);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddIndB2Class);
+        return new OWLReferencesCaller< OWLOntologyChange>( "addIndividualB2Class", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addIndividualB2Class(individualName, className);
@@ -1645,8 +1982,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to add a class into the ontology. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange addClass( String className){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddClass);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddClass);
+        return new OWLReferencesCaller< OWLOntologyChange>( "addClass", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addClass( className);
@@ -1660,8 +1997,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to add a class into the ontology. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange addClass( OWLClass cls){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddClass);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddClass);
+        return new OWLReferencesCaller< OWLOntologyChange>( "addClass", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addClass( cls);
@@ -1677,8 +2014,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to add a class by specifying its super class. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange addSubClassOf( String superClassName, String subClassName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddSubClass);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddSubClass);
+        return new OWLReferencesCaller< OWLOntologyChange>( "addSubClassOf", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addSubClassOf( superClassName, subClassName);
@@ -1693,8 +2030,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to add a class by specifying its super class. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange addSubClassOf( OWLClass superClass, OWLClass subClass){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddSubClass);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddSubClass);
+        return new OWLReferencesCaller< OWLOntologyChange>( "addSubClassOf", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addSubClassOf( superClass, subClass);
@@ -1710,8 +2047,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to add a data property by specifying its super property. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange addSubDataPropertyOf( String superPropertyName, String subPropertyName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddSubDataProperty);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddSubDataProperty);
+        return new OWLReferencesCaller< OWLOntologyChange>( "addSubDataPropertyOf", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addSubDataPropertyOf( superPropertyName, subPropertyName);
@@ -1726,8 +2063,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to add a data property by specifying its super property. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange addSubDataPropertyOf( OWLDataProperty superProperty, OWLDataProperty subProperty){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddSubDataProperty);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddSubDataProperty);
+        return new OWLReferencesCaller< OWLOntologyChange>( "addSubDataPropertyOf", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addSubDataPropertyOf( superProperty, subProperty);
@@ -1743,8 +2080,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to add a data property by specifying its super property. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange addSubObjectPropertyOf( String superPropertyName, String subPropertyName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddSubObjectProperty);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddSubObjectProperty);
+        return new OWLReferencesCaller< OWLOntologyChange>( "addSubObjectPropertyOf", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addSubObjectPropertyOf( superPropertyName, subPropertyName);
@@ -1759,8 +2096,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to add an object property by specifying its super property. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange addSubObjectPropertyOf( OWLObjectProperty superProperty, OWLObjectProperty subProperty){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddSubObjectProperty);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddSubObjectProperty);
+        return new OWLReferencesCaller< OWLOntologyChange>( "addSubObjectPropertyOf", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addSubObjectPropertyOf( superProperty, subProperty);
@@ -1777,8 +2114,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be applied in order to add the specified restriction in the ontology
      */
     public <S extends SemanticRestriction> OWLOntologyChange addRestriction( S restriction){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddRestriction);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddRestriction);
+        return new OWLReferencesCaller< OWLOntologyChange>( "addRestriction", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addRestriction( restriction);
@@ -1793,8 +2130,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be applied in order to add the specified restriction in the ontology
      */
     public List<OWLOntologyChange> addRestriction( Set<? extends SemanticRestriction> restriction){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddRestriction);
-        return new OWLReferencesCaller< List<OWLOntologyChange>>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddRestriction);
+        return new OWLReferencesCaller< List<OWLOntologyChange>>( "addRestriction", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected List<OWLOntologyChange> performSynchronisedCall() {
                 return getManipulator().addRestriction( restriction);
@@ -1811,8 +2148,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be applied in order to add the specified restriction in the ontology
      */
     public OWLOntologyChange addRestrictionAxiom( Set<? extends SemanticRestriction> restriction){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddRestriction);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddRestriction);
+        return new OWLReferencesCaller< OWLOntologyChange>( "addRestrictionAxiom", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addRestrictionAxiom( restriction);
@@ -1829,8 +2166,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * the conjunction of its equivalent expression.
      */
     public List<OWLOntologyChange> convertSuperClassesToEquivalentClass(OWLClass cl){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexConvertEquivalentClass);
-        return new OWLReferencesCaller< List< OWLOntologyChange>>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexConvertEquivalentClass);
+        return new OWLReferencesCaller< List< OWLOntologyChange>>( "convertSuperClassesToEquivalentClass", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected List< OWLOntologyChange> performSynchronisedCall() {
                 return getManipulator().convertSuperClassesToEquivalentClass( cl);
@@ -1846,8 +2183,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * the conjunction of its equivalent expression.
      */
     public List<OWLOntologyChange> convertSuperClassesToEquivalentClass( String className){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexConvertEquivalentClass);
-        return new OWLReferencesCaller< List< OWLOntologyChange>>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexConvertEquivalentClass);
+        return new OWLReferencesCaller< List< OWLOntologyChange>>( "convertSuperClassesToEquivalentClass", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected List< OWLOntologyChange> performSynchronisedCall() {
                 return getManipulator().convertSuperClassesToEquivalentClass( className);
@@ -1863,8 +2200,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * the conjunction of its equivalent expression.
      */
     public List<OWLOntologyChange> convertEquivalentClassesToSuperClasses( OWLClass cl) {
-        final List mutexes = this.getMutexes(this.mutexReasoner, this.mutexConvertSuperClass);
-        return (List)(new OWLReferences.OWLReferencesCaller(mutexes, this) {
+        final List mutexes = this.getManipulationMutexes(this.mutexReasoner, this.mutexConvertSuperClass);
+        return (List)(new OWLReferences.OWLReferencesCaller(CallKind.MANIPULATION, mutexes, this) {
             protected List<OWLOntologyChange> performSynchronisedCall() {
                 return OWLReferences.this.getManipulator().convertEquivalentClassesToSuperClasses(cl);
             }
@@ -1878,8 +2215,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * the conjunction of its equivalent expression.
      */
     public List<OWLOntologyChange> convertEquivalentClassesToSuperClasses(final String className) {
-        final List mutexes = this.getMutexes(this.mutexReasoner, this.mutexConvertSuperClass);
-        return (List)(new OWLReferences.OWLReferencesCaller(mutexes, this) {
+        final List mutexes = this.getManipulationMutexes(this.mutexReasoner, this.mutexConvertSuperClass);
+        return (List)(new OWLReferences.OWLReferencesCaller(CallKind.MANIPULATION, mutexes, this) {
             protected List<OWLOntologyChange> performSynchronisedCall() {
                 return OWLReferences.this.getManipulator().convertEquivalentClassesToSuperClasses(className);
             }
@@ -1894,8 +2231,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * the subclassing.
      */
     public List<OWLOntologyChange> convertSuperClassesToEquivalentClass(final OWLClass cl, final Set<? extends SemanticRestriction> restrictions) {
-        final List mutexes = this.getMutexes(this.mutexReasoner, this.mutexConvertEquivalentRestriction);
-        return (List)(new OWLReferences.OWLReferencesCaller(mutexes, this) {
+        final List mutexes = this.getManipulationMutexes(this.mutexReasoner, this.mutexConvertEquivalentRestriction);
+        return (List)(new OWLReferences.OWLReferencesCaller(CallKind.MANIPULATION, mutexes, this) {
             protected List<OWLOntologyChange> performSynchronisedCall() {
                 return OWLReferences.this.getManipulator().convertSuperClassesToEquivalentClass(cl, restrictions);
             }
@@ -1910,8 +2247,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * the definition.
      */
     public List<OWLOntologyChange> convertEquivalentClassesToSuperClasses(final OWLClass cl, final Set<? extends SemanticRestriction> restrictions) {
-        final List mutexes = this.getMutexes(this.mutexReasoner, this.mutexConvertSuperRestriction);
-        return (List)(new OWLReferences.OWLReferencesCaller(mutexes, this) {
+        final List mutexes = this.getManipulationMutexes(this.mutexReasoner, this.mutexConvertSuperRestriction);
+        return (List)(new OWLReferences.OWLReferencesCaller(CallKind.MANIPULATION, mutexes, this) {
             protected List<OWLOntologyChange> performSynchronisedCall() {
                 return OWLReferences.this.getManipulator().convertEquivalentClassesToSuperClasses(cl, restrictions);
             }
@@ -1924,8 +2261,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make the input property functional.
      */
     public OWLOntologyChange addFunctionalDataProperty( OWLDataProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddFunctionalData);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddFunctionalData);
+        return new OWLReferencesCaller<OWLOntologyChange>( "addFunctionalDataProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addFunctionalDataProperty( property);
@@ -1938,8 +2275,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make the input property functional.
      */
     public OWLOntologyChange addFunctionalDataProperty( String property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddFunctionalData);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddFunctionalData);
+        return new OWLReferencesCaller<OWLOntologyChange>( "addFunctionalDataProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addFunctionalDataProperty( property);
@@ -1953,8 +2290,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make the input property functional.
      */
     public OWLOntologyChange addFunctionalObjectProperty( OWLObjectProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddFunctional);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddFunctional);
+        return new OWLReferencesCaller<OWLOntologyChange>( "addFunctionalObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addFunctionalObjectProperty( property);
@@ -1967,8 +2304,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make th input property functional.
      */
     public OWLOntologyChange addFunctionalObjectProperty( String property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddFunctional);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddFunctional);
+        return new OWLReferencesCaller<OWLOntologyChange>( "addFunctionalObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addFunctionalObjectProperty( property);
@@ -1982,8 +2319,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make the input property inverse functional.
      */
     public OWLOntologyChange addInverseFunctionalObjectProperty( OWLObjectProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddInverseFunctional);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddInverseFunctional);
+        return new OWLReferencesCaller<OWLOntologyChange>( "addInverseFunctionalObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addInverseFunctionalObjectProperty( property);
@@ -1996,8 +2333,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make th input property inverse functional.
      */
     public OWLOntologyChange addInverseFunctionalObjectProperty( String property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddInverseFunctional);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddInverseFunctional);
+        return new OWLReferencesCaller<OWLOntologyChange>( "addInverseFunctionalObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addFunctionalObjectProperty( property);
@@ -2011,8 +2348,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make the input property transitive.
      */
     public OWLOntologyChange addTransitiveObjectProperty( OWLObjectProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddTransitive);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddTransitive);
+        return new OWLReferencesCaller<OWLOntologyChange>( "addTransitiveObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addTransitiveObjectProperty( property);
@@ -2025,8 +2362,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make th input property transitive.
      */
     public OWLOntologyChange addTransitiveObjectProperty( String property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddTransitive);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddTransitive);
+        return new OWLReferencesCaller<OWLOntologyChange>( "addTransitiveObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addTransitiveObjectProperty( property);
@@ -2040,8 +2377,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make the input property symmetric.
      */
     public OWLOntologyChange addSymmetricObjectProperty( OWLObjectProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddSymmetric);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddSymmetric);
+        return new OWLReferencesCaller<OWLOntologyChange>( "addSymmetricObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addSymmetricObjectProperty( property);
@@ -2054,8 +2391,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make th input property symmetric.
      */
     public OWLOntologyChange addSymmetricObjectProperty( String property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddSymmetric);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddSymmetric);
+        return new OWLReferencesCaller<OWLOntologyChange>( "addSymmetricObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addSymmetricObjectProperty( property);
@@ -2069,8 +2406,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make the input property asymmetric.
      */
     public OWLOntologyChange addAsymmetricObjectProperty( OWLObjectProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddAsymmetric);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddAsymmetric);
+        return new OWLReferencesCaller<OWLOntologyChange>( "addAsymmetricObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addAsymmetricObjectProperty( property);
@@ -2083,8 +2420,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make th input property asymmetric.
      */
     public OWLOntologyChange addAsymmetricObjectProperty( String property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddAsymmetric);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddAsymmetric);
+        return new OWLReferencesCaller<OWLOntologyChange>( "addAsymmetricObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addAsymmetricObjectProperty( property);
@@ -2098,8 +2435,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make the input property reflexive.
      */
     public OWLOntologyChange addReflexiveObjectProperty( OWLObjectProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddReflexive);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddReflexive);
+        return new OWLReferencesCaller<OWLOntologyChange>( "addReflexiveObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addReflexiveObjectProperty( property);
@@ -2112,8 +2449,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make th input property reflexive.
      */
     public OWLOntologyChange addReflexiveObjectProperty( String property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddReflexive);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddReflexive);
+        return new OWLReferencesCaller<OWLOntologyChange>( "addReflexiveObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addReflexiveObjectProperty( property);
@@ -2127,8 +2464,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make the input property irreflexive.
      */
     public OWLOntologyChange addIrreflexiveObjectProperty( OWLObjectProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddIrreflexive);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddIrreflexive);
+        return new OWLReferencesCaller<OWLOntologyChange>( "addIrreflexiveObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addIrreflexiveObjectProperty( property);
@@ -2141,8 +2478,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make th input property irreflexive.
      */
     public OWLOntologyChange addIrreflexiveObjectProperty( String property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddIrreflexive);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddIrreflexive);
+        return new OWLReferencesCaller<OWLOntologyChange>( "addIrreflexiveObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().addIrreflexiveObjectProperty( property);
@@ -2160,8 +2497,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove an object property from an individual. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeObjectPropertyB2Individual( OWLNamedIndividual ind, OWLObjectProperty prop, OWLNamedIndividual value){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveObjPropB2Ind);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveObjPropB2Ind);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeObjectPropertyB2Individual", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeObjectPropertyB2Individual( ind, prop,value);
@@ -2177,8 +2514,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove an object property from an individual. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeObjectPropertyB2Individual( String individualName, String propName, String valueName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveObjPropB2Ind);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveObjPropB2Ind);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeObjectPropertyB2Individual", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeObjectPropertyB2Individual( individualName, propName,valueName);
@@ -2194,8 +2531,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public List< OWLOntologyChange> removeObjectPropertyB2Individual( ObjectPropertyRelations relations){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveObjPropB2Ind);
-        return new OWLReferencesCaller< List< OWLOntologyChange>>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveObjPropB2Ind);
+        return new OWLReferencesCaller< List< OWLOntologyChange>>( "removeObjectPropertyB2Individual", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected List< OWLOntologyChange> performSynchronisedCall() {
                 return getManipulator().removeObjectPropertyB2Individual( relations);
@@ -2210,8 +2547,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public List< OWLOntologyChange> removeObjectPropertyB2Individual( Set<ObjectPropertyRelations> relations){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveObjPropB2Ind);
-        return new OWLReferencesCaller< List< OWLOntologyChange>>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveObjPropB2Ind);
+        return new OWLReferencesCaller< List< OWLOntologyChange>>( "removeObjectPropertyB2Individual", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected List< OWLOntologyChange> performSynchronisedCall() {
                 return getManipulator().removeObjectPropertyB2Individual( relations);
@@ -2228,8 +2565,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove a data property from an individual. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeDataPropertyB2Individual(OWLNamedIndividual ind, OWLDataProperty prop, OWLLiteral value){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveDataPropB2Ind);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveDataPropB2Ind);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeDataPropertyB2Individual", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeDataPropertyB2Individual( ind, prop, value);
@@ -2245,8 +2582,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove a data property from an individual. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeDataPropertyB2Individual( String individualName, String propertyName, Object value){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveDataPropB2Ind);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveDataPropB2Ind);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeDataPropertyB2Individual", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeDataPropertyB2Individual( individualName, propertyName, value);
@@ -2261,8 +2598,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public List< OWLOntologyChange> removeDataPropertyB2Individual( DataPropertyRelations relations){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveDataPropB2Ind);
-        return new OWLReferencesCaller< List< OWLOntologyChange>>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveDataPropB2Ind);
+        return new OWLReferencesCaller< List< OWLOntologyChange>>( "removeDataPropertyB2Individual", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected List< OWLOntologyChange> performSynchronisedCall() {
                 return getManipulator().removeDataPropertyB2Individual( relations);
@@ -2277,8 +2614,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public List< OWLOntologyChange> removeDataPropertyB2Individual( Set< DataPropertyRelations> relations){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveDataPropB2Ind);
-        return new OWLReferencesCaller< List< OWLOntologyChange>>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveDataPropB2Ind);
+        return new OWLReferencesCaller< List< OWLOntologyChange>>( "removeDataPropertyB2Individual", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected List< OWLOntologyChange> performSynchronisedCall() {
                 return getManipulator().removeDataPropertyB2Individual( relations);
@@ -2295,8 +2632,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeObjectPropertyInverseOf( String direct, String inverse){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveObjPropInverse);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveObjPropInverse);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeObjectPropertyInverseOf", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeObjectPropertyInverseOf( direct, inverse);
@@ -2312,8 +2649,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeObjectPropertyInverseOf( OWLObjectProperty direct, OWLObjectProperty inverse){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveObjPropInverse);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveObjPropInverse);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeObjectPropertyInverseOf", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeObjectPropertyInverseOf( direct, inverse);
@@ -2329,8 +2666,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove an individual from a class. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeIndividualB2Class(OWLNamedIndividual ind, OWLClass cls){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveIndB2Class);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveIndB2Class);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeIndividualB2Class", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeIndividualB2Class(ind, cls);
@@ -2345,8 +2682,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove an individual from a class. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeIndividualB2Class(String individualName, String className){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveIndB2Class);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveIndB2Class);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeIndividualB2Class", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeIndividualB2Class( individualName, className);
@@ -2361,8 +2698,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove an individual from the ontology. (see {@link OWLManipulator} for more info)
      */
     public List<RemoveAxiom> removeIndividual( OWLNamedIndividual individual){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveInd);
-        return new OWLReferencesCaller< List< RemoveAxiom>>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveInd);
+        return new OWLReferencesCaller< List< RemoveAxiom>>( "removeIndividual", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected List<RemoveAxiom> performSynchronisedCall() {
                 return getManipulator().removeIndividual(individual);
@@ -2376,8 +2713,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove an individual from the ontology. (see {@link OWLManipulator} for more info)
      */
     public List<RemoveAxiom> removeIndividual( String indName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveInd);
-        return new OWLReferencesCaller< List< RemoveAxiom>>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveInd);
+        return new OWLReferencesCaller< List< RemoveAxiom>>( "removeIndividual", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected List< RemoveAxiom> performSynchronisedCall() {
                 return getManipulator().removeIndividual( indName);
@@ -2391,8 +2728,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove the set of individuals from the ontology. (see {@link OWLManipulator} for more info)
      */
     public List<OWLOntologyChange> removeIndividual( Set< OWLNamedIndividual> individuals){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveInd);
-        return new OWLReferencesCaller< List< OWLOntologyChange>>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveInd);
+        return new OWLReferencesCaller< List< OWLOntologyChange>>( "removeIndividual", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected List< OWLOntologyChange> performSynchronisedCall() {
                 return getManipulator().removeIndividual(individuals);
@@ -2406,8 +2743,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove a class from the ontology. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeClass( String className){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveClass);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveClass);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeClass", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeClass( className);
@@ -2421,8 +2758,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove a class from the ontology an individual into a class. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeClass( OWLClass cls){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveClass);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveClass);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeClass", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeClass( cls);
@@ -2438,8 +2775,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove a sub class assertion by specifying its super class. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeSubClassOf( String superClassName, String subClassName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveSubClass);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveSubClass);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeSubClassOf", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeSubClassOf( superClassName, subClassName);
@@ -2454,8 +2791,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove a sub class assertion by specifying its super class. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeSubClassOf( OWLClass superClass, OWLClass subClass){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveSubClass);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveSubClass);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeSubClassOf", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeSubClassOf( superClass, subClass);
@@ -2472,8 +2809,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove a sub data property assertion by specifying its super property. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeSubDataPropertyOf( String superPropertyName, String subPropertyName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveSubDataProperty);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveSubDataProperty);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeSubDataPropertyOf", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeSubDataPropertyOf( superPropertyName, subPropertyName);
@@ -2488,8 +2825,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove a sub data property assertion by specifying its super property. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeSubDataPropertyOf( OWLDataProperty superProperty, OWLDataProperty subProperty){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveSubDataProperty);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveSubDataProperty);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeSubDataPropertyOf", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeSubDataPropertyOf( superProperty, subProperty);
@@ -2505,8 +2842,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove a sub object property assertion by specifying its super property. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeSubObjectPropertyOf( String superPropertyName, String subPropertyName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveSubObjectProperty);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveSubObjectProperty);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeSubObjectPropertyOf", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeSubObjectPropertyOf( superPropertyName, subPropertyName);
@@ -2521,8 +2858,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove a sub object property assertion by specifying its super property. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeSubObjectPropertyOf( OWLObjectProperty superProperty, OWLObjectProperty subProperty){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveSubObjectProperty);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveSubObjectProperty);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeSubObjectPropertyOf", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeSubObjectPropertyOf( superProperty, subProperty);
@@ -2539,8 +2876,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be applied in order to remove the specified restriction in the ontology
      */
     public <S extends SemanticRestriction> OWLOntologyChange removeRestriction( S restriction){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveRestriction);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveRestriction);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeRestriction", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeRestriction( restriction);
@@ -2555,8 +2892,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be applied in order to remove the specified restriction in the ontology
      */
     public List<OWLOntologyChange> removeRestriction( Set<? extends SemanticRestriction> restriction){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveRestriction);
-        return new OWLReferencesCaller< List<OWLOntologyChange>>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveRestriction);
+        return new OWLReferencesCaller< List<OWLOntologyChange>>( "removeRestriction", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected List<OWLOntologyChange> performSynchronisedCall() {
                 return getManipulator().removeRestriction( restriction);
@@ -2573,8 +2910,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be applied in order to remove the specified restriction in the ontology
      */
     public OWLOntologyChange removeRestrictionAxiom( Set<? extends SemanticRestriction> restriction){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveRestriction);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveRestriction);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeRestrictionAxiom", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeRestrictionAxiom( restriction);
@@ -2588,8 +2925,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make the input property not functional anymore.
      */
     public OWLOntologyChange removeFunctionalDataProperty( OWLDataProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveFunctionalData);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveFunctionalData);
+        return new OWLReferencesCaller<OWLOntologyChange>( "removeFunctionalDataProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeFunctionalDataProperty( property);
@@ -2602,8 +2939,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make the input property not functional anymore.
      */
     public OWLOntologyChange removeFunctionalDataProperty( String property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveFunctionalData);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveFunctionalData);
+        return new OWLReferencesCaller<OWLOntologyChange>( "removeFunctionalDataProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeFunctionalDataProperty( property);
@@ -2617,8 +2954,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make the input property not functional anymore.
      */
     public OWLOntologyChange removeFunctionalObjectProperty( OWLObjectProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveFunctional);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveFunctional);
+        return new OWLReferencesCaller<OWLOntologyChange>( "removeFunctionalObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeFunctionalObjectProperty( property);
@@ -2631,8 +2968,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make the input property not functional anymore.
      */
     public OWLOntologyChange removeFunctionalObjectProperty( String property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveFunctional);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveFunctional);
+        return new OWLReferencesCaller<OWLOntologyChange>( "removeFunctionalObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeFunctionalObjectProperty( property);
@@ -2646,8 +2983,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make the input property not inverse functional anymore.
      */
     public OWLOntologyChange removeInverseFunctionalObjectProperty( OWLObjectProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveInverseFunctional);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveInverseFunctional);
+        return new OWLReferencesCaller<OWLOntologyChange>( "removeInverseFunctionalObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeInverseFunctionalObjectProperty( property);
@@ -2660,8 +2997,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make th input property not inverse functional anymore.
      */
     public OWLOntologyChange removeInverseFunctionalObjectProperty( String property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveInverseFunctional);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveInverseFunctional);
+        return new OWLReferencesCaller<OWLOntologyChange>( "removeInverseFunctionalObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeFunctionalObjectProperty( property);
@@ -2675,8 +3012,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make the input property not transitive anymore.
      */
     public OWLOntologyChange removeTransitiveObjectProperty( OWLObjectProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveTransitive);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveTransitive);
+        return new OWLReferencesCaller<OWLOntologyChange>( "removeTransitiveObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeTransitiveObjectProperty( property);
@@ -2689,8 +3026,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make th input property not transitive anymore.
      */
     public OWLOntologyChange removeTransitiveObjectProperty( String property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveTransitive);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveTransitive);
+        return new OWLReferencesCaller<OWLOntologyChange>( "removeTransitiveObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeTransitiveObjectProperty( property);
@@ -2704,8 +3041,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make the input property not symmetric anymore.
      */
     public OWLOntologyChange removeSymmetricObjectProperty( OWLObjectProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveSymmetric);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveSymmetric);
+        return new OWLReferencesCaller<OWLOntologyChange>( "removeSymmetricObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeSymmetricObjectProperty( property);
@@ -2718,8 +3055,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make th input property not symmetric anymore.
      */
     public OWLOntologyChange removeSymmetricObjectProperty( String property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveSymmetric);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveSymmetric);
+        return new OWLReferencesCaller<OWLOntologyChange>( "removeSymmetricObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeSymmetricObjectProperty( property);
@@ -2733,8 +3070,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make the input property not asymmetric anymore.
      */
     public OWLOntologyChange removeAsymmetricObjectProperty( OWLObjectProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveAsymmetric);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveAsymmetric);
+        return new OWLReferencesCaller<OWLOntologyChange>( "removeAsymmetricObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeAsymmetricObjectProperty( property);
@@ -2747,8 +3084,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make th input property not asymmetric anymore.
      */
     public OWLOntologyChange removeAsymmetricObjectProperty( String property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveAsymmetric);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveAsymmetric);
+        return new OWLReferencesCaller<OWLOntologyChange>( "removeAsymmetricObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeAsymmetricObjectProperty( property);
@@ -2762,8 +3099,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make the input property no reflexive anymore.
      */
     public OWLOntologyChange removeReflexiveObjectProperty( OWLObjectProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveReflexive);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveReflexive);
+        return new OWLReferencesCaller<OWLOntologyChange>( "removeReflexiveObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeReflexiveObjectProperty( property);
@@ -2776,8 +3113,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make th input property no reflexive anymore.
      */
     public OWLOntologyChange removeReflexiveObjectProperty( String property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveReflexive);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveReflexive);
+        return new OWLReferencesCaller<OWLOntologyChange>( "removeReflexiveObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeReflexiveObjectProperty( property);
@@ -2791,8 +3128,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make the input property no irreflexive anymore.
      */
     public OWLOntologyChange removeIrreflexiveObjectProperty( OWLObjectProperty property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveIrreflexive);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveIrreflexive);
+        return new OWLReferencesCaller<OWLOntologyChange>( "removeIrreflexiveObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeIrreflexiveObjectProperty( property);
@@ -2805,8 +3142,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to make th input property not irreflexive anymore.
      */
     public OWLOntologyChange removeIrreflexiveObjectProperty( String property){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveIrreflexive);
-        return new OWLReferencesCaller<OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveIrreflexive);
+        return new OWLReferencesCaller<OWLOntologyChange>( "removeIrreflexiveObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeIrreflexiveObjectProperty( property);
@@ -2849,8 +3186,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to replace a data property value attached to an individual. (see {@link OWLManipulator} for more info)
      */
     public List<OWLOntologyChange> replaceDataProperty( OWLNamedIndividual ind, OWLDataProperty prop, OWLLiteral oldValue, OWLLiteral newValue){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexReplaceDataProp);
-        return new OWLReferencesCaller< List<OWLOntologyChange>>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexReplaceDataProp);
+        return new OWLReferencesCaller< List<OWLOntologyChange>>( "replaceDataProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected List<OWLOntologyChange> performSynchronisedCall() {
                 return getManipulator().replaceDataPropertyB2Individual( ind, prop, oldValue, newValue);
@@ -2867,8 +3204,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to replace a object property value attached to an individual. (see {@link OWLManipulator} for more info)
      */
     public List<OWLOntologyChange> replaceObjectProperty( OWLNamedIndividual ind, OWLObjectProperty prop, OWLNamedIndividual oldValue, OWLNamedIndividual newValue){
-        List< Lock> mutexes = getMutexes( mutexReasoner);
-        return new OWLReferencesCaller< List<OWLOntologyChange>>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner);
+        return new OWLReferencesCaller< List<OWLOntologyChange>>( "replaceObjectProperty", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected List<OWLOntologyChange> performSynchronisedCall() {
                 return getManipulator().replaceObjectProperty(ind, prop, oldValue, newValue);
@@ -2884,8 +3221,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to replace a object property value attached to an individual. (see {@link OWLManipulator} for more info)
      */
     public List<OWLOntologyChange> replaceIndividualClass( OWLNamedIndividual ind,    OWLClass oldValue, OWLClass newValue){
-        List< Lock> mutexes = getMutexes( mutexReasoner);
-        return new OWLReferencesCaller< List<OWLOntologyChange>>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner);
+        return new OWLReferencesCaller< List<OWLOntologyChange>>( "replaceIndividualClass", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected List<OWLOntologyChange> performSynchronisedCall() {
                 return getManipulator().replaceIndividualClass(ind, oldValue, newValue);
@@ -2902,8 +3239,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to rename an ontological entity. (see {@link OWLManipulator} for more info)
      */
     public List< OWLOntologyChange> renameEntity( OWLEntity entity, IRI newIRI){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRename);
-        return new OWLReferencesCaller< List<OWLOntologyChange>>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRename);
+        return new OWLReferencesCaller< List<OWLOntologyChange>>( "renameEntity", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected List<OWLOntologyChange> performSynchronisedCall() {
                 return getManipulator().renameEntity(entity, newIRI);
@@ -2918,8 +3255,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to rename an ontological entity. (see {@link OWLManipulator} for more info)
      */
     public List< OWLOntologyChange> renameEntity( OWLEntity entity, String newName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRename);
-        return new OWLReferencesCaller< List<OWLOntologyChange>>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRename);
+        return new OWLReferencesCaller< List<OWLOntologyChange>>( "renameEntity", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected List<OWLOntologyChange> performSynchronisedCall() {
                 return getManipulator().renameEntity(entity, newName);
@@ -2936,8 +3273,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to add the disjoint individual axiom for all the inputs. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange makeDisjointIndividualNames(Set< String> individualNames){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddDisjointedInd);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddDisjointedInd);
+        return new OWLReferencesCaller< OWLOntologyChange>( "makeDisjointIndividualNames", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().makeDisjointIndividualName( individualNames);
@@ -2952,8 +3289,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to add the disjoint individual axiom for all the inputs. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange makeDisjointIndividuals( Set< OWLNamedIndividual> individuals){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddDisjointedInd);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddDisjointedInd);
+        return new OWLReferencesCaller< OWLOntologyChange>( "makeDisjointIndividuals", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().makeDisjointIndividuals( individuals);
@@ -2969,8 +3306,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove the disjoint individual axiom for all the inputs. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeDisjointIndividualNames(Set< String> individualNames){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveDisjointedInd);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveDisjointedInd);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeDisjointIndividualNames", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return  getManipulator().removeDisjointIndividualName( individualNames);
@@ -2985,8 +3322,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove the disjoint individual axiom for all the inputs. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeDisjointIndividuals( Set< OWLNamedIndividual> individuals){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveDisjointedInd);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveDisjointedInd);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeDisjointIndividuals", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return  getManipulator().removeDisjointIndividuals( individuals);
@@ -3002,8 +3339,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to add the disjoint classes axiom for all the inputs. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange makeDisjointClassNames(Set< String> classesName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddDisjointedCls);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddDisjointedCls);
+        return new OWLReferencesCaller< OWLOntologyChange>( "makeDisjointClassNames", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().makeDisjointClassName( classesName);
@@ -3018,8 +3355,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to add the disjoint classes axiom for all the inputs. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange makeDisjointClasses( Set< OWLClass> classes){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddDisjointedCls);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddDisjointedCls);
+        return new OWLReferencesCaller< OWLOntologyChange>( "makeDisjointClasses", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().makeDisjointClasses( classes);
@@ -3035,8 +3372,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove the disjoint class axiom for all the inputs. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeDisjointClassNames(Set< String> classesName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveDisjointedCls);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveDisjointedCls);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeDisjointClassNames", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeDisjointClassName( classesName);
@@ -3051,8 +3388,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove the disjoint class axiom for all the inputs. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeDisjointClasses( Set< OWLClass> classes){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveDisjointedCls);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveDisjointedCls);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeDisjointClasses", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeDisjointClasses( classes);
@@ -3069,8 +3406,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange makeDisjointDataPropertiesNames(Set< String> propertiesName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddDisjointedDataProp);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddDisjointedDataProp);
+        return new OWLReferencesCaller< OWLOntologyChange>( "makeDisjointDataPropertiesNames", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().makeDisjointDataPropertiesName( propertiesName);
@@ -3086,8 +3423,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange makeDisjointDataProperties( Set< OWLDataProperty> properties){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddDisjointedDataProp);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddDisjointedDataProp);
+        return new OWLReferencesCaller< OWLOntologyChange>( "makeDisjointDataProperties", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().makeDisjointDataProperties( properties);
@@ -3104,8 +3441,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeDisjointDataPropertyNames(Set< String> propertiesName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveDisjointedDataProp);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveDisjointedDataProp);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeDisjointDataPropertyNames", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeDisjointDataPropertyName( propertiesName);
@@ -3121,8 +3458,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeDisjointDataProperties( Set< OWLDataProperty> properties){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveDisjointedDataProp);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveDisjointedDataProp);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeDisjointDataProperties", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeDisjointDataProperty( properties);
@@ -3139,8 +3476,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange makeDisjointObjectPropertyNames(Set< String> propertiesName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddDisjointedObjectProp);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddDisjointedObjectProp);
+        return new OWLReferencesCaller< OWLOntologyChange>( "makeDisjointObjectPropertyNames", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().makeDisjointObjectPropertyNames( propertiesName);
@@ -3156,8 +3493,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange makeDisjointObjectProperties( Set< OWLObjectProperty> properties){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddDisjointedObjectProp);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddDisjointedObjectProp);
+        return new OWLReferencesCaller< OWLOntologyChange>( "makeDisjointObjectProperties", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().makeDisjointObjectProperties( properties);
@@ -3174,8 +3511,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeDisjointObjectPropertyNames(Set< String> propertiesName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveDisjointedObjectProp);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveDisjointedObjectProp);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeDisjointObjectPropertyNames", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeDisjointObjectPropertyNames( propertiesName);
@@ -3191,8 +3528,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeDisjointObjectProperties( Set< OWLObjectProperty> properties){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveDisjointedObjectProp);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveDisjointedObjectProp);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeDisjointObjectProperties", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeDisjointObjectProperties( properties);
@@ -3211,8 +3548,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange makeEquivalentIndividualNames(Set< String> individualNames){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddEquivalentInd);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddEquivalentInd);
+        return new OWLReferencesCaller< OWLOntologyChange>( "makeEquivalentIndividualNames", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().makeEquivalentIndividualName( individualNames);
@@ -3228,8 +3565,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange makeEquivalentIndividuals(Set< OWLNamedIndividual> individuals){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddEquivalentInd);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddEquivalentInd);
+        return new OWLReferencesCaller< OWLOntologyChange>( "makeEquivalentIndividuals", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().makeEquivalentIndividuals( individuals);
@@ -3245,8 +3582,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove the 'same as' individual axiom for all the inputs. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeEquivalentIndividualNames(Set< String> individualNames){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveEquivalentInd);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveEquivalentInd);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeEquivalentIndividualNames", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return  getManipulator().removeEquivalentIndividualName( individualNames);
@@ -3261,8 +3598,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove the 'same as' individual axiom for all the inputs. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeEquivalentIndividuals(Set< OWLNamedIndividual> individuals){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveEquivalentInd);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveEquivalentInd);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeEquivalentIndividuals", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return  getManipulator().removeEquivalentIndividuals( individuals);
@@ -3278,8 +3615,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to add the equivalent classes axiom for all the inputs. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange makeEquivalentClassNames(Set< String> classesName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddEquivalentClass);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddEquivalentClass);
+        return new OWLReferencesCaller< OWLOntologyChange>( "makeEquivalentClassNames", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().makeEquivalentClassName( classesName);
@@ -3294,8 +3631,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to add the equivalent classes axiom for all the inputs. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange makeEquivalentClasses( Set< OWLClass> classes){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddEquivalentClass);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddEquivalentClass);
+        return new OWLReferencesCaller< OWLOntologyChange>( "makeEquivalentClasses", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().makeEquivalentClasses( classes);
@@ -3311,8 +3648,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove the equivalent class axiom for all the inputs. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeEquivalentClassNames(Set< String> classesName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveEquivalentClass);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveEquivalentClass);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeEquivalentClassNames", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeEquivalentClassName( classesName);
@@ -3327,8 +3664,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * @return the changes to be done in order to remove the equivalent class axiom for all the inputs. (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeEquivalentClasses( Set< OWLClass> classes){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveEquivalentClass);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveEquivalentClass);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeEquivalentClasses", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeEquivalentClasses( classes);
@@ -3345,8 +3682,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange makeEquivalentDataPropertiesNames(Set< String> propertiesName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddEquivalentDataProp);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddEquivalentDataProp);
+        return new OWLReferencesCaller< OWLOntologyChange>( "makeEquivalentDataPropertiesNames", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().makeEquivalentDataPropertiesName( propertiesName);
@@ -3362,8 +3699,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange makeEquivalentDataProperties( Set< OWLDataProperty> properties){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddEquivalentDataProp);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddEquivalentDataProp);
+        return new OWLReferencesCaller< OWLOntologyChange>( "makeEquivalentDataProperties", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().makeEquivalentDataProperties( properties);
@@ -3380,8 +3717,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeEquivalentDataPropertyNames(Set< String> propertiesName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveEquivalentDataProp);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveEquivalentDataProp);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeEquivalentDataPropertyNames", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeEquivalentDataPropertyName( propertiesName);
@@ -3397,8 +3734,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeEquivalentDataProperties( Set< OWLDataProperty> properties){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveEquivalentDataProp);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveEquivalentDataProp);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeEquivalentDataProperties", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeEquivalentDataProperty( properties);
@@ -3415,8 +3752,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange makeEquivalentObjectPropertyNames(Set< String> propertiesName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddEquivalentObjProp);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddEquivalentObjProp);
+        return new OWLReferencesCaller< OWLOntologyChange>( "makeEquivalentObjectPropertyNames", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().makeEquivalentObjectPropertyNames( propertiesName);
@@ -3432,8 +3769,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange makeEquivalentObjectProperties( Set< OWLObjectProperty> properties){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexAddEquivalentObjProp);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexAddEquivalentObjProp);
+        return new OWLReferencesCaller< OWLOntologyChange>( "makeEquivalentObjectProperties", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().makeEquivalentObjectProperties( properties);
@@ -3450,8 +3787,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeEquivalentObjectPropertyNames(Set< String> propertiesName){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveEquivalentObjProp);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveEquivalentObjProp);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeEquivalentObjectPropertyNames", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeEquivalentObjectPropertyNames( propertiesName);
@@ -3467,8 +3804,8 @@ public class OWLReferences extends OWLReferencesInterface{
      * (see {@link OWLManipulator} for more info)
      */
     public OWLOntologyChange removeEquivalentObjectProperties( Set< OWLObjectProperty> properties){
-        List< Lock> mutexes = getMutexes( mutexReasoner, mutexRemoveEquivalentObjProp);
-        return new OWLReferencesCaller< OWLOntologyChange>(  mutexes, this) {
+        List< Lock> mutexes = getManipulationMutexes( mutexReasoner, mutexRemoveEquivalentObjProp);
+        return new OWLReferencesCaller< OWLOntologyChange>( "removeEquivalentObjectProperties", CallKind.MANIPULATION, mutexes, this) {
             @Override
             protected OWLOntologyChange performSynchronisedCall() {
                 return getManipulator().removeEquivalentObjectProperties( properties);
@@ -3491,17 +3828,866 @@ public class OWLReferences extends OWLReferencesInterface{
      * {@link #mutexReasoner} by making this call thread safe with respect to
      * the manipulations of (performed by {@link OWLManipulator}) and queries
      * (performed by {@link OWLEnquirer}).
+     * In the {@link #CONCURRENCY_READ_WRITE} (or {@link #CONCURRENCY_OPTIMISTIC_READ_WRITE}) mode, it acquires the write lock instead.
+     * The lock is always acquired before the monitor of this object, as all the other calls do.<br>
+     * If the reasoner synchronizer is active (see {@link #startReasonerSynchronizer(int, long)}), this method applies
+     * the changes buffered by the {@link OWLManipulator}, and then it waits for the synchronizer to serve the request
+     * (see {@link #requestSynchronizeReasoner()}), so that concurrent synchronisations are coalesced. Yet, the reasoner
+     * is synchronised by the calling thread if it is the synchronizer itself, or if it holds the locks of this reference
+     * (e.g., within a {@code synchronized} method of this reference), since waiting for the synchronizer would deadlock.
      * @see OWLReferencesInterface#synchronizeReasoner()
      */
     @Override
-    public synchronized void synchronizeReasoner() {
-        mutexReasoner.lock();
+    public void synchronizeReasoner() {
+        ReasonerSynchronizer synchronizer = reasonerSynchronizer;
+        if( synchronizer != null && ! synchronizer.isCurrentThread() && ! isHoldingLocks( getMutexes( getSynchronisationMutex()))
+                && requestSynchronizeReasoner( synchronizer))
+            return;
+        long initialTime = System.nanoTime();
+        Lock mutex = getSynchronisationMutex();
+        mutex.lock();
+        long workInitialTime = System.nanoTime();
         try{
             super.synchronizeReasoner();
         } finally{
-            mutexReasoner.unlock();
+            mutex.unlock();
+            getOperationMetrics( "synchronizeReasoner").record( workInitialTime - initialTime, System.nanoTime() - workInitialTime);
+        }
+    }
+
+    /**
+     * Creates a pool of reasoners used by the queries that include inferences, which can then be performed in parallel
+     * (see {@link OWLLibrary#setReasonerPoolSize(int)}). The pool is used only in the {@link #CONCURRENCY_READ_WRITE}
+     * and {@link #CONCURRENCY_OPTIMISTIC_READ_WRITE} modes, where each query checks out a reasoner under the read lock,
+     * while the synchronisation of the reasoners occurs under the write lock.
+     * This method acquires the same lock of {@link #synchronizeReasoner()}.
+     * @param size the number of reasoners in the pool, in addition to the main one. If it is not positive
+     *             the pool is removed.
+     */
+    @Override
+    public void setReasonerPoolSize( int size) {
+        Lock mutex = getSynchronisationMutex();
+        mutex.lock();
+        try{
+            super.setReasonerPoolSize( size);
+        } finally{
+            mutex.unlock();
+        }
+        if( size > 0 && ! isReadWriteLocking())
+            logger.addDebugString( getReferenceName() + " does not use the reasoner pool in concurrency mode: " + getConcurrencyMode());
+    }
+    /**
+     * @return {@code true} only in the {@link #CONCURRENCY_READ_WRITE} and {@link #CONCURRENCY_OPTIMISTIC_READ_WRITE} modes,
+     * otherwise the reasoner pool is not synchronised (see {@link #setReasonerPoolSize(int)}).
+     */
+    @Override
+    protected boolean isReasonerPoolUsed(){
+        return isReadWriteLocking();
+    }
+
+    // [[[[[[[[[[[[[[[[[[[[[[   ASYNCHRONOUS METHODS (thread safe)   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
+    /**
+     * Set the executor used to perform the asynchronous calls of this reference (e.g., {@link #getIndividualB2ClassAsync(String)}).
+     * By default, a cached pool of daemon threads is used.
+     * @param executor the executor of the asynchronous calls.
+     */
+    public void setAsyncExecutor( Executor executor){
+        this.asyncExecutor = executor;
+    }
+    /**
+     * @return the executor used to perform the asynchronous calls of this reference (see {@link #setAsyncExecutor(Executor)}).
+     */
+    public Executor getAsyncExecutor(){
+        if( asyncExecutor == null) {
+            synchronized ( this) {
+                if( asyncExecutor == null)
+                    asyncExecutor = Executors.newCachedThreadPool( runnable -> {
+                        Thread thread = new Thread( runnable, "aMOR async call on " + getReferenceName());
+                        thread.setDaemon( true);
+                        return thread;
+                    });
+            }
+        }
+        return asyncExecutor;
+    }
+    /**
+     * Performs a generic call of this reference on the executor given by {@link #getAsyncExecutor()}, e.g.:
+     * {@code ontoRef.async( () -> ontoRef.getSubClassOf( "Table"))}.
+     * The call is synchronised as usual, but the calling thread does not wait for it.
+     * @param call the call to be performed.
+     * @param <T> the type returned by the call.
+     * @return a future completed with the result of the call.
+     */
+    public <T> CompletableFuture< T> async( Supplier< T> call){
+        return CompletableFuture.supplyAsync( call, getAsyncExecutor());
+    }
+    /**
+     * Performs a generic manipulation of this reference on the executor given by {@link #getAsyncExecutor()}, as {@link #async(Supplier)}.
+     * The given procedure can mix queries and manipulations, and it is never performed by the group commit writer
+     * (see {@link #startGroupCommit(int, boolean)}), since its queries would wait for the locks held by the writer.
+     * Its manipulations are committed by the writer as usual. Asynchronous versions are given only for the most
+     * common queries and manipulations (e.g., {@link #addIndividualB2ClassAsync(String, String)}), while any other call
+     * can be performed through this method or {@link #async(Supplier)}.
+     * @param manipulation the manipulation to be performed.
+     * @param <T> the type returned by the manipulation.
+     * @return a future completed with the result of the manipulation.
+     */
+    public <T> CompletableFuture< T> asyncManipulation( Supplier< T> manipulation){
+        return async( manipulation);
+    }
+    // submits a single manipulation directly to the group commit writer, so that no thread waits for its batch to be committed
+    private <T> CompletableFuture< T> submitManipulation( Supplier< T> manipulation){
+        GroupCommitWriter writer = groupCommitWriter;
+        if( writer != null)
+            return writer.submit( manipulation);
+        return async( manipulation);
+    }
+
+    /**
+     * Asynchronous version of {@link #getIndividualB2Class(String)}, performed by {@link #async(Supplier)}.
+     * @param className the name of the class from which to retrieve the individuals
+     * @return a future completed with the result of {@link #getIndividualB2Class(String)}.
+     */
+    public CompletableFuture< Set< OWLNamedIndividual>> getIndividualB2ClassAsync( String className){
+        return async( () -> getIndividualB2Class( className));
+    }
+    /**
+     * Asynchronous version of {@link #getIndividualB2Class(OWLClass)}, performed by {@link #async(Supplier)}.
+     * @param ontoClass the class from which to retrieve the individuals
+     * @return a future completed with the result of {@link #getIndividualB2Class(OWLClass)}.
+     */
+    public CompletableFuture< Set< OWLNamedIndividual>> getIndividualB2ClassAsync( OWLClass ontoClass){
+        return async( () -> getIndividualB2Class( ontoClass));
+    }
+    /**
+     * Asynchronous version of {@link #getOnlyIndividualB2Class(String)}, performed by {@link #async(Supplier)}.
+     * @param className the name of the class from which to retrieve the individual
+     * @return a future completed with the result of {@link #getOnlyIndividualB2Class(String)}.
+     */
+    public CompletableFuture< OWLNamedIndividual> getOnlyIndividualB2ClassAsync( String className){
+        return async( () -> getOnlyIndividualB2Class( className));
+    }
+    /**
+     * Asynchronous version of {@link #getIndividualClasses(String)}, performed by {@link #async(Supplier)}.
+     * @param individualName the name of the individual
+     * @return a future completed with the result of {@link #getIndividualClasses(String)}.
+     */
+    public CompletableFuture< Set< OWLClass>> getIndividualClassesAsync( String individualName){
+        return async( () -> getIndividualClasses( individualName));
+    }
+    /**
+     * Asynchronous version of {@link #getIndividualClasses(OWLNamedIndividual)}, performed by {@link #async(Supplier)}.
+     * @param individual the individual
+     * @return a future completed with the result of {@link #getIndividualClasses(OWLNamedIndividual)}.
+     */
+    public CompletableFuture< Set< OWLClass>> getIndividualClassesAsync( OWLNamedIndividual individual){
+        return async( () -> getIndividualClasses( individual));
+    }
+    /**
+     * Asynchronous version of {@link #getDataPropertyB2Individual(String, String)}, performed by {@link #async(Supplier)}.
+     * @param individualName the name of the individual
+     * @param propertyName the name of the data property
+     * @return a future completed with the result of {@link #getDataPropertyB2Individual(String, String)}.
+     */
+    public CompletableFuture< Set< OWLLiteral>> getDataPropertyB2IndividualAsync( String individualName, String propertyName){
+        return async( () -> getDataPropertyB2Individual( individualName, propertyName));
+    }
+    /**
+     * Asynchronous version of {@link #getDataPropertyB2Individual(OWLNamedIndividual, OWLDataProperty)}, performed by {@link #async(Supplier)}.
+     * @param individual the individual
+     * @param property the data property
+     * @return a future completed with the result of {@link #getDataPropertyB2Individual(OWLNamedIndividual, OWLDataProperty)}.
+     */
+    public CompletableFuture< Set< OWLLiteral>> getDataPropertyB2IndividualAsync( OWLNamedIndividual individual, OWLDataProperty property){
+        return async( () -> getDataPropertyB2Individual( individual, property));
+    }
+    /**
+     * Asynchronous version of {@link #getOnlyDataPropertyB2Individual(String, String)}, performed by {@link #async(Supplier)}.
+     * @param individualName the name of the individual
+     * @param propertyName the name of the data property
+     * @return a future completed with the result of {@link #getOnlyDataPropertyB2Individual(String, String)}.
+     */
+    public CompletableFuture< OWLLiteral> getOnlyDataPropertyB2IndividualAsync( String individualName, String propertyName){
+        return async( () -> getOnlyDataPropertyB2Individual( individualName, propertyName));
+    }
+    /**
+     * Asynchronous version of {@link #getDataPropertyB2Individual(OWLNamedIndividual)}, performed by {@link #async(Supplier)}.
+     * @param individual the individual
+     * @return a future completed with the result of {@link #getDataPropertyB2Individual(OWLNamedIndividual)}.
+     */
+    public CompletableFuture< Set< DataPropertyRelations>> getDataPropertyB2IndividualAsync( OWLNamedIndividual individual){
+        return async( () -> getDataPropertyB2Individual( individual));
+    }
+    /**
+     * Asynchronous version of {@link #getObjectPropertyB2Individual(String, String)}, performed by {@link #async(Supplier)}.
+     * @param individualName the name of the individual
+     * @param propertyName the name of the object property
+     * @return a future completed with the result of {@link #getObjectPropertyB2Individual(String, String)}.
+     */
+    public CompletableFuture< Set< OWLNamedIndividual>> getObjectPropertyB2IndividualAsync( String individualName, String propertyName){
+        return async( () -> getObjectPropertyB2Individual( individualName, propertyName));
+    }
+    /**
+     * Asynchronous version of {@link #getObjectPropertyB2Individual(OWLNamedIndividual, OWLObjectProperty)}, performed by {@link #async(Supplier)}.
+     * @param individual the individual
+     * @param property the object property
+     * @return a future completed with the result of {@link #getObjectPropertyB2Individual(OWLNamedIndividual, OWLObjectProperty)}.
+     */
+    public CompletableFuture< Set< OWLNamedIndividual>> getObjectPropertyB2IndividualAsync( OWLNamedIndividual individual, OWLObjectProperty property){
+        return async( () -> getObjectPropertyB2Individual( individual, property));
+    }
+    /**
+     * Asynchronous version of {@link #getOnlyObjectPropertyB2Individual(String, String)}, performed by {@link #async(Supplier)}.
+     * @param individualName the name of the individual
+     * @param propertyName the name of the object property
+     * @return a future completed with the result of {@link #getOnlyObjectPropertyB2Individual(String, String)}.
+     */
+    public CompletableFuture< OWLNamedIndividual> getOnlyObjectPropertyB2IndividualAsync( String individualName, String propertyName){
+        return async( () -> getOnlyObjectPropertyB2Individual( individualName, propertyName));
+    }
+    /**
+     * Asynchronous version of {@link #getObjectPropertyB2Individual(OWLNamedIndividual)}, performed by {@link #async(Supplier)}.
+     * @param individual the individual
+     * @return a future completed with the result of {@link #getObjectPropertyB2Individual(OWLNamedIndividual)}.
+     */
+    public CompletableFuture< Set< ObjectPropertyRelations>> getObjectPropertyB2IndividualAsync( OWLNamedIndividual individual){
+        return async( () -> getObjectPropertyB2Individual( individual));
+    }
+    /**
+     * Asynchronous version of {@link #getSubClassOf(String)}, performed by {@link #async(Supplier)}.
+     * @param className the name of the class
+     * @return a future completed with the result of {@link #getSubClassOf(String)}.
+     */
+    public CompletableFuture< Set< OWLClass>> getSubClassOfAsync( String className){
+        return async( () -> getSubClassOf( className));
+    }
+    /**
+     * Asynchronous version of {@link #getSuperClassOf(String)}, performed by {@link #async(Supplier)}.
+     * @param className the name of the class
+     * @return a future completed with the result of {@link #getSuperClassOf(String)}.
+     */
+    public CompletableFuture< Set< OWLClass>> getSuperClassOfAsync( String className){
+        return async( () -> getSuperClassOf( className));
+    }
+    /**
+     * Asynchronous version of {@link #sparql(String)}, performed by {@link #async(Supplier)}.
+     * @param query a string defining the query in SPARQL query syntax
+     * @return a future completed with the result of {@link #sparql(String)}.
+     */
+    public CompletableFuture< List< QuerySolution>> sparqlAsync( String query){
+        return async( () -> sparql( query));
+    }
+    /**
+     * Asynchronous version of {@link #addIndividualB2Class(String, String)}, directly submitted to the group commit writer, if it is running.
+     * @param individualName the name of the individual
+     * @param className the name of the class
+     * @return a future completed with the result of {@link #addIndividualB2Class(String, String)}.
+     */
+    public CompletableFuture< OWLOntologyChange> addIndividualB2ClassAsync( String individualName, String className){
+        return submitManipulation( () -> addIndividualB2Class( individualName, className));
+    }
+    /**
+     * Asynchronous version of {@link #removeIndividualB2Class(String, String)}, directly submitted to the group commit writer, if it is running.
+     * @param individualName the name of the individual
+     * @param className the name of the class
+     * @return a future completed with the result of {@link #removeIndividualB2Class(String, String)}.
+     */
+    public CompletableFuture< OWLOntologyChange> removeIndividualB2ClassAsync( String individualName, String className){
+        return submitManipulation( () -> removeIndividualB2Class( individualName, className));
+    }
+    /**
+     * Asynchronous version of {@link #addDataPropertyB2Individual(String, String, Object)}, directly submitted to the group commit writer, if it is running.
+     * @param individualName the name of the individual
+     * @param propertyName the name of the data property
+     * @param value the value of the data property
+     * @return a future completed with the result of {@link #addDataPropertyB2Individual(String, String, Object)}.
+     */
+    public CompletableFuture< OWLOntologyChange> addDataPropertyB2IndividualAsync( String individualName, String propertyName, Object value){
+        return submitManipulation( () -> addDataPropertyB2Individual( individualName, propertyName, value));
+    }
+    /**
+     * Asynchronous version of {@link #addDataPropertyB2Individual(OWLNamedIndividual, OWLDataProperty, OWLLiteral)}, directly submitted to the group commit writer, if it is running.
+     * @param ind the individual
+     * @param prop the data property
+     * @param value the value of the data property
+     * @return a future completed with the result of {@link #addDataPropertyB2Individual(OWLNamedIndividual, OWLDataProperty, OWLLiteral)}.
+     */
+    public CompletableFuture< OWLOntologyChange> addDataPropertyB2IndividualAsync( OWLNamedIndividual ind, OWLDataProperty prop, OWLLiteral value){
+        return submitManipulation( () -> addDataPropertyB2Individual( ind, prop, value));
+    }
+    /**
+     * Asynchronous version of {@link #removeDataPropertyB2Individual(String, String, Object)}, directly submitted to the group commit writer, if it is running.
+     * @param individualName the name of the individual
+     * @param propertyName the name of the data property
+     * @param value the value of the data property
+     * @return a future completed with the result of {@link #removeDataPropertyB2Individual(String, String, Object)}.
+     */
+    public CompletableFuture< OWLOntologyChange> removeDataPropertyB2IndividualAsync( String individualName, String propertyName, Object value){
+        return submitManipulation( () -> removeDataPropertyB2Individual( individualName, propertyName, value));
+    }
+    /**
+     * Asynchronous version of {@link #addObjectPropertyB2Individual(String, String, String)}, directly submitted to the group commit writer, if it is running.
+     * @param individualName the name of the individual
+     * @param propName the name of the object property
+     * @param valueName the name of the individual value
+     * @return a future completed with the result of {@link #addObjectPropertyB2Individual(String, String, String)}.
+     */
+    public CompletableFuture< OWLOntologyChange> addObjectPropertyB2IndividualAsync( String individualName, String propName, String valueName){
+        return submitManipulation( () -> addObjectPropertyB2Individual( individualName, propName, valueName));
+    }
+    /**
+     * Asynchronous version of {@link #removeObjectPropertyB2Individual(String, String, String)}, directly submitted to the group commit writer, if it is running.
+     * @param individualName the name of the individual
+     * @param propName the name of the object property
+     * @param valueName the name of the individual value
+     * @return a future completed with the result of {@link #removeObjectPropertyB2Individual(String, String, String)}.
+     */
+    public CompletableFuture< OWLOntologyChange> removeObjectPropertyB2IndividualAsync( String individualName, String propName, String valueName){
+        return submitManipulation( () -> removeObjectPropertyB2Individual( individualName, propName, valueName));
+    }
+    /**
+     * Asynchronous version of {@link #replaceDataProperty(OWLNamedIndividual, OWLDataProperty, OWLLiteral, OWLLiteral)}, directly submitted to the group commit writer, if it is running.
+     * @param ind the individual
+     * @param prop the data property
+     * @param oldValue the value to be removed
+     * @param newValue the value to be added
+     * @return a future completed with the result of {@link #replaceDataProperty(OWLNamedIndividual, OWLDataProperty, OWLLiteral, OWLLiteral)}.
+     */
+    public CompletableFuture< List< OWLOntologyChange>> replaceDataPropertyAsync( OWLNamedIndividual ind, OWLDataProperty prop, OWLLiteral oldValue, OWLLiteral newValue){
+        return submitManipulation( () -> replaceDataProperty( ind, prop, oldValue, newValue));
+    }
+    /**
+     * Asynchronous version of {@link #replaceObjectProperty(OWLNamedIndividual, OWLObjectProperty, OWLNamedIndividual, OWLNamedIndividual)}, directly submitted to the group commit writer, if it is running.
+     * @param ind the individual
+     * @param prop the object property
+     * @param oldValue the value to be removed
+     * @param newValue the value to be added
+     * @return a future completed with the result of {@link #replaceObjectProperty(OWLNamedIndividual, OWLObjectProperty, OWLNamedIndividual, OWLNamedIndividual)}.
+     */
+    public CompletableFuture< List< OWLOntologyChange>> replaceObjectPropertyAsync( OWLNamedIndividual ind, OWLObjectProperty prop, OWLNamedIndividual oldValue, OWLNamedIndividual newValue){
+        return submitManipulation( () -> replaceObjectProperty( ind, prop, oldValue, newValue));
+    }
+    /**
+     * Asynchronous version of {@link #applyOWLManipulatorChanges()}, performed by {@link #async(Supplier)}.
+     * @return a future completed when the buffered changes have been applied.
+     */
+    public CompletableFuture< Void> applyOWLManipulatorChangesAsync(){
+        return async( () -> {
+            applyOWLManipulatorChanges();
+            return null;
+        });
+    }
+    /**
+     * Asynchronous version of {@link #synchronizeReasoner()}, performed by {@link #async(Supplier)}.
+     * @return a future completed when the reasoner has been synchronised.
+     */
+    public CompletableFuture< Void> synchronizeReasonerAsync(){
+        return async( () -> {
+            synchronizeReasoner();
+            return null;
+        });
+    }
+
+    // [[[[[[[[[[[[[[[[[[[[[[   METHODS FOR GROUP COMMIT (thread safe)   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
+    /**
+     * Routes all the manipulations of this reference (i.e., {@code add*}, {@code remove*}, {@code replace*}, etc.)
+     * through a single writer thread (see {@link GroupCommitWriter}). The writer performs all the pending
+     * manipulations in order, within a single acquisition of the locks, and it buffers their changes. If
+     * {@link OWLManipulator#isChangeBuffering()} is {@code false}, the changes of the whole batch are applied at once
+     * at the end of the batch. Since the buffer keeps only the last change of each axiom at the position of the first
+     * one (see {@link ChangeBuffer}), the resulting ontology is the same of a serial execution (e.g., an individual
+     * added to a class and then removed does not leave its class assertion). Yet, the manipulations that compute
+     * their changes from the ontology (e.g., {@link #renameEntity(OWLEntity, String)}) see the changes of the previous
+     * manipulations of the batch only if {@link OWLEnquirer#setPendingChangesOverlay(boolean)} is enabled.
+     * If {@code synchronizeReasoner} is {@code true}, the reasoner is synchronised once per batch
+     * (see {@link OWLReferencesInterface#synchronizeReasoner()}), instead of once per manipulation.<br>
+     * A failing manipulation throws its own exception and its changes are discarded, while the others of the same
+     * batch are committed. If the changes of the batch cannot be applied, all its manipulations fail.<br>
+     * The manipulations called by a thread that already holds the locks of this reference (e.g., from a reasoner
+     * callback or a {@code synchronized} method of this reference) are performed by that thread, since waiting for
+     * the writer would deadlock.<br>
+     * Each manipulation returns (with the same values as before) only after that its batch has been committed, so
+     * the throughput increases when several threads perform manipulations concurrently.
+     * If the group commit is already active, this method has no effects.
+     * @param maxBatchSize the maximum number of manipulations committed together.
+     * @param synchronizeReasoner if {@code true} the reasoner is synchronised after each batch.
+     */
+    public synchronized void startGroupCommit( int maxBatchSize, boolean synchronizeReasoner){
+        if( groupCommitWriter == null)
+            groupCommitWriter = new GroupCommitWriter( "aMOR writer of " + getReferenceName(), maxBatchSize,
+                    manipulations -> commitManipulations( manipulations, synchronizeReasoner));
+    }
+    /**
+     * Calls {@link #startGroupCommit(int, boolean)} with {@link GroupCommitWriter#DEFAULT_MAX_BATCH_SIZE}.
+     * @param synchronizeReasoner if {@code true} the reasoner is synchronised after each batch.
+     */
+    public void startGroupCommit( boolean synchronizeReasoner){
+        startGroupCommit( GroupCommitWriter.DEFAULT_MAX_BATCH_SIZE, synchronizeReasoner);
+    }
+    /**
+     * Stops the group commit mode (see {@link #startGroupCommit(int, boolean)}) after that all the
+     * pending manipulations have been committed. Afterwards, manipulations are performed by the calling threads.
+     */
+    public void stopGroupCommit(){
+        GroupCommitWriter writer;
+        synchronized ( this) {
+            writer = groupCommitWriter;
+            groupCommitWriter = null;
+        }
+        if( writer != null)
+            writer.stop();
+    }
+    /**
+     * @return {@code true} if the manipulations are performed by a single writer thread (see {@link #startGroupCommit(int, boolean)}).
+     */
+    public boolean isGroupCommitting(){
+        return groupCommitWriter != null;
+    }
+    /**
+     * @return the writer thread used in group commit mode, or {@code null} if it is not active.
+     */
+    public GroupCommitWriter getGroupCommitWriter(){
+        return groupCommitWriter;
+    }
+
+    // performs a batch of manipulations (on the writer thread) within one acquisition of the locks and at most one reasoning
+    private void commitManipulations( Runnable manipulations, boolean synchronise){
+        Lock mutex = getSynchronisationMutex();
+        mutex.lock();
+        try{
+            OWLManipulator manipulator = getManipulator();
+            Boolean buffering = manipulator.isChangeBuffering();
+            groupCommitBuffering = buffering;
+            manipulator.setManipulationBuffering( true);
+            try {
+                manipulations.run(); // each manipulation only buffers its own changes (see performCommitted(Supplier))
+            } finally {
+                manipulator.setManipulationBuffering( buffering);
+            }
+            if( buffering)
+                return; // the changes are left to the user, as in a serial execution
+            try {
+                manipulator.applyChanges(); // once for the whole batch
+            } catch ( RuntimeException e){
+                manipulator.drainChanges(); // they are not applied to the following batches
+                throw e;
+            }
+            if( synchronise) {
+                try {
+                    super.synchronizeReasoner();
+                } catch ( RuntimeException e){ // the manipulations have been applied anyway
+                    logger.addDebugString( "Error on synchronising the reasoner after a group commit: " + e, true);
+                }
+            }
+        } finally{
+            mutex.unlock();
+        }
+    }
+    // performs a manipulation on the writer thread, discarding its buffered changes if it fails
+    private <T> T performCommitted( Supplier< T> manipulation){
+        if( groupCommitBuffering)
+            return manipulation.get(); // the changes are left to the user, as in a serial execution
+        OWLManipulator manipulator = getManipulator();
+        int mark = manipulator.markChanges();
+        try {
+            return manipulation.get();
+        } catch ( RuntimeException e){
+            manipulator.rollbackChanges( mark); // they are not applied with the rest of the batch
+            throw e;
+        }
+    }
+
+    // [[[[[[[[[[[[[[[[[[[[[[   METHODS FOR SCHEDULED REASONING (thread safe)   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
+    /**
+     * Starts a thread that synchronises the reasoner on behalf of the users of this reference
+     * (see {@link ReasonerSynchronizer}). The reasoner is synchronised when {@code maxChanges} changes have been
+     * applied to the ontology, or when {@code maxDelay} milliseconds are elapsed since the first change
+     * not yet seen by the reasoner, whichever comes first. Changes buffered in the {@link OWLManipulator}
+     * are counted only when they are applied, and this thread never applies them on behalf of the users.<br>
+     * Moreover, the synchronisations required through {@link #requestSynchronizeReasoner()} and
+     * {@link #synchronizeReasoner()} are coalesced, so that several nodes sharing this reference do not flush
+     * the reasoner back to back.
+     * If the synchronizer is already active, this method has no effects.
+     * @param maxChanges the number of changes after which the reasoner is synchronised.
+     * @param maxDelay the time (in milliseconds) after the first change within which the reasoner is synchronised.
+     */
+    public synchronized void startReasonerSynchronizer( int maxChanges, long maxDelay){
+        if( reasonerSynchronizer == null)
+            reasonerSynchronizer = new ReasonerSynchronizer( "aMOR reasoner synchronizer of " + getReferenceName(),
+                    maxChanges, maxDelay, this::flushReasoner);
+    }
+    /**
+     * Calls {@link #startReasonerSynchronizer(int, long)} with {@link ReasonerSynchronizer#DEFAULT_MAX_CHANGES}
+     * and {@link ReasonerSynchronizer#DEFAULT_MAX_DELAY}.
+     */
+    public void startReasonerSynchronizer(){
+        startReasonerSynchronizer( ReasonerSynchronizer.DEFAULT_MAX_CHANGES, ReasonerSynchronizer.DEFAULT_MAX_DELAY);
+    }
+    /**
+     * Stops the thread started by {@link #startReasonerSynchronizer(int, long)} after that the pending
+     * requests have been served and, if some changes are still pending, after that the reasoner has been synchronised
+     * a last time. Afterwards, the reasoner should be synchronised explicitly.
+     */
+    public void stopReasonerSynchronizer(){
+        ReasonerSynchronizer synchronizer;
+        synchronized ( this) {
+            synchronizer = reasonerSynchronizer;
+            reasonerSynchronizer = null;
+        }
+        if( synchronizer != null)
+            synchronizer.stop();
+    }
+    /**
+     * @return {@code true} if the reasoner is synchronised by a dedicated thread (see {@link #startReasonerSynchronizer(int, long)}).
+     */
+    public boolean isReasonerSynchronizing(){
+        return reasonerSynchronizer != null;
+    }
+    /**
+     * @return the thread that synchronises the reasoner, or {@code null} if it is not active.
+     */
+    public ReasonerSynchronizer getReasonerSynchronizer(){
+        return reasonerSynchronizer;
+    }
+    /**
+     * Requires a synchronisation of the reasoner with the changes already applied to the ontology. Differently
+     * from {@link #synchronizeReasoner()}, the changes buffered by the {@link OWLManipulator} are not applied,
+     * since they are left to the thread that buffered them. If the synchronizer is active (see
+     * {@link #startReasonerSynchronizer(int, long)}), the concurrent requests are coalesced and served by a single
+     * synchronisation. Otherwise, the reasoner is synchronised by the calling thread.
+     * @return a future completed after that the reasoner has been synchronised.
+     */
+    public CompletableFuture< Void> requestSynchronizeReasoner(){
+        ReasonerSynchronizer synchronizer = reasonerSynchronizer;
+        if( synchronizer != null)
+            return synchronizer.request();
+        flushReasoner();
+        return CompletableFuture.completedFuture( null);
+    }
+    // applies the buffered changes and waits for the synchronizer, it returns false if the synchronizer has been stopped
+    private boolean requestSynchronizeReasoner( ReasonerSynchronizer synchronizer){
+        long initialTime = System.nanoTime();
+        Lock mutex = getSynchronisationMutex();
+        mutex.lock();
+        long workInitialTime = System.nanoTime();
+        try{
+            if( isConsistent()) // as OWLReferencesInterface.synchronizeReasoner()
+                getManipulator().applyChanges();
+        } finally{
+            mutex.unlock();
+        }
+        try {
+            synchronizer.request().join();
+            return true;
+        } catch ( CompletionException e){
+            if( e.getCause() instanceof IllegalStateException && ! synchronizer.isRunning())
+                return false; // it has been stopped in the meanwhile, the reasoner is synchronised by this thread
+            if( e.getCause() instanceof RuntimeException)
+                throw (RuntimeException) e.getCause();
+            throw e;
+        } finally {
+            getOperationMetrics( "synchronizeReasoner").record( workInitialTime - initialTime, System.nanoTime() - workInitialTime);
+        }
+    }
+    // synchronises the reasoner with the changes already applied, without applying the buffer of the manipulator
+    private void flushReasoner(){
+        long initialTime = System.nanoTime();
+        Lock mutex = getSynchronisationMutex();
+        mutex.lock();
+        long workInitialTime = System.nanoTime();
+        try{
+            super.synchronizeReasoner( new ArrayList<>());
+        } finally{
+            mutex.unlock();
+            getOperationMetrics( "flushReasoner").record( workInitialTime - initialTime, System.nanoTime() - workInitialTime);
+        }
+    }
+
+    /**
+     * Also counts the applied changes for the {@link ReasonerSynchronizer} (if active),
+     * and logs them for the {@link DoubleBufferedReasoner} (if active).
+     * @see OWLReferencesInterface#ontologyChanged(List)
+     */
+    @Override
+    protected void ontologyChanged( List< ? extends OWLOntologyChange> changes){
+        super.ontologyChanged( changes);
+        ReasonerSynchronizer synchronizer = reasonerSynchronizer;
+        if( synchronizer != null)
+            synchronizer.changesApplied( changes.size());
+        DoubleBufferedReasoner doubleBuffer = doubleBufferedReasoner;
+        if( doubleBuffer != null)
+            doubleBuffer.changesApplied( changes, getOntologyVersion());
+    }
+
+    /**
+     * Also resets the changes counted by the {@link ReasonerSynchronizer} (if active).
+     * @see OWLReferencesInterface#reasoningPerformed()
+     */
+    @Override
+    protected void reasoningPerformed(){
+        super.reasoningPerformed();
+        ReasonerSynchronizer synchronizer = reasonerSynchronizer;
+        if( synchronizer != null)
+            synchronizer.reasoningPerformed();
+        DoubleBufferedReasoner doubleBuffer = doubleBufferedReasoner;
+        if( doubleBuffer != null)
+            doubleBuffer.refresh(); // performed in background, after that the locks are released
+    }
+
+    // [[[[[[[[[[[[[[[[[[[[[[   METHODS FOR DOUBLE BUFFERED REASONING (thread safe)   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
+    /**
+     * Starts serving the queries given to {@link #queryCommitted(Function)} from the last committed inference state,
+     * while the next one is computed in background (see {@link DoubleBufferedReasoner}). The first state is
+     * computed immediately, and a new one every time that the reasoner of this reference is synchronised.
+     * Each state is a copy of the ontology (not shared with {@link #snapshot()}) with a dedicated reasoner, whose
+     * inferences are computed before that it is swapped in, so such queries have a bounded latency but they can
+     * return stale results (compare {@link DoubleBufferedReasoner#getCommittedVersion()} with {@link #getOntologyVersion()}).
+     * The replaced state is updated with the changes applied in the meantime, and it is swapped in at the next
+     * synchronisation. Until the first state is committed, the queries are performed on this reference.
+     * Note that only the queries given to {@link #queryCommitted(Function)} are served from the committed state, while
+     * the other queries of this reference (e.g., {@link #getIndividualB2Class(String)}) still wait for the reasoning.
+     * The memory required is the one of two copies of the ontology and of their reasoners.
+     * If the double buffering is already active, this method has no effects.
+     */
+    public synchronized void startDoubleBufferedReasoning(){
+        if( doubleBufferedReasoner == null) {
+            doubleBufferedReasoner = new DoubleBufferedReasoner( "aMOR double buffered reasoner of " + getReferenceName(),
+                    () -> takeSnapshot( false), this::queryLive);
+            doubleBufferedReasoner.refresh();
         }
     }
+    /**
+     * Stops computing new inference states (see {@link #startDoubleBufferedReasoning()}) after that the
+     * pending one has been committed. Afterwards, {@link #queryCommitted(Function)} waits for the reasoning.
+     */
+    public void stopDoubleBufferedReasoning(){
+        DoubleBufferedReasoner doubleBuffer;
+        synchronized ( this) {
+            doubleBuffer = doubleBufferedReasoner;
+            doubleBufferedReasoner = null;
+        }
+        if( doubleBuffer != null)
+            doubleBuffer.stop();
+    }
+    /**
+     * @return {@code true} if the queries are served from the last committed inference state (see {@link #startDoubleBufferedReasoning()}).
+     */
+    public boolean isDoubleBufferedReasoning(){
+        return doubleBufferedReasoner != null;
+    }
+    /**
+     * @return the object that computes the inference states in background, or {@code null} if it is not active.
+     */
+    public DoubleBufferedReasoner getDoubleBufferedReasoner(){
+        return doubleBufferedReasoner;
+    }
+    /**
+     * Performs a generic query on the last committed inference state, if the double buffering is active
+     * (see {@link #startDoubleBufferedReasoning()}). Otherwise, it is performed on a {@link #snapshot()} of this reference,
+     * which waits for the manipulations and the reasoning. E.g.: {@code ontoRef.queryCommitted( q -> q.getIndividualClasses( i))}.
+     * @param query the query to be performed with the {@link OWLEnquirer} of the committed state.
+     * @param <T> the type returned by the query.
+     * @return the result of the query, or {@code null} if the state cannot be taken.
+     */
+    public <T> T queryCommitted( Function< OWLEnquirer, T> query){
+        DoubleBufferedReasoner doubleBuffer = doubleBufferedReasoner;
+        if( doubleBuffer != null)
+            return doubleBuffer.query( query);
+        OWLReferencesSnapshot snapshot = snapshot();
+        if( snapshot == null)
+            return null;
+        return snapshot.query( query);
+    }
+
+    // performs a query on this reference, while the manipulations and the reasoning are locked out
+    private <T> T queryLive( Function< OWLEnquirer, T> query){
+        List< Lock> mutexes = isReadWriteLocking() ? getMutexes( readLock, getReasonerQueryMutex()) : getMutexes( mutexReasoner);
+        return new OWLReferencesCaller< T>( "queryLive", mutexes, this) {
+            @Override
+            protected T performSynchronisedCall() {
+                return query.apply( getEnquirer());
+            }
+        }.call();
+    }
+
+    // [[[[[[[[[[[[[[[[[[[[[[   METHODS TO COMMIT BATCHES (thread safe)   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
+    /**
+     * Returns a new batch of manipulations (see {@link OWLReferencesBatch}), e.g.:
+     * {@code ontoRef.batch().addIndividualB2Class(..).replaceDataProperty(..).commit()}.
+     * The batch collects its changes without using the buffer (nor the buffering flag) of the
+     * {@link OWLManipulator} of this reference, and it applies all of them at once when it is committed.
+     * @return a new, empty, batch of manipulations for this reference.
+     */
+    public OWLReferencesBatch batch(){
+        return new OWLReferencesBatch( this);
+    }
+
+    /**
+     * Applies the changes of a batch (see {@link #batch()}) with a single call to the ontology manager,
+     * while all the other manipulations, the reasoning and, in {@link #CONCURRENCY_MUTEXES} mode, the queries are locked out.
+     * The changes buffered in the {@link OWLManipulator} of this reference are not applied.
+     * In group commit mode (see {@link #startGroupCommit(int, boolean)}) the changes are applied by the writer thread.
+     * @param changes the changes to be applied.
+     * @param synchronise if {@code true}, the reasoner is synchronised once, after that the changes are applied
+     *                    (see {@link OWLReferencesInterface#synchronizeReasoner(List)}).
+     * @return the number of applied changes.
+     */
+    protected int commitBatch( List< OWLOntologyChange> changes, boolean synchronise){
+        if( changes.isEmpty() && ! synchronise)
+            return 0;
+        List< Lock> mutexes = getMutexes( getSynchronisationMutex());
+        return new OWLReferencesCaller< Integer>( "commitBatch", CallKind.MANIPULATION, mutexes, this) {
+            @Override
+            protected Integer performSynchronisedCall() {
+                if( synchronise)
+                    OWLReferences.super.synchronizeReasoner( changes);
+                else getManipulator().applyChanges( changes);
+                return changes.size();
+            }
+        }.call();
+    }
+
+    // [[[[[[[[[[[[[[[[[[[[[[   METHODS TO TAKE SNAPSHOTS (thread safe)   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
+    /**
+     * Returns an immutable and versioned view of this reference (see {@link OWLReferencesSnapshot}).
+     * The ontology is copied while manipulations and reasoning are locked out; afterwards, queries on the
+     * returned view never wait for (nor observe) manipulations or reasoning performed on this reference.
+     * Changes that are still in the {@link OWLManipulator} buffer are not part of the view, while its inferences
+     * are computed on all the copied axioms.
+     * If the ontology did not change since the last snapshot (and the enquirer flags are the same),
+     * the same view is returned.
+     * @return a read only view of the actual state of this reference, or {@code null} if the ontology cannot be copied.
+     */
+    public OWLReferencesSnapshot snapshot(){
+        return takeSnapshot( true);
+    }
+
+    // copies the ontology, if reuse is true the last snapshot can be returned and the new one is published
+    private OWLReferencesSnapshot takeSnapshot( boolean reuse){
+        List< Lock> mutexes = getSnapshotMutexes();
+        OWLReferencesSnapshot snapshot = new OWLReferencesCaller< OWLReferencesSnapshot>( "snapshot", mutexes, this) {
+            @Override
+            protected OWLReferencesSnapshot performSynchronisedCall() {
+                OWLReferencesSnapshot last = lastSnapshot;
+                if( reuse && last != null && last.getVersion() == getOntologyVersion()
+                        && last.isIncludingInferences().equals( getOWLEnquirerReasoningFlag())
+                        && last.isReturningCompleteDescription().equals( getOWLEnquirerCompletenessFlag()))
+                    return last;
+                try {
+                    return new OWLReferencesSnapshot( OWLReferences.this);
+                } catch (OWLOntologyCreationException e) {
+                    e.printStackTrace();
+                    logger.addDebugString( "Cannot create a snapshot of the ontology: " + getReferenceName(), true);
+                    return null;
+                }
+            }
+            @Override
+            protected boolean isOptimistic() {
+                return false; // the deep copy must never run unlocked
+            }
+        }.call();
+        // published only after that the copy has been completed under the lock
+        if( reuse && snapshot != null)
+            synchronized ( snapshotPublication) {
+                OWLReferencesSnapshot last = lastSnapshot;
+                if( last == null || last.getVersion() <= snapshot.getVersion())
+                    lastSnapshot = snapshot;
+            }
+        return snapshot;
+    }
+
+    /**
+     * Performs the same query for each given individual in parallel, on a {@link #snapshot()} of this reference
+     * (see {@link OWLReferencesSnapshot#queryParallel(Collection, BiFunction)}). Locks are held only while the
+     * snapshot is taken, and the reasoner replicas of the snapshot are reused until the ontology changes.
+     * E.g.: {@code ontoRef.queryParallel( individuals, (q, i) -> q.getObjectPropertyB2Individual( i))}.
+     * @param individuals the individuals to query.
+     * @param query the query to be performed for each individual.
+     * @param <T> the type returned by the query.
+     * @return the result of the query for each individual, or {@code null} if the snapshot cannot be taken.
+     */
+    public <T> Map< OWLNamedIndividual, T> queryParallel( Collection< OWLNamedIndividual> individuals, BiFunction< OWLEnquirer, OWLNamedIndividual, T> query){
+        OWLReferencesSnapshot snapshot = snapshot();
+        if( snapshot == null)
+            return null;
+        return snapshot.queryParallel( individuals, query);
+    }
+
+    // [[[[[[[[[[[[[[[[[[[[[[   METHODS TO APPLY CHANGES (thread safe)   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
+    /**
+     * This method synchronises {@link OWLReferencesInterface#applyOWLManipulatorChanges()}
+     * with respect to the write lock, if this reference does not use the {@link #CONCURRENCY_MUTEXES} mode.
+     */
+    @Override
+    public void applyOWLManipulatorChanges(){
+        new OWLReferencesCaller< Void>( "applyOWLManipulatorChanges", getApplyingMutexes(), this) {
+            @Override
+            protected Void performSynchronisedCall() {
+                OWLReferences.super.applyOWLManipulatorChanges();
+                return null;
+            }
+        }.call();
+    }
+    /**
+     * This method synchronises {@link OWLReferencesInterface#applyOWLManipulatorChanges(OWLOntologyChange)}
+     * with respect to the write lock, if this reference does not use the {@link #CONCURRENCY_MUTEXES} mode.
+     * @param addAxiom the axiom to be applied into the ontology.
+     */
+    @Override
+    public void applyOWLManipulatorChanges( OWLOntologyChange addAxiom){
+        new OWLReferencesCaller< Void>( "applyOWLManipulatorChanges", getApplyingMutexes(), this) {
+            @Override
+            protected Void performSynchronisedCall() {
+                OWLReferences.super.applyOWLManipulatorChanges( addAxiom);
+                return null;
+            }
+        }.call();
+    }
+    /**
+     * This method synchronises {@link OWLReferencesInterface#applyOWLManipulatorChanges(List)}
+     * with respect to the write lock, if this reference does not use the {@link #CONCURRENCY_MUTEXES} mode.
+     * @param addAxiom the list of axioms to be applied into the ontology.
+     */
+    @Override
+    public void applyOWLManipulatorChanges( List<OWLOntologyChange> addAxiom){
+        new OWLReferencesCaller< Void>( "applyOWLManipulatorChanges", getApplyingMutexes(), this) {
+            @Override
+            protected Void performSynchronisedCall() {
+                OWLReferences.super.applyOWLManipulatorChanges( addAxiom);
+                return null;
+            }
+        }.call();
+    }
+    /**
+     * This method synchronises {@link OWLReferencesInterface#applyOWLManipulatorChangesAddAxiom(OWLAxiom)}
+     * with respect to the write lock, if this reference does not use the {@link #CONCURRENCY_MUTEXES} mode.
+     * @param addAxiom the axiom to be added and applied to the ontology.
+     */
+    @Override
+    public void applyOWLManipulatorChangesAddAxiom( OWLAxiom addAxiom){
+        new OWLReferencesCaller< Void>( "applyOWLManipulatorChangesAddAxiom", getApplyingMutexes(), this) {
+            @Override
+            protected Void performSynchronisedCall() {
+                OWLReferences.super.applyOWLManipulatorChangesAddAxiom( addAxiom);
+                return null;
+            }
+        }.call();
+    }
+    /**
+     * This method synchronises {@link OWLReferencesInterface#applyOWLManipulatorChangesRemoveAxiom(OWLAxiom)}
+     * with respect to the write lock, if this reference does not use the {@link #CONCURRENCY_MUTEXES} mode.
+     * @param removeAxiom the axiom to be removed and applied to the ontology.
+     */
+    @Override
+    public void applyOWLManipulatorChangesRemoveAxiom( OWLAxiom removeAxiom){
+        new OWLReferencesCaller< Void>( "applyOWLManipulatorChangesRemoveAxiom", getApplyingMutexes(), this) {
+            @Override
+            protected Void performSynchronisedCall() {
+                OWLReferences.super.applyOWLManipulatorChangesRemoveAxiom( removeAxiom);
+                return null;
+            }
+        }.call();
+    }
 
     // [[[[[[[[[[[[[[[[[[[[[[   METHODS TO SAVE (exportable) ONTOLOGY   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
     /**
@@ -3548,6 +4734,190 @@ public class OWLReferences extends OWLReferencesInterface{
         }
     }
 
+    // [[[[[[[[[[[[[[[[[[[[[[   METHODS FOR OPERATION METRICS (thread safe)   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
+    /**
+     * Returns the timing collected for all the operations performed on this reference so far.
+     * Each call records the time spent waiting for the locks and the time spent performing
+     * the operation into the {@link OperationMetrics} indexed by the name of the called method
+     * (overloaded methods share the same metrics, e.g. {@code "getIndividualClasses"}).
+     * @return an unmodifiable view of the metrics of this reference, indexed by operation name.
+     */
+    public Map< String, OperationMetrics> getOperationMetrics(){
+        return Collections.unmodifiableMap( operationMetrics);
+    }
+    /**
+     * @param operation the name of the operation (i.e., of the called method).
+     * @return the metrics of the given operation. They are created if the operation has never been called.
+     */
+    public OperationMetrics getOperationMetrics( String operation){
+        OperationMetrics metrics = operationMetrics.get( operation);
+        if( metrics == null)
+            metrics = operationMetrics.computeIfAbsent( operation, OperationMetrics::new);
+        return metrics;
+    }
+    /**
+     * Clears the metrics of all the operations of this reference.
+     */
+    public void resetOperationMetrics(){
+        for( OperationMetrics metrics : operationMetrics.values())
+            metrics.reset();
+    }
+
+    // [[[[[[[[[[[[[[[[[[[[[[   METHODS TO SET CONCURRENCY MODE   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
+    /**
+     * Set the way in which the calls to this reference are synchronised. Possible values are:
+     * {@link #CONCURRENCY_MUTEXES} (default), {@link #CONCURRENCY_READ_WRITE} and {@link #CONCURRENCY_OPTIMISTIC_READ_WRITE}.
+     * The mode should be set before sharing this reference among different threads,
+     * since calls already waiting for a lock are not affected.
+     * @param mode the concurrency mode to be used by this reference.
+     */
+    public void setConcurrencyMode( Integer mode){
+        if( CONCURRENCY_MUTEXES.equals( mode) || CONCURRENCY_READ_WRITE.equals( mode) || CONCURRENCY_OPTIMISTIC_READ_WRITE.equals( mode)) {
+            concurrencyMode = mode;
+            logger.addDebugString( getReferenceName() + " uses concurrency mode: " + mode);
+        } else logger.addDebugString( "Cannot set the unknown concurrency mode: " + mode, true);
+    }
+    /**
+     * @return the actual concurrency mode of this reference (see {@link #setConcurrencyMode(Integer)}).
+     */
+    public Integer getConcurrencyMode(){
+        return concurrencyMode;
+    }
+    /**
+     * @return {@code true} if this reference uses a read/write lock instead of per-method mutexes.
+     */
+    public boolean isReadWriteLocking(){
+        return ! CONCURRENCY_MUTEXES.equals( concurrencyMode);
+    }
+
+    // the lock used to synchronise the reasoner with respect to all the other calls
+    private Lock getSynchronisationMutex(){
+        if( isReadWriteLocking())
+            return writeLock;
+        return mutexReasoner;
+    }
+
+    // true if the current thread holds some locks of this reference, or of the given ones,
+    // so that it would deadlock while waiting for another thread that acquires them
+    private boolean isHoldingLocks( List< Lock> mutexes){
+        if( lockingDepth.get() > 0 || Thread.holdsLock( this))
+            return true; // e.g., a manipulation within a reasoner callback, or within a synchronised method
+        if( mutexes != null)
+            for( Lock l : mutexes)
+                if( l instanceof ReentrantLock && ( (ReentrantLock) l).isHeldByCurrentThread())
+                    return true;
+        return false;
+    }
+
+    // the lock used to apply buffered changes, null (i.e., only the monitor of this object) in CONCURRENCY_MUTEXES mode
+    private List<Lock> getApplyingMutexes(){
+        if( isReadWriteLocking())
+            return getMutexes( writeLock);
+        return null;
+    }
+
+    // the lock used to copy the ontology, it excludes all the manipulations
+    private List<Lock> getSnapshotMutexes(){
+        if( isReadWriteLocking())
+            return getMutexes( readLock);
+        return getMutexes( mutexReasoner);
+    }
+
+    // methods to easy get the locks of the queries, they depend on the concurrency mode
+    private List<Lock> getQueryMutexes(Lock mutex1, Lock mutex2) {
+        if( isReadWriteLocking())
+            return getReadMutexes();
+        return getMutexes( mutex1, mutex2);
+    }
+    private List<Lock> getQueryMutexes(Lock mutex1, Lock mutex2, Lock mutex3, Lock mutex4) {
+        if( isReadWriteLocking())
+            return getReadMutexes();
+        return getMutexes( mutex1, mutex2, mutex3, mutex4);
+    }
+    // the reasoner is always involved (e.g., SPARQL)
+    private List<Lock> getReasonerQueryMutexes(Lock mutex1, Lock mutex2) {
+        if( isReadWriteLocking())
+            return getMutexes( readLock, getReasonerQueryMutex());
+        return getMutexes( mutex1, mutex2);
+    }
+    private List<Lock> getReadMutexes(){
+        if( getOWLEnquirerReasoningFlag())
+            return getMutexes( readLock, getReasonerQueryMutex());
+        return getMutexes( readLock);
+    }
+    // the lock among the queries involving the reasoner, the pool checks out a reasoner for each query instead
+    private Lock getReasonerQueryMutex(){
+        return reasonerQueryMutex;
+    }
+    // it chooses between the pool and the main reasoner only when it is locked, i.e., after the read lock,
+    // so that the pool cannot be replaced (or disposed) by the reasoning in the meanwhile
+    private class ReasonerQueryMutex implements Lock{
+        // the locks actually acquired by the calling thread, for nested calls
+        private final ThreadLocal< Deque< Lock>> acquired = ThreadLocal.withInitial( ArrayDeque::new);
+
+        private Lock resolve(){
+            ReasonerPool pool = getReasonerPool();
+            if( pool != null && ! pool.isStale())
+                return pool;
+            return mutexReasonerQuery;
+        }
+
+        @Override
+        public void lock() {
+            Lock mutex = resolve();
+            mutex.lock();
+            acquired.get().push( mutex);
+        }
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            Lock mutex = resolve();
+            mutex.lockInterruptibly();
+            acquired.get().push( mutex);
+        }
+        @Override
+        public boolean tryLock() {
+            Lock mutex = resolve();
+            if( ! mutex.tryLock())
+                return false;
+            acquired.get().push( mutex);
+            return true;
+        }
+        @Override
+        public boolean tryLock( long time, TimeUnit unit) throws InterruptedException {
+            Lock mutex = resolve();
+            if( ! mutex.tryLock( time, unit))
+                return false;
+            acquired.get().push( mutex);
+            return true;
+        }
+        @Override
+        public void unlock() {
+            Deque< Lock> mutexes = acquired.get();
+            if( mutexes.isEmpty())
+                throw new IllegalMonitorStateException( "The calling thread does not hold the reasoner query mutex.");
+            mutexes.pop().unlock();
+        }
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException( "The reasoner query mutex does not support conditions.");
+        }
+    }
+    // methods to easy get the locks of the manipulations, they depend on the concurrency mode
+    private List<Lock> getManipulationMutexes(Lock mutex) {
+        if( isReadWriteLocking())
+            return getMutexes( writeLock);
+        return getMutexes( mutex);
+    }
+    private List<Lock> getManipulationMutexes(Lock mutex1, Lock mutex2) {
+        if( isReadWriteLocking())
+            return getMutexes( writeLock);
+        return getMutexes( mutex1, mutex2);
+    }
+    // true if the call can be performed with an optimistic read (it does not involve the reasoner)
+    private boolean isOptimisticRead( List< Lock> mutexes){
+        return CONCURRENCY_OPTIMISTIC_READ_WRITE.equals( concurrencyMode) && mutexes.size() == 1 && mutexes.get( 0) == readLock;
+    }
+
     // method to easy get object to initialise OWLReferencesCall
     private List<Lock> getMutexes(Lock mutex) {
         List<Lock> mutexes = new ArrayList<>();
@@ -3581,26 +4951,55 @@ public class OWLReferences extends OWLReferencesInterface{
 
     // [[[[[[[[[[[[[[[[[[[[[[              INTERNAL CLASS               ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
     // use to manage logging and mutex for all the call to the OWLManipulator and OWLEnquirer
+    /**
+     * The kind of a call performed through {@link OWLReferencesCaller}. The manipulations are performed by the
+     * group commit writer, if it is running (see {@link #startGroupCommit(int, boolean)}).
+     */
+    protected enum CallKind{
+        /**
+         * A call that does not change the ontology.
+         */
+        QUERY,
+        /**
+         * A call that changes the ontology.
+         */
+        MANIPULATION
+    }
+
     abstract protected class OWLReferencesCaller< T>{
         //// constant
         public final Long NANOSEC_2_SEC = 1000000000L;
         public final Float MIN_LOGGING_THRESHOULD = 0.000000050F; // in seconds
+        public static final String UNNAMED_OPERATION = "unnamed";
 
         //// fields
         private List< Lock> mutexes;
+        private CallKind kind;
         private Long synchronisatedInitialTime, workInitialTime;
         private OWLReferences ontoRef;
         private Float minLoggingThreshould;
+        private String operation;
 
         //// constructor
         public OWLReferencesCaller( List< Lock> mutexes, OWLReferences ontoRef){
-            this.initialise(mutexes, ontoRef, MIN_LOGGING_THRESHOULD);
+            this.initialise( UNNAMED_OPERATION, CallKind.QUERY, mutexes, ontoRef, MIN_LOGGING_THRESHOULD);
+        }
+        public OWLReferencesCaller( CallKind kind, List< Lock> mutexes, OWLReferences ontoRef){
+            this.initialise( UNNAMED_OPERATION, kind, mutexes, ontoRef, MIN_LOGGING_THRESHOULD);
         }
         public OWLReferencesCaller( List< Lock> mutexes, OWLReferences ontoRef, Float minLoggingThreshould){
-            this.initialise(mutexes, ontoRef, minLoggingThreshould);
+            this.initialise( UNNAMED_OPERATION, CallKind.QUERY, mutexes, ontoRef, minLoggingThreshould);
+        }
+        public OWLReferencesCaller( String operation, List< Lock> mutexes, OWLReferences ontoRef){
+            this.initialise( operation, CallKind.QUERY, mutexes, ontoRef, MIN_LOGGING_THRESHOULD);
+        }
+        public OWLReferencesCaller( String operation, CallKind kind, List< Lock> mutexes, OWLReferences ontoRef){
+            this.initialise( operation, kind, mutexes, ontoRef, MIN_LOGGING_THRESHOULD);
         }
-        private void initialise( List< Lock> mutexes, OWLReferences ontoRef, Float minLoggingThreshould){
+        private void initialise( String operation, CallKind kind, List< Lock> mutexes, OWLReferences ontoRef, Float minLoggingThreshould){
             // initialise fields
+            this.operation = operation;
+            this.kind = kind;
             this.mutexes = mutexes;
             this.ontoRef = ontoRef;
             this.minLoggingThreshould = minLoggingThreshould;
@@ -3610,16 +5009,49 @@ public class OWLReferences extends OWLReferencesInterface{
         public T call(){
             T t;
             setSynchronisatedInitialTime();
+            GroupCommitWriter writer = getOntoRef().groupCommitWriter;
+            if( writer != null && kind == CallKind.MANIPULATION && ! isHoldingLocks()) // the writer thread acquires the locks
+                return writer.execute( () -> getOntoRef().performCommitted( this::doSynchronisedWork));
             if( mutexes != null){
-                    lockMutex();
+                if( isOptimistic()){
+                    long stamp = getOntoRef().readWriteLock.tryOptimisticRead();
+                    if( stamp != 0L) {
+                        try {
+                            setWorkInitialTime();
+                            t = performSynchronisedCall();
+                            if (getOntoRef().readWriteLock.validate(stamp)) {
+                                // only the attempt whose result is returned is recorded
+                                loggLockTime( getSynchronisatedInitialTime(), getWorkInitialTime());
+                                return t;
+                            }
+                        } catch (RuntimeException e) {
+                            // the ontology has been changed during the reading, otherwise it is a real failure
+                            if (getOntoRef().readWriteLock.validate(stamp))
+                                throw e;
+                        }
+                    }
+                    setSynchronisatedInitialTime(); // retry under the read lock
+                }
+                lockMutex();
+                ThreadLocal< Integer> depth = getOntoRef().lockingDepth;
+                depth.set( depth.get() + 1);
                 try{
                     t = doSynchronisedWork();
                 } finally {
+                    depth.set( depth.get() - 1);
                     unlockMutex();
                 }
             } else t = doSynchronisedWork();
             return t;
         }
+        // true if the current thread holds some locks of this reference, and it would deadlock while waiting for the writer thread
+        private boolean isHoldingLocks(){
+            return getOntoRef().isHoldingLocks( getMutexes());
+        }
+        // true if the call can be performed without locks, and validated afterwards
+        protected boolean isOptimistic(){
+            return getOntoRef().isOptimisticRead( mutexes);
+        }
         protected void lockMutex(){
             for( int i = 0; i < getMutexes().size(); i++)
                 getMutexes().get( i).lock();
@@ -3636,19 +5068,14 @@ public class OWLReferences extends OWLReferencesInterface{
                 getMutexes().get( i).unlock();
         }
 
-        // for logging time (how much has been waiting for the mutex) and (how much has been waiting to do the manipulation)
+        // for recording time (how much has been waiting for the mutex) and (how much has been waiting to do the manipulation)
         private void loggLockTime( long initialTime, long unlockingTime){
-            Float time = Float.valueOf( unlockingTime - initialTime) / NANOSEC_2_SEC; // in seconds
-            Float time2 = Float.valueOf( System.nanoTime() - unlockingTime) / NANOSEC_2_SEC;
-            if( time >= minLoggingThreshould || time2 >= minLoggingThreshould){
-                StackTraceElement[] trace = Thread.currentThread().getStackTrace();
-                String method = "", caller = "";
-                if( trace.length >= 3){
-                    method = trace[2].getMethodName();
-                    caller = trace[ trace.length - 1].getMethodName();
-                }
-                logger.addDebugString( getOntoRef().getReferenceName() + " locked on " + method + " for " + time + " [sec] (top stack trace caller: " + caller + ")");
-                logger.addDebugString( getOntoRef().getReferenceName() + " spent " + time2 + "[sec] waiting in OWLLibrary");
+            long lockWait = unlockingTime - initialTime;
+            long work = System.nanoTime() - unlockingTime;
+            getOntoRef().getOperationMetrics( operation).record( lockWait, work);
+            if( logger.getFlagToFollow() && ( lockWait >= minLoggingThreshould * NANOSEC_2_SEC || work >= minLoggingThreshould * NANOSEC_2_SEC)) {
+                logger.addDebugString( getOntoRef().getReferenceName() + " locked on " + operation + " for " + lockWait + " [ns]");
+                logger.addDebugString( getOntoRef().getReferenceName() + " spent " + work + " [ns] on " + operation + " in OWLLibrary");
             }
         }
 
@@ -3665,6 +5092,12 @@ public class OWLReferences extends OWLReferencesInterface{
         protected OWLReferences getOntoRef() {
             return ontoRef;
         }
+        protected String getOperation() {
+            return operation;
+        }
+        protected CallKind getKind() {
+            return kind;
+        }
 
         protected Float getMinLoggingThreshould() {
             return minLoggingThreshould;
@@ -0,0 +1,384 @@
+package it.emarolab.amor.owlInterface;
+
+import org.semanticweb.owlapi.model.*;
+
+import java.util.List;
+
+/**
+ * <div style="text-align:center;"><small>
+ * <b>Project</b>:    aMOR <br>
+ * <b>File</b>:       it.emarolab.amor.owlInterface.OWLReferencesBatch <br>
+ * <b>Licence</b>:    GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:     aMOR contributors <br>
+ * <b>date</b>:       Oct 18, 2026 <br>
+ * </small></div>
+ *
+ * <p>
+ *     This class collects some manipulations of an {@link OWLReferences} (see {@link OWLReferences#batch()})
+ *     and applies them atomically, e.g.:
+ *     {@code ontoRef.batch().addIndividualB2Class( "i", "C").replaceDataProperty( "i", "p", 1, 2).commit();}<br>
+ *     The changes are collected by a dedicated {@link OWLManipulator}, which always buffers them.
+ *     Therefore, neither the buffer nor the buffering flag of the manipulator of the reference are involved,
+ *     and different threads can prepare their own batches on the same reference without affecting each others.
+ *     When the batch is committed, all its changes are applied with a single call, under the lock used by
+ *     the manipulations of the reference, and the reasoner is synchronised at most once
+ *     (see {@link OWLReferences#commitBatch(List, boolean)}).<br>
+ *     A batch is not thread safe, it should be prepared and committed by one thread.
+ *     The manipulations of a batch do not read the ontology, they only create the axioms to be added or removed.
+ * </p>
+ *
+ * @version 2.2
+ */
+public class OWLReferencesBatch {
+
+    private final OWLReferences ontoRef;
+    private final OWLManipulator manipulator; // it buffers the changes of this batch
+
+    /**
+     * @param ontoRef the reference to be manipulated.
+     */
+    protected OWLReferencesBatch( OWLReferences ontoRef){
+        this.ontoRef = ontoRef;
+        this.manipulator = new OWLManipulator( ontoRef, true);
+    }
+
+    /**
+     * @return the reference manipulated by this batch.
+     */
+    public OWLReferences getReference(){
+        return ontoRef;
+    }
+
+    /**
+     * @return a copy of the changes collected by this batch, in the order in which they have been added.
+     */
+    public List< OWLOntologyChange> getChanges(){
+        return manipulator.getPendingChanges();
+    }
+
+    /**
+     * @return the number of changes collected by this batch.
+     */
+    public int size(){
+        return manipulator.getPendingChangesCount();
+    }
+
+    /**
+     * @return {@code true} if this batch does not contain any change.
+     */
+    public boolean isEmpty(){
+        return size() == 0;
+    }
+
+    /**
+     * Removes all the changes collected by this batch, without applying them.
+     * @return this batch.
+     */
+    public OWLReferencesBatch clear(){
+        manipulator.drainChanges();
+        return this;
+    }
+
+    /**
+     * Calls {@link #commit(boolean)} without synchronising the reasoner.
+     * @return the number of committed changes.
+     */
+    public int commit(){
+        return commit( false);
+    }
+
+    /**
+     * Applies all the changes of this batch to the ontology, at once, and clears this batch
+     * (see {@link OWLReferences#commitBatch(List, boolean)}).
+     * Afterwards, the batch can be used to collect new changes.
+     * @param synchronizeReasoner if {@code true}, the reasoner is synchronised (once) after that the changes are applied.
+     * @return the number of committed changes.
+     */
+    public int commit( boolean synchronizeReasoner){
+        return ontoRef.commitBatch( manipulator.drainChanges(), synchronizeReasoner);
+    }
+
+
+    // [[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[   GENERIC AXIOMS   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
+
+    /**
+     * @param axiom the axiom to be added to the ontology.
+     * @return this batch.
+     */
+    public OWLReferencesBatch addAxiom( OWLAxiom axiom){
+        manipulator.getAddAxiom( axiom, true);
+        return this;
+    }
+
+    /**
+     * @param axiom the axiom to be removed from the ontology.
+     * @return this batch.
+     */
+    public OWLReferencesBatch removeAxiom( OWLAxiom axiom){
+        manipulator.getRemoveAxiom( axiom, true);
+        return this;
+    }
+
+
+    // [[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[   INDIVIDUAL TYPES   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
+
+    /**
+     * @param ind the individual to be added to the ontology.
+     * @return this batch.
+     * @see OWLManipulator#addIndividual(OWLNamedIndividual)
+     */
+    public OWLReferencesBatch addIndividual( OWLNamedIndividual ind){
+        manipulator.addIndividual( ind);
+        return this;
+    }
+    /**
+     * @param individualName the name of the individual to be added to the ontology.
+     * @return this batch.
+     * @see OWLManipulator#addIndividual(String)
+     */
+    public OWLReferencesBatch addIndividual( String individualName){
+        manipulator.addIndividual( individualName);
+        return this;
+    }
+
+    /**
+     * @param ind the individual to be classified.
+     * @param cls its new class.
+     * @return this batch.
+     * @see OWLManipulator#addIndividualB2Class(OWLNamedIndividual, OWLClass)
+     */
+    public OWLReferencesBatch addIndividualB2Class( OWLNamedIndividual ind, OWLClass cls){
+        manipulator.addIndividualB2Class( ind, cls);
+        return this;
+    }
+    /**
+     * @param individualName the name of the individual to be classified.
+     * @param className the name of its new class.
+     * @return this batch.
+     * @see OWLManipulator#addIndividualB2Class(String, String)
+     */
+    public OWLReferencesBatch addIndividualB2Class( String individualName, String className){
+        manipulator.addIndividualB2Class( individualName, className);
+        return this;
+    }
+
+    /**
+     * @param ind the individual to be removed from a class.
+     * @param cls the class to be removed.
+     * @return this batch.
+     * @see OWLManipulator#removeIndividualB2Class(OWLNamedIndividual, OWLClass)
+     */
+    public OWLReferencesBatch removeIndividualB2Class( OWLNamedIndividual ind, OWLClass cls){
+        manipulator.removeIndividualB2Class( ind, cls);
+        return this;
+    }
+    /**
+     * @param individualName the name of the individual to be removed from a class.
+     * @param className the name of the class to be removed.
+     * @return this batch.
+     * @see OWLManipulator#removeIndividualB2Class(String, String)
+     */
+    public OWLReferencesBatch removeIndividualB2Class( String individualName, String className){
+        manipulator.removeIndividualB2Class( individualName, className);
+        return this;
+    }
+
+
+    // [[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[   OBJECT PROPERTIES   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
+
+    /**
+     * @param ind the subject of the property.
+     * @param prop the property to be added.
+     * @param value the value of the property.
+     * @return this batch.
+     * @see OWLManipulator#addObjectPropertyB2Individual(OWLNamedIndividual, OWLObjectProperty, OWLNamedIndividual)
+     */
+    public OWLReferencesBatch addObjectPropertyB2Individual( OWLNamedIndividual ind, OWLObjectProperty prop, OWLNamedIndividual value){
+        manipulator.addObjectPropertyB2Individual( ind, prop, value);
+        return this;
+    }
+    /**
+     * @param individualName the name of the subject of the property.
+     * @param propName the name of the property to be added.
+     * @param valueName the name of the value of the property.
+     * @return this batch.
+     * @see OWLManipulator#addObjectPropertyB2Individual(String, String, String)
+     */
+    public OWLReferencesBatch addObjectPropertyB2Individual( String individualName, String propName, String valueName){
+        manipulator.addObjectPropertyB2Individual( individualName, propName, valueName);
+        return this;
+    }
+
+    /**
+     * @param ind the subject of the property.
+     * @param prop the property to be removed.
+     * @param value the value to be removed.
+     * @return this batch.
+     * @see OWLManipulator#removeObjectPropertyB2Individual(OWLNamedIndividual, OWLObjectProperty, OWLNamedIndividual)
+     */
+    public OWLReferencesBatch removeObjectPropertyB2Individual( OWLNamedIndividual ind, OWLObjectProperty prop, OWLNamedIndividual value){
+        manipulator.removeObjectPropertyB2Individual( ind, prop, value);
+        return this;
+    }
+    /**
+     * @param individualName the name of the subject of the property.
+     * @param propName the name of the property to be removed.
+     * @param valueName the name of the value to be removed.
+     * @return this batch.
+     * @see OWLManipulator#removeObjectPropertyB2Individual(String, String, String)
+     */
+    public OWLReferencesBatch removeObjectPropertyB2Individual( String individualName, String propName, String valueName){
+        manipulator.removeObjectPropertyB2Individual( individualName, propName, valueName);
+        return this;
+    }
+
+    /**
+     * @param ind the subject of the property.
+     * @param prop the property to be replaced.
+     * @param oldValue the value to be removed, if {@code null} the new value is only added.
+     * @param newValue the value to be added.
+     * @return this batch.
+     * @see OWLManipulator#replaceObjectProperty(OWLNamedIndividual, OWLObjectProperty, OWLNamedIndividual, OWLNamedIndividual)
+     */
+    public OWLReferencesBatch replaceObjectProperty( OWLNamedIndividual ind, OWLObjectProperty prop, OWLNamedIndividual oldValue, OWLNamedIndividual newValue){
+        manipulator.replaceObjectProperty( ind, prop, oldValue, newValue);
+        return this;
+    }
+    /**
+     * @param individualName the name of the subject of the property.
+     * @param propName the name of the property to be replaced.
+     * @param oldValueName the name of the value to be removed, if {@code null} the new value is only added.
+     * @param newValueName the name of the value to be added.
+     * @return this batch.
+     */
+    public OWLReferencesBatch replaceObjectProperty( String individualName, String propName, String oldValueName, String newValueName){
+        OWLNamedIndividual oldValue = oldValueName == null ? null : ontoRef.getOWLIndividual( oldValueName);
+        return replaceObjectProperty( ontoRef.getOWLIndividual( individualName), ontoRef.getOWLObjectProperty( propName),
+                oldValue, ontoRef.getOWLIndividual( newValueName));
+    }
+
+
+    // [[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[   DATA PROPERTIES   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
+
+    /**
+     * @param ind the subject of the property.
+     * @param prop the property to be added.
+     * @param value the value of the property.
+     * @return this batch.
+     * @see OWLManipulator#addDataPropertyB2Individual(OWLNamedIndividual, OWLDataProperty, OWLLiteral)
+     */
+    public OWLReferencesBatch addDataPropertyB2Individual( OWLNamedIndividual ind, OWLDataProperty prop, OWLLiteral value){
+        manipulator.addDataPropertyB2Individual( ind, prop, value);
+        return this;
+    }
+    /**
+     * @param individualName the name of the subject of the property.
+     * @param propertyName the name of the property to be added.
+     * @param value the value of the property (see {@link OWLLibrary#getOWLLiteral(Object)}).
+     * @return this batch.
+     * @see OWLManipulator#addDataPropertyB2Individual(String, String, Object)
+     */
+    public OWLReferencesBatch addDataPropertyB2Individual( String individualName, String propertyName, Object value){
+        manipulator.addDataPropertyB2Individual( individualName, propertyName, value);
+        return this;
+    }
+
+    /**
+     * @param ind the subject of the property.
+     * @param prop the property to be removed.
+     * @param value the value to be removed.
+     * @return this batch.
+     * @see OWLManipulator#removeDataPropertyB2Individual(OWLNamedIndividual, OWLDataProperty, OWLLiteral)
+     */
+    public OWLReferencesBatch removeDataPropertyB2Individual( OWLNamedIndividual ind, OWLDataProperty prop, OWLLiteral value){
+        manipulator.removeDataPropertyB2Individual( ind, prop, value);
+        return this;
+    }
+    /**
+     * @param individualName the name of the subject of the property.
+     * @param propertyName the name of the property to be removed.
+     * @param value the value to be removed (see {@link OWLLibrary#getOWLLiteral(Object)}).
+     * @return this batch.
+     * @see OWLManipulator#removeDataPropertyB2Individual(String, String, Object)
+     */
+    public OWLReferencesBatch removeDataPropertyB2Individual( String individualName, String propertyName, Object value){
+        manipulator.removeDataPropertyB2Individual( individualName, propertyName, value);
+        return this;
+    }
+
+    /**
+     * @param ind the subject of the property.
+     * @param prop the property to be replaced.
+     * @param oldValue the value to be removed, if {@code null} the new value is only added.
+     * @param newValue the value to be added.
+     * @return this batch.
+     * @see OWLManipulator#replaceDataPropertyB2Individual(OWLNamedIndividual, OWLDataProperty, OWLLiteral, OWLLiteral)
+     */
+    public OWLReferencesBatch replaceDataProperty( OWLNamedIndividual ind, OWLDataProperty prop, OWLLiteral oldValue, OWLLiteral newValue){
+        manipulator.replaceDataPropertyB2Individual( ind, prop, oldValue, newValue);
+        return this;
+    }
+    /**
+     * @param individualName the name of the subject of the property.
+     * @param propertyName the name of the property to be replaced.
+     * @param oldValue the value to be removed (see {@link OWLLibrary#getOWLLiteral(Object)}),
+     *                 if {@code null} the new value is only added.
+     * @param newValue the value to be added.
+     * @return this batch.
+     */
+    public OWLReferencesBatch replaceDataProperty( String individualName, String propertyName, Object oldValue, Object newValue){
+        OWLLiteral oldLiteral = oldValue == null ? null : ontoRef.getOWLLiteral( oldValue);
+        return replaceDataProperty( ontoRef.getOWLIndividual( individualName), ontoRef.getOWLDataProperty( propertyName),
+                oldLiteral, ontoRef.getOWLLiteral( newValue));
+    }
+
+
+    // [[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[   CLASSES   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
+
+    /**
+     * @param superClass the super class.
+     * @param subClass the sub class.
+     * @return this batch.
+     * @see OWLManipulator#addSubClassOf(OWLClass, OWLClass)
+     */
+    public OWLReferencesBatch addSubClassOf( OWLClass superClass, OWLClass subClass){
+        manipulator.addSubClassOf( superClass, subClass);
+        return this;
+    }
+    /**
+     * @param superClassName the name of the super class.
+     * @param subClassName the name of the sub class.
+     * @return this batch.
+     * @see OWLManipulator#addSubClassOf(String, String)
+     */
+    public OWLReferencesBatch addSubClassOf( String superClassName, String subClassName){
+        manipulator.addSubClassOf( superClassName, subClassName);
+        return this;
+    }
+
+    /**
+     * @param superClass the super class.
+     * @param subClass the sub class.
+     * @return this batch.
+     * @see OWLManipulator#removeSubClassOf(OWLClass, OWLClass)
+     */
+    public OWLReferencesBatch removeSubClassOf( OWLClass superClass, OWLClass subClass){
+        manipulator.removeSubClassOf( superClass, subClass);
+        return this;
+    }
+    /**
+     * @param superClassName the name of the super class.
+     * @param subClassName the name of the sub class.
+     * @return this batch.
+     * @see OWLManipulator#removeSubClassOf(String, String)
+     */
+    public OWLReferencesBatch removeSubClassOf( String superClassName, String subClassName){
+        manipulator.removeSubClassOf( superClassName, subClassName);
+        return this;
+    }
+
+    @Override
+    public String toString() {
+        return "OWLReferencesBatch [reference=" + ontoRef.getReferenceName() + ", changes=" + size() + "]";
+    }
+}
@@ -8,6 +8,7 @@ import org.semanticweb.owlapi.reasoner.OWLReasoner;
 import java.io.File;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 
 //import org.coode.owlapi.manchesterowlsyntax.ManchesterOWLSyntaxOntologyFormat;
 //import org.semanticweb.owlapi.model.OWLOntologyFormat;
@@ -57,12 +58,16 @@ public abstract class OWLReferencesInterface extends OWLLibrary{
     private int usedCommand;
     private String filePath;
     private String ontologyPath;
-    private Boolean consistent = true;
+    private volatile Boolean consistent = true;
     private ReasonerExplanator reasonerExplanator;
     private OWLManipulator manipulator;
 
 //    private  final static OWLObjectRenderer renderer = new DLSyntaxObjectRenderer(); !!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!!
 private OWLEnquirer enquirer;
+    // counts the changes applied to the ontology, used to version the snapshots
+    private final AtomicLong ontologyVersion = new AtomicLong();
+    // true if this reference is not stored in the OWLReferencesContainer (e.g., a snapshot)
+    private boolean detached = false;
     /**
      * This object is used to log information about the instances of this class.
      * The logs can be activated by setting the flag {@link LoggerFlag#LOG_REFERENCES_INTERFACE}
@@ -115,53 +120,125 @@ private OWLEnquirer enquirer;
         else logger.addDebugString( "Cannot initialise an OWL References with null name.", true);
     }
 
+    /**
+     * Create a reference to a copy of the ontology of {@code source}. It has the same name, paths and
+     * enquirer flags of {@code source} but it is not stored in {@link OWLReferencesContainer},
+     * it has no reasoner (see {@link #setOWLReasoner(String, boolean, String)}) and no manipulator.
+     * It is used to implement the read only views given by {@link OWLReferences#snapshot()}.
+     * @param source the reference from which the copied ontology has been taken.
+     * @param ontology the copy of the ontology of {@code source}.
+     * @param version the version of {@code source} when its ontology was copied.
+     */
+    protected OWLReferencesInterface( OWLReferencesInterface source, OWLOntology ontology, long version){
+        super( source, ontology);
+        this.detached = true;
+        this.referenceName = source.getReferenceName();
+        this.filePath = source.getFilePath();
+        this.ontologyPath = source.getOntologyPath();
+        this.usedCommand = source.getUsedCommand();
+        this.bufferingReasoner = true;
+        this.consistent = source.isConsistent();
+        this.ontologyVersion.set( version);
+        this.enquirer = new OWLEnquirer( this, source.getOWLEnquirerCompletenessFlag(), source.getOWLEnquirerReasoningFlag());
+    }
+
+    /**
+     * The maximum number of names stored by each reference (see {@link #getOWLObjectName(OWLObject)}).
+     * When it is exceeded, the least used names are evicted one at a time (see {@link BoundedCache}).
+     */
+    public static int OWL_NAME_CACHE_SIZE = 100000;
+    // the names already given for the entities of this reference
+    private final BoundedCache< OWLEntity, String> entityNames = new BoundedCache<>();
+
     /**
      * It gets the name of an ontological object from its IRI path.
      * It returns {@code null} if the input parameter is {@code null}.
+     * Names of entities are given by {@link #getOWLEntityName(OWLEntity)}, names of literals are their lexical forms,
+     * while other objects are parsed from their string representation.
+     * It is not synchronised.
      *
      * @param obj the object for which get the ontological name
      * @return the name of the ontological object given as input parameter.
      */
-    public synchronized static String getOWLName(OWLObject obj) {
+    public static String getOWLName(OWLObject obj) {
         /*if( o != null)
             return renderer.render( o));
             */
         if (obj != null) {
-            String tmp = obj.toString();
-            // ex: <http://www.co-ode.org/ontologies/pizza/pizza.owl#America>
-            // ex: http://www.w3.org/2001/XMLSchema#boolean
-            int start = tmp.lastIndexOf("#");
-            int end = tmp.lastIndexOf(">");
-            if ( end <= 0)
-                end = tmp.length();
-            if (start >= 0 & end >= 0)
-                return tmp.substring(start + 1, end);
-            else if (tmp.contains("http") & tmp.contains("://")) {
-                int s = tmp.lastIndexOf("/");
-                if (s >= tmp.length()) {
-                    tmp = tmp.substring(0, tmp.length() - 2);
-                    s = tmp.lastIndexOf("/");
-                }
-                int e = tmp.lastIndexOf(">");
-                if (s >= 0 & e >= 0)
-                    return tmp.substring(s + 1, e);
-            } else {
-                // ex: "1"^^xsd:integer
-                String s = tmp;
-                start = s.indexOf("\"");
-                if (start >= 0) {
-                    s = s.substring(start + 1);
-                    end = s.indexOf("\"");
-                    if (end >= 0)
-                        return s.substring(0, end);
-                }
-            }
-            return obj.toString(); // if cannot parse return complete name
+            if (obj instanceof OWLEntity)
+                return getOWLEntityName((OWLEntity) obj);
+            if (obj instanceof OWLLiteral)
+                return ((OWLLiteral) obj).getLiteral(); // ex: "1"^^xsd:integer
+            return parseOWLName(obj.toString());
         }
         staicLogger.addDebugString("Cannot get the OWL name of a null OWL object", true);
         return null;
     }
 
+    /**
+     * It gets the name of an ontological entity from its IRI, i.e., the part after the last {@code #} or {@code /}.
+     * Names are computed without the {@link Object#toString()} of the entity. It is not synchronised.
+     * See {@link #getOWLObjectName(OWLObject)} to store the names given by a reference.
+     * It returns {@code null} if the input parameter is {@code null}.
+     *
+     * @param entity the entity for which get the ontological name.
+     * @return the name of the given entity.
+     */
+    public static String getOWLEntityName(OWLEntity entity) {
+        if (entity == null)
+            return getOWLName((OWLObject) null);
+        return getOWLName(entity.getIRI());
+    }
+
+    // ex: http://www.co-ode.org/ontologies/pizza/pizza.owl#America
+    private static String getOWLName(IRI iri) {
+        String path = iri.toString();
+        String remainder = iri.getRemainder().orElse("");
+        if (!remainder.isEmpty() && path.length() > remainder.length()) {
+            char separator = path.charAt(path.length() - remainder.length() - 1);
+            if (separator == '#' || (separator == '/' && path.indexOf('#') < 0))
+                return remainder;
+        }
+        int start = path.lastIndexOf("#");
+        if (start >= 0)
+            return path.substring(start + 1);
+        return parseOWLName("<" + path + ">");
+    }
+
+    // the name of an object given its string representation
+    private static String parseOWLName(String tmp) {
+        // ex: <http://www.co-ode.org/ontologies/pizza/pizza.owl#America>
+        // ex: http://www.w3.org/2001/XMLSchema#boolean
+        String all = tmp;
+        int start = tmp.lastIndexOf("#");
+        int end = tmp.lastIndexOf(">");
+        if ( end <= 0)
+            end = tmp.length();
+        if (start >= 0 & end >= 0)
+            return tmp.substring(start + 1, end);
+        else if (tmp.contains("http") & tmp.contains("://")) {
+            int s = tmp.lastIndexOf("/");
+            if (s >= tmp.length()) {
+                tmp = tmp.substring(0, tmp.length() - 2);
+                s = tmp.lastIndexOf("/");
+            }
+            int e = tmp.lastIndexOf(">");
+            if (s >= 0 & e >= 0)
+                return tmp.substring(s + 1, e);
+        } else {
+            // ex: "1"^^xsd:integer
+            String s = tmp;
+            start = s.indexOf("\"");
+            if (start >= 0) {
+                s = s.substring(start + 1);
+                end = s.indexOf("\"");
+                if (end >= 0)
+                    return s.substring(0, end);
+            }
+        }
+        return all; // if cannot parse return complete name
+    }
+
     /**
      * It gets the name of a set of ontological objects from its IRI path.
      * It returns {@code null} if the input parameter is {@code null}.
@@ -169,7 +246,7 @@ private OWLEnquirer enquirer;
      * @param objects the set of objects for which get the ontological name
      * @return the name of the ontological objects given as input parameters.
      */
-    public synchronized static Set<String> getOWLName(Set<?> objects) {
+    public static Set<String> getOWLName(Set<?> objects) {
         Set<String> out = new HashSet<String>();
         for (Object o : objects) {
             if (o instanceof OWLObject) {
@@ -246,6 +323,7 @@ private OWLEnquirer enquirer;
                     setPelletReasonerExplanator();
             }
             this.bufferingReasoner = bufferingReasoner;
+            this.getOWLManager().addOntologyChangeListener( this::ontologyChanged);
             this.manipulator = new OWLManipulator( this); // use default apply change flag value
             this.enquirer = new OWLEnquirer( this);
             logger.addDebugString( "new OWL References initialised in: " + (System.nanoTime() - initialTime) + " [ns] for the Object " + this);
@@ -288,7 +366,8 @@ private OWLEnquirer enquirer;
      */
     @Override
     public synchronized void finalize() throws Throwable {
-        OWLReferencesContainer.removeInstance( this);
+        if( ! detached)
+            OWLReferencesContainer.removeInstance( this);
         super.finalize();
     }
 
@@ -335,6 +414,14 @@ private OWLEnquirer enquirer;
         return ontologyPath;
     }
 
+    /**
+     * @return the number of times that changes have been applied to the ontology managed by this reference.
+     * It is used as the version of the views given by {@link OWLReferences#snapshot()}.
+     */
+    public long getOntologyVersion() {
+        return ontologyVersion.get();
+    }
+
     /**
      * @return the mode this is instance has been initialized. Possible values are:
      * [{@link OWLReferencesContainer#COMMAND_CREATE}, {@link OWLReferencesContainer#COMMAND_LOAD_FILE},
@@ -454,6 +541,98 @@ private OWLEnquirer enquirer;
         return this.enquirer.isIncludingInferences();
     }
 
+    /**
+     * Enables or disables the cache of the query results (see {@link OWLEnquirer#setQueryCaching(boolean)}).
+     * The cached results are removed every time that the ontology changes and that the reasoner is synchronised.
+     * @param flag set to {@code true} for caching the query results.
+     */
+    public synchronized void setOWLEnquirerCaching(Boolean flag){
+        this.enquirer.setQueryCaching( flag);
+    }
+
+    /**
+     * @return {@code true} if the enquirer caches the query results.
+     */
+    public synchronized Boolean getOWLEnquirerCachingFlag(){
+        return this.enquirer.isQueryCaching();
+    }
+
+    /**
+     * Enables or disables the class taxonomy of the enquirer (see {@link OWLEnquirer#setClassTaxonomy(boolean)}).
+     * When it is enabled, the class hierarchy is copied from the reasoner at each {@link #synchronizeReasoner()}
+     * that follows a change of the TBox, and the inferred sub, super, equivalent and disjoint classes are given
+     * without querying the reasoner.
+     * @param flag set to {@code true} for using the class taxonomy.
+     */
+    public synchronized void setOWLEnquirerTaxonomy(Boolean flag){
+        this.enquirer.setClassTaxonomy( flag);
+    }
+
+    /**
+     * @return {@code true} if the enquirer uses the class taxonomy.
+     */
+    public synchronized Boolean getOWLEnquirerTaxonomyFlag(){
+        return this.enquirer.isClassTaxonomy();
+    }
+
+    /**
+     * Enables or disables the overlay of the pending changes (see {@link OWLEnquirer#setPendingChangesOverlay(boolean)}).
+     * When it is enabled, the asserted queries about individuals also consider the manipulations buffered
+     * by the {@link OWLManipulator} (see {@link #setOWLManipulatorBuffering(Boolean)}), before that they are applied.
+     * @param flag set to {@code true} for merging the pending changes to the asserted axioms.
+     */
+    public synchronized void setOWLEnquirerOverlay(Boolean flag){
+        this.enquirer.setPendingChangesOverlay( flag);
+    }
+
+    /**
+     * @return {@code true} if the enquirer merges the pending changes to the asserted axioms.
+     */
+    public synchronized Boolean getOWLEnquirerOverlayFlag(){
+        return this.enquirer.isPendingChangesOverlay();
+    }
+
+    /**
+     * Called (by the listener registered to the ontology manager) every time that the ontology changes.
+     * It increases the {@link #getOntologyVersion()}, removes the cached query results that depend on the changed entities
+     * and marks the class taxonomy to be rebuilt if the TBox changed.
+     * It is not synchronised, since it is called while the changes are applied.
+     * @param changes the changes applied to the ontology.
+     */
+    protected void ontologyChanged( List< ? extends OWLOntologyChange> changes){
+        ontologyVersion.incrementAndGet();
+        OWLEnquirer enquirer = this.enquirer;
+        if( enquirer != null) {
+            enquirer.invalidateQueryCache( changes, ! bufferingReasoner);
+            enquirer.invalidateClassTaxonomy( changes, ! bufferingReasoner);
+        }
+    }
+
+    /**
+     * Removes the cached query results that include inferences and updates the class taxonomy (if enabled).
+     * @see OWLLibrary#reasoningPerformed()
+     */
+    @Override
+    protected void reasoningPerformed(){
+        OWLEnquirer enquirer = this.enquirer;
+        if( enquirer != null) {
+            enquirer.invalidateInferredQueryCache();
+            enquirer.updateClassTaxonomy();
+        }
+    }
+
+    /**
+     * Removes the cached query results that include inferences and the class taxonomy, since they have been
+     * computed by the previous reasoner.
+     * @see OWLLibrary#reasonerReplaced()
+     */
+    @Override
+    protected void reasonerReplaced(){
+        OWLEnquirer enquirer = this.enquirer;
+        if( enquirer != null)
+            enquirer.invalidateInferences();
+    }
+
     /**
      * If the Ontology is consistent, it will synchronise a buffering reasoner
      * calling {@code reasoner.flush()}; if the reasoner buffering is set to false,
@@ -462,15 +641,17 @@ private OWLEnquirer enquirer;
      * error. Such an explanation interface can be implemented with the {@link ReasonerExplanator} interface. <br>
      * Note that if the ontology is inconsistent then all the methods in this class may return {@code null}.
      * WARNING: manipulation buffer is always flushed before synchronizing the reasoner by {@link OWLManipulator#applyChanges()}.
-     * You can synchronize the reasoner manually (non-buffering mode) by using {@link #checkConsistent()}
+     * You can synchronize the reasoner manually (non-buffering mode) by using {@link #checkConsistent()}<br>
+     * If the reasoning is interrupted (see {@link #setReasoningTimeout(long)} and {@link #cancelReasoning()}),
+     * the consistency is not checked. With a timeout, the reasoner keeps serving the previous inferences,
+     * otherwise it is recreated (see {@link #callReasoning(Long)}).
      */
     public synchronized void synchronizeReasoner(){
         if( this.isConsistent()){
             try{
                 Long initialTime = System.nanoTime();
                 this.getManipulator().applyChanges(); // be sure to empty the buffer (if any)
-                this.callReasoning( initialTime);
-                if( !this.checkConsistent())
+                if( this.callReasoning( initialTime) && !this.checkConsistent()) // the consistency is not checked on an interrupted reasoner
                     this.logInconsistency();
             } catch( org.semanticweb.owlapi.reasoner.InconsistentOntologyException e){
                 this.logInconsistency();
@@ -489,7 +670,10 @@ private OWLEnquirer enquirer;
      * error. Such an explanation interface can be implemented with the {@link ReasonerExplanator} interface. <br>
      * Note that if the ontology is inconsistent then all the methods in this class may return {@code null}.
      * WARNING: manipulation buffer is always flushed before synchronizing the reasoner by {@link OWLManipulator#applyChanges()}.
-     * You can synchronize the reasoner manually (non-buffering mode) by using {@link #checkConsistent()}
+     * You can synchronize the reasoner manually (non-buffering mode) by using {@link #checkConsistent()}<br>
+     * If the reasoning is interrupted (see {@link #setReasoningTimeout(long)} and {@link #cancelReasoning()}),
+     * the consistency is not checked. With a timeout, the reasoner keeps serving the previous inferences,
+     * otherwise it is recreated (see {@link #callReasoning(Long)}).
       * @param changesBuffer the buffer of ontology changes to be applied before reasoning.
      */
     public synchronized void synchronizeReasoner(List<OWLOntologyChange> changesBuffer){
@@ -497,8 +681,7 @@ private OWLEnquirer enquirer;
             try{
                 Long initialTime = System.nanoTime();
                 this.getManipulator().applyChanges( changesBuffer);
-                this.callReasoning( initialTime);
-                if( !this.checkConsistent())
+                if( this.callReasoning( initialTime) && !this.checkConsistent()) // the consistency is not checked on an interrupted reasoner
                     this.logInconsistency();
             } catch( org.semanticweb.owlapi.reasoner.InconsistentOntologyException e){
                 this.logInconsistency();
@@ -511,7 +694,7 @@ private OWLEnquirer enquirer;
     /**
      * @return the consistency state flag for this OWL Reference.
      */
-    public synchronized boolean isConsistent() {
+    public boolean isConsistent() { // not synchronised, it can be monitored while reasoning
         return consistent;
     }
 
@@ -560,23 +743,39 @@ private OWLEnquirer enquirer;
     /**
      * It gets the name of an ontological object from its IRI path.
      * It returns {@code null} if the input parameter is {@code null}.
-     * This is just a non-static interface to the method {@link #getOWLName(OWLObject)}.
+     * This is a non-static interface to the method {@link #getOWLName(OWLObject)} but, for the entities,
+     * the names are stored by this reference (up to {@link #OWL_NAME_CACHE_SIZE}, the least used
+     * are evicted), so that the following calls with the same entity only require a lookup without locking.
      * @param obj the object for which to get the ontological name
      * @return the name of the ontological object given as input parameter.
      */
-    public synchronized String getOWLObjectName( OWLObject obj){
-        return getOWLName( obj);
+    public String getOWLObjectName( OWLObject obj){
+        if( ! ( obj instanceof OWLEntity))
+            return getOWLName( obj);
+        OWLEntity entity = (OWLEntity) obj;
+        String name = entityNames.get( entity);
+        if( name == null) {
+            name = getOWLEntityName( entity);
+            entityNames.put( entity, name, OWL_NAME_CACHE_SIZE);
+        }
+        return name;
     }
 
     /**
      * It gets the name of a set of ontological objects from its IRI path.
      * It returns {@code null} if the input parameter is {@code null}.
-     * This is just a not static interface to the method {@link #getOWLName(Set)}.
+     * This is a not static interface to the method {@link #getOWLName(Set)}, which stores the names as {@link #getOWLObjectName(OWLObject)}.
      * @param objects the set of objects for which get the ontological name
      * @return the name of the ontological objects given as input parameters.
      */
-    public synchronized Set<String> getOWLObjectName( Set< ?> objects){
-        return getOWLName( objects);
+    public Set<String> getOWLObjectName( Set< ?> objects){
+        Set<String> out = new HashSet<>();
+        for( Object o : objects) {
+            if( o instanceof OWLObject)
+                out.add( getOWLObjectName( (OWLObject) o));
+            else logger.addDebugString( "Cannot get the name of a non OWL object. Given entity: " + o, true);
+        }
+        return out;
     }
 
     /**
@@ -720,7 +919,8 @@ private OWLEnquirer enquirer;
         // [[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[[   METHODS TO MANAGE THE MAP   ]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]]
 
         /**
-         * This method adds a reference instance to the internal map {@link #allReferences}.
+         * This method adds a reference instance to the internal map {@link #allReferences},
+         * and it registers its JMX monitor (see {@link OWLReferencesMonitor}).
          * This procedure is automatically managed by using the instantiating procedure implemented by this class.
          * @param instance the new OWL reference to be add to the internal map.
          * @return {@code false} if the map already contains an object with name {@link OWLReferencesInterface#getReferenceName()}
@@ -730,6 +930,7 @@ private OWLEnquirer enquirer;
             String refName = instance.getReferenceName();
             if( ! isInstance( refName)){
                 allReferences.putIfAbsent( refName, instance);
+                OWLReferencesMonitor.register( instance);
                 return( true);
             }
             logger.addDebugString( "Exception: cannot create another Ontology with referencing name: " + refName, true);
@@ -738,7 +939,7 @@ private OWLEnquirer enquirer;
 
         /**
          *
-         * This method remove an instance from the internal map {@link #allReferences}.
+         * This method remove an instance from the internal map {@link #allReferences}, and it unregisters its JMX monitor.
          * This is automatically done when {@link OWLReferencesInterface#finalize()} method is called.
          * @param instance the OWL reference to be removed from the internal map.
          * @return {@code false} if the map does not contain an object with name {@link OWLReferencesInterface#getReferenceName()}
@@ -748,6 +949,7 @@ private OWLEnquirer enquirer;
             String refName = instance.getReferenceName();
             if( isInstance( refName)){
                 allReferences.remove( refName);
+                OWLReferencesMonitor.unregister( refName);
                 return( true);
             }
             logger.addDebugString( "Exception: cannot remove an Ontology with referencing name: " + refName, true);
@@ -0,0 +1,114 @@
+package it.emarolab.amor.owlInterface;
+
+import java.util.Map;
+
+/**
+ * <div style="text-align:center;"><small>
+ * <b>Project</b>:    aMOR <br>
+ * <b>File</b>:       it.emarolab.amor.owlInterface.OWLReferencesMXBean <br>
+ * <b>Licence</b>:    GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:     aMOR contributors <br>
+ * <b>date</b>:       Oct 18, 2026 <br>
+ * </small></div>
+ *
+ * <p>
+ *     This interface defines the operational metrics of an ontology reference that are exposed through JMX.
+ *     An instance is registered for each reference stored in {@link OWLReferencesInterface.OWLReferencesContainer}
+ *     with the object name {@code it.emarolab.amor:type=OWLReferences,name="<reference name>"}
+ *     (see {@link OWLReferencesMonitor}). All the durations are given in nanoseconds.
+ * </p>
+ *
+ * @version 2.2
+ */
+public interface OWLReferencesMXBean {
+
+    /**
+     * @return the name of the monitored reference.
+     */
+    String getReferenceName();
+
+    /**
+     * @return the number of axioms in the ontology (imports excluded).
+     */
+    int getAxiomCount();
+    /**
+     * @return the number of logical axioms in the ontology (imports excluded).
+     */
+    int getLogicalAxiomCount();
+    /**
+     * @return the number of individuals in the signature of the ontology (imports excluded).
+     */
+    long getIndividualCount();
+    /**
+     * @return the number of changes buffered by the {@link OWLManipulator}, waiting to be applied.
+     */
+    int getPendingChangesCount();
+    /**
+     * @return the number of buffered changes that have not been applied, since they were replaced or had no effects.
+     */
+    long getElidedChangesCount();
+
+    /**
+     * @return the number of times that the reasoner has been flushed.
+     */
+    long getReasoningCount();
+    /**
+     * @return the duration of the last reasoner flush.
+     */
+    long getLastReasoningTime();
+    /**
+     * @return the total duration of the reasoner flushes.
+     */
+    long getTotalReasoningTime();
+    /**
+     * @return the number of times that the reasoning has been interrupted, by its timeout or explicitly.
+     */
+    long getReasoningInterruptionCount();
+    /**
+     * @return the consistency state of the ontology, as computed by the last synchronisation of the reasoner.
+     */
+    boolean isConsistent();
+
+    /**
+     * @return the number of calls performed on the reference.
+     */
+    long getOperationCount();
+    /**
+     * @return the median of the time spent by all the calls waiting for the locks.
+     */
+    long getLockWaitP50();
+    /**
+     * @return the 99th percentile of the time spent by all the calls waiting for the locks.
+     */
+    long getLockWaitP99();
+    /**
+     * @return the maximum time spent by a call waiting for the locks.
+     */
+    long getLockWaitMax();
+    /**
+     * @return the 99th percentile of the time spent waiting for the locks, for each called operation.
+     */
+    Map< String, Long> getLockWaitP99ByOperation();
+    /**
+     * @return the 99th percentile of the time spent performing each called operation.
+     */
+    Map< String, Long> getWorkP99ByOperation();
+
+    /**
+     * @return the number of SPARQL queries performed on the reference.
+     */
+    long getSparqlCount();
+    /**
+     * @return the mean duration of the SPARQL queries.
+     */
+    double getSparqlMeanTime();
+    /**
+     * @return the 99th percentile of the duration of the SPARQL queries.
+     */
+    long getSparqlP99Time();
+
+    /**
+     * Clears the metrics of all the operations of the reference.
+     */
+    void resetOperationMetrics();
+}
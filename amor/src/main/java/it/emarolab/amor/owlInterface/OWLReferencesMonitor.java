@@ -0,0 +1,265 @@
+package it.emarolab.amor.owlInterface;
+
+import it.emarolab.amor.owlDebugger.LatencyHistogram;
+import it.emarolab.amor.owlDebugger.Logger;
+import it.emarolab.amor.owlDebugger.Logger.LoggerFlag;
+import it.emarolab.amor.owlDebugger.OperationMetrics;
+import org.semanticweb.owlapi.model.OWLOntology;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Collections;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * <div style="text-align:center;"><small>
+ * <b>Project</b>:    aMOR <br>
+ * <b>File</b>:       it.emarolab.amor.owlInterface.OWLReferencesMonitor <br>
+ * <b>Licence</b>:    GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:     aMOR contributors <br>
+ * <b>date</b>:       Oct 18, 2026 <br>
+ * </small></div>
+ *
+ * <p>
+ *     This class implements the {@link OWLReferencesMXBean} of a reference. It is automatically registered
+ *     in the platform MBean server when a reference is added to {@link OWLReferencesInterface.OWLReferencesContainer},
+ *     and unregistered when it is removed (unless {@link #JMX_REGISTRATION} is {@code false}).<br>
+ *     The metrics about locks and SPARQL queries are available only for {@link OWLReferences}, since they are
+ *     collected by its {@link OWLReferences#getOperationMetrics()}. The attributes never wait for the reasoner.
+ * </p>
+ *
+ * @version 2.2
+ */
+public class OWLReferencesMonitor implements OWLReferencesMXBean {
+
+    /**
+     * If {@code true} (default), a monitor is registered for each new reference.
+     */
+    public static Boolean JMX_REGISTRATION = true;
+    /**
+     * The domain of the object names of the registered monitors.
+     */
+    public static final String JMX_DOMAIN = "it.emarolab.amor";
+
+    /**
+     * This object is used to log information about the instances of this class.
+     * The logs can be activated by setting the flag: {@link LoggerFlag#LOG_REFERENCES_CONTAINER}
+     */
+    private static Logger logger = new Logger( OWLReferencesMonitor.class, LoggerFlag.getLogReferencesContainer());
+
+    private final OWLReferencesInterface ontoRef;
+    // lazily initialised, since the monitor is created before the ontology is loaded
+    private volatile OWLOntology ontology;
+    private volatile OWLManipulator manipulator;
+
+    /**
+     * @param ontoRef the reference to be monitored.
+     */
+    protected OWLReferencesMonitor( OWLReferencesInterface ontoRef){
+        this.ontoRef = ontoRef;
+    }
+
+    /**
+     * @param referenceName the name of a reference.
+     * @return the JMX object name of the monitor of the given reference.
+     * @throws JMException if the name is not valid.
+     */
+    public static ObjectName getObjectName( String referenceName) throws JMException {
+        return new ObjectName( JMX_DOMAIN + ":type=OWLReferences,name=" + ObjectName.quote( referenceName));
+    }
+
+    /**
+     * Registers a monitor for the given reference in the platform MBean server. Errors are only logged.
+     * @param ontoRef the reference to be monitored.
+     */
+    protected static void register( OWLReferencesInterface ontoRef){
+        if( ! JMX_REGISTRATION)
+            return;
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = getObjectName( ontoRef.getReferenceName());
+            if( ! server.isRegistered( name))
+                server.registerMBean( new OWLReferencesMonitor( ontoRef), name);
+        } catch ( JMException | RuntimeException e) {
+            logger.addDebugString( "Cannot register the JMX monitor of " + ontoRef.getReferenceName() + ": " + e, true);
+        }
+    }
+
+    /**
+     * Unregisters the monitor of the given reference from the platform MBean server (if any). Errors are only logged.
+     * @param referenceName the name of the monitored reference.
+     */
+    protected static void unregister( String referenceName){
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = getObjectName( referenceName);
+            if( server.isRegistered( name))
+                server.unregisterMBean( name);
+        } catch ( JMException | RuntimeException e) {
+            logger.addDebugString( "Cannot unregister the JMX monitor of " + referenceName + ": " + e, true);
+        }
+    }
+
+    private OWLOntology getOntology(){
+        if( ontology == null)
+            ontology = ontoRef.getOWLOntology();
+        return ontology;
+    }
+
+    private OWLManipulator getManipulator(){
+        if( manipulator == null)
+            manipulator = ontoRef.getManipulator();
+        return manipulator;
+    }
+
+    private Map< String, OperationMetrics> getOperationMetrics(){
+        if( ontoRef instanceof OWLReferences)
+            return ((OWLReferences) ontoRef).getOperationMetrics();
+        return Collections.emptyMap();
+    }
+
+    private LatencyHistogram getLockWait(){
+        LatencyHistogram all = new LatencyHistogram();
+        for( OperationMetrics metrics : getOperationMetrics().values())
+            all.add( metrics.getLockWait());
+        return all;
+    }
+
+    private LatencyHistogram getSparqlWork(){
+        LatencyHistogram sparql = new LatencyHistogram();
+        for( OperationMetrics metrics : getOperationMetrics().values())
+            if( metrics.getOperation().startsWith( "sparql"))
+                sparql.add( metrics.getWork());
+        return sparql;
+    }
+
+    private Map< String, Long> getP99ByOperation( Function< OperationMetrics, LatencyHistogram> histogram){
+        Map< String, Long> out = new TreeMap<>();
+        for( OperationMetrics metrics : getOperationMetrics().values())
+            out.put( metrics.getOperation(), histogram.apply( metrics).getPercentile( 99));
+        return out;
+    }
+
+    @Override
+    public String getReferenceName() {
+        return ontoRef.getReferenceName();
+    }
+
+    @Override
+    public int getAxiomCount() {
+        OWLOntology ontology = getOntology();
+        return ontology == null ? 0 : ontology.getAxiomCount();
+    }
+
+    @Override
+    public int getLogicalAxiomCount() {
+        OWLOntology ontology = getOntology();
+        return ontology == null ? 0 : ontology.getLogicalAxiomCount();
+    }
+
+    @Override
+    public long getIndividualCount() {
+        OWLOntology ontology = getOntology();
+        return ontology == null ? 0 : ontology.individualsInSignature().count();
+    }
+
+    @Override
+    public int getPendingChangesCount() {
+        OWLManipulator manipulator = getManipulator();
+        return manipulator == null ? 0 : manipulator.getPendingChangesCount();
+    }
+
+    @Override
+    public long getElidedChangesCount() {
+        OWLManipulator manipulator = getManipulator();
+        return manipulator == null ? 0 : manipulator.getElidedChangesCount();
+    }
+
+    @Override
+    public long getReasoningCount() {
+        return ontoRef.getReasoningCount();
+    }
+
+    @Override
+    public long getLastReasoningTime() {
+        return ontoRef.getLastReasoningTime();
+    }
+
+    @Override
+    public long getTotalReasoningTime() {
+        return ontoRef.getTotalReasoningTime();
+    }
+
+    @Override
+    public long getReasoningInterruptionCount() {
+        return ontoRef.getReasoningInterruptionCount();
+    }
+
+    @Override
+    public boolean isConsistent() {
+        return ontoRef.isConsistent();
+    }
+
+    @Override
+    public long getOperationCount() {
+        long count = 0;
+        for( OperationMetrics metrics : getOperationMetrics().values())
+            count += metrics.getCount();
+        return count;
+    }
+
+    @Override
+    public long getLockWaitP50() {
+        return getLockWait().getPercentile( 50);
+    }
+
+    @Override
+    public long getLockWaitP99() {
+        return getLockWait().getPercentile( 99);
+    }
+
+    @Override
+    public long getLockWaitMax() {
+        return getLockWait().getMax();
+    }
+
+    @Override
+    public Map< String, Long> getLockWaitP99ByOperation() {
+        return getP99ByOperation( OperationMetrics::getLockWait);
+    }
+
+    @Override
+    public Map< String, Long> getWorkP99ByOperation() {
+        return getP99ByOperation( OperationMetrics::getWork);
+    }
+
+    @Override
+    public long getSparqlCount() {
+        return getSparqlWork().getCount();
+    }
+
+    @Override
+    public double getSparqlMeanTime() {
+        return getSparqlWork().getMean();
+    }
+
+    @Override
+    public long getSparqlP99Time() {
+        return getSparqlWork().getPercentile( 99);
+    }
+
+    @Override
+    public void resetOperationMetrics() {
+        if( ontoRef instanceof OWLReferences)
+            ((OWLReferences) ontoRef).resetOperationMetrics();
+    }
+
+    @Override
+    public String toString() {
+        return "OWLReferencesMonitor [" + getReferenceName() + "]";
+    }
+}
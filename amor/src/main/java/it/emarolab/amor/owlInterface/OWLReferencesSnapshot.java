@@ -0,0 +1,468 @@
+package it.emarolab.amor.owlInterface;
+
+import it.emarolab.amor.owlDebugger.Logger;
+import it.emarolab.amor.owlDebugger.Logger.LoggerFlag;
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.model.parameters.OntologyCopy;
+import org.semanticweb.owlapi.reasoner.InferenceType;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BiConsumer;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static org.semanticweb.owlapi.util.OWLAPIStreamUtils.asSet;
+
+/**
+ * <div style="text-align:center;"><small>
+ * <b>Project</b>:    aMOR <br>
+ * <b>File</b>:       it.emarolab.amor.owlInterface.OWLReferencesSnapshot <br>
+ * <b>Licence</b>:    GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:     aMOR contributors <br>
+ * <b>date</b>:       Oct 18, 2026 <br>
+ * </small></div>
+ *
+ * <p>
+ *     This class is an immutable and versioned view of an {@link OWLReferences}, given by {@link OWLReferences#snapshot()}.
+ *     It contains a copy of the ontology taken at a specific version (see {@link OWLReferencesInterface#getOntologyVersion()})
+ *     which is queried through a dedicated {@link OWLEnquirer}, with the same flags that the reference had when
+ *     the snapshot was taken. Therefore, queries on this object never wait for the manipulations or the reasoning performed
+ *     on the original reference, and they never observe their effects.<br>
+ *     Queries that do not include inferences are not synchronised among each others, since the copied ontology is never
+ *     changed by them.
+ *     Queries that include inferences are served by a reasoner dedicated to this view, which is created (and so
+ *     it reasons on the whole ontology) the first time that it is required. Since the reasoner is not thread safe,
+ *     such queries are serialised among each others.<br>
+ *     Queries on many individuals can also be split among the threads of a {@link ForkJoinPool}
+ *     (see {@link #queryParallel(Collection, BiFunction)}). In this case, each thread uses its own replica of the
+ *     view, which shares the copied ontology but has a dedicated reasoner. Replicas are created only when required
+ *     (each one reasons on the whole ontology) and they are reused by the following parallel queries.<br>
+ *     Only the {@link DoubleBufferedReasoner} updates its views to a newer version (see {@link #update(List, long)}),
+ *     when they are not committed, so that their reasoners do not classify the ontology from scratch.
+ * </p>
+ *
+ * @version 2.2
+ */
+public class OWLReferencesSnapshot {
+
+    /**
+     * This object is used to log information about the instances of this class.
+     * The logs can be activated by setting the flag: {@link LoggerFlag#LOG_ONTOLOGY_REFERENCE}
+     */
+    private static Logger logger = new Logger( OWLReferencesSnapshot.class, LoggerFlag.getLogOntologyReference());
+
+    private final OWLReferencesInterface view; // a detached reference to the copied ontology
+    private volatile long version;
+    private final Lock mutexReasoner = new ReentrantLock();
+    // shared by the queries, exclusive for update(List, long) and dispose()
+    private final ReentrantReadWriteLock updating = new ReentrantReadWriteLock();
+    // the replicas of the view not used by any thread, for parallel queries
+    private final Queue< OWLReferencesInterface> replicas = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger replicasCount = new AtomicInteger();
+    private volatile ForkJoinPool pool = ForkJoinPool.commonPool();
+
+    /**
+     * Creates a new view by copying the ontology of the given reference. The reference should not be
+     * changed during this call. It is not recommended to use this constructor, see {@link OWLReferences#snapshot()}.
+     * @param ontoRef the reference to be copied.
+     * @throws OWLOntologyCreationException if the ontology (or one of its imports) cannot be copied.
+     */
+    protected OWLReferencesSnapshot( OWLReferencesInterface ontoRef) throws OWLOntologyCreationException {
+        long initialTime = System.nanoTime();
+        this.version = ontoRef.getOntologyVersion();
+        OWLOntology copy = copyOntology( ontoRef.getOWLOntology(), OWLManager.createOWLOntologyManager());
+        this.view = new OWLReferencesInterface( ontoRef, copy, version) {};
+        logger.addDebugString( "snapshot of " + ontoRef.getReferenceName() + " at version " + version + " created in: " + (System.nanoTime() - initialTime) + " [ns]");
+    }
+
+    // imported ontologies are copied first, so that the imports declarations are resolved by the manager of the copy
+    private static OWLOntology copyOntology( OWLOntology ontology, OWLOntologyManager copyManager) throws OWLOntologyCreationException {
+        for( OWLOntology imported : asSet( ontology.directImports()))
+            if( ! copyManager.contains( imported.getOntologyID()))
+                copyOntology( imported, copyManager);
+        return copyManager.copyOntology( ontology, OntologyCopy.DEEP);
+    }
+
+    /**
+     * @return the version of the reference when this view was created (see {@link OWLReferencesInterface#getOntologyVersion()}).
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * @return the name of the reference from which this view was taken.
+     */
+    public String getReferenceName(){
+        return view.getReferenceName();
+    }
+
+    /**
+     * @return the copy of the ontology. It should not be changed.
+     */
+    public OWLOntology getOWLOntology(){
+        return view.getOWLOntology();
+    }
+
+    /**
+     * @return {@code true} if the queries of this view include inferences.
+     */
+    public Boolean isIncludingInferences(){
+        return view.getEnquirer().isIncludingInferences();
+    }
+
+    /**
+     * @return {@code true} if the queries of this view return complete descriptions.
+     */
+    public Boolean isReturningCompleteDescription(){
+        return view.getEnquirer().isReturningCompleteDescription();
+    }
+
+    /**
+     * @return the consistency state of the reference when this view was taken.
+     */
+    public boolean isConsistent(){
+        return view.isConsistent();
+    }
+
+    /**
+     * Performs a generic query on this view. It is used by all the other queries of this class,
+     * and it can be used to perform any query available in {@link OWLEnquirer}, e.g.:
+     * {@code snapshot.query( q -> q.getSubClassOf( "Table"))}.
+     * @param query the query to be performed with the {@link OWLEnquirer} of this view.
+     * @param <T> the type returned by the query.
+     * @return the result of the query.
+     */
+    public <T> T query( Function< OWLEnquirer, T> query){
+        updating.readLock().lock();
+        try {
+            if( ! isIncludingInferences())
+                return query.apply( view.getEnquirer()); // the copied ontology is not changed by the queries
+            mutexReasoner.lock();
+            try {
+                initialiseReasoner();
+                return query.apply( view.getEnquirer());
+            } finally {
+                mutexReasoner.unlock();
+            }
+        } finally {
+            updating.readLock().unlock();
+        }
+    }
+
+    // the reasoner is created only the first time it is required
+    private void initialiseReasoner(){
+        if( view.getOWLReasoner() == null) {
+            view.setOWLReasoner( view.getReasonerFactoryName(), true, view.getReferenceName() + "@" + version);
+            if( view.getOWLReasoner() != null)
+                view.checkConsistent();
+        }
+    }
+
+    /**
+     * Creates the reasoner of this view (if it does not exist yet) and makes it compute the class hierarchy and
+     * the assertions of the individuals, so that the following queries including inferences do not wait for them.
+     * Inference types not supported by the reasoner are ignored.
+     */
+    public void precomputeInferences(){
+        updating.readLock().lock();
+        mutexReasoner.lock();
+        try{
+            initialiseReasoner();
+            OWLReasoner reasoner = view.getOWLReasoner();
+            if( reasoner != null && view.isConsistent())
+                reasoner.precomputeInferences( InferenceType.CLASS_HIERARCHY, InferenceType.CLASS_ASSERTIONS,
+                        InferenceType.OBJECT_PROPERTY_ASSERTIONS, InferenceType.DATA_PROPERTY_ASSERTIONS);
+        } finally {
+            mutexReasoner.unlock();
+            updating.readLock().unlock();
+        }
+    }
+
+    /**
+     * Applies, to the copied ontology, the changes that the reference has applied to its ontology after the version
+     * of this view, and synchronises the reasoner of this view (if any), which does not reason from scratch.
+     * It waits for the queries in progress on this view, and it is used by {@link DoubleBufferedReasoner} only on the
+     * views that are not committed. Only axiom changes can be applied to the copy; if there are other changes, or
+     * if a changed ontology has not been copied, nothing is done and a new snapshot should be taken instead.
+     * @param changes the changes applied to the ontology of the reference, in order.
+     * @param version the version of the reference after the given changes.
+     * @return {@code true} if the changes have been applied, and this view has now the given version.
+     */
+    protected boolean update( List< OWLOntologyChange> changes, long version){
+        updating.writeLock().lock();
+        try{
+            OWLOntologyManager manager = view.getOWLOntology().getOWLOntologyManager();
+            List< OWLOntologyChange> copied = new ArrayList<>( changes.size());
+            for( OWLOntologyChange c : changes){
+                if( ! c.isAxiomChange())
+                    return false;
+                OWLOntology target = manager.getOntology( c.getOntology().getOntologyID());
+                if( target == null)
+                    return false;
+                copied.add( c.isAddAxiom() ? new AddAxiom( target, c.getAxiom()) : new RemoveAxiom( target, c.getAxiom()));
+            }
+            long initialTime = System.nanoTime();
+            if( ! copied.isEmpty()) {
+                manager.applyChanges( copied);
+                view.ontologyChanged( copied); // the cached queries are invalidated
+            }
+            for( OWLReferencesInterface replica = replicas.poll(); replica != null; replica = replicas.poll())
+                if( replica.getOWLReasoner() != null)
+                    replica.getOWLReasoner().dispose(); // they are created again when required
+            if( view.getOWLReasoner() != null && view.callReasoning())
+                view.checkConsistent();
+            this.version = version;
+            logger.addDebugString( "snapshot of " + getReferenceName() + " updated with " + copied.size() + " changes to version " + version + " in: " + (System.nanoTime() - initialTime) + " [ns]");
+            return true;
+        } finally {
+            updating.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Disposes the reasoner of this view (if any). Further queries including inferences will create a new one.
+     */
+    public void dispose(){
+        updating.writeLock().lock();
+        try{
+            OWLReasoner reasoner = view.getOWLReasoner();
+            if( reasoner != null) {
+                reasoner.dispose();
+                view.setOWLReasoner( (OWLReasoner) null);
+            }
+            for( OWLReferencesInterface replica = replicas.poll(); replica != null; replica = replicas.poll())
+                if( replica.getOWLReasoner() != null)
+                    replica.getOWLReasoner().dispose();
+        } finally {
+            updating.writeLock().unlock();
+        }
+    }
+
+    /**
+     * @return the pool used by the parallel queries, by default {@link ForkJoinPool#commonPool()}.
+     */
+    public ForkJoinPool getParallelPool() {
+        return pool;
+    }
+    /**
+     * @param pool the pool used by the parallel queries. Its parallelism is the maximum number of reasoner replicas
+     *             used by a parallel query.
+     */
+    public void setParallelPool( ForkJoinPool pool) {
+        this.pool = pool;
+    }
+    /**
+     * @return the number of replicas of this view (i.e., of reasoners) created for parallel queries.
+     */
+    public int getReplicasCount(){
+        return replicasCount.get();
+    }
+
+    /**
+     * Performs the same query for each given individual, splitting the individuals among the threads of the
+     * {@link #getParallelPool()}. If the queries include inferences, each thread uses its own replica of this view
+     * (with a dedicated reasoner), otherwise all the threads share this view, since the copied ontology is not changed by the queries.
+     * E.g.: {@code snapshot.queryParallel( individuals, (q, i) -> q.getIndividualClasses( i))}.
+     * @param individuals the individuals to query.
+     * @param query the query to be performed for each individual, with the {@link OWLEnquirer} of a replica.
+     * @param <T> the type returned by the query.
+     * @return the result of the query for each individual, in the iteration order of the input collection.
+     */
+    public <T> Map< OWLNamedIndividual, T> queryParallel( Collection< OWLNamedIndividual> individuals, BiFunction< OWLEnquirer, OWLNamedIndividual, T> query){
+        updating.readLock().lock();
+        try {
+            if( ! isIncludingInferences())
+                return parallel( individuals, (chunk, out) -> {
+                    for( OWLNamedIndividual i : chunk)
+                        out.put( i, query.apply( view.getEnquirer(), i));
+                });
+            return parallel( individuals, (chunk, out) -> withReplica( replica -> {
+                for( OWLNamedIndividual i : chunk)
+                    out.put( i, query.apply( replica.getEnquirer(), i));
+            }));
+        } finally {
+            updating.readLock().unlock();
+        }
+    }
+
+    /**
+     * Performs the same reasoner query for each given individual, splitting the individuals among the threads of the
+     * {@link #getParallelPool()}, each one with its own replica of this view (see {@link #queryParallel(Collection, BiFunction)}).
+     * It always involves the reasoner, independently from {@link #isIncludingInferences()}.
+     * @param individuals the individuals to query.
+     * @param query the query to be performed for each individual, with the reasoner of a replica.
+     * @param <T> the type returned by the query.
+     * @return the result of the query for each individual, in the iteration order of the input collection.
+     */
+    public <T> Map< OWLNamedIndividual, T> reasonParallel( Collection< OWLNamedIndividual> individuals, BiFunction< OWLReasoner, OWLNamedIndividual, T> query){
+        updating.readLock().lock();
+        try {
+            return parallel( individuals, (chunk, out) -> withReplica( replica -> {
+                for( OWLNamedIndividual i : chunk)
+                    out.put( i, query.apply( replica.getOWLReasoner(), i));
+            }));
+        } finally {
+            updating.readLock().unlock();
+        }
+    }
+
+    // splits the individuals in a chunk for each thread of the pool, and merges the results in the input order
+    private <T> Map< OWLNamedIndividual, T> parallel( Collection< OWLNamedIndividual> individuals,
+                                                     BiConsumer< List< OWLNamedIndividual>, Map< OWLNamedIndividual, T>> worker){
+        long initialTime = System.nanoTime();
+        List< OWLNamedIndividual> all = new ArrayList<>( individuals);
+        ForkJoinPool pool = this.pool;
+        int chunksCount = Math.max( 1, Math.min( pool.getParallelism(), all.size()));
+        int chunkSize = ( all.size() + chunksCount - 1) / chunksCount;
+        List< ForkJoinTask< Map< OWLNamedIndividual, T>>> tasks = new ArrayList<>();
+        for( int from = 0; from < all.size(); from += chunkSize){
+            List< OWLNamedIndividual> chunk = all.subList( from, Math.min( from + chunkSize, all.size()));
+            tasks.add( pool.submit( () -> {
+                Map< OWLNamedIndividual, T> out = new HashMap<>();
+                worker.accept( chunk, out);
+                return out;
+            }));
+        }
+        Map< OWLNamedIndividual, T> results = new HashMap<>();
+        for( ForkJoinTask< Map< OWLNamedIndividual, T>> t : tasks)
+            results.putAll( t.join());
+        Map< OWLNamedIndividual, T> out = new LinkedHashMap<>();
+        for( OWLNamedIndividual i : all)
+            out.put( i, results.get( i));
+        logger.addDebugString( "parallel query on " + all.size() + " individuals (" + tasks.size() + " threads) of " + this + " given in: " + (System.nanoTime() - initialTime) + " [ns]");
+        return out;
+    }
+
+    // gives an unused replica (with a reasoner) to the task, and makes it available again after
+    private void withReplica( Consumer< OWLReferencesInterface> task){
+        OWLReferencesInterface replica = replicas.poll();
+        if( replica == null) {
+            int id = replicasCount.incrementAndGet();
+            replica = new OWLReferencesInterface( view, view.getOWLOntology(), version) {};
+            replica.setOWLReasoner( view.getReasonerFactoryName(), true, view.getReferenceName() + "@" + version + "#" + id);
+        }
+        try {
+            task.accept( replica);
+        } finally {
+            replicas.offer( replica);
+        }
+    }
+
+    /**
+     * @param individuals the individuals.
+     * @return the result of {@link OWLEnquirer#getIndividualClasses(OWLNamedIndividual)} on this view for each individual,
+     * computed in parallel (see {@link #queryParallel(Collection, BiFunction)}).
+     */
+    public Map< OWLNamedIndividual, Set< OWLClass>> getIndividualClasses( Collection< OWLNamedIndividual> individuals){
+        return queryParallel( individuals, (q, i) -> q.getIndividualClasses( i));
+    }
+    /**
+     * @param individuals the individuals.
+     * @return the result of {@link OWLEnquirer#getDataPropertyB2Individual(OWLNamedIndividual)} on this view for each individual,
+     * computed in parallel (see {@link #queryParallel(Collection, BiFunction)}).
+     */
+    public Map< OWLNamedIndividual, Set< DataPropertyRelations>> getDataPropertyB2Individual( Collection< OWLNamedIndividual> individuals){
+        return queryParallel( individuals, (q, i) -> q.getDataPropertyB2Individual( i));
+    }
+    /**
+     * @param individuals the individuals.
+     * @return the result of {@link OWLEnquirer#getObjectPropertyB2Individual(OWLNamedIndividual)} on this view for each individual,
+     * computed in parallel (see {@link #queryParallel(Collection, BiFunction)}).
+     */
+    public Map< OWLNamedIndividual, Set< ObjectPropertyRelations>> getObjectPropertyB2Individual( Collection< OWLNamedIndividual> individuals){
+        return queryParallel( individuals, (q, i) -> q.getObjectPropertyB2Individual( i));
+    }
+
+    /**
+     * @param className the name of the class from which to retrieve the individuals
+     * @return the result of {@link OWLEnquirer#getIndividualB2Class(String)} on this view.
+     */
+    public Set<OWLNamedIndividual> getIndividualB2Class( String className){
+        return query( q -> q.getIndividualB2Class( className));
+    }
+    /**
+     * @param ontoClass the class from which to retrieve the individuals
+     * @return the result of {@link OWLEnquirer#getIndividualB2Class(OWLClass)} on this view.
+     */
+    public Set<OWLNamedIndividual> getIndividualB2Class( OWLClass ontoClass){
+        return query( q -> q.getIndividualB2Class( ontoClass));
+    }
+
+    /**
+     * @param individualName the name of the individual.
+     * @return the result of {@link OWLEnquirer#getIndividualClasses(String)} on this view.
+     */
+    public Set<OWLClass> getIndividualClasses( String individualName){
+        return query( q -> q.getIndividualClasses( individualName));
+    }
+    /**
+     * @param individual the individual.
+     * @return the result of {@link OWLEnquirer#getIndividualClasses(OWLNamedIndividual)} on this view.
+     */
+    public Set<OWLClass> getIndividualClasses( OWLNamedIndividual individual){
+        return query( q -> q.getIndividualClasses( individual));
+    }
+
+    /**
+     * @param individual the individual.
+     * @param property the data property.
+     * @return the result of {@link OWLEnquirer#getDataPropertyB2Individual(OWLNamedIndividual, OWLDataProperty)} on this view.
+     */
+    public Set<OWLLiteral> getDataPropertyB2Individual( OWLNamedIndividual individual, OWLDataProperty property){
+        return query( q -> q.getDataPropertyB2Individual( individual, property));
+    }
+    /**
+     * @param individual the individual.
+     * @return the result of {@link OWLEnquirer#getDataPropertyB2Individual(OWLNamedIndividual)} on this view.
+     */
+    public Set<DataPropertyRelations> getDataPropertyB2Individual( OWLNamedIndividual individual){
+        return query( q -> q.getDataPropertyB2Individual( individual));
+    }
+
+    /**
+     * @param individual the individual.
+     * @param property the object property.
+     * @return the result of {@link OWLEnquirer#getObjectPropertyB2Individual(OWLNamedIndividual, OWLObjectProperty)} on this view.
+     */
+    public Set<OWLNamedIndividual> getObjectPropertyB2Individual( OWLNamedIndividual individual, OWLObjectProperty property){
+        return query( q -> q.getObjectPropertyB2Individual( individual, property));
+    }
+    /**
+     * @param individual the individual.
+     * @return the result of {@link OWLEnquirer#getObjectPropertyB2Individual(OWLNamedIndividual)} on this view.
+     */
+    public Set<ObjectPropertyRelations> getObjectPropertyB2Individual( OWLNamedIndividual individual){
+        return query( q -> q.getObjectPropertyB2Individual( individual));
+    }
+
+    /**
+     * @param cl the class.
+     * @return the result of {@link OWLEnquirer#getSubClassOf(OWLClass)} on this view.
+     */
+    public Set<OWLClass> getSubClassOf( OWLClass cl){
+        return query( q -> q.getSubClassOf( cl));
+    }
+    /**
+     * @param cl the class.
+     * @return the result of {@link OWLEnquirer#getSuperClassOf(OWLClass)} on this view.
+     */
+    public Set<OWLClass> getSuperClassOf( OWLClass cl){
+        return query( q -> q.getSuperClassOf( cl));
+    }
+
+    @Override
+    public String toString() {
+        return "OWLReferencesSnapshot [" + getReferenceName() + " at version " + version + "]";
+    }
+}
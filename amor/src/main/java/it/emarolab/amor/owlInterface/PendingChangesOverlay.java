@@ -0,0 +1,110 @@
+package it.emarolab.amor.owlInterface;
+
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+
+import java.util.*;
+import java.util.function.BiConsumer;
+
+/**
+ * <div style="text-align:center;"><small>
+ * <b>Project</b>:    aMOR <br>
+ * <b>File</b>:       it.emarolab.amor.owlInterface.PendingChangesOverlay <br>
+ * <b>Licence</b>:    GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:     aMOR contributors <br>
+ * <b>date</b>:       Oct 18, 2026 <br>
+ * </small></div>
+ *
+ * <p>
+ *     This class is an immutable index of the changes buffered by an {@link OWLManipulator} for an ontology,
+ *     and not yet applied. It is used by the {@link OWLEnquirer} to merge such changes with the asserted axioms
+ *     of the ontology (see {@link OWLEnquirer#setPendingChangesOverlay(boolean)}), so that the asserted queries
+ *     see the buffered manipulations before that they are applied.<br>
+ *     For each axiom, only the last buffered change is considered (see {@link ChangeBuffer}): the axiom is
+ *     pending to be added or pending to be removed. The axioms are indexed by their type.
+ *     It is built by {@link ChangeBuffer#getOverlay(OWLOntology)} and it is valid until the buffer changes.
+ * </p>
+ *
+ * @version 2.2
+ */
+public class PendingChangesOverlay {
+
+    private final OWLOntology ontology;
+    private final Map< OWLAxiom, Boolean> pending = new HashMap<>();
+    private final Map< AxiomType< ?>, Map< OWLAxiom, Boolean>> pendingByType = new HashMap<>();
+
+    /**
+     * @param changes the buffered changes, where each axiom appears at most once.
+     * @param ontology the ontology whose changes are considered.
+     */
+    protected PendingChangesOverlay( Collection< OWLOntologyChange> changes, OWLOntology ontology){
+        this.ontology = ontology;
+        for( OWLOntologyChange c : changes)
+            if( c.isAxiomChange() && c.getOntology() == ontology) {
+                OWLAxiom axiom = c.getAxiom();
+                pending.put( axiom, c.isAddAxiom());
+                pendingByType.computeIfAbsent( axiom.getAxiomType(), k -> new HashMap<>()).put( axiom, c.isAddAxiom());
+            }
+    }
+
+    /**
+     * @return the ontology whose changes are considered.
+     */
+    public OWLOntology getOntology(){
+        return ontology;
+    }
+
+    /**
+     * @return {@code true} if there are not pending axioms.
+     */
+    public boolean isEmpty(){
+        return pending.isEmpty();
+    }
+
+    /**
+     * @return the number of pending axioms.
+     */
+    public int size(){
+        return pending.size();
+    }
+
+    /**
+     * @param axiom an axiom.
+     * @return {@link Boolean#TRUE} if the axiom is pending to be added, {@link Boolean#FALSE} if it is pending
+     * to be removed, {@code null} if it has not been changed.
+     */
+    public Boolean getPendingState( OWLAxiom axiom){
+        return pending.get( axiom);
+    }
+
+    /**
+     * @param axiom an axiom.
+     * @param asserted {@code true} if the axiom is asserted in the ontology.
+     * @return {@code true} if the axiom would be asserted after that the pending changes are applied.
+     */
+    public boolean isAsserted( OWLAxiom axiom, boolean asserted){
+        Boolean state = pending.get( axiom);
+        return state == null ? asserted : state;
+    }
+
+    /**
+     * Iterates over the pending axioms of a given type.
+     * @param type the type of the axioms.
+     * @param action called with each pending axiom, and {@code true} if it is pending to be added
+     *               ({@code false} if it is pending to be removed).
+     * @param <A> the type of the axioms.
+     */
+    @SuppressWarnings( "unchecked")
+    public < A extends OWLAxiom> void forEach( AxiomType< A> type, BiConsumer< A, Boolean> action){
+        Map< OWLAxiom, Boolean> axioms = pendingByType.get( type);
+        if( axioms != null)
+            axioms.forEach( (axiom, added) -> action.accept( (A) axiom, added));
+    }
+
+    @Override
+    public String toString() {
+        return "PendingChangesOverlay [size=" + size() + "]";
+    }
+}
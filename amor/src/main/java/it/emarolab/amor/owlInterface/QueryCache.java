@@ -0,0 +1,243 @@
+package it.emarolab.amor.owlInterface;
+
+import org.semanticweb.owlapi.model.AxiomType;
+import org.semanticweb.owlapi.model.OWLAxiom;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * <div style="text-align:center;"><small>
+ * <b>Project</b>:    aMOR <br>
+ * <b>File</b>:       it.emarolab.amor.owlInterface.QueryCache <br>
+ * <b>Licence</b>:    GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:     aMOR contributors <br>
+ * <b>date</b>:       Oct 18, 2026 <br>
+ * </small></div>
+ *
+ * <p>
+ *     This class stores the results of the queries performed by an {@link OWLEnquirer}
+ *     (see {@link OWLEnquirer#setQueryCaching(boolean)}). The results are indexed by the name of the query,
+ *     the flags of the enquirer and the query arguments. Each result is tagged with the entities it depends on
+ *     (i.e., the query arguments) and, eventually, with the {@link #CLASS_HIERARCHY}.<br>
+ *     When a change is applied to the ontology (see {@link #invalidate(List, boolean)}), only the results that depend
+ *     on the signature of the changed axiom are removed, since an asserted result can be affected only by axioms
+ *     that mention all its arguments. Results that depend on the class hierarchy are removed by any change to the TBox.
+ *     Results that include inferences are removed when the reasoner is synchronised (see {@link #invalidateInferences()})
+ *     or, with a non buffering reasoner, by any change. Changes that are not axioms remove all the results.<br>
+ *     Results computed while an invalidation occurs are never stored. Returned sets are copies,
+ *     so callers can change them without affecting the cache.
+ * </p>
+ *
+ * @version 2.2
+ */
+public class QueryCache {
+
+    /**
+     * The default maximum number of stored results. When it is exceeded, the least used results are evicted
+     * one at a time (see {@link BoundedCache}).
+     */
+    public static final int DEFAULT_MAX_SIZE = 10000;
+
+    /**
+     * The dependency of the results that are affected by any change to the TBox
+     * (e.g., the most specific types of an individual).
+     */
+    public static final Object CLASS_HIERARCHY = "CLASS_HIERARCHY";
+
+    // used to store null results
+    private static final Object NULL_RESULT = new Object();
+
+    private final BoundedCache< List< Object>, Entry> results = new BoundedCache<>( this::evicted);
+    // the keys of the results that depend on an entity, or on the class hierarchy (it may contain keys already removed)
+    private final Map< Object, Set< List< Object>>> dependents = new ConcurrentHashMap<>();
+    private final AtomicLong generation = new AtomicLong();
+    private final LongAdder hits = new LongAdder(), misses = new LongAdder(), evictions = new LongAdder();
+    private volatile int maxSize = DEFAULT_MAX_SIZE;
+
+    /**
+     * Returns the stored result of a query or, if it is not available, it performs the query and stores its result.
+     * @param key the identifier of the query, made of its name, the enquirer flags and its arguments.
+     * @param dependencies the entities (and eventually {@link #CLASS_HIERARCHY}) on which the asserted result depends.
+     * @param inferred {@code true} if the result includes inferences.
+     * @param query the query to perform if the result is not stored.
+     * @param <T> the type of the result.
+     * @return a copy of the result of the query.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get( List< Object> key, Set< Object> dependencies, boolean inferred, Supplier< T> query){
+        Entry stored = results.get( key);
+        if( stored != null){
+            hits.increment();
+            return (T) copy( stored.value == NULL_RESULT ? null : stored.value);
+        }
+        misses.increment();
+        long initialGeneration = generation.get();
+        T result = query.get();
+        results.put( key, new Entry( result == null ? NULL_RESULT : copy( result), dependencies, inferred), maxSize);
+        for( Object d : dependencies) // indexed after that the result is stored, see invalidate(List, boolean)
+            dependents.compute( d, (k, keys) -> { // atomically with respect to the removal of an empty set
+                Set< List< Object>> out = keys == null ? ConcurrentHashMap.newKeySet() : keys;
+                out.add( key);
+                return out;
+            });
+        if( generation.get() != initialGeneration) // the ontology changed during the query
+            results.remove( key);
+        return result;
+    }
+
+    // removes the evicted result from the index of its dependencies
+    private void evicted( List< Object> key, Entry entry){
+        evictions.increment();
+        for( Object d : entry.entities)
+            removeDependent( d, key);
+        if( entry.hierarchy)
+            removeDependent( CLASS_HIERARCHY, key);
+    }
+
+    private void removeDependent( Object dependency, List< Object> key){
+        dependents.computeIfPresent( dependency, (d, keys) -> {
+            if( ! results.containsKey( key)) // it may have been stored again in the meanwhile
+                keys.remove( key);
+            return keys.isEmpty() ? null : keys;
+        });
+    }
+
+    // sets are copied (recursively for sets of sets) since queries return mutable sets
+    private static Object copy( Object result){
+        if( result instanceof Set) {
+            Set< Object> out = new HashSet<>();
+            for( Object o : (Set< ?>) result)
+                out.add( copy( o));
+            return out;
+        }
+        return result;
+    }
+
+    /**
+     * Removes all the stored results.
+     */
+    public void invalidate(){
+        generation.incrementAndGet();
+        clear();
+    }
+
+    /**
+     * Removes the stored results that include inferences, e.g., when the reasoner has been synchronised.
+     */
+    public void invalidateInferences(){
+        generation.incrementAndGet();
+        evictions.add( results.removeIf( (key, entry) -> entry.inferred));
+    }
+
+    /**
+     * Removes the stored results that can be affected by the given changes.
+     * @param changes the changes applied to the ontology.
+     * @param inferencesChanged {@code true} if the changes also affect the inferences (i.e., with a non buffering reasoner).
+     */
+    public void invalidate( List< ? extends OWLOntologyChange> changes, boolean inferencesChanged){
+        generation.incrementAndGet(); // the results of the queries in progress are not stored
+        if( results.isEmpty())
+            return;
+        Set< Object> signature = new HashSet<>();
+        for( OWLOntologyChange c : changes){
+            if( ! c.isAxiomChange()){
+                invalidate(); // e.g., imports and annotations of the ontology
+                return;
+            }
+            OWLAxiom axiom = c.getAxiom();
+            axiom.signature().forEach( signature::add);
+            if( axiom.isOfType( AxiomType.TBoxAxiomTypes))
+                signature.add( CLASS_HIERARCHY);
+        }
+        if( inferencesChanged)
+            invalidateInferences();
+        for( Object changed : signature){
+            Set< List< Object>> keys = dependents.get( changed);
+            if( keys == null)
+                continue;
+            for( Iterator< List< Object>> i = keys.iterator(); i.hasNext(); ){
+                List< Object> key = i.next();
+                Entry entry = results.get( key);
+                if( entry == null)
+                    i.remove(); // already removed
+                else if( changed == CLASS_HIERARCHY || signature.containsAll( entry.entities)){
+                    if( results.remove( key, entry))
+                        evictions.increment();
+                    i.remove();
+                }
+            }
+        }
+    }
+
+    private void clear(){
+        evictions.add( results.size());
+        results.clear();
+        dependents.clear();
+    }
+
+    /**
+     * @return the number of stored results.
+     */
+    public int size(){
+        return results.size();
+    }
+
+    /**
+     * @return the maximum number of stored results.
+     */
+    public int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * @param maxSize the maximum number of stored results. When it is exceeded, the least used results are evicted.
+     */
+    public void setMaxSize( int maxSize) {
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * @return the number of queries served by the cache.
+     */
+    public long getHitCount(){
+        return hits.sum();
+    }
+
+    /**
+     * @return the number of queries that have been performed since their result was not stored.
+     */
+    public long getMissCount(){
+        return misses.sum();
+    }
+
+    /**
+     * @return the number of results that have been removed from the cache.
+     */
+    public long getEvictionCount(){
+        return evictions.sum();
+    }
+
+    @Override
+    public String toString() {
+        return "QueryCache [size=" + size() + ", hits=" + getHitCount() + ", misses=" + getMissCount() + ", evictions=" + getEvictionCount() + "]";
+    }
+
+    // a stored result with its dependencies
+    private static class Entry{
+        private final Object value;
+        private final Set< Object> entities; // the dependencies, except CLASS_HIERARCHY
+        private final boolean hierarchy, inferred;
+
+        private Entry( Object value, Set< Object> dependencies, boolean inferred){
+            this.value = value;
+            this.entities = new HashSet<>( dependencies);
+            this.hierarchy = this.entities.remove( CLASS_HIERARCHY);
+            this.inferred = inferred;
+        }
+    }
+}
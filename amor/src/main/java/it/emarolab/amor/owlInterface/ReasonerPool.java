@@ -0,0 +1,205 @@
+package it.emarolab.amor.owlInterface;
+
+import org.semanticweb.owlapi.model.OWLOntologyChangeListener;
+import org.semanticweb.owlapi.model.OWLOntologyManager;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+
+/**
+ * <div style="text-align:center;"><small>
+ * <b>Project</b>:    aMOR <br>
+ * <b>File</b>:       it.emarolab.amor.owlInterface.ReasonerPool <br>
+ * <b>Licence</b>:    GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:     aMOR contributors <br>
+ * <b>date</b>:       Oct 18, 2026 <br>
+ * </small></div>
+ *
+ * <p>
+ *     This class is a pool of reasoners over the same ontology of a reference (see {@link OWLLibrary#setReasonerPoolSize(int)}).
+ *     Since a reasoner is not thread safe, the queries that include inferences are serialised on it.
+ *     With a pool, each query checks out a different reasoner (in a round-robin order) and the queries can be performed
+ *     in parallel, at the cost of the memory of each reasoner.<br>
+ *     The pool is a {@link Lock}: {@link #lock()} waits for a free reasoner and assigns it to the calling thread,
+ *     {@link #unlock()} gives it back to the pool. While a thread holds a reasoner, {@link OWLLibrary#getOWLReasoner()}
+ *     returns it instead of the main reasoner of the reference. The lock is reentrant, nested calls use the same reasoner.
+ *     {@link OWLReferences} uses it instead of the lock among the queries that involve the reasoner.<br>
+ *     The reasoners of the pool are synchronised with the main one (see {@link OWLLibrary#callReasoning(Long)}),
+ *     this must occur when no reasoner is checked out (e.g., under the write lock of {@link OWLReferences}).
+ * </p>
+ *
+ * @version 2.2
+ */
+public class ReasonerPool implements Lock{
+
+    private final List< OWLReasoner> reasoners;
+    private final BlockingQueue< OWLReasoner> available;
+    private final ThreadLocal< OWLReasoner> checkedOut = new ThreadLocal<>();
+    private final ThreadLocal< int[]> holdCount = ThreadLocal.withInitial( () -> new int[ 1]);
+    // true if the reasoners have not been synchronised with the main one (see markStale())
+    private volatile boolean stale = false;
+
+    /**
+     * @param reasoners the reasoners of this pool, they should all reason on the same ontology.
+     */
+    protected ReasonerPool( List< OWLReasoner> reasoners){
+        this.reasoners = Collections.unmodifiableList( new ArrayList<>( reasoners));
+        this.available = new ArrayBlockingQueue<>( Math.max( 1, reasoners.size()), true);
+        this.available.addAll( reasoners);
+    }
+
+    /**
+     * @return the number of reasoners in this pool.
+     */
+    public int size(){
+        return reasoners.size();
+    }
+
+    /**
+     * @return the number of reasoners that are not checked out.
+     */
+    public int getAvailableCount(){
+        return available.size();
+    }
+
+    /**
+     * @return all the reasoners of this pool.
+     */
+    public List< OWLReasoner> getReasoners(){
+        return reasoners;
+    }
+
+    /**
+     * @return the reasoner checked out by the calling thread, or {@code null} if it does not hold any.
+     */
+    public OWLReasoner getCheckedOut(){
+        return checkedOut.get();
+    }
+
+    /**
+     * Synchronises all the reasoners of this pool, which are no longer stale (see {@link #isStale()}).
+     * It must be called when no reasoner is checked out.
+     */
+    public void flush(){
+        for( OWLReasoner reasoner : reasoners)
+            reasoner.flush();
+        stale = false;
+    }
+
+    /**
+     * Marks the reasoners of this pool as not synchronised with the main reasoner, e.g., since their
+     * synchronisation has been skipped or interrupted. It is cleared by {@link #flush()}.
+     */
+    public void markStale(){
+        stale = true;
+    }
+
+    /**
+     * @return {@code true} if the reasoners of this pool may give inferences older than the main reasoner,
+     * and so they should not be used (see {@link #markStale()}).
+     */
+    public boolean isStale(){
+        return stale;
+    }
+
+    /**
+     * Disposes all the reasoners of this pool. Non buffering reasoners are also removed from the
+     * listeners of the given manager. The pool should not be used afterwards.
+     * @param manager the manager of the ontology reasoned by this pool.
+     */
+    public void dispose( OWLOntologyManager manager){
+        for( OWLReasoner reasoner : reasoners) {
+            if( reasoner instanceof OWLOntologyChangeListener)
+                manager.removeOntologyChangeListener( (OWLOntologyChangeListener) reasoner);
+            reasoner.dispose();
+        }
+    }
+
+    // assigns the reasoner to the calling thread, or just counts the nested calls
+    private boolean isReentered(){
+        if( checkedOut.get() != null){
+            holdCount.get()[ 0]++;
+            return true;
+        }
+        return false;
+    }
+    private void checkOut( OWLReasoner reasoner){
+        checkedOut.set( reasoner);
+        holdCount.get()[ 0] = 1;
+    }
+
+    @Override
+    public void lock() {
+        if( isReentered())
+            return;
+        boolean interrupted = false;
+        OWLReasoner reasoner = null;
+        while( reasoner == null) {
+            try {
+                reasoner = available.take();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        checkOut( reasoner);
+        if( interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+        if( isReentered())
+            return;
+        checkOut( available.take());
+    }
+
+    @Override
+    public boolean tryLock() {
+        if( isReentered())
+            return true;
+        OWLReasoner reasoner = available.poll();
+        if( reasoner == null)
+            return false;
+        checkOut( reasoner);
+        return true;
+    }
+
+    @Override
+    public boolean tryLock( long time, TimeUnit unit) throws InterruptedException {
+        if( isReentered())
+            return true;
+        OWLReasoner reasoner = available.poll( time, unit);
+        if( reasoner == null)
+            return false;
+        checkOut( reasoner);
+        return true;
+    }
+
+    @Override
+    public void unlock() {
+        OWLReasoner reasoner = checkedOut.get();
+        if( reasoner == null)
+            throw new IllegalMonitorStateException( "The calling thread does not hold a reasoner of the pool.");
+        if( --holdCount.get()[ 0] == 0){
+            checkedOut.remove();
+            available.add( reasoner);
+        }
+    }
+
+    @Override
+    public Condition newCondition() {
+        throw new UnsupportedOperationException( "A reasoner pool does not support conditions.");
+    }
+
+    @Override
+    public String toString() {
+        return "ReasonerPool [size=" + size() + ", available=" + getAvailableCount() + ", stale=" + stale + "]";
+    }
+}
@@ -0,0 +1,260 @@
+package it.emarolab.amor.owlInterface;
+
+import it.emarolab.amor.owlDebugger.Logger;
+import it.emarolab.amor.owlDebugger.Logger.LoggerFlag;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <div style="text-align:center;"><small>
+ * <b>Project</b>:    aMOR <br>
+ * <b>File</b>:       it.emarolab.amor.owlInterface.ReasonerSynchronizer <br>
+ * <b>Licence</b>:    GNU GENERAL PUBLIC LICENSE. Version 3, 29 June 2007 <br>
+ * <b>Author</b>:     aMOR contributors <br>
+ * <b>date</b>:       Oct 18, 2026 <br>
+ * </small></div>
+ *
+ * <p>
+ *     This class implements the thread that synchronises the reasoner of an {@link OWLReferences} on its behalf
+ *     (see {@link OWLReferences#startReasonerSynchronizer(int, long)}).
+ *     It counts the changes applied to the ontology (see {@link #changesApplied(int)}) and it calls the
+ *     synchronisation when a maximum number of changes has been accumulated, or when a maximum delay
+ *     is elapsed since the first change not yet seen by the reasoner, whichever comes first.<br>
+ *     Moreover, the synchronisations explicitly required (see {@link #request()}) are coalesced: all the requests
+ *     that arrive before that the thread starts synchronising are served by a single synchronisation.
+ *     The synchronisations performed by other threads reset the count of the changes (see {@link #reasoningPerformed()}).<br>
+ *     When it is stopped, the thread synchronises the reasoner once more if there are changes or requests still pending.
+ * </p>
+ *
+ * @version 2.2
+ */
+public class ReasonerSynchronizer {
+
+    /**
+     * The default maximum number of changes after which the reasoner is synchronised.
+     */
+    public static final int DEFAULT_MAX_CHANGES = 100;
+    /**
+     * The default maximum delay (in milliseconds) between the first change and the synchronisation of the reasoner.
+     */
+    public static final long DEFAULT_MAX_DELAY = 500;
+
+    /**
+     * This object is used to log information about the instances of this class.
+     * The logs can be activated by setting the flag: {@link LoggerFlag#LOG_ONTOLOGY_REFERENCE}
+     */
+    private Logger logger = new Logger( this, LoggerFlag.getLogOntologyReference());
+
+    private final Runnable synchroniser;
+    private final int maxChanges;
+    private final long maxDelay; // [ns]
+    private final Thread thread;
+    private volatile boolean running = true;
+    // guarded by this
+    private int pendingChanges = 0;
+    private long firstChangeTime; // [ns]
+    private CompletableFuture< Void> request; // the future of the explicit requests not yet served
+    private boolean due = false; // true if the last awaited synchronisation serves some requests or changes
+    private long synchronisationCount = 0, requestCount = 0, coalescedRequestCount = 0;
+
+    /**
+     * Creates and starts a new synchronisation thread.
+     * @param name the name of the thread.
+     * @param maxChanges the number of changes after which the reasoner is synchronised.
+     * @param maxDelay the time (in milliseconds) after the first change within which the reasoner is synchronised.
+     * @param synchroniser the procedure that synchronises the reasoner with the changes already applied to the ontology.
+     */
+    protected ReasonerSynchronizer( String name, int maxChanges, long maxDelay, Runnable synchroniser){
+        this.synchroniser = synchroniser;
+        this.maxChanges = Math.max( 1, maxChanges);
+        this.maxDelay = TimeUnit.MILLISECONDS.toNanos( Math.max( 0, maxDelay));
+        this.thread = new Thread( this::synchronise, name);
+        this.thread.setDaemon( true);
+        this.thread.start();
+    }
+
+    /**
+     * Notifies that some changes have been applied to the ontology, and they are not yet seen by the reasoner.
+     * @param count the number of applied changes.
+     */
+    public synchronized void changesApplied( int count){
+        if( count <= 0)
+            return;
+        if( pendingChanges == 0) {
+            firstChangeTime = System.nanoTime();
+            notifyAll(); // starts the delay
+        }
+        pendingChanges += count;
+        if( pendingChanges >= maxChanges)
+            notifyAll();
+    }
+
+    /**
+     * Notifies that the reasoner has been synchronised, also by another thread, so that the
+     * changes applied until now are no longer pending.
+     */
+    public synchronized void reasoningPerformed(){
+        pendingChanges = 0;
+    }
+
+    /**
+     * Requires a synchronisation of the reasoner. If another request is waiting to be served,
+     * this request is coalesced with it, and they are served by the same synchronisation.
+     * @return a future completed after that the reasoner has been synchronised.
+     */
+    public synchronized CompletableFuture< Void> request(){
+        requestCount++;
+        if( ! running) {
+            CompletableFuture< Void> stopped = new CompletableFuture<>();
+            stopped.completeExceptionally( new IllegalStateException( "The reasoner synchronizer " + thread.getName() + " has been stopped."));
+            return stopped;
+        }
+        if( request == null) {
+            request = new CompletableFuture<>();
+            notifyAll();
+        } else coalescedRequestCount++;
+        return request;
+    }
+
+    /**
+     * Stops the synchronisation thread after that the pending requests and changes have been served.
+     */
+    public void stop(){
+        synchronized ( this) {
+            running = false;
+            notifyAll();
+        }
+        if( Thread.currentThread() != thread) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * @return {@code true} if the synchronisation thread is running.
+     */
+    public boolean isRunning(){
+        return running;
+    }
+
+    /**
+     * @return {@code true} if this method is called by the synchronisation thread.
+     */
+    public boolean isCurrentThread(){
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * @return the maximum number of changes after which the reasoner is synchronised.
+     */
+    public int getMaxChanges(){
+        return maxChanges;
+    }
+
+    /**
+     * @return the maximum delay (in milliseconds) between the first change and the synchronisation of the reasoner.
+     */
+    public long getMaxDelay(){
+        return TimeUnit.NANOSECONDS.toMillis( maxDelay);
+    }
+
+    /**
+     * @return the number of changes that have not been seen by the reasoner yet.
+     */
+    public synchronized int getPendingChangesCount(){
+        return pendingChanges;
+    }
+
+    /**
+     * @return the number of synchronisations performed by this thread so far.
+     */
+    public synchronized long getSynchronisationCount(){
+        return synchronisationCount;
+    }
+
+    /**
+     * @return the number of explicit requests (see {@link #request()}) received so far.
+     */
+    public synchronized long getRequestCount(){
+        return requestCount;
+    }
+
+    /**
+     * @return the number of explicit requests served by the synchronisation of a previous request.
+     */
+    public synchronized long getCoalescedRequestCount(){
+        return coalescedRequestCount;
+    }
+
+    // waits until a synchronisation is due, and returns the requests that it serves (null if none)
+    private synchronized CompletableFuture< Void> awaitSynchronisation() throws InterruptedException {
+        while( running) {
+            if( request != null || pendingChanges >= maxChanges)
+                break;
+            if( pendingChanges > 0) {
+                long remaining = maxDelay - ( System.nanoTime() - firstChangeTime);
+                if( remaining <= 0)
+                    break;
+                TimeUnit.NANOSECONDS.timedWait( this, remaining);
+            } else wait();
+        }
+        CompletableFuture< Void> served = request;
+        due = served != null || pendingChanges > 0;
+        request = null;
+        pendingChanges = 0;
+        return served;
+    }
+
+    // the loop of the synchronisation thread
+    private void synchronise(){
+        boolean last = false;
+        while( ! last){
+            CompletableFuture< Void> served;
+            boolean isDue;
+            try {
+                served = awaitSynchronisation();
+                last = ! running;
+                synchronized ( this) {
+                    isDue = due;
+                }
+            } catch ( InterruptedException e) {
+                synchronized ( this) {
+                    running = false;
+                    served = request;
+                    isDue = served != null || pendingChanges > 0;
+                    request = null;
+                    pendingChanges = 0;
+                }
+                last = true;
+            }
+            if( last && ! isDue)
+                break; // nothing has been required, nor changed, while stopping
+            long initialTime = System.nanoTime();
+            RuntimeException failure = null;
+            try {
+                synchroniser.run();
+            } catch ( RuntimeException e){
+                failure = e;
+                logger.addDebugString( "Error on synchronising the reasoner: " + e, true);
+            }
+            synchronized ( this) { // before serving the requests, which may read it
+                synchronisationCount++;
+            }
+            if( served != null) {
+                if( failure == null)
+                    served.complete( null);
+                else served.completeExceptionally( failure);
+            }
+            logger.addDebugString( "reasoner synchronised in: " + (System.nanoTime() - initialTime) + " [ns]");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "ReasonerSynchronizer [maxChanges=" + maxChanges + ", maxDelay=" + getMaxDelay() + "ms, pending=" + getPendingChangesCount() + "]";
+    }
+}
@@ -0,0 +1,108 @@
+package it.emarolab.amor.owlDebugger;
+
+import it.emarolab.amor.owlInterface.OWLReferences;
+import it.emarolab.amor.owlInterface.OWLReferencesInterface;
+import org.junit.Test;
+import org.semanticweb.owlapi.reasoner.ReasonerProgressMonitor;
+
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that a {@link ReasonerMonitor} records the tasks performed during a flush, and the ones performed afterwards.
+ */
+public class ReasonerMonitorTest {
+
+    private final ReasonerMonitor monitor = new ReasonerMonitor( 2);
+
+    private void performTask( String name){
+        monitor.reasonerTaskStarted( name);
+        monitor.reasonerTaskProgressChanged( 1, 2);
+        monitor.reasonerTaskStopped();
+    }
+
+    @Test
+    public void tasksAfterAFlushAreDeferredUntilTheNextOne() {
+        performTask( "before"); // not attributed to any flush
+        monitor.flushStarted( Collections.emptyList());
+        performTask( ReasonerProgressMonitor.CLASSIFYING);
+        ReasonerMonitor.FlushRecord first = monitor.flushStopped( false);
+        performTask( ReasonerProgressMonitor.REALIZING);
+        assertEquals( 1, first.getTasks().size());
+        assertEquals( ReasonerProgressMonitor.CLASSIFYING, first.getTasks().get( 0).getName());
+        assertEquals( 1, first.getDeferredTasks().size());
+        assertEquals( ReasonerProgressMonitor.REALIZING, first.getDeferredTasks().get( 0).getName());
+
+        monitor.flushStarted( Collections.emptyList());
+        performTask( ReasonerProgressMonitor.CLASSIFYING);
+        ReasonerMonitor.FlushRecord second = monitor.flushStopped( true);
+        assertEquals( 1, first.getDeferredTasks().size());
+        assertEquals( 1, second.getTasks().size());
+        assertTrue( second.isInterrupted());
+        assertTrue( second.getDeferredTasks().isEmpty());
+        assertEquals( 4, monitor.getTaskDurations().values().stream().mapToLong( LatencyHistogram::getCount).sum());
+    }
+
+    @Test
+    public void historyKeepsTheMostRecentFlushes() {
+        for( int i = 0; i < 3; i++) {
+            monitor.flushStarted( Collections.emptyList());
+            monitor.flushStopped( false);
+        }
+        List< ReasonerMonitor.FlushRecord> history = monitor.getFlushHistory();
+        assertEquals( 2, history.size());
+        assertEquals( 2, history.get( 0).getSequence());
+        assertEquals( 3, history.get( 1).getSequence());
+        assertSame( history.get( 1), monitor.getLastFlush());
+        assertEquals( 3, monitor.getFlushCount());
+    }
+
+    @Test
+    public void flushesOfAReferenceAreRecorded() {
+        OWLReferences ontoRef = OWLReferencesInterface.OWLReferencesContainer.newOWLReferencesCreatedWithPellet(
+                "monitorTest", "", "http://www.emarolab.it/amor/test", true);
+        try {
+            ontoRef.addSubClassOf( "A", "B");
+            ontoRef.addIndividualB2Class( "i1", "B");
+            ontoRef.synchronizeReasoner();
+            ReasonerMonitor.FlushRecord flush = ontoRef.getReasonerMonitor().getLastFlush();
+            assertFalse( flush.isInterrupted());
+            assertEquals( 1, ontoRef.getReasonerMonitor().getFlushCount());
+
+            ontoRef.addIndividualB2Class( "i2", "B");
+            ontoRef.synchronizeReasoner();
+            assertNotSame( flush, ontoRef.getReasonerMonitor().getLastFlush());
+            assertEquals( 2, ontoRef.getReasonerMonitor().getFlushCount());
+        } finally {
+            OWLReferencesInterface.OWLReferencesContainer.removeInstance( ontoRef);
+        }
+    }
+
+    @Test
+    public void eagerAndLazyInferencesAreRecorded() {
+        OWLReferences ontoRef = OWLReferencesInterface.OWLReferencesContainer.newOWLReferencesCreatedWithPellet(
+                "monitorTest", "", "http://www.emarolab.it/amor/test", true);
+        try {
+            ontoRef.addSubClassOf( "A", "B");
+            ontoRef.addIndividualB2Class( "i1", "B");
+            ontoRef.setReasoningTimeout( 10000); // the inferences are computed within the flush
+            ontoRef.synchronizeReasoner();
+            ReasonerMonitor.FlushRecord flush = ontoRef.getReasonerMonitor().getLastFlush();
+            assertFalse( flush.isInterrupted());
+            assertFalse( flush.getTasks().isEmpty());
+
+            ontoRef.setReasoningTimeout( 0);
+            ontoRef.addSubClassOf( "B", "C"); // the hierarchy changes
+            ontoRef.addIndividualB2Class( "i2", "C");
+            ontoRef.synchronizeReasoner();
+            flush = ontoRef.getReasonerMonitor().getLastFlush();
+            int deferred = flush.getDeferredTasks().size();
+            assertFalse( ontoRef.getSubClassOf( "A").isEmpty()); // the hierarchy is computed lazily
+            assertTrue( flush.getDeferredTasks().size() > deferred);
+        } finally {
+            OWLReferencesInterface.OWLReferencesContainer.removeInstance( ontoRef);
+        }
+    }
+}
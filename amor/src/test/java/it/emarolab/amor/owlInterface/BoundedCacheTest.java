@@ -0,0 +1,68 @@
+package it.emarolab.amor.owlInterface;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that a {@link BoundedCache} evicts one entry at a time, giving a second chance to the entries that are read.
+ */
+public class BoundedCacheTest {
+
+    private final List< String> evicted = new ArrayList<>();
+    private final BoundedCache< String, Integer> cache = new BoundedCache<>( (key, value) -> evicted.add( key));
+
+    @Test
+    public void onlyTheExceedingEntriesAreEvicted() {
+        for( int i = 0; i < 5; i++)
+            cache.put( "k" + i, i, 3);
+        assertEquals( 3, cache.size());
+        assertEquals( 2, evicted.size());
+        assertEquals( "k0", evicted.get( 0)); // in insertion order
+        assertEquals( "k1", evicted.get( 1));
+        assertEquals( Integer.valueOf( 4), cache.get( "k4"));
+    }
+
+    @Test
+    public void readEntriesHaveASecondChance() {
+        cache.put( "k0", 0, 2);
+        cache.put( "k1", 1, 2);
+        assertEquals( Integer.valueOf( 0), cache.get( "k0"));
+        cache.put( "k2", 2, 2);
+        assertEquals( 1, evicted.size());
+        assertEquals( "k1", evicted.get( 0));
+        assertNotNull( cache.get( "k0"));
+        assertNotNull( cache.get( "k2"));
+    }
+
+    @Test
+    public void removedAndReplacedEntriesAreNotEvicted() {
+        cache.put( "k0", 0, 2);
+        cache.put( "k1", 1, 2);
+        cache.remove( "k0");
+        cache.put( "k1", 10, 2); // replaced, it keeps a single entry
+        cache.put( "k2", 2, 2);
+        assertTrue( evicted.isEmpty());
+        assertEquals( Integer.valueOf( 10), cache.get( "k1"));
+
+        assertFalse( cache.remove( "k1", 1)); // not the stored value
+        assertEquals( 1, cache.removeIf( ( key, value) -> value == 2));
+        assertEquals( 1, cache.size());
+    }
+
+    @Test
+    public void removedEntriesDoNotAccumulate() {
+        for( int i = 0; i < 10000; i++) {
+            cache.put( "k" + i, i, 100);
+            cache.remove( "k" + i);
+        }
+        assertTrue( cache.isEmpty());
+        assertTrue( evicted.isEmpty());
+        cache.put( "k", 0, 0);
+        assertEquals( 0, cache.size());
+        assertEquals( 1, evicted.size());
+    }
+}
@@ -0,0 +1,115 @@
+package it.emarolab.amor.owlInterface;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that a {@link ChangeBuffer} coalesces the changes of the same axiom while keeping the order of the changes.
+ */
+public class ChangeBufferTest {
+
+    private OntologyFixture fixture;
+    private OWLOntology ontology;
+    private OWLAxiom axiom1, axiom2, axiom3;
+    private ChangeBuffer buffer;
+
+    @Before
+    public void setUp() throws OWLOntologyCreationException {
+        fixture = new OntologyFixture();
+        ontology = fixture.ontology;
+        axiom1 = fixture.getClassAssertion( "A", "i1");
+        axiom2 = fixture.getClassAssertion( "A", "i2");
+        axiom3 = fixture.getClassAssertion( "A", "i3");
+        buffer = new ChangeBuffer();
+    }
+
+    @Test
+    public void duplicatedChangesAreBufferedOnce() {
+        buffer.add( new AddAxiom( ontology, axiom1));
+        buffer.add( new AddAxiom( ontology, axiom1));
+        buffer.add( new AddAxiom( ontology, axiom2));
+        assertEquals( Arrays.asList( new AddAxiom( ontology, axiom1), new AddAxiom( ontology, axiom2)), buffer.getChanges());
+        assertEquals( 3, buffer.getBufferedCount());
+        assertEquals( 1, buffer.getElidedCount());
+    }
+
+    @Test
+    public void lastChangeOfAnAxiomKeepsThePositionOfTheFirstOne() {
+        buffer.add( new AddAxiom( ontology, axiom1));
+        buffer.add( new AddAxiom( ontology, axiom2));
+        buffer.add( new RemoveAxiom( ontology, axiom1));
+        buffer.add( new AddAxiom( ontology, axiom3));
+        assertEquals( Arrays.asList( new RemoveAxiom( ontology, axiom1), new AddAxiom( ontology, axiom2), new AddAxiom( ontology, axiom3)),
+                buffer.getChanges());
+        assertEquals( 3, buffer.size());
+    }
+
+    @Test
+    public void changesOfDifferentOntologiesAreNotCoalesced() throws OWLOntologyCreationException {
+        OWLOntology other = fixture.createOntology( "http://www.emarolab.it/amor/other");
+        buffer.add( new AddAxiom( ontology, axiom1));
+        buffer.add( new RemoveAxiom( other, axiom1));
+        assertEquals( 2, buffer.size());
+        assertEquals( 0, buffer.getElidedCount());
+    }
+
+    @Test
+    public void nonAxiomChangesAreAlwaysKept() {
+        OWLImportsDeclaration imports = fixture.factory.getOWLImportsDeclaration( IRI.create( "http://www.emarolab.it/amor/imported"));
+        buffer.add( new AddImport( ontology, imports));
+        buffer.add( new AddAxiom( ontology, axiom1));
+        buffer.add( new AddImport( ontology, imports));
+        assertEquals( Arrays.asList( new AddImport( ontology, imports), new AddAxiom( ontology, axiom1), new AddImport( ontology, imports)),
+                buffer.getChanges());
+    }
+
+    @Test
+    public void noOperationsAreRemovedBeforeApplying() {
+        fixture.manager.addAxiom( ontology, axiom1);
+        buffer.add( new AddAxiom( ontology, axiom1)); // already in the ontology
+        buffer.add( new RemoveAxiom( ontology, axiom2)); // not in the ontology
+        buffer.add( new AddAxiom( ontology, axiom3));
+        buffer.add( new RemoveAxiom( ontology, axiom1));
+        List< OWLOntologyChange> drained = buffer.drain();
+        assertTrue( buffer.isEmpty());
+        assertEquals( Arrays.asList( new RemoveAxiom( ontology, axiom1), new RemoveAxiom( ontology, axiom2), new AddAxiom( ontology, axiom3)),
+                drained);
+        assertEquals( Arrays.asList( new RemoveAxiom( ontology, axiom1), new AddAxiom( ontology, axiom3)), buffer.removeNoOperations( drained));
+        assertEquals( 2, buffer.getElidedCount()); // the replaced addition, and the removal of an absent axiom
+    }
+
+    @Test
+    public void rollbackDiscardsTheChangesBufferedAfterTheMark() {
+        buffer.add( new AddAxiom( ontology, axiom1));
+        int mark = buffer.mark();
+        buffer.add( new RemoveAxiom( ontology, axiom1)); // replaces the addition
+        buffer.add( new AddAxiom( ontology, axiom2));
+        int nested = buffer.mark();
+        buffer.add( new AddAxiom( ontology, axiom3));
+        buffer.rollback( nested);
+        assertEquals( Arrays.asList( new RemoveAxiom( ontology, axiom1), new AddAxiom( ontology, axiom2)), buffer.getChanges());
+        buffer.rollback( mark);
+        assertEquals( Collections.singletonList( new AddAxiom( ontology, axiom1)), buffer.getChanges());
+
+        mark = buffer.mark();
+        buffer.drain(); // releases the marks
+        buffer.add( new AddAxiom( ontology, axiom2));
+        buffer.rollback( mark);
+        assertEquals( Collections.singletonList( new AddAxiom( ontology, axiom2)), buffer.getChanges());
+    }
+
+    @Test
+    public void addedAndRemovedAxiomNeverReachesTheOntology() {
+        buffer.add( new AddAxiom( ontology, axiom1));
+        buffer.add( new RemoveAxiom( ontology, axiom1));
+        assertTrue( buffer.removeNoOperations( buffer.drain()).isEmpty());
+        assertFalse( ontology.containsAxiom( axiom1));
+    }
+}
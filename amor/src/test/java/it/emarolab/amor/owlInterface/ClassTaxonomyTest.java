@@ -0,0 +1,94 @@
+package it.emarolab.amor.owlInterface;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that a {@link ClassTaxonomy} gives the same hierarchy of the reasoner from which it is built,
+ * and the transitive closure of its sub and super classes.
+ */
+public class ClassTaxonomyTest {
+
+    private OntologyFixture fixture;
+    private OWLDataFactory factory;
+    private OWLReasoner reasoner;
+    private ClassTaxonomy taxonomy;
+    private OWLClass a, b, c, d, e, f, g, h;
+
+    @Before
+    public void setUp() throws Exception {
+        fixture = new OntologyFixture();
+        OWLOntologyManager manager = fixture.manager;
+        OWLOntology ontology = fixture.ontology;
+        factory = fixture.factory;
+        a = fixture.getOWLClass( "A"); b = fixture.getOWLClass( "B"); c = fixture.getOWLClass( "C"); d = fixture.getOWLClass( "D");
+        e = fixture.getOWLClass( "E"); f = fixture.getOWLClass( "F"); g = fixture.getOWLClass( "G"); h = fixture.getOWLClass( "H");
+        // F < A < B = D < C, F < E < C (a diamond), G and H disjoint
+        manager.addAxiom( ontology, factory.getOWLSubClassOfAxiom( a, b));
+        manager.addAxiom( ontology, factory.getOWLSubClassOfAxiom( b, c));
+        manager.addAxiom( ontology, factory.getOWLEquivalentClassesAxiom( b, d));
+        manager.addAxiom( ontology, factory.getOWLSubClassOfAxiom( e, c));
+        manager.addAxiom( ontology, factory.getOWLSubClassOfAxiom( f, a));
+        manager.addAxiom( ontology, factory.getOWLSubClassOfAxiom( f, e));
+        manager.addAxiom( ontology, factory.getOWLDisjointClassesAxiom( g, h));
+        reasoner = fixture.createReasoner();
+        taxonomy = new ClassTaxonomy( reasoner);
+    }
+
+    @After
+    public void tearDown() {
+        reasoner.dispose();
+    }
+
+    private Set< OWLClass> set( OWLClass... classes){
+        return new HashSet<>( Arrays.asList( classes));
+    }
+
+    @Test
+    public void closureIncludesAllTheAncestorsAndDescendants() {
+        OWLClass thing = factory.getOWLThing(), nothing = factory.getOWLNothing();
+        assertEquals( set( a, e), taxonomy.getSuperClasses( f, true));
+        assertEquals( set( a, b, d, c, e, thing), taxonomy.getSuperClasses( f, false));
+        assertEquals( set( a, e, f, b, d, nothing), taxonomy.getSubClasses( c, false));
+        assertEquals( set( b, d, e), taxonomy.getSubClasses( c, true));
+        assertEquals( set( b, d), taxonomy.getEquivalentClasses( d));
+        assertTrue( taxonomy.isSubClassOf( f, c));
+        assertTrue( taxonomy.isSubClassOf( b, d));
+        assertFalse( taxonomy.isSubClassOf( c, f));
+        assertFalse( taxonomy.isSubClassOf( a, e));
+    }
+
+    @Test
+    public void hierarchyIsTheSameOfTheReasoner() {
+        for( OWLClass cl : set( a, b, c, d, e, f, g, h, factory.getOWLThing(), factory.getOWLNothing())) {
+            assertTrue( taxonomy.contains( cl));
+            for( boolean direct : new boolean[]{ true, false}) {
+                assertEquals( cl + " sub classes", reasoner.getSubClasses( cl, direct).entities().collect( Collectors.toSet()),
+                        taxonomy.getSubClasses( cl, direct));
+                assertEquals( cl + " super classes", reasoner.getSuperClasses( cl, direct).entities().collect( Collectors.toSet()),
+                        taxonomy.getSuperClasses( cl, direct));
+            }
+            assertEquals( cl + " equivalent classes", reasoner.getEquivalentClasses( cl).entities().collect( Collectors.toSet()),
+                    taxonomy.getEquivalentClasses( cl));
+        }
+        assertFalse( taxonomy.contains( fixture.getOWLClass( "Unknown")));
+    }
+
+    @Test
+    public void disjointClassesAreAskedOnceAndCopied() {
+        Set< OWLClass> disjoint = taxonomy.getDisjointClasses( g, reasoner);
+        assertTrue( disjoint.contains( h));
+        disjoint.clear();
+        assertTrue( taxonomy.getDisjointClasses( g, reasoner).contains( h));
+    }
+}
@@ -0,0 +1,90 @@
+package it.emarolab.amor.owlInterface;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that a {@link DoubleBufferedReasoner} swaps the committed state, and that it reuses the replaced one
+ * only when the queries that were using it are over.
+ */
+public class DoubleBufferedReasonerTest {
+
+    private static final AtomicInteger references = new AtomicInteger();
+
+    private OWLReferences ontoRef;
+    private DoubleBufferedReasoner doubleBuffer;
+
+    @Before
+    public void setUp() {
+        ontoRef = OWLReferencesInterface.OWLReferencesContainer.newOWLReferencesCreatedWithPellet(
+                "doubleBufferTest" + references.incrementAndGet(), "", "http://www.emarolab.it/amor/test", true);
+        ontoRef.addIndividualB2Class( "i1", "A");
+        ontoRef.synchronizeReasoner();
+        ontoRef.startDoubleBufferedReasoning();
+        doubleBuffer = ontoRef.getDoubleBufferedReasoner();
+        doubleBuffer.refresh().join();
+    }
+
+    @After
+    public void tearDown() {
+        ontoRef.stopDoubleBufferedReasoning();
+        OWLReferencesInterface.OWLReferencesContainer.removeInstance( ontoRef);
+    }
+
+    // applies a change and waits for the state that includes it
+    private void addIndividualAndCommit( String individual){
+        ontoRef.addIndividualB2Class( individual, "A");
+        ontoRef.synchronizeReasoner();
+        doubleBuffer.refresh().join();
+        assertEquals( ontoRef.getOntologyVersion(), doubleBuffer.getCommittedVersion());
+    }
+
+    private int countCommittedIndividuals(){
+        return ontoRef.queryCommitted( q -> q.getIndividualB2Class( "A").size());
+    }
+
+    @Test
+    public void replacedStateIsUpdatedAndSwappedIn() {
+        assertEquals( 1, countCommittedIndividuals());
+        addIndividualAndCommit( "i2"); // the second state is a new snapshot
+        assertEquals( 2, countCommittedIndividuals());
+        addIndividualAndCommit( "i3"); // the first state is updated
+        assertEquals( 3, countCommittedIndividuals());
+        assertEquals( 3, doubleBuffer.getSwapCount());
+        assertEquals( 1, doubleBuffer.getUpdateCount());
+        assertEquals( 0, doubleBuffer.getRetiredCount());
+    }
+
+    @Test
+    public void replacedStateIsNotUpdatedWhileItIsRead() throws Exception {
+        addIndividualAndCommit( "i2");
+        CountDownLatch reading = new CountDownLatch( 1), release = new CountDownLatch( 1);
+        CompletableFuture< Integer> query = CompletableFuture.supplyAsync( () -> ontoRef.queryCommitted( q -> {
+            reading.countDown();
+            try {
+                release.await();
+            } catch ( InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return q.getIndividualB2Class( "A").size();
+        }));
+        assertTrue( reading.await( 5, TimeUnit.SECONDS));
+        addIndividualAndCommit( "i3"); // the read state is replaced
+        addIndividualAndCommit( "i4"); // and it cannot be updated, so a new snapshot is taken
+        assertEquals( 1, doubleBuffer.getRetiredCount());
+        assertEquals( 4, countCommittedIndividuals());
+
+        release.countDown();
+        assertEquals( 2, query.get( 5, TimeUnit.SECONDS).intValue()); // its state has never changed
+        addIndividualAndCommit( "i5");
+        assertEquals( 5, countCommittedIndividuals());
+    }
+}
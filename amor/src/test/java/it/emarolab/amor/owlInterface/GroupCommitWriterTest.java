@@ -0,0 +1,211 @@
+package it.emarolab.amor.owlInterface;
+
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLOntologyChange;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the order of the commands committed by a {@link GroupCommitWriter}, their outcomes and its shutdown.
+ */
+public class GroupCommitWriterTest {
+
+    @Test
+    public void commandsArePerformedInSubmissionOrder() {
+        List< Integer> performed = Collections.synchronizedList( new ArrayList<>());
+        GroupCommitWriter writer = new GroupCommitWriter( "test writer", 10, Runnable::run);
+        List< CompletableFuture< Integer>> results = new ArrayList<>();
+        for( int i = 0; i < 100; i++) {
+            int command = i;
+            results.add( writer.submit( () -> {
+                performed.add( command);
+                return command;
+            }));
+        }
+        for( int i = 0; i < 100; i++)
+            assertEquals( Integer.valueOf( i), results.get( i).join());
+        writer.stop();
+
+        List< Integer> expected = new ArrayList<>();
+        for( int i = 0; i < 100; i++)
+            expected.add( i);
+        assertEquals( expected, performed);
+        assertEquals( 100, writer.getCommandCount());
+        assertTrue( writer.getBatchCount() >= 10); // at most 10 commands per batch
+    }
+
+    @Test
+    public void pendingCommandsAreCommittedTogether() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch( 1), release = new CountDownLatch( 1);
+        GroupCommitWriter writer = new GroupCommitWriter( "test writer", 100, Runnable::run);
+        CompletableFuture< Integer> first = writer.submit( () -> {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch ( InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 0;
+        });
+        assertTrue( blocked.await( 5, TimeUnit.SECONDS));
+        List< CompletableFuture< Integer>> waiting = new ArrayList<>();
+        for( int i = 1; i <= 5; i++) {
+            int command = i;
+            waiting.add( writer.submit( () -> command));
+        }
+        release.countDown();
+        assertEquals( Integer.valueOf( 0), first.join());
+        for( int i = 0; i < waiting.size(); i++)
+            assertEquals( Integer.valueOf( i + 1), waiting.get( i).join());
+        writer.stop();
+        assertEquals( 2, writer.getBatchCount()); // the first command, then all the waiting ones
+        assertEquals( 6, writer.getCommandCount());
+    }
+
+    @Test
+    public void failingCommandDoesNotAffectItsBatch() {
+        GroupCommitWriter writer = new GroupCommitWriter( "test writer", 100, Runnable::run);
+        CompletableFuture< String> before = writer.submit( () -> "before");
+        CompletableFuture< String> failing = writer.submit( () -> {
+            throw new IllegalArgumentException( "failing command");
+        });
+        CompletableFuture< String> after = writer.submit( () -> "after");
+        assertEquals( "after", after.join());
+        assertEquals( "before", before.join());
+        try {
+            failing.join();
+            fail( "the failing command should complete exceptionally");
+        } catch ( CompletionException e){
+            assertTrue( e.getCause() instanceof IllegalArgumentException);
+        }
+        writer.stop();
+    }
+
+    @Test
+    public void committerFailureFailsTheCommandsThatDidNotFail() {
+        GroupCommitWriter afterBatch = new GroupCommitWriter( "test writer", 100, batch -> {
+            batch.run();
+            throw new IllegalStateException( "committer failure"); // e.g., the changes of the batch cannot be applied
+        });
+        CompletableFuture< String> performed = afterBatch.submit( () -> "performed");
+        CompletableFuture< String> failing = afterBatch.submit( () -> {
+            throw new IllegalArgumentException( "failing command");
+        });
+        try {
+            performed.join();
+            fail( "the committer failure should be given to the performed command");
+        } catch ( CompletionException e){
+            assertEquals( "committer failure", e.getCause().getMessage());
+        }
+        try {
+            failing.join();
+            fail( "the failing command should complete exceptionally");
+        } catch ( CompletionException e){
+            assertTrue( e.getCause() instanceof IllegalArgumentException); // its own exception
+        }
+        afterBatch.stop();
+
+        GroupCommitWriter beforeBatch = new GroupCommitWriter( "test writer", 100, batch -> {
+            throw new IllegalStateException( "committer failure");
+        });
+        try {
+            beforeBatch.execute( () -> "not performed");
+            fail( "the committer failure should be given to the command");
+        } catch ( IllegalStateException e){
+            assertEquals( "committer failure", e.getMessage());
+        }
+        beforeBatch.stop();
+    }
+
+    @Test
+    public void stopCommitsPendingCommandsAndRejectsNewOnes() throws InterruptedException {
+        CountDownLatch blocked = new CountDownLatch( 1), release = new CountDownLatch( 1);
+        GroupCommitWriter writer = new GroupCommitWriter( "test writer", 100, Runnable::run);
+        writer.submit( () -> {
+            blocked.countDown();
+            try {
+                release.await();
+            } catch ( InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return null;
+        });
+        assertTrue( blocked.await( 5, TimeUnit.SECONDS));
+        CompletableFuture< String> pending = writer.submit( () -> "pending");
+        Thread stopping = new Thread( writer::stop);
+        stopping.start();
+        while( writer.isRunning())
+            Thread.sleep( 1);
+        CompletableFuture< String> rejected = writer.submit( () -> "rejected");
+        release.countDown();
+        stopping.join();
+
+        assertEquals( "pending", pending.join());
+        assertTrue( rejected.isCompletedExceptionally());
+        try {
+            rejected.join();
+        } catch ( CompletionException e){
+            assertTrue( e.getCause() instanceof IllegalStateException);
+        }
+        assertEquals( 0, writer.getPendingCommandsCount());
+    }
+
+    // true if the individual is asserted to belong to the class
+    private static boolean isAsserted( OWLReferences ontoRef, String individual, String cl){
+        return ontoRef.getOWLOntology().containsAxiom( ontoRef.getOWLFactory().getOWLClassAssertionAxiom(
+                ontoRef.getOWLClass( cl), ontoRef.getOWLIndividual( individual)));
+    }
+
+    @Test
+    public void changesOfABatchAreAppliedAtOnce() throws InterruptedException {
+        OWLReferences ontoRef = OWLReferencesInterface.OWLReferencesContainer.newOWLReferencesCreatedWithPellet(
+                "groupCommitTest", "", "http://www.emarolab.it/amor/test", true);
+        try {
+            ontoRef.startGroupCommit( false);
+            List< List< OWLOntologyChange>> applied = Collections.synchronizedList( new ArrayList<>());
+            ontoRef.getOWLManager().addOntologyChangeListener( changes -> applied.add( new ArrayList<>( changes)));
+            CountDownLatch blocked = new CountDownLatch( 1), release = new CountDownLatch( 1);
+            ontoRef.getGroupCommitWriter().submit( () -> {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch ( InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return null;
+            });
+            assertTrue( blocked.await( 5, TimeUnit.SECONDS));
+            CompletableFuture< ?> first = ontoRef.addIndividualB2ClassAsync( "i1", "A");
+            CompletableFuture< ?> second = ontoRef.addIndividualB2ClassAsync( "i2", "A");
+            CompletableFuture< ?> third = ontoRef.removeIndividualB2ClassAsync( "i1", "A");
+            release.countDown();
+            CompletableFuture.allOf( first, second, third).join();
+
+            assertEquals( 1, applied.size()); // a single application for the whole batch
+            assertTrue( isAsserted( ontoRef, "i2", "A"));
+            assertFalse( isAsserted( ontoRef, "i1", "A")); // as in a serial execution
+            assertEquals( 0, ontoRef.getManipulator().getPendingChangesCount());
+        } finally {
+            ontoRef.stopGroupCommit();
+            OWLReferencesInterface.OWLReferencesContainer.removeInstance( ontoRef);
+        }
+    }
+
+    @Test
+    public void nestedSubmissionIsPerformedInTheCurrentBatch() {
+        GroupCommitWriter[] writer = new GroupCommitWriter[ 1];
+        writer[ 0] = new GroupCommitWriter( "test writer", 100, Runnable::run);
+        String out = writer[ 0].execute( () -> writer[ 0].execute( () -> "nested") + " in outer");
+        assertEquals( "nested in outer", out);
+        writer[ 0].stop();
+        assertEquals( 1, writer[ 0].getCommandCount());
+    }
+}
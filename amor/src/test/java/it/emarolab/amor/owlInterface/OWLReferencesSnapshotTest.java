@@ -0,0 +1,70 @@
+package it.emarolab.amor.owlInterface;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that an {@link OWLReferencesSnapshot} is isolated from the manipulations performed on its reference after it is taken.
+ */
+public class OWLReferencesSnapshotTest {
+
+    private static final AtomicInteger references = new AtomicInteger();
+
+    private OWLReferences ontoRef;
+
+    @Before
+    public void setUp() {
+        ontoRef = OWLReferencesInterface.OWLReferencesContainer.newOWLReferencesCreatedWithPellet(
+                "snapshotTest" + references.incrementAndGet(), "", "http://www.emarolab.it/amor/test", true);
+        ontoRef.addSubClassOf( "A", "B"); // B is a sub class of A
+        ontoRef.addIndividualB2Class( "i1", "B");
+        ontoRef.synchronizeReasoner();
+    }
+
+    @After
+    public void tearDown() {
+        OWLReferencesInterface.OWLReferencesContainer.removeInstance( ontoRef);
+    }
+
+    @Test
+    public void snapshotDoesNotObserveTheFollowingManipulations() {
+        OWLReferencesSnapshot snapshot = ontoRef.snapshot();
+        assertEquals( ontoRef.getOntologyVersion(), snapshot.getVersion());
+        assertEquals( 1, snapshot.getIndividualB2Class( "A").size()); // inferred on the copy
+
+        ontoRef.addIndividualB2Class( "i2", "B");
+        ontoRef.removeIndividualB2Class( "i1", "B");
+        ontoRef.synchronizeReasoner();
+        assertTrue( snapshot.getVersion() < ontoRef.getOntologyVersion());
+        assertEquals( "i1", snapshot.getIndividualB2Class( "A").iterator().next().getIRI().getShortForm());
+
+        OWLReferencesSnapshot next = ontoRef.snapshot();
+        assertNotSame( snapshot, next);
+        assertEquals( "i2", next.getIndividualB2Class( "A").iterator().next().getIRI().getShortForm());
+        assertEquals( 1, snapshot.getIndividualB2Class( "A").size());
+    }
+
+    @Test
+    public void unchangedReferenceGivesTheSameSnapshot() {
+        OWLReferencesSnapshot snapshot = ontoRef.snapshot();
+        assertSame( snapshot, ontoRef.snapshot());
+        ontoRef.addIndividualB2Class( "i2", "B");
+        assertNotSame( snapshot, ontoRef.snapshot());
+    }
+
+    @Test
+    public void bufferedManipulationsAreNotPartOfTheSnapshot() {
+        ontoRef.getManipulator().setManipulationBuffering( true);
+        ontoRef.addIndividualB2Class( "i2", "B");
+        OWLReferencesSnapshot snapshot = ontoRef.snapshot();
+        assertEquals( 1, snapshot.getIndividualB2Class( "B").size());
+        ontoRef.applyOWLManipulatorChanges();
+        assertEquals( 1, snapshot.getIndividualB2Class( "B").size());
+        assertEquals( 2, ontoRef.snapshot().getIndividualB2Class( "B").size());
+    }
+}
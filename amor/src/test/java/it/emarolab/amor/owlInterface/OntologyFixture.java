@@ -0,0 +1,57 @@
+package it.emarolab.amor.owlInterface;
+
+import org.semanticweb.owlapi.apibinding.OWLManager;
+import org.semanticweb.owlapi.model.*;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+import org.semanticweb.owlapi.reasoner.OWLReasonerFactory;
+
+/**
+ * An empty ontology, created with its own manager, and the entities used by the tests, all named in {@link #NS}.
+ */
+class OntologyFixture {
+
+    static final String NS = "http://www.emarolab.it/amor/test#";
+    static final String ONTOLOGY_IRI = "http://www.emarolab.it/amor/test";
+
+    final OWLOntologyManager manager = OWLManager.createOWLOntologyManager();
+    final OWLDataFactory factory = manager.getOWLDataFactory();
+    final OWLOntology ontology;
+
+    OntologyFixture() throws OWLOntologyCreationException {
+        ontology = manager.createOntology( IRI.create( ONTOLOGY_IRI));
+    }
+
+    /**
+     * @param iri the IRI of the ontology.
+     * @return another empty ontology with the same manager.
+     * @throws OWLOntologyCreationException if the ontology already exists.
+     */
+    OWLOntology createOntology( String iri) throws OWLOntologyCreationException {
+        return manager.createOntology( IRI.create( iri));
+    }
+
+    OWLClass getOWLClass( String name){
+        return factory.getOWLClass( IRI.create( NS + name));
+    }
+
+    OWLNamedIndividual getOWLIndividual( String name){
+        return factory.getOWLNamedIndividual( IRI.create( NS + name));
+    }
+
+    OWLObjectProperty getOWLObjectProperty( String name){
+        return factory.getOWLObjectProperty( IRI.create( NS + name));
+    }
+
+    OWLClassAssertionAxiom getClassAssertion( String className, String individualName){
+        return factory.getOWLClassAssertionAxiom( getOWLClass( className), getOWLIndividual( individualName));
+    }
+
+    /**
+     * @return a new buffering Pellet reasoner over the ontology.
+     * @throws ReflectiveOperationException if the reasoner factory cannot be created.
+     */
+    OWLReasoner createReasoner() throws ReflectiveOperationException {
+        OWLReasonerFactory reasonerFactory = (OWLReasonerFactory) Class.forName( OWLLibrary.REASONER_QUALIFIER_PELLET).newInstance();
+        return reasonerFactory.createReasoner( ontology);
+    }
+}
@@ -0,0 +1,89 @@
+package it.emarolab.amor.owlInterface;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLOntologyChangeListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that, in the {@link OWLReferences#CONCURRENCY_OPTIMISTIC_READ_WRITE} mode, the asserted queries
+ * never observe a manipulation in progress.
+ */
+public class OptimisticReadTest {
+
+    private static final AtomicInteger references = new AtomicInteger();
+
+    private OWLReferences ontoRef;
+
+    @Before
+    public void setUp() {
+        ontoRef = OWLReferencesInterface.OWLReferencesContainer.newOWLReferencesCreatedWithPellet(
+                "optimisticTest" + references.incrementAndGet(), "", "http://www.emarolab.it/amor/test", true);
+        ontoRef.setConcurrencyMode( OWLReferences.CONCURRENCY_OPTIMISTIC_READ_WRITE);
+        ontoRef.setOWLEnquirerIncludesInferences( false); // only asserted queries are optimistic
+        ontoRef.addIndividualB2Class( "i0", "A");
+    }
+
+    @After
+    public void tearDown() {
+        OWLReferencesInterface.OWLReferencesContainer.removeInstance( ontoRef);
+    }
+
+    @Test
+    public void queriesWaitForTheManipulationInProgress() throws Exception {
+        CountDownLatch applying = new CountDownLatch( 1), release = new CountDownLatch( 1);
+        OWLOntologyChangeListener blocking = changes -> { // called while the write lock is held
+            applying.countDown();
+            try {
+                release.await();
+            } catch ( InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        };
+        ontoRef.getOWLManager().addOntologyChangeListener( blocking);
+        CompletableFuture< Void> manipulation = CompletableFuture.runAsync( () -> ontoRef.addIndividualB2Class( "i1", "A"));
+        assertTrue( applying.await( 5, TimeUnit.SECONDS));
+        CompletableFuture< Integer> query = CompletableFuture.supplyAsync( () -> ontoRef.getIndividualB2Class( "A").size());
+        Thread.sleep( 100);
+        assertFalse( query.isDone());
+
+        release.countDown();
+        manipulation.get( 5, TimeUnit.SECONDS);
+        ontoRef.getOWLManager().removeOntologyChangeListener( blocking);
+        assertEquals( 2, query.get( 5, TimeUnit.SECONDS).intValue());
+    }
+
+    @Test
+    public void concurrentQueriesSeeEveryManipulationInOrder() throws Exception {
+        int count = 200;
+        CompletableFuture< Void> writer = CompletableFuture.runAsync( () -> {
+            for( int i = 1; i < count; i++)
+                ontoRef.addIndividualB2Class( "i" + i, "A");
+        });
+        List< CompletableFuture< Integer>> readers = new ArrayList<>();
+        for( int r = 0; r < 2; r++)
+            readers.add( CompletableFuture.supplyAsync( () -> {
+                int last = 0, queries = 0;
+                while( ! writer.isDone() || queries == 0) {
+                    int size = ontoRef.getIndividualB2Class( "A").size();
+                    assertTrue( size >= last); // the individuals are only added
+                    last = size;
+                    queries++;
+                }
+                return queries;
+            }));
+        writer.get( 30, TimeUnit.SECONDS);
+        for( CompletableFuture< Integer> r : readers)
+            assertTrue( r.get( 30, TimeUnit.SECONDS) > 0);
+        assertEquals( count, ontoRef.getIndividualB2Class( "A").size());
+    }
+}
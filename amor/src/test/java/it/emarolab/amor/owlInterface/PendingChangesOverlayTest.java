@@ -0,0 +1,68 @@
+package it.emarolab.amor.owlInterface;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that the asserted queries merge the manipulations still buffered by the {@link OWLManipulator}
+ * when the overlay of the pending changes is enabled.
+ */
+public class PendingChangesOverlayTest {
+
+    private static final AtomicInteger references = new AtomicInteger();
+
+    private OWLReferences ontoRef;
+
+    @Before
+    public void setUp() {
+        ontoRef = OWLReferencesInterface.OWLReferencesContainer.newOWLReferencesCreatedWithPellet(
+                "overlayTest" + references.incrementAndGet(), "", "http://www.emarolab.it/amor/test", true);
+        ontoRef.setOWLEnquirerIncludesInferences( false);
+        ontoRef.addIndividualB2Class( "i1", "A");
+        ontoRef.getManipulator().setManipulationBuffering( true);
+    }
+
+    @After
+    public void tearDown() {
+        OWLReferencesInterface.OWLReferencesContainer.removeInstance( ontoRef);
+    }
+
+    private static Set< String> getNames( Set< OWLNamedIndividual> individuals){
+        return individuals.stream().map( i -> i.getIRI().getShortForm()).collect( Collectors.toSet());
+    }
+
+    @Test
+    public void pendingChangesAreVisibleOnlyWithTheOverlay() {
+        ontoRef.addIndividualB2Class( "i2", "A");
+        ontoRef.removeIndividualB2Class( "i1", "A");
+        assertEquals( 2, ontoRef.getManipulator().getPendingChangesCount());
+        assertEquals( "i1", getNames( ontoRef.getIndividualB2Class( "A")).iterator().next());
+
+        ontoRef.setOWLEnquirerOverlay( true);
+        assertEquals( "i2", getNames( ontoRef.getIndividualB2Class( "A")).iterator().next());
+        assertTrue( ontoRef.isInstanceOf( "i2", "A"));
+        assertFalse( ontoRef.isInstanceOf( "i1", "A"));
+
+        ontoRef.applyOWLManipulatorChanges(); // the same results once applied
+        assertEquals( 0, ontoRef.getManipulator().getPendingChangesCount());
+        assertEquals( "i2", getNames( ontoRef.getIndividualB2Class( "A")).iterator().next());
+    }
+
+    @Test
+    public void pendingPropertiesAreMergedToTheAssertedOnes() {
+        ontoRef.setOWLEnquirerOverlay( true);
+        ontoRef.addObjectPropertyB2Individual( "i1", "p", "i2");
+        assertEquals( Collections.singleton( "i2"), getNames( ontoRef.getObjectPropertyB2Individual( "i1", "p")));
+        ontoRef.removeObjectPropertyB2Individual( "i1", "p", "i2");
+        assertTrue( ontoRef.getObjectPropertyB2Individual( "i1", "p").isEmpty());
+    }
+}
@@ -0,0 +1,152 @@
+package it.emarolab.amor.owlInterface;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.*;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that a {@link QueryCache} removes only the results that depend on the signature of the changed axioms.
+ */
+public class QueryCacheTest {
+
+    private OWLDataFactory factory;
+    private OWLOntology ontology;
+    private OWLClass classA, classB;
+    private OWLNamedIndividual individual1, individual2;
+    private OWLObjectProperty property;
+    private QueryCache cache;
+    private AtomicInteger performed;
+
+    @Before
+    public void setUp() throws OWLOntologyCreationException {
+        OntologyFixture fixture = new OntologyFixture();
+        factory = fixture.factory;
+        ontology = fixture.ontology;
+        classA = fixture.getOWLClass( "A");
+        classB = fixture.getOWLClass( "B");
+        individual1 = fixture.getOWLIndividual( "i1");
+        individual2 = fixture.getOWLIndividual( "i2");
+        property = fixture.getOWLObjectProperty( "p");
+        cache = new QueryCache();
+        performed = new AtomicInteger();
+    }
+
+    // performs (or gets from the cache) a query that depends on the given entities
+    private Set< String> query( String name, boolean inferred, Object... dependencies){
+        List< Object> key = Arrays.asList( name, inferred, Arrays.asList( dependencies));
+        return cache.get( key, new HashSet<>( Arrays.asList( dependencies)), inferred, () -> {
+            performed.incrementAndGet();
+            return new HashSet<>( Collections.singleton( name));
+        });
+    }
+
+    private List< OWLOntologyChange> add( OWLAxiom axiom){
+        return Collections.singletonList( new AddAxiom( ontology, axiom));
+    }
+
+    @Test
+    public void storedResultsAreReturnedAsCopies() {
+        query( "types", false, individual1).add( "changed by the caller");
+        assertEquals( Collections.singleton( "types"), query( "types", false, individual1));
+        assertEquals( 1, performed.get());
+        assertEquals( 1, cache.getHitCount());
+        assertEquals( 1, cache.getMissCount());
+    }
+
+    @Test
+    public void changesOnOtherEntitiesKeepTheResult() {
+        query( "types", false, individual1);
+        cache.invalidate( add( factory.getOWLClassAssertionAxiom( classA, individual2)), false);
+        query( "types", false, individual1);
+        assertEquals( 1, performed.get());
+
+        cache.invalidate( add( factory.getOWLClassAssertionAxiom( classA, individual1)), false);
+        query( "types", false, individual1);
+        assertEquals( 2, performed.get());
+    }
+
+    @Test
+    public void resultsAreRemovedOnlyByAxiomsMentioningAllTheirArguments() {
+        query( "objectProperty", false, individual1, property);
+        cache.invalidate( add( factory.getOWLClassAssertionAxiom( classA, individual1)), false);
+        query( "objectProperty", false, individual1, property);
+        assertEquals( 1, performed.get());
+
+        cache.invalidate( add( factory.getOWLObjectPropertyAssertionAxiom( property, individual1, individual2)), false);
+        query( "objectProperty", false, individual1, property);
+        assertEquals( 2, performed.get());
+    }
+
+    @Test
+    public void tBoxChangesRemoveTheResultsThatDependOnTheClassHierarchy() {
+        query( "types", false, individual1, QueryCache.CLASS_HIERARCHY);
+        query( "objectProperty", false, individual1, property);
+        cache.invalidate( add( factory.getOWLSubClassOfAxiom( classA, classB)), false);
+        query( "types", false, individual1, QueryCache.CLASS_HIERARCHY);
+        query( "objectProperty", false, individual1, property);
+        assertEquals( 3, performed.get()); // only the first query is performed again
+    }
+
+    @Test
+    public void inferredResultsAreRemovedWhenTheInferencesChange() {
+        query( "asserted", false, individual1);
+        query( "inferred", true, individual1);
+        cache.invalidate( add( factory.getOWLClassAssertionAxiom( classA, individual2)), false);
+        assertEquals( 2, cache.size()); // with a buffering reasoner, the inferences did not change yet
+
+        cache.invalidateInferences();
+        assertEquals( 1, cache.size());
+        query( "asserted", false, individual1);
+        assertEquals( 2, performed.get());
+
+        query( "inferred", true, individual1);
+        cache.invalidate( add( factory.getOWLClassAssertionAxiom( classA, individual2)), true);
+        assertEquals( 1, cache.size()); // with a non buffering reasoner, any change affects the inferences
+    }
+
+    @Test
+    public void nonAxiomChangesRemoveAllTheResults() {
+        query( "types", false, individual1);
+        query( "types", false, individual2);
+        OWLImportsDeclaration imports = factory.getOWLImportsDeclaration( IRI.create( "http://www.emarolab.it/amor/imported"));
+        cache.invalidate( Collections.singletonList( new AddImport( ontology, imports)), false);
+        assertEquals( 0, cache.size());
+        assertEquals( 2, cache.getEvictionCount());
+    }
+
+    @Test
+    public void fullCacheEvictsOneResultAtATime() {
+        cache.setMaxSize( 2);
+        query( "types", false, individual1);
+        query( "types", false, individual2);
+        query( "types", false, individual1); // used, so it is kept
+        query( "objectProperty", false, individual1, property);
+        assertEquals( 2, cache.size());
+        assertEquals( 1, cache.getEvictionCount());
+        query( "types", false, individual1);
+        assertEquals( 3, performed.get()); // only the result of individual2 has been evicted
+
+        cache.invalidate( add( factory.getOWLClassAssertionAxiom( classA, individual1)), false);
+        assertEquals( 1, cache.size());
+    }
+
+    @Test
+    public void resultsComputedDuringAnInvalidationAreNotStored() {
+        List< Object> key = Arrays.asList( "types", false, individual1);
+        Set< String> result = cache.get( key, Collections.singleton( individual1), false, () -> {
+            cache.invalidate( add( factory.getOWLClassAssertionAxiom( classA, individual1)), false);
+            return Collections.singleton( "stale");
+        });
+        assertEquals( Collections.singleton( "stale"), result);
+        assertEquals( 0, cache.size());
+    }
+}
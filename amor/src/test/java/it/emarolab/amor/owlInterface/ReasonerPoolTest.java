@@ -0,0 +1,209 @@
+package it.emarolab.amor.owlInterface;
+
+import org.junit.After;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLNamedIndividual;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests the checkout of the reasoners of a {@link ReasonerPool}, and the replacement of the pool of a reference.
+ */
+public class ReasonerPoolTest {
+
+    private static final AtomicInteger references = new AtomicInteger();
+
+    private OWLReferences ontoRef;
+
+    @After
+    public void tearDown() {
+        if( ontoRef != null)
+            OWLReferencesInterface.OWLReferencesContainer.removeInstance( ontoRef);
+    }
+
+    // a reasoner that only counts its flushes
+    private static OWLReasoner newReasoner( AtomicInteger flushes){
+        return (OWLReasoner) Proxy.newProxyInstance( OWLReasoner.class.getClassLoader(), new Class< ?>[]{ OWLReasoner.class},
+                ( proxy, method, args) -> {
+                    if( method.getName().equals( "flush"))
+                        flushes.incrementAndGet();
+                    if( method.getName().equals( "hashCode"))
+                        return System.identityHashCode( proxy);
+                    if( method.getName().equals( "equals"))
+                        return proxy == args[ 0];
+                    return null;
+                });
+    }
+
+    private static ReasonerPool newPool( int size, AtomicInteger flushes){
+        List< OWLReasoner> reasoners = new ArrayList<>();
+        for( int i = 0; i < size; i++)
+            reasoners.add( newReasoner( flushes));
+        return new ReasonerPool( reasoners);
+    }
+
+    @Test
+    public void eachThreadChecksOutADifferentReasoner() throws Exception {
+        ReasonerPool pool = newPool( 2, new AtomicInteger());
+        pool.lock();
+        OWLReasoner mine = pool.getCheckedOut();
+        assertNotNull( mine);
+        assertEquals( 1, pool.getAvailableCount());
+
+        CountDownLatch holding = new CountDownLatch( 1), release = new CountDownLatch( 1);
+        CompletableFuture< OWLReasoner> other = CompletableFuture.supplyAsync( () -> {
+            pool.lock();
+            try {
+                holding.countDown();
+                release.await();
+                return pool.getCheckedOut();
+            } catch ( InterruptedException e) {
+                throw new IllegalStateException( e);
+            } finally {
+                pool.unlock();
+            }
+        });
+        assertTrue( holding.await( 5, TimeUnit.SECONDS));
+        assertTrue( pool.tryLock( 10, TimeUnit.MILLISECONDS)); // nested, with the same reasoner
+        assertSame( mine, pool.getCheckedOut());
+        pool.unlock();
+        release.countDown();
+        assertNotSame( mine, other.get( 5, TimeUnit.SECONDS));
+
+        pool.unlock();
+        assertNull( pool.getCheckedOut());
+        assertEquals( 2, pool.getAvailableCount());
+    }
+
+    @Test
+    public void exhaustedPoolWaitsForAReasoner() throws Exception {
+        ReasonerPool pool = newPool( 1, new AtomicInteger());
+        pool.lock();
+        CompletableFuture< Boolean> busy = CompletableFuture.supplyAsync( pool::tryLock);
+        assertFalse( busy.get( 5, TimeUnit.SECONDS));
+
+        CompletableFuture< OWLReasoner> waiting = CompletableFuture.supplyAsync( () -> {
+            pool.lock();
+            try {
+                return pool.getCheckedOut();
+            } finally {
+                pool.unlock();
+            }
+        });
+        Thread.sleep( 50);
+        assertFalse( waiting.isDone());
+        OWLReasoner mine = pool.getCheckedOut();
+        pool.unlock();
+        assertSame( mine, waiting.get( 5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void nestedCheckoutsUseTheSameReasoner() {
+        ReasonerPool pool = newPool( 2, new AtomicInteger());
+        pool.lock();
+        OWLReasoner outer = pool.getCheckedOut();
+        assertTrue( pool.tryLock());
+        assertSame( outer, pool.getCheckedOut());
+        pool.unlock();
+        assertSame( outer, pool.getCheckedOut()); // still held by the outer call
+        pool.unlock();
+        assertNull( pool.getCheckedOut());
+        try {
+            pool.unlock();
+            fail( "a thread that does not hold a reasoner cannot unlock the pool");
+        } catch ( IllegalMonitorStateException e){
+            assertEquals( 2, pool.getAvailableCount());
+        }
+    }
+
+    @Test
+    public void flushClearsTheStaleMark() {
+        AtomicInteger flushes = new AtomicInteger();
+        ReasonerPool pool = newPool( 3, flushes);
+        pool.markStale();
+        assertTrue( pool.isStale());
+        pool.flush();
+        assertFalse( pool.isStale());
+        assertEquals( 3, flushes.get());
+    }
+
+    // a reference in read write mode with an individual of a sub class
+    private OWLReferences newReference(){
+        ontoRef = OWLReferencesInterface.OWLReferencesContainer.newOWLReferencesCreatedWithPellet(
+                "poolTest" + references.incrementAndGet(), "", "http://www.emarolab.it/amor/test", true);
+        ontoRef.setConcurrencyMode( OWLReferences.CONCURRENCY_READ_WRITE);
+        ontoRef.addSubClassOf( "B", "A");
+        ontoRef.addIndividualB2Class( "i1", "A");
+        ontoRef.synchronizeReasoner();
+        return ontoRef;
+    }
+
+    private static Set< String> getIndividualNames( Set< OWLNamedIndividual> individuals){
+        return individuals.stream().map( i -> i.getIRI().getShortForm()).collect( Collectors.toSet());
+    }
+
+    @Test
+    public void queriesUseTheCheckedOutReasoner() throws Exception {
+        OWLReferences ontoRef = newReference();
+        ontoRef.setReasonerPoolSize( 2);
+        ReasonerPool pool = ontoRef.getReasonerPool();
+        OWLReasoner main = ontoRef.getOWLReasoner();
+        pool.lock();
+        try {
+            assertNotSame( main, ontoRef.getOWLReasoner());
+            assertTrue( pool.getReasoners().contains( ontoRef.getOWLReasoner()));
+            // other threads still see the main reasoner, unless they check out another one
+            assertSame( main, CompletableFuture.supplyAsync( ontoRef::getOWLReasoner).get( 5, TimeUnit.SECONDS));
+        } finally {
+            pool.unlock();
+        }
+        assertSame( main, ontoRef.getOWLReasoner());
+    }
+
+    @Test
+    public void swappedPoolIsSynchronisedAndUsedByTheQueries() {
+        OWLReferences ontoRef = newReference();
+        ontoRef.setReasonerPoolSize( 2);
+        ReasonerPool first = ontoRef.getReasonerPool();
+        assertEquals( "i1", getIndividualNames( ontoRef.getIndividualB2Class( "B")).iterator().next());
+
+        ontoRef.addIndividualB2Class( "i2", "A");
+        ontoRef.synchronizeReasoner(); // the pool is synchronised with the main reasoner
+        assertFalse( first.isStale());
+        assertEquals( 2, ontoRef.getIndividualB2Class( "B").size());
+
+        ontoRef.setReasonerPoolSize( 3);
+        ReasonerPool second = ontoRef.getReasonerPool();
+        assertNotSame( first, second);
+        assertEquals( 3, ontoRef.getReasonerPoolSize());
+        assertEquals( 2, ontoRef.getIndividualB2Class( "B").size());
+        assertEquals( 3, second.getAvailableCount()); // all the reasoners are given back
+
+        second.markStale(); // the queries use the main reasoner until the pool is synchronised
+        second.lock(); // the pool cannot be checked out by the queries in the meanwhile
+        try {
+            assertEquals( 2, CompletableFuture.supplyAsync( () -> ontoRef.getIndividualB2Class( "B").size()).join().intValue());
+        } finally {
+            second.unlock();
+        }
+        ontoRef.addIndividualB2Class( "i3", "A");
+        ontoRef.synchronizeReasoner();
+        assertFalse( second.isStale());
+        assertEquals( 3, ontoRef.getIndividualB2Class( "B").size());
+
+        ontoRef.setReasonerPoolSize( 0);
+        assertNull( ontoRef.getReasonerPool());
+        assertEquals( 3, ontoRef.getIndividualB2Class( "B").size());
+    }
+}
@@ -0,0 +1,165 @@
+package it.emarolab.amor.owlInterface;
+
+import org.junit.After;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests when a {@link ReasonerSynchronizer} synchronises the reasoner, how it coalesces the requests and how it stops.
+ */
+public class ReasonerSynchronizerTest {
+
+    private static final long LONG_DELAY = 60000; // [ms] never elapsed during a test
+
+    private final AtomicInteger synchronisations = new AtomicInteger();
+    private ReasonerSynchronizer synchronizer;
+
+    @After
+    public void tearDown() {
+        if( synchronizer != null)
+            synchronizer.stop();
+    }
+
+    // waits until the given number of synchronisations has been performed
+    private void awaitSynchronisations( int count) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        while( synchronisations.get() < count && System.currentTimeMillis() < deadline)
+            Thread.sleep( 1);
+        assertEquals( count, synchronisations.get());
+    }
+
+    @Test
+    public void synchronisesWhenTheMaximumNumberOfChangesIsReached() throws InterruptedException {
+        synchronizer = new ReasonerSynchronizer( "test synchronizer", 10, LONG_DELAY, synchronisations::incrementAndGet);
+        synchronizer.changesApplied( 9);
+        Thread.sleep( 100);
+        assertEquals( 0, synchronisations.get());
+        assertEquals( 9, synchronizer.getPendingChangesCount());
+        synchronizer.changesApplied( 1);
+        awaitSynchronisations( 1);
+        assertEquals( 0, synchronizer.getPendingChangesCount());
+    }
+
+    @Test
+    public void changesWithinTheDelayAreSynchronisedOnce() throws InterruptedException {
+        synchronizer = new ReasonerSynchronizer( "test synchronizer", 1000, 300, synchronisations::incrementAndGet);
+        long start = System.nanoTime();
+        for( int i = 0; i < 5; i++) {
+            synchronizer.changesApplied( 1);
+            Thread.sleep( 20);
+        }
+        awaitSynchronisations( 1);
+        // the delay starts from the first change, and it is not extended by the following ones
+        assertTrue( TimeUnit.NANOSECONDS.toMillis( System.nanoTime() - start) >= 300);
+        Thread.sleep( 400);
+        assertEquals( 1, synchronisations.get());
+        assertEquals( 1, synchronizer.getSynchronisationCount());
+    }
+
+    @Test
+    public void reasoningPerformedElsewhereResetsThePendingChanges() throws InterruptedException {
+        synchronizer = new ReasonerSynchronizer( "test synchronizer", 1000, 100, synchronisations::incrementAndGet);
+        synchronizer.changesApplied( 5);
+        synchronizer.reasoningPerformed();
+        Thread.sleep( 300);
+        assertEquals( 0, synchronisations.get());
+    }
+
+    @Test
+    public void waitingRequestsAreCoalesced() throws Exception {
+        CountDownLatch started = new CountDownLatch( 1), release = new CountDownLatch( 1);
+        synchronizer = new ReasonerSynchronizer( "test synchronizer", 1000, LONG_DELAY, () -> {
+            if( synchronisations.incrementAndGet() == 1) { // the first synchronisation is in progress while requiring others
+                started.countDown();
+                try {
+                    release.await();
+                } catch ( InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        });
+        CompletableFuture< Void> first = synchronizer.request();
+        assertTrue( started.await( 5, TimeUnit.SECONDS));
+        List< CompletableFuture< Void>> waiting = new ArrayList<>();
+        for( int i = 0; i < 5; i++)
+            waiting.add( synchronizer.request());
+        release.countDown();
+        first.get( 5, TimeUnit.SECONDS);
+        for( CompletableFuture< Void> w : waiting)
+            w.get( 5, TimeUnit.SECONDS);
+        assertEquals( 2, synchronisations.get());
+        assertEquals( 6, synchronizer.getRequestCount());
+        assertEquals( 4, synchronizer.getCoalescedRequestCount());
+    }
+
+    @Test
+    public void failingSynchronisationCompletesTheRequestExceptionally() {
+        synchronizer = new ReasonerSynchronizer( "test synchronizer", 1000, LONG_DELAY, () -> {
+            throw new IllegalStateException( "synchronisation failure");
+        });
+        try {
+            synchronizer.request().join();
+            fail( "the request should complete exceptionally");
+        } catch ( CompletionException e){
+            assertTrue( e.getCause() instanceof IllegalStateException);
+        }
+        assertTrue( synchronizer.isRunning());
+    }
+
+    @Test
+    public void stopSynchronisesThePendingChanges() {
+        synchronizer = new ReasonerSynchronizer( "test synchronizer", 1000, LONG_DELAY, synchronisations::incrementAndGet);
+        synchronizer.changesApplied( 3);
+        synchronizer.stop();
+        assertFalse( synchronizer.isRunning());
+        assertEquals( 1, synchronisations.get());
+        assertEquals( 0, synchronizer.getPendingChangesCount());
+    }
+
+    @Test
+    public void stopWithoutPendingChangesDoesNotSynchronise() {
+        synchronizer = new ReasonerSynchronizer( "test synchronizer", 1000, LONG_DELAY, synchronisations::incrementAndGet);
+        synchronizer.stop();
+        assertEquals( 0, synchronisations.get());
+        try {
+            synchronizer.request().join();
+            fail( "a stopped synchronizer should reject the requests");
+        } catch ( CompletionException e){
+            assertTrue( e.getCause() instanceof IllegalStateException);
+        }
+    }
+
+    @Test
+    public void synchronizeReasonerIsServedByTheSynchronizer() {
+        OWLReferences ontoRef = OWLReferencesInterface.OWLReferencesContainer.newOWLReferencesCreatedWithPellet(
+                "synchronizerTest", "", "http://www.emarolab.it/amor/test", true);
+        try {
+            ontoRef.startReasonerSynchronizer( 1000, LONG_DELAY);
+            ReasonerSynchronizer synchronizer = ontoRef.getReasonerSynchronizer();
+            ontoRef.getManipulator().setManipulationBuffering( true);
+            ontoRef.addIndividualB2Class( "i1", "A");
+            ontoRef.synchronizeReasoner(); // the buffered changes are applied by this thread
+            assertEquals( 0, ontoRef.getManipulator().getPendingChangesCount());
+            assertEquals( 1, synchronizer.getRequestCount());
+            assertEquals( 1, synchronizer.getSynchronisationCount());
+            assertEquals( 1, ontoRef.getIndividualB2Class( "A").size());
+
+            synchronized ( ontoRef) { // waiting for the synchronizer would deadlock
+                ontoRef.synchronizeReasoner();
+            }
+            assertEquals( 1, synchronizer.getRequestCount());
+        } finally {
+            ontoRef.stopReasonerSynchronizer();
+            OWLReferencesInterface.OWLReferencesContainer.removeInstance( ontoRef);
+        }
+    }
+}
@@ -0,0 +1,148 @@
+package it.emarolab.amor.owlInterface;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.semanticweb.owlapi.model.OWLOntology;
+import org.semanticweb.owlapi.reasoner.OWLReasoner;
+import org.semanticweb.owlapi.reasoner.OWLReasonerConfiguration;
+import org.semanticweb.owlapi.reasoner.OWLReasonerFactory;
+import org.semanticweb.owlapi.reasoner.ReasonerInterruptedException;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+/**
+ * Tests that an interrupted reasoning keeps the previous inferences when it is bounded by a timeout,
+ * and that it recreates the reasoner otherwise.
+ */
+public class ReasoningTimeoutTest {
+
+    private static final AtomicInteger references = new AtomicInteger();
+    // if true, the flushes of the reasoners created by the SlowReasonerFactory last until they are interrupted
+    private static volatile boolean slow = false;
+    private static volatile CountDownLatch flushing = new CountDownLatch( 1);
+
+    private OWLReferences ontoRef;
+
+    /**
+     * Creates Pellet reasoners whose flushes can be made to last until they are interrupted.
+     */
+    public static class SlowReasonerFactory implements OWLReasonerFactory {
+        private final OWLReasonerFactory pellet;
+
+        public SlowReasonerFactory() throws ReflectiveOperationException {
+            pellet = (OWLReasonerFactory) Class.forName( OWLLibrary.REASONER_QUALIFIER_PELLET).newInstance();
+        }
+
+        private static OWLReasoner slowed( OWLReasoner reasoner){
+            CountDownLatch interrupted = new CountDownLatch( 1);
+            return (OWLReasoner) Proxy.newProxyInstance( OWLReasoner.class.getClassLoader(), new Class< ?>[]{ OWLReasoner.class},
+                    ( proxy, method, args) -> {
+                        if( method.getName().equals( "interrupt")) {
+                            interrupted.countDown();
+                            return null;
+                        }
+                        if( method.getName().equals( "flush") && slow) {
+                            flushing.countDown();
+                            if( interrupted.await( 10, TimeUnit.SECONDS))
+                                throw new ReasonerInterruptedException();
+                        }
+                        try {
+                            return method.invoke( reasoner, args);
+                        } catch ( InvocationTargetException e){
+                            throw e.getCause();
+                        }
+                    });
+        }
+
+        @Override
+        public String getReasonerName() {
+            return "slow " + pellet.getReasonerName();
+        }
+        @Override
+        public OWLReasoner createNonBufferingReasoner( OWLOntology ontology) {
+            return slowed( pellet.createNonBufferingReasoner( ontology));
+        }
+        @Override
+        public OWLReasoner createReasoner( OWLOntology ontology) {
+            return slowed( pellet.createReasoner( ontology));
+        }
+        @Override
+        public OWLReasoner createNonBufferingReasoner( OWLOntology ontology, OWLReasonerConfiguration config) {
+            return slowed( pellet.createNonBufferingReasoner( ontology, config));
+        }
+        @Override
+        public OWLReasoner createReasoner( OWLOntology ontology, OWLReasonerConfiguration config) {
+            return slowed( pellet.createReasoner( ontology, config));
+        }
+    }
+
+    @Before
+    public void setUp() {
+        slow = false;
+        flushing = new CountDownLatch( 1);
+        ontoRef = OWLReferencesInterface.OWLReferencesContainer.newOWLReferences( "timeoutTest" + references.incrementAndGet(), "",
+                "http://www.emarolab.it/amor/test", SlowReasonerFactory.class.getName(), true,
+                OWLReferencesInterface.OWLReferencesContainer.COMMAND_CREATE);
+        ontoRef.addSubClassOf( "A", "B"); // B is a sub class of A
+        ontoRef.addIndividualB2Class( "i1", "B");
+    }
+
+    @After
+    public void tearDown() {
+        slow = false;
+        OWLReferencesInterface.OWLReferencesContainer.removeInstance( ontoRef);
+    }
+
+    @Test
+    public void timeoutKeepsThePreviousInferences() {
+        ontoRef.setReasoningTimeout( 10000);
+        ontoRef.synchronizeReasoner();
+        assertFalse( ontoRef.isReasoningInterrupted());
+        assertEquals( 1, ontoRef.getIndividualB2Class( "A").size());
+        OWLReasoner reasoner = ontoRef.getOWLReasoner();
+
+        slow = true;
+        ontoRef.setReasoningTimeout( 100);
+        ontoRef.addIndividualB2Class( "i2", "B");
+        ontoRef.synchronizeReasoner();
+        assertTrue( ontoRef.isReasoningInterrupted());
+        assertEquals( 1, ontoRef.getReasoningInterruptionCount());
+        assertSame( reasoner, ontoRef.getOWLReasoner()); // it still serves the previous inferences
+        assertEquals( 1, ontoRef.getIndividualB2Class( "A").size());
+
+        slow = false;
+        ontoRef.setReasoningTimeout( 10000);
+        ontoRef.synchronizeReasoner();
+        assertFalse( ontoRef.isReasoningInterrupted());
+        assertNotSame( reasoner, ontoRef.getOWLReasoner()); // replaced by the standby reasoner
+        assertEquals( 2, ontoRef.getIndividualB2Class( "A").size());
+    }
+
+    @Test
+    public void cancelWithoutTimeoutRecreatesTheReasoner() throws Exception {
+        ontoRef.synchronizeReasoner();
+        assertEquals( 1, ontoRef.getIndividualB2Class( "A").size());
+        OWLReasoner reasoner = ontoRef.getOWLReasoner();
+
+        slow = true;
+        ontoRef.addIndividualB2Class( "i2", "B");
+        CompletableFuture< Void> reasoning = CompletableFuture.runAsync( ontoRef::synchronizeReasoner);
+        assertTrue( flushing.await( 5, TimeUnit.SECONDS));
+        slow = false; // for the recreated reasoner
+        assertTrue( ontoRef.cancelReasoning());
+        reasoning.get( 5, TimeUnit.SECONDS);
+        assertTrue( ontoRef.isReasoningInterrupted());
+        assertFalse( ontoRef.cancelReasoning()); // nothing in progress
+        assertNotSame( reasoner, ontoRef.getOWLReasoner());
+        // the cached inferences of the previous reasoner are discarded
+        assertEquals( 2, ontoRef.getIndividualB2Class( "A").size());
+    }
+}